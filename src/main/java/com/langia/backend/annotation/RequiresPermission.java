@@ -0,0 +1,39 @@
+package com.langia.backend.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Anotação para exigir permissões do perfil do usuário autenticado.
+ * Pode ser aplicada a um controller inteiro ou a métodos; a anotação do método
+ * substitui a da classe.
+ *
+ * As permissões exigidas são compiladas em uma máscara de bits uma única vez e
+ * verificadas contra o bitset do perfil da sessão, sem avaliação de expressões.
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>
+ * {@code
+ * @RequiresPermission("update_profile")
+ * public ResponseEntity<PersonalDataDTO> updatePersonalData(...) {
+ *     // implementação
+ * }
+ * }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresPermission {
+
+    /**
+     * Códigos das funcionalidades exigidas.
+     */
+    String[] value();
+
+    /**
+     * Se true, basta uma das funcionalidades; caso contrário, todas são exigidas.
+     */
+    boolean anyOf() default false;
+}
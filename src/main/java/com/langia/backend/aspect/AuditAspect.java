@@ -1,8 +1,9 @@
 package com.langia.backend.aspect;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -14,8 +15,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import com.langia.backend.annotation.Auditable;
+import com.langia.backend.dto.SessionData;
 import com.langia.backend.model.AuditLog.AuditAction;
 import com.langia.backend.service.AuditService;
+import com.langia.backend.service.AuditSnapshotRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Aspecto que intercepta métodos anotados com @Auditable
  * e registra automaticamente as operações de auditoria.
+ * O estado anterior de UPDATE e DELETE é obtido pelo {@link AuditSnapshotRegistry}.
  */
 @Aspect
 @Component
@@ -32,22 +36,27 @@ import lombok.extern.slf4j.Slf4j;
 public class AuditAspect {
 
     private final AuditService auditService;
+    private final AuditSnapshotRegistry auditSnapshotRegistry;
+
+    private final Map<Method, AuditMethodMetadata> metadataCache = new ConcurrentHashMap<>();
 
     /**
      * Intercepta métodos anotados com @Auditable e registra a operação.
      */
     @Around("@annotation(auditable)")
     public Object auditMethod(ProceedingJoinPoint joinPoint, Auditable auditable) throws Throwable {
-        String entityType = auditable.entityType();
-        AuditAction action = auditable.action();
-        UUID entityId = extractEntityId(joinPoint, auditable);
+        AuditMethodMetadata metadata = metadataFor(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                auditable);
+        String entityType = metadata.getEntityType();
+        AuditAction action = metadata.getAction();
+        UUID entityId = metadata.entityId(joinPoint.getArgs());
         UUID userId = getCurrentUserId();
 
         Object oldValue = null;
 
         // Captura valor anterior para UPDATE e DELETE
-        if (auditable.captureOldValue() && action != AuditAction.CREATE && entityId != null) {
-            oldValue = captureOldValue(joinPoint, entityId);
+        if (metadata.isCaptureOldValue() && action != AuditAction.CREATE && entityId != null) {
+            oldValue = auditSnapshotRegistry.loadPreImage(entityType, entityId);
         }
 
         // Executa o método original
@@ -55,12 +64,12 @@ public class AuditAspect {
 
         // Para CREATE, o entityId pode vir do resultado
         if (action == AuditAction.CREATE && entityId == null && result != null) {
-            entityId = extractIdFromResult(result);
+            entityId = AuditMethodMetadata.resultId(result);
         }
 
         // Registra a auditoria
         if (entityId != null) {
-            Object newValue = (action == AuditAction.DELETE) ? null : result;
+            Object newValue = (action == AuditAction.DELETE) ? null : captureNewValue(entityType, entityId, result);
             auditService.log(entityType, entityId, action, oldValue, newValue, userId);
         } else {
             log.warn("Could not extract entity ID for audit log: {} {}", action, entityType);
@@ -70,115 +79,41 @@ public class AuditAspect {
     }
 
     /**
-     * Extrai o ID da entidade dos parâmetros do método.
+     * Obtém os metadados do método, analisando sua assinatura apenas na primeira chamada.
      */
-    private UUID extractEntityId(ProceedingJoinPoint joinPoint, Auditable auditable) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-
-        String entityIdParam = auditable.entityIdParam();
-
-        // Se um parâmetro específico foi definido
-        if (!entityIdParam.isEmpty()) {
-            for (int i = 0; i < parameters.length; i++) {
-                if (parameters[i].getName().equals(entityIdParam)) {
-                    return toUUID(args[i]);
-                }
-            }
-        }
-
-        // Tenta encontrar automaticamente por nome comum
-        for (int i = 0; i < parameters.length; i++) {
-            String paramName = parameters[i].getName().toLowerCase();
-            if (paramName.equals("id") || paramName.equals("entityid") ||
-                paramName.equals("userid") || paramName.endsWith("id")) {
-                UUID uuid = toUUID(args[i]);
-                if (uuid != null) {
-                    return uuid;
-                }
-            }
-        }
-
-        // Tenta encontrar por tipo UUID
-        for (Object arg : args) {
-            if (arg instanceof UUID) {
-                return (UUID) arg;
-            }
+    AuditMethodMetadata metadataFor(Method method, Auditable auditable) {
+        AuditMethodMetadata metadata = metadataCache.get(method);
+        if (metadata == null) {
+            metadata = metadataCache.computeIfAbsent(method, m -> AuditMethodMetadata.of(m, auditable));
         }
-
-        return null;
+        return metadata;
     }
 
     /**
-     * Converte objeto para UUID.
+     * Obtém o novo valor da entidade. Tipos com carregador registrado usam o estado atual
+     * da entidade, no mesmo formato do estado anterior; os demais usam o retorno do método.
      */
-    private UUID toUUID(Object value) {
-        if (value instanceof UUID) {
-            return (UUID) value;
-        }
-        if (value instanceof String) {
-            try {
-                return UUID.fromString((String) value);
-            } catch (IllegalArgumentException e) {
-                return null;
-            }
+    private Object captureNewValue(String entityType, UUID entityId, Object result) {
+        if (!auditSnapshotRegistry.supports(entityType)) {
+            return result;
         }
-        return null;
-    }
-
-    /**
-     * Extrai ID do resultado do método (para operações CREATE).
-     */
-    private UUID extractIdFromResult(Object result) {
-        try {
-            Method getIdMethod = result.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(result);
-            return toUUID(id);
-        } catch (Exception e) {
-            log.debug("Could not extract ID from result: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * Captura o valor anterior da entidade.
-     * Esta implementação básica retorna null - deve ser sobrescrita
-     * ou configurada para cada tipo de entidade.
-     */
-    private Object captureOldValue(ProceedingJoinPoint joinPoint, UUID entityId) {
-        // Implementação básica - em casos reais, você pode injetar
-        // repositórios específicos ou usar um EntityManager
-        return null;
+        Object state = auditSnapshotRegistry.loadCurrentState(entityType, entityId);
+        return state != null ? state : result;
     }
 
     /**
      * Obtém o ID do usuário atual do contexto de segurança.
+     * O principal autenticado pelo JwtAuthenticationFilter é a própria {@link SessionData}.
      */
     private UUID getCurrentUserId() {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getPrincipal() != null) {
-                Object principal = authentication.getPrincipal();
-
-                // Se for uma string (geralmente o userId no JWT)
-                if (principal instanceof String) {
-                    return UUID.fromString((String) principal);
-                }
-
-                // Se for um objeto com método getId
-                try {
-                    Method getIdMethod = principal.getClass().getMethod("getId");
-                    Object id = getIdMethod.invoke(principal);
-                    return toUUID(id);
-                } catch (Exception e) {
-                    log.debug("Could not get user ID from principal: {}", e.getMessage());
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Could not get current user ID: {}", e.getMessage());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof SessionData sessionData) {
+            return sessionData.getUserId();
         }
-        return null;
+        return AuditMethodMetadata.toUUID(principal);
     }
 }
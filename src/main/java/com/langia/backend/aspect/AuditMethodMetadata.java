@@ -0,0 +1,162 @@
+package com.langia.backend.aspect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.langia.backend.annotation.Auditable;
+import com.langia.backend.model.AuditLog.AuditAction;
+
+import lombok.Getter;
+
+/**
+ * Metadados de auditoria de um método anotado com {@link Auditable}, calculados uma única vez.
+ *
+ * A análise dos parâmetros (nome informado em entityIdParam, nomes terminados em "id" e
+ * parâmetros que aceitam UUID) é feita na criação; a cada chamada apenas os argumentos
+ * nas posições já conhecidas são lidos. O getter getId() do resultado é resolvido uma vez
+ * por classe e chamado via MethodHandle.
+ */
+public final class AuditMethodMetadata {
+
+    private static final MethodType ID_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Getter getId() por classe de resultado; null quando a classe não possui getter público.
+     */
+    private static final ClassValue<MethodHandle> ID_GETTERS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method getId = type.getMethod("getId");
+                return MethodHandles.publicLookup().unreflect(getId).asType(ID_GETTER_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    @Getter
+    private final String entityType;
+    @Getter
+    private final AuditAction action;
+    @Getter
+    private final boolean captureOldValue;
+    private final int explicitIdIndex;
+    private final int[] namedIdIndexes;
+    private final int[] uuidTypedIndexes;
+
+    private AuditMethodMetadata(Auditable auditable, int explicitIdIndex, int[] namedIdIndexes,
+            int[] uuidTypedIndexes) {
+        this.entityType = auditable.entityType();
+        this.action = auditable.action();
+        this.captureOldValue = auditable.captureOldValue();
+        this.explicitIdIndex = explicitIdIndex;
+        this.namedIdIndexes = namedIdIndexes;
+        this.uuidTypedIndexes = uuidTypedIndexes;
+    }
+
+    /**
+     * Analisa a assinatura de um método auditado.
+     *
+     * @param method    método anotado
+     * @param auditable anotação do método
+     * @return metadados do método
+     */
+    public static AuditMethodMetadata of(Method method, Auditable auditable) {
+        Parameter[] parameters = method.getParameters();
+        String entityIdParam = auditable.entityIdParam();
+
+        int explicitIdIndex = -1;
+        if (!entityIdParam.isEmpty()) {
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].getName().equals(entityIdParam)) {
+                    explicitIdIndex = i;
+                    break;
+                }
+            }
+        }
+
+        List<Integer> named = new ArrayList<>();
+        List<Integer> uuidTyped = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> type = parameters[i].getType();
+            if (parameters[i].getName().toLowerCase().endsWith("id")
+                    && (type == String.class || type.isAssignableFrom(UUID.class))) {
+                named.add(i);
+            }
+            if (type.isAssignableFrom(UUID.class)) {
+                uuidTyped.add(i);
+            }
+        }
+        return new AuditMethodMetadata(auditable, explicitIdIndex, toArray(named), toArray(uuidTyped));
+    }
+
+    /**
+     * Extrai o ID da entidade dos argumentos da chamada.
+     *
+     * @param args argumentos na ordem da assinatura analisada
+     * @return ID da entidade, ou null se nenhum argumento contiver um UUID
+     */
+    public UUID entityId(Object[] args) {
+        if (explicitIdIndex >= 0) {
+            return toUUID(args[explicitIdIndex]);
+        }
+        for (int index : namedIdIndexes) {
+            UUID uuid = toUUID(args[index]);
+            if (uuid != null) {
+                return uuid;
+            }
+        }
+        for (int index : uuidTypedIndexes) {
+            if (args[index] instanceof UUID uuid) {
+                return uuid;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Extrai o ID do resultado de uma operação CREATE pelo getter getId().
+     *
+     * @param result resultado do método
+     * @return ID do resultado, ou null se ausente ou não conversível para UUID
+     */
+    public static UUID resultId(Object result) {
+        if (result == null) {
+            return null;
+        }
+        MethodHandle getter = ID_GETTERS.get(result.getClass());
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return toUUID((Object) getter.invokeExact(result));
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    static UUID toUUID(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value instanceof String text) {
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
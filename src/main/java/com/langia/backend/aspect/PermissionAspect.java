@@ -0,0 +1,118 @@
+package com.langia.backend.aspect;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.langia.backend.annotation.RequiresPermission;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrix;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aspecto que verifica as permissões exigidas por @RequiresPermission antes de executar o método.
+ *
+ * As exigências dos controllers são compiladas em máscaras de bits quando a aplicação fica
+ * pronta (demais métodos na primeira chamada). Cada verificação obtém o bitset do perfil da
+ * sessão na matriz corrente e o compara com a máscara, sem reflexão nem alocação.
+ * Executa antes do AuditAspect, para que chamadas negadas não sejam auditadas.
+ */
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionAspect {
+
+    private final PermissionMapper permissionMapper;
+
+    private final Map<Method, PermissionRequirement> requirements = new ConcurrentHashMap<>();
+
+    /**
+     * Compila as exigências de todos os controllers anotados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        PermissionMatrix matrix = permissionMapper.getMatrix();
+        for (Object controller : event.getApplicationContext().getBeansWithAnnotation(RestController.class).values()) {
+            for (Method method : AopUtils.getTargetClass(controller).getDeclaredMethods()) {
+                RequiresPermission annotation = annotationOf(method);
+                if (annotation != null && Modifier.isPublic(method.getModifiers())) {
+                    requirements.put(method, PermissionRequirement.of(annotation, matrix));
+                }
+            }
+        }
+        log.info("Permission requirements compiled for {} methods", requirements.size());
+    }
+
+    /**
+     * Intercepta métodos anotados, ou de classes anotadas, com @RequiresPermission.
+     *
+     * @throws AccessDeniedException se o perfil da sessão não possui as permissões exigidas
+     */
+    @Around("@annotation(com.langia.backend.annotation.RequiresPermission) "
+            + "|| (@within(com.langia.backend.annotation.RequiresPermission) && execution(public * *(..)))")
+    public Object checkPermission(ProceedingJoinPoint joinPoint) throws Throwable {
+        PermissionMatrix matrix = permissionMapper.getMatrix();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        PermissionRequirement requirement = requirementFor(method, matrix);
+
+        SessionData session = getCurrentSession();
+        if (session == null || !requirement.isSatisfiedBy(matrix.get(session.getProfile()))) {
+            log.warn("Permission denied for {} on {}: requires {}",
+                    session != null ? session.getUserId() : "anonymous", method.getName(), requirement.describe());
+            throw new AccessDeniedException("Permissão insuficiente");
+        }
+        return joinPoint.proceed();
+    }
+
+    /**
+     * Obtém a exigência compilada do método, compilando-a na primeira chamada se necessário.
+     */
+    PermissionRequirement requirementFor(Method method, PermissionMatrix matrix) {
+        PermissionRequirement requirement = requirements.get(method);
+        if (requirement == null) {
+            requirement = requirements.computeIfAbsent(method,
+                    m -> PermissionRequirement.of(annotationOf(m), matrix));
+        }
+        PermissionRequirement current = requirement.forMatrix(matrix);
+        if (current != requirement) {
+            requirements.put(method, current);
+        }
+        return current;
+    }
+
+    private static RequiresPermission annotationOf(Method method) {
+        RequiresPermission annotation = method.getAnnotation(RequiresPermission.class);
+        return annotation != null ? annotation : method.getDeclaringClass().getAnnotation(RequiresPermission.class);
+    }
+
+    /**
+     * Obtém a sessão do usuário autenticado pelo JwtAuthenticationFilter.
+     */
+    private SessionData getCurrentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SessionData sessionData) {
+            return sessionData;
+        }
+        return null;
+    }
+}
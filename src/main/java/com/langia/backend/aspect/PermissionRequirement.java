@@ -0,0 +1,86 @@
+package com.langia.backend.aspect;
+
+import java.util.Arrays;
+
+import com.langia.backend.annotation.RequiresPermission;
+import com.langia.backend.util.PermissionMatrix;
+import com.langia.backend.util.PermissionMatrix.ProfilePermissions;
+
+/**
+ * Permissões exigidas por um método anotado com {@link RequiresPermission}, compiladas
+ * em uma máscara de bits contra a matriz de permissões.
+ *
+ * A máscara é reaproveitada entre recargas da matriz, pois os índices de bit são estáveis.
+ * Só é recompilada quando algum código era desconhecido na compilação e a matriz passou a
+ * indexar novos códigos desde então.
+ */
+public final class PermissionRequirement {
+
+    private final String[] codes;
+    private final boolean anyOf;
+    private final long[] mask;
+    private final boolean unresolved;
+    private final int compiledCodeCount;
+
+    private PermissionRequirement(String[] codes, boolean anyOf, long[] mask, boolean unresolved,
+            int compiledCodeCount) {
+        this.codes = codes;
+        this.anyOf = anyOf;
+        this.mask = mask;
+        this.unresolved = unresolved;
+        this.compiledCodeCount = compiledCodeCount;
+    }
+
+    /**
+     * Compila as permissões exigidas por uma anotação.
+     *
+     * @param annotation anotação do método ou da classe
+     * @param matrix     matriz de permissões corrente
+     * @return permissões compiladas
+     */
+    public static PermissionRequirement of(RequiresPermission annotation, PermissionMatrix matrix) {
+        return compile(annotation.value().clone(), annotation.anyOf(), matrix);
+    }
+
+    private static PermissionRequirement compile(String[] codes, boolean anyOf, PermissionMatrix matrix) {
+        boolean unresolved = Arrays.stream(codes).anyMatch(code -> matrix.bitOf(code) < 0);
+        return new PermissionRequirement(codes, anyOf, matrix.maskOf(codes), unresolved, matrix.codeCount());
+    }
+
+    /**
+     * Obtém a versão compilada válida para a matriz informada.
+     *
+     * @param matrix matriz de permissões corrente
+     * @return esta instância, ou uma nova compilação se novos códigos puderem resolvê-la
+     */
+    public PermissionRequirement forMatrix(PermissionMatrix matrix) {
+        if (!unresolved || matrix.codeCount() == compiledCodeCount) {
+            return this;
+        }
+        return compile(codes, anyOf, matrix);
+    }
+
+    /**
+     * Verifica se as permissões de um perfil satisfazem a exigência.
+     * Uma exigência de todas as permissões com código desconhecido nunca é satisfeita.
+     *
+     * @param permissions permissões do perfil, ou null se o perfil não estiver carregado
+     * @return true se o acesso é permitido
+     */
+    public boolean isSatisfiedBy(ProfilePermissions permissions) {
+        if (permissions == null) {
+            return false;
+        }
+        if (anyOf) {
+            return permissions.containsAny(mask);
+        }
+        return !unresolved && permissions.containsAll(mask);
+    }
+
+    /**
+     * Códigos exigidos, para mensagens de log.
+     */
+    public String describe() {
+        return (anyOf ? "any of " : "all of ") + String.join(", ", codes);
+    }
+}
@@ -0,0 +1,135 @@
+package com.langia.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.langia.backend.model.AuditLog.ValueFormat;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configurações do módulo de auditoria.
+ * Valores podem ser sobrescritos em application.properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+@Getter
+@Setter
+public class AuditProperties {
+
+    private WriterConfig writer = new WriterConfig();
+    private PartitioningConfig partitioning = new PartitioningConfig();
+
+    /**
+     * Modos de gravação dos eventos de auditoria.
+     */
+    public enum WriteMode {
+        /** Eventos enfileirados e gravados em lote por uma thread dedicada. */
+        ASYNC,
+        /** Cada evento é gravado imediatamente na thread que o registrou. */
+        SYNC
+    }
+
+    /**
+     * Comportamento quando a fila de eventos está cheia.
+     */
+    public enum OverflowPolicy {
+        /** Grava o evento na thread que o registrou (sem perda, com latência). */
+        CALLER_RUNS,
+        /** Descarta o evento e contabiliza a perda. */
+        DROP
+    }
+
+    /**
+     * Tratamento de partições expiradas.
+     */
+    public enum RetentionAction {
+        /** Desanexa a partição, mantendo a tabela para arquivamento externo. */
+        DETACH,
+        /** Remove a partição e seus dados. */
+        DROP
+    }
+
+    /**
+     * Configurações da gravação de eventos de auditoria.
+     */
+    @Getter
+    @Setter
+    public static class WriterConfig {
+        /**
+         * Modo de gravação.
+         * Default: ASYNC.
+         */
+        private WriteMode mode = WriteMode.ASYNC;
+
+        /**
+         * Número máximo de eventos aguardando gravação.
+         * Default: 10000 eventos.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Número de eventos por INSERT em lote; ao ser atingido, o lote é gravado imediatamente.
+         * Default: 200 eventos.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Tempo máximo que um evento aguarda na fila antes de ser gravado, em milissegundos.
+         * Default: 1000ms.
+         */
+        private long flushIntervalMs = 1000;
+
+        /**
+         * Comportamento com a fila cheia.
+         * Default: CALLER_RUNS.
+         */
+        private OverflowPolicy overflow = OverflowPolicy.CALLER_RUNS;
+
+        /**
+         * Formato de armazenamento das operações UPDATE. Em JSON_PATCH apenas os campos
+         * alterados são gravados; CREATE e DELETE são sempre gravados como SNAPSHOT.
+         * Default: JSON_PATCH.
+         */
+        private ValueFormat valueFormat = ValueFormat.JSON_PATCH;
+
+        /**
+         * Número máximo de UPDATEs em JSON_PATCH consecutivos de uma entidade antes de um
+         * novo SNAPSHOT completo, que serve de ponto de partida para reconstruir o estado.
+         * Default: 20.
+         */
+        private int snapshotInterval = 20;
+    }
+
+    /**
+     * Configurações da manutenção das partições mensais de audit_logs (somente PostgreSQL).
+     */
+    @Getter
+    @Setter
+    public static class PartitioningConfig {
+        /**
+         * Se o job de manutenção de partições está habilitado.
+         * Default: false.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Quantidade de meses futuros com partição pré-criada.
+         * Default: 3 meses.
+         */
+        private int monthsAhead = 3;
+
+        /**
+         * Meses de auditoria mantidos, incluindo o mês corrente. Zero mantém todas as partições.
+         * Default: 12 meses.
+         */
+        private int retentionMonths = 12;
+
+        /**
+         * Tratamento das partições mais antigas que o período de retenção.
+         * Default: DETACH.
+         */
+        private RetentionAction retentionAction = RetentionAction.DETACH;
+    }
+}
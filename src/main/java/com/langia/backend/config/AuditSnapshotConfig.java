@@ -0,0 +1,28 @@
+package com.langia.backend.config;
+
+import java.util.Set;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.langia.backend.model.User;
+import com.langia.backend.service.AuditSnapshotLoader;
+import com.langia.backend.service.JpaAuditSnapshotLoader;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Carregadores de estado anterior para métodos anotados com {@code @Auditable}.
+ * Cada bean {@link AuditSnapshotLoader} atende um tipo de entidade.
+ */
+@Configuration
+public class AuditSnapshotConfig {
+
+    @Bean
+    public AuditSnapshotLoader userAuditSnapshotLoader(EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        return new JpaAuditSnapshotLoader("USER", User.class, entityManager, transactionManager,
+                Set.of("password"));
+    }
+}
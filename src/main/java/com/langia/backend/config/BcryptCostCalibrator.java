@@ -0,0 +1,72 @@
+package com.langia.backend.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calibração do custo do BCrypt para o hardware atual.
+ *
+ * Mede o tempo de alguns hashes no custo mínimo e escolhe o maior custo cujo tempo
+ * estimado não ultrapassa a latência alvo. Cada incremento de custo dobra o trabalho,
+ * portanto o custo é extrapolado por log2(alvo / medido) sem medir custos mais altos.
+ */
+@UtilityClass
+@Slf4j
+public class BcryptCostCalibrator {
+
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "calibration-Password@123";
+
+    /**
+     * Calibra o custo medindo hashes no custo mínimo.
+     *
+     * @param targetLatency tempo alvo de um hash
+     * @param minCost       custo mínimo aceito
+     * @param maxCost       custo máximo aceito
+     * @return custo escolhido, entre minCost e maxCost
+     */
+    public static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        // Aquecimento do JIT antes das medições
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long medianNanos = samples[SAMPLES / 2];
+
+        int cost = chooseCost(minCost, medianNanos, targetLatency.toNanos(), minCost, maxCost);
+        log.info("BCrypt cost calibrated to {} (cost {} took {}ms, target {}ms)",
+                cost, minCost, Duration.ofNanos(medianNanos).toMillis(), targetLatency.toMillis());
+        return cost;
+    }
+
+    /**
+     * Escolhe o maior custo cujo tempo estimado não ultrapassa o alvo.
+     *
+     * @param measuredCost  custo medido
+     * @param measuredNanos tempo de um hash no custo medido
+     * @param targetNanos   tempo alvo de um hash
+     * @param minCost       custo mínimo aceito
+     * @param maxCost       custo máximo aceito
+     * @return custo escolhido, entre minCost e maxCost
+     */
+    static int chooseCost(int measuredCost, long measuredNanos, long targetNanos, int minCost, int maxCost) {
+        int cost = measuredCost;
+        long estimated = Math.max(1, measuredNanos);
+        while (cost < maxCost && estimated * 2 <= targetNanos) {
+            estimated *= 2;
+            cost++;
+        }
+        return Math.max(minCost, Math.min(cost, maxCost));
+    }
+}
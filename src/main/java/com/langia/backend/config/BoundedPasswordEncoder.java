@@ -0,0 +1,163 @@
+package com.langia.backend.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.langia.backend.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PasswordEncoder que executa o encoder delegado em um pool de threads dedicado e limitado.
+ *
+ * O hashing de senhas é deliberadamente caro; executá-lo nas threads de requisição permite
+ * que uma rajada de logins ocupe todos os núcleos e degrade endpoints baratos. Aqui o número
+ * de hashes simultâneos é limitado ao tamanho do pool e a fila de espera tem capacidade fixa:
+ * quando está cheia, a operação é rejeitada imediatamente com
+ * {@link PasswordHashingUnavailableException} (503) em vez de aguardar. A mesma exceção é
+ * lançada se o hash não terminar dentro do timeout configurado (ex: pool travado).
+ *
+ * Métricas: password.hashing.queue.wait e password.hashing.duration (timers por operação),
+ * password.hashing.rejected, password.hashing.timeouts, password.hashing.queue.size e
+ * password.hashing.active.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final long timeoutNanos;
+
+    private final Timer encodeWait;
+    private final Timer encodeDuration;
+    private final Timer matchesWait;
+    private final Timer matchesDuration;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        this.timeoutNanos = properties.getTimeout().toNanos();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        executor.prestartAllCoreThreads();
+
+        this.encodeWait = timer(meterRegistry, "password.hashing.queue.wait", "encode");
+        this.encodeDuration = timer(meterRegistry, "password.hashing.duration", "encode");
+        this.matchesWait = timer(meterRegistry, "password.hashing.queue.wait", "matches");
+        this.matchesDuration = timer(meterRegistry, "password.hashing.duration", "matches");
+        this.rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+        this.timeoutCounter = meterRegistry.counter("password.hashing.timeouts");
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hashing pool started ({} threads, queue {})",
+                properties.getThreads(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeWait, encodeDuration);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesDuration);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Apenas inspeciona o hash, sem custo de CPU relevante
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Encerra o pool, aguardando as operações em andamento.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T run(Callable<T> operation, Timer waitTimer, Timer durationTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return operation.call();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing rejected: queue full ({} waiting)", executor.getQueue().size());
+            throw new PasswordHashingUnavailableException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("Password hashing timed out after {}ms ({} waiting)",
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos), executor.getQueue().size());
+            throw new PasswordHashingUnavailableException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String operation) {
+        return Timer.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.langia.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configurações da fila de saída de e-mails (outbox).
+ * Valores podem ser sobrescritos em application.properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "email.outbox")
+@Getter
+@Setter
+public class EmailOutboxProperties {
+
+    private WorkerConfig worker = new WorkerConfig();
+    private RetryConfig retry = new RetryConfig();
+    private RetentionConfig retention = new RetentionConfig();
+
+    /**
+     * Configurações do worker de entrega.
+     */
+    @Getter
+    @Setter
+    public static class WorkerConfig {
+        /**
+         * Se o worker de entrega está habilitado nesta instância.
+         * Default: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Número máximo de envios simultâneos ao provedor.
+         * Default: 4 threads.
+         */
+        private int threads = 4;
+
+        /**
+         * Número máximo de mensagens reservadas por ciclo.
+         * Default: 50 mensagens.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Intervalo entre ciclos de busca de mensagens, em milissegundos.
+         * Default: 2000ms.
+         */
+        private long pollIntervalMs = 2000;
+
+        /**
+         * Prazo de uma entrega em andamento, em segundos. Se a instância cair durante o envio,
+         * a mensagem volta a ser elegível após esse prazo.
+         * Default: 300 segundos.
+         */
+        private int leaseSeconds = 300;
+    }
+
+    /**
+     * Configurações de novas tentativas.
+     */
+    @Getter
+    @Setter
+    public static class RetryConfig {
+        /**
+         * Número máximo de tentativas antes de a mensagem ser marcada como DEAD.
+         * Default: 8 tentativas.
+         */
+        private int maxAttempts = 8;
+
+        /**
+         * Espera antes da segunda tentativa, em segundos; dobra a cada nova falha.
+         * Default: 30 segundos.
+         */
+        private long initialBackoffSeconds = 30;
+
+        /**
+         * Espera máxima entre tentativas, em segundos.
+         * Default: 3600 segundos (1 hora).
+         */
+        private long maxBackoffSeconds = 3600;
+    }
+
+    /**
+     * Configurações de retenção das mensagens finalizadas.
+     */
+    @Getter
+    @Setter
+    public static class RetentionConfig {
+        /**
+         * Dias que mensagens entregues ou descartadas permanecem na tabela.
+         * Default: 30 dias.
+         */
+        private int days = 30;
+
+        /**
+         * Expressão cron da remoção das mensagens finalizadas.
+         * Default: diariamente às 03:45.
+         */
+        private String cron = "0 45 3 * * *";
+    }
+}
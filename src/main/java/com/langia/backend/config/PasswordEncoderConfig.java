@@ -1,22 +1,54 @@
 package com.langia.backend.config;
 
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuração do PasswordEncoder separada para evitar dependência circular.
- * O BCryptPasswordEncoder é usado para criptografar senhas com salt aleatório.
+ *
+ * Novos hashes são gravados com prefixo de algoritmo ({bcrypt}$2a$...), o que permite
+ * trocar de algoritmo ou de custo sem invalidar os hashes existentes. Hashes antigos
+ * sem prefixo continuam sendo verificados como BCrypt e são atualizados no próximo login.
  */
 @Configuration
 public class PasswordEncoderConfig {
 
+    static final String BCRYPT_ID = "bcrypt";
+
     /**
-     * Bean do encoder de senhas BCrypt.
+     * Bean do encoder de senhas, executado no pool limitado de hashing.
      * Separado do SecurityConfig para evitar dependência circular com AuthenticationService.
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(delegatingEncoder(resolveCost(properties)), properties, meterRegistry);
+    }
+
+    /**
+     * Cria o encoder com prefixo de algoritmo para o custo informado.
+     *
+     * @param cost custo do BCrypt para novos hashes
+     * @return encoder que grava {bcrypt} e aceita hashes legados sem prefixo
+     */
+    static PasswordEncoder delegatingEncoder(int cost) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    private static int resolveCost(PasswordHashingProperties properties) {
+        if (properties.getCost() > 0) {
+            return properties.getCost();
+        }
+        return BcryptCostCalibrator.calibrate(properties.getTargetLatency(),
+                properties.getMinCost(), properties.getMaxCost());
     }
 }
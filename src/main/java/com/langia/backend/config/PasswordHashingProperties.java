@@ -0,0 +1,72 @@
+package com.langia.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configurações do pool dedicado ao hashing de senhas (BCrypt).
+ * Valores podem ser sobrescritos em application.properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "password.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * Número de threads que executam hashing de senhas.
+     * Limita quantos núcleos o BCrypt pode ocupar ao mesmo tempo.
+     * Default: metade dos processadores disponíveis (mínimo 1).
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Número máximo de operações aguardando uma thread livre.
+     * Acima disso a operação é rejeitada imediatamente com 503.
+     * Default: 64.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Tempo máximo que uma requisição aguarda o hash (fila + execução).
+     * Acima disso a operação é cancelada e respondida com 503.
+     * Default: 5 segundos.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Tempo sugerido ao cliente (header Retry-After) quando a operação é rejeitada, em segundos.
+     * Default: 1 segundo.
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * Custo (log2 de rodadas) do BCrypt para novos hashes.
+     * Zero calibra na inicialização a partir de targetLatency.
+     * Default: 0 (calibrar).
+     */
+    private int cost = 0;
+
+    /**
+     * Tempo alvo de um hash BCrypt no hardware atual, usado na calibração do custo.
+     * Default: 250ms.
+     */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    /**
+     * Custo mínimo aceito pela calibração (piso de segurança).
+     * Default: 10.
+     */
+    private int minCost = 10;
+
+    /**
+     * Custo máximo aceito pela calibração.
+     * Default: 14.
+     */
+    private int maxCost = 14;
+}
@@ -18,7 +18,6 @@ public class PasswordResetProperties {
 
     private TokenConfig token = new TokenConfig();
     private HistoryConfig history = new HistoryConfig();
-    private RateLimitConfig rateLimit = new RateLimitConfig();
 
     /**
      * Configurações do token de reset.
@@ -45,29 +44,4 @@ public class PasswordResetProperties {
          */
         private int count = 5;
     }
-
-    /**
-     * Configurações de rate limiting.
-     */
-    @Getter
-    @Setter
-    public static class RateLimitConfig {
-        /**
-         * Máximo de tentativas por IP.
-         * Default: 10 tentativas.
-         */
-        private int maxAttemptsPerIp = 10;
-
-        /**
-         * Máximo de tentativas por email.
-         * Default: 5 tentativas.
-         */
-        private int maxAttemptsPerEmail = 5;
-
-        /**
-         * Janela de tempo para rate limiting em horas.
-         * Default: 1 hora.
-         */
-        private int windowHours = 1;
-    }
 }
@@ -0,0 +1,114 @@
+package com.langia.backend.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Políticas de rate limiting, identificadas por nome.
+ * Declaradas em application.properties como rate-limit.policies.{nome}.*.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    private LocalConfig local = new LocalConfig();
+
+    /**
+     * Algoritmos de rate limiting suportados.
+     */
+    public enum Algorithm {
+        /** Contador por janela fixa; permite até 2x o limite na virada da janela. */
+        FIXED_WINDOW,
+        /** Registro de cada consumo na janela deslizante; preciso, com custo proporcional ao limite. */
+        SLIDING_LOG,
+        /** GCRA (token bucket): rajada de até o limite, reabastecida continuamente. */
+        GCRA
+    }
+
+    /**
+     * Configuração de uma política de rate limiting.
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+        /**
+         * Algoritmo de contagem.
+         * Default: SLIDING_LOG.
+         */
+        private Algorithm algorithm = Algorithm.SLIDING_LOG;
+
+        /**
+         * Número máximo de consumos por janela.
+         */
+        private int limit;
+
+        /**
+         * Duração da janela.
+         */
+        private Duration window;
+
+        /**
+         * Bloqueio aplicado quando o limite é esgotado; zero desativa.
+         * Default: sem bloqueio.
+         */
+        private Duration lockout = Duration.ZERO;
+
+        /**
+         * Consumos na janela antes de aplicar o atraso progressivo.
+         * Default: 0.
+         */
+        private int delayAfter = 0;
+
+        /**
+         * Atraso imposto após cada consumo acima de delayAfter, dobrado a cada consumo
+         * seguinte e limitado à janela; zero desativa.
+         * Default: sem atraso.
+         */
+        private Duration delayBase = Duration.ZERO;
+
+        /**
+         * Capacidade do balde local (por instância) consultado antes do Redis.
+         * Deve ser folgada em relação ao limite, servindo apenas para descartar rajadas
+         * abusivas sem ida ao Redis; zero desativa.
+         * Default: sem balde local.
+         */
+        private int localCapacity = 0;
+
+        /**
+         * Tempo para o balde local recuperar uma ficha.
+         * Default: 1 segundo.
+         */
+        private Duration localRefillPeriod = Duration.ofSeconds(1);
+    }
+
+    /**
+     * Configurações do pré-filtro local de rate limiting.
+     */
+    @Getter
+    @Setter
+    public static class LocalConfig {
+        /**
+         * Se o pré-filtro local está habilitado.
+         * Default: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Número máximo de baldes mantidos em memória por política.
+         * Os menos recentemente usados são descartados ao atingir o limite.
+         * Default: 100000.
+         */
+        private int maxEntries = 100000;
+    }
+}
@@ -1,16 +1,22 @@
 package com.langia.backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.langia.backend.dto.SessionData;
+import com.langia.backend.service.PermissionMatrixLoader;
+import com.langia.backend.service.SessionNearCache;
 
 /**
  * Configuração do Redis para gerenciamento de sessões.
@@ -19,6 +25,9 @@ import com.langia.backend.dto.SessionData;
 @Configuration
 public class RedisConfig {
 
+    public static final String SESSION_INVALIDATION_CONTAINER = "sessionInvalidationListenerContainer";
+    public static final String PERMISSION_CHANGE_CONTAINER = "permissionChangeListenerContainer";
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -39,13 +48,16 @@ public class RedisConfig {
 
     /**
      * Configura o RedisTemplate para SessionData.
-     * Usa StringRedisSerializer para chaves e GenericJackson2JsonRedisSerializer para valores.
+     * Usa StringRedisSerializer para chaves e, para valores, o serializador definido em
+     * session.serializer (binário compacto por padrão, ou GenericJackson2JsonRedisSerializer).
      *
      * @param connectionFactory factory de conexão Redis
+     * @param sessionProperties configurações de sessão
      * @return RedisTemplate configurado
      */
     @Bean
-    public RedisTemplate<String, SessionData> sessionRedisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, SessionData> sessionRedisTemplate(RedisConnectionFactory connectionFactory,
+            SessionProperties sessionProperties) {
         RedisTemplate<String, SessionData> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -53,12 +65,61 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Serializa valores como JSON
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Serializa valores no formato configurado
+        RedisSerializer<?> valueSerializer = sessionProperties.getSerializer() == SessionProperties.SerializerType.JSON
+                ? new GenericJackson2JsonRedisSerializer()
+                : new SessionDataRedisSerializer();
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
 
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Configura o container de mensagens Redis que recebe as invalidações
+     * do near-cache de sessões publicadas por outras instâncias.
+     * O container é iniciado pelo próprio {@link SessionNearCache} quando a aplicação
+     * fica pronta, para que a indisponibilidade do Redis não impeça a inicialização.
+     *
+     * @param connectionFactory factory de conexão Redis
+     * @param sessionNearCache  listener de invalidação de sessões
+     * @return container de mensagens configurado
+     */
+    @Bean(SESSION_INVALIDATION_CONTAINER)
+    @ConditionalOnProperty(name = "session.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer sessionInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, SessionNearCache sessionNearCache) {
+        RedisMessageListenerContainer container = manuallyStartedContainer(connectionFactory);
+        container.addMessageListener(sessionNearCache, new ChannelTopic(SessionNearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Configura o container de mensagens Redis que recebe as notificações de alteração
+     * de permissões publicadas por outras instâncias.
+     * O container é iniciado pelo {@link PermissionMatrixLoader} quando a aplicação fica pronta.
+     *
+     * @param connectionFactory      factory de conexão Redis
+     * @param permissionMatrixLoader listener de alterações de permissões
+     * @return container de mensagens configurado
+     */
+    @Bean(PERMISSION_CHANGE_CONTAINER)
+    public RedisMessageListenerContainer permissionChangeListenerContainer(
+            RedisConnectionFactory connectionFactory, PermissionMatrixLoader permissionMatrixLoader) {
+        RedisMessageListenerContainer container = manuallyStartedContainer(connectionFactory);
+        container.addMessageListener(permissionMatrixLoader, new ChannelTopic(PermissionMatrixLoader.CHANGE_CHANNEL));
+        return container;
+    }
+
+    private static RedisMessageListenerContainer manuallyStartedContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,12 @@
+package com.langia.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas agendadas (@Scheduled) da aplicação.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -12,6 +12,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 import com.langia.backend.filter.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -69,6 +71,15 @@ public class SecurityConfig {
                     "/error"                    // Pagina de erro
                 ).permitAll()
 
+                // Continuação assíncrona de respostas em streaming (já autorizadas na requisição original)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                // Consulta e exportação de auditoria
+                .requestMatchers("/api/admin/audit-logs/**").hasAuthority("view_audit_logs")
+
+                // Consulta e edição de permissões dos perfis
+                .requestMatchers("/api/admin/permissions/**").hasAuthority("manage_permissions")
+
                 // Todas as outras rotas exigem autenticação
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,247 @@
+package com.langia.backend.config;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Serializador binário compacto e versionado para {@link SessionData}.
+ *
+ * Formato (versão 1):
+ * <pre>
+ * magic (1 byte) | versão (1 byte) | flags (1 byte)
+ * userId (16 bytes)              se FLAG_USER_ID
+ * nome (varint + UTF-8)          se FLAG_NAME
+ * email (varint + UTF-8)         se FLAG_EMAIL
+ * perfil (varint)                se FLAG_PROFILE
+ * createdAt (varint)             se FLAG_CREATED_AT
+ * versão das permissões (varint) se FLAG_PERMISSIONS_VERSION
+ * </pre>
+ *
+ * A tabela de perfis só pode crescer no final, para que sessões já gravadas
+ * continuem legíveis.
+ *
+ * Entradas gravadas pelo serializador JSON anterior (primeiro byte '{') continuam
+ * sendo lidas, permitindo a troca do formato sem invalidar sessões ativas.
+ */
+public class SessionDataRedisSerializer implements RedisSerializer<SessionData> {
+
+    static final byte MAGIC = (byte) 0xA5;
+    static final byte VERSION = 1;
+
+    private static final int FLAG_USER_ID = 1;
+    private static final int FLAG_NAME = 1 << 1;
+    private static final int FLAG_EMAIL = 1 << 2;
+    private static final int FLAG_PROFILE = 1 << 3;
+    private static final int FLAG_CREATED_AT = 1 << 4;
+    private static final int FLAG_PERMISSIONS_VERSION = 1 << 5;
+
+    /**
+     * Códigos de perfil persistidos. Apenas acrescentar novos valores ao final.
+     */
+    private static final UserProfile[] PROFILE_CODES = {
+            UserProfile.STUDENT,
+            UserProfile.TEACHER,
+            UserProfile.ADMIN
+    };
+
+    private static final Map<UserProfile, Integer> PROFILE_INDEX;
+
+    static {
+        Map<UserProfile, Integer> profileIndex = new HashMap<>();
+        for (int i = 0; i < PROFILE_CODES.length; i++) {
+            profileIndex.put(PROFILE_CODES[i], i);
+        }
+        PROFILE_INDEX = Map.copyOf(profileIndex);
+    }
+
+    private final GenericJackson2JsonRedisSerializer legacyJsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(SessionData session) throws SerializationException {
+        if (session == null) {
+            return new byte[0];
+        }
+
+        int flags = 0;
+        if (session.getUserId() != null) {
+            flags |= FLAG_USER_ID;
+        }
+        if (session.getName() != null) {
+            flags |= FLAG_NAME;
+        }
+        if (session.getEmail() != null) {
+            flags |= FLAG_EMAIL;
+        }
+        if (session.getProfile() != null) {
+            flags |= FLAG_PROFILE;
+        }
+        if (session.getCreatedAt() != null) {
+            flags |= FLAG_CREATED_AT;
+        }
+        if (session.getPermissionsVersion() != null) {
+            flags |= FLAG_PERMISSIONS_VERSION;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(flags);
+
+        if (session.getUserId() != null) {
+            writeLong(out, session.getUserId().getMostSignificantBits());
+            writeLong(out, session.getUserId().getLeastSignificantBits());
+        }
+        if (session.getName() != null) {
+            writeString(out, session.getName());
+        }
+        if (session.getEmail() != null) {
+            writeString(out, session.getEmail());
+        }
+        if (session.getProfile() != null) {
+            Integer code = PROFILE_INDEX.get(session.getProfile());
+            if (code == null) {
+                throw new SerializationException("Perfil sem código de serialização: " + session.getProfile());
+            }
+            writeVarLong(out, code);
+        }
+        if (session.getCreatedAt() != null) {
+            writeVarLong(out, session.getCreatedAt());
+        }
+        if (session.getPermissionsVersion() != null) {
+            writeVarLong(out, session.getPermissionsVersion());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public SessionData deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == MAGIC) {
+            return readBinary(bytes);
+        }
+        if (bytes[0] == '{') {
+            return legacyJsonSerializer.deserialize(bytes, SessionData.class);
+        }
+        throw new SerializationException("Formato de sessão desconhecido");
+    }
+
+    private SessionData readBinary(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        in.pos = 1;
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new SerializationException("Versão de sessão não suportada: " + version);
+        }
+        int flags = in.readByte();
+
+        SessionData session = new SessionData();
+        if ((flags & FLAG_USER_ID) != 0) {
+            session.setUserId(new UUID(in.readLong(), in.readLong()));
+        }
+        if ((flags & FLAG_NAME) != 0) {
+            session.setName(in.readString());
+        }
+        if ((flags & FLAG_EMAIL) != 0) {
+            session.setEmail(in.readString());
+        }
+        if ((flags & FLAG_PROFILE) != 0) {
+            int code = (int) in.readVarLong();
+            if (code >= PROFILE_CODES.length) {
+                throw new SerializationException("Código de perfil desconhecido: " + code);
+            }
+            session.setProfile(PROFILE_CODES[code]);
+        }
+        if ((flags & FLAG_CREATED_AT) != 0) {
+            session.setCreatedAt(in.readVarLong());
+        }
+        if ((flags & FLAG_PERMISSIONS_VERSION) != 0) {
+            session.setPermissionsVersion((int) in.readVarLong());
+        }
+        return session;
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, utf8.length);
+        out.write(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Cursor de leitura sobre o array serializado.
+     */
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int pos;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            ensure(1);
+            return bytes[pos++] & 0xFF;
+        }
+
+        long readLong() {
+            ensure(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[pos++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Varint inválido na sessão serializada");
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            ensure(length);
+            String value = new String(bytes, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        private void ensure(int length) {
+            if (length < 0 || pos + length > bytes.length) {
+                throw new SerializationException("Sessão serializada truncada");
+            }
+        }
+    }
+}
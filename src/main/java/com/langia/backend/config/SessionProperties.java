@@ -0,0 +1,105 @@
+package com.langia.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configurações de gerenciamento de sessões.
+ * Valores podem ser sobrescritos em application.properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "session")
+@Getter
+@Setter
+public class SessionProperties {
+
+    /**
+     * Formato de serialização das sessões no Redis.
+     * BINARY lê também sessões gravadas em JSON; JSON não lê sessões gravadas em BINARY.
+     * Default: BINARY.
+     */
+    private SerializerType serializer = SerializerType.BINARY;
+
+    private NearCacheConfig nearCache = new NearCacheConfig();
+    private SlidingConfig sliding = new SlidingConfig();
+
+    /**
+     * Formatos de serialização de sessão suportados.
+     */
+    public enum SerializerType {
+        /** Formato binário compacto ({@link SessionDataRedisSerializer}). */
+        BINARY,
+        /** JSON com metadados de tipo (formato anterior). */
+        JSON
+    }
+
+    /**
+     * Configurações do cache local (near-cache) de sessões.
+     */
+    @Getter
+    @Setter
+    public static class NearCacheConfig {
+        /**
+         * Se o cache local de sessões está habilitado.
+         * Default: true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Número máximo de sessões mantidas em memória por instância.
+         * Default: 10000 sessões.
+         */
+        private int maxEntries = 10000;
+
+        /**
+         * Tempo de vida de uma sessão no cache local em segundos.
+         * Limita por quanto tempo uma instância pode servir uma sessão já
+         * revogada caso a mensagem de invalidação não seja entregue.
+         * Default: 30 segundos.
+         */
+        private int ttlSeconds = 30;
+    }
+
+    /**
+     * Configurações de expiração deslizante (sliding expiration) das sessões.
+     * Quando habilitada, a sessão expira após um período de inatividade e é renovada
+     * automaticamente enquanto o usuário faz requisições, limitada à expiração do JWT.
+     */
+    @Getter
+    @Setter
+    public static class SlidingConfig {
+        /**
+         * Se a renovação automática de sessões está habilitada.
+         * Default: false (sessão dura exatamente o tempo de vida do JWT).
+         */
+        private boolean enabled = false;
+
+        /**
+         * Tempo de inatividade após o qual a sessão expira, em minutos.
+         * Default: 30 minutos.
+         */
+        private int idleTimeoutMinutes = 30;
+
+        /**
+         * Intervalo mínimo entre renovações de uma mesma sessão, em segundos.
+         * Default: 60 segundos.
+         */
+        private int renewIntervalSeconds = 60;
+
+        /**
+         * Intervalo entre envios do lote de renovações ao Redis, em milissegundos.
+         * Default: 5000ms.
+         */
+        private long flushIntervalMs = 5000;
+
+        /**
+         * Número máximo de sessões aguardando renovação.
+         * Marcações acima do limite são descartadas até o próximo envio.
+         * Default: 100000.
+         */
+        private int maxPending = 100000;
+    }
+}
@@ -0,0 +1,60 @@
+package com.langia.backend.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuração do modelo de threads da aplicação.
+ *
+ * Com spring.threads.virtual.enabled=true e JVM 21+, o Spring Boot passa a usar
+ * virtual threads no Tomcat e no agendador (@Scheduled). Em JVMs anteriores a propriedade
+ * é ignorada e a aplicação continua com os pools de threads de plataforma configurados
+ * em spring.task.*.
+ *
+ * Trechos que fazem I/O (Redis, JPA, BCrypt, Resend) enquanto seguram um lock usam
+ * ReentrantLock em vez de synchronized (ex.: PermissionMatrixLoader, LanguageCatalog),
+ * evitando que uma virtual thread fique presa (pinned) à thread portadora.
+ */
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+
+    private final Environment environment;
+
+    public ThreadingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @PostConstruct
+    void logThreadingMode() {
+        if (isVirtualThreadsActive(environment)) {
+            log.info("Virtual threads habilitadas para requisições HTTP e tarefas internas");
+        } else if (isVirtualThreadsRequested(environment)) {
+            log.warn("{}=true ignorado: virtual threads exigem Java 21+ (JVM atual: {})",
+                    VIRTUAL_THREADS_PROPERTY, JavaVersion.getJavaVersion());
+        } else {
+            log.info("Executando com pools de threads de plataforma");
+        }
+    }
+
+    /**
+     * Indica se as virtual threads estão efetivamente ativas (propriedade habilitada e JVM 21+).
+     *
+     * @param environment ambiente da aplicação
+     * @return true se requisições e tarefas internas executam em virtual threads
+     */
+    public static boolean isVirtualThreadsActive(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    private static boolean isVirtualThreadsRequested(Environment environment) {
+        return environment.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.class, false);
+    }
+}
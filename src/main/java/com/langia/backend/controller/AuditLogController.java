@@ -0,0 +1,112 @@
+package com.langia.backend.controller;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.langia.backend.dto.AuditLogPageDTO;
+import com.langia.backend.dto.AuditLogQuery;
+import com.langia.backend.exception.ResourceNotFoundException;
+import com.langia.backend.model.AuditLog.AuditAction;
+import com.langia.backend.service.AuditQueryService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller para consulta e exportação de registros de auditoria.
+ * Requer a permissão view_audit_logs (configurada em SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/audit-logs")
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogController {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final AuditQueryService auditQueryService;
+
+    /**
+     * Lista registros de auditoria com paginação por cursor, do mais recente para o mais antigo.
+     *
+     * @param cursor        cursor retornado pela página anterior
+     * @param limit         tamanho da página (padrão 50, máximo 500)
+     * @param includeValues se os valores anterior e novo devem ser incluídos
+     * @return página de registros e cursor da próxima página
+     */
+    @GetMapping
+    public ResponseEntity<AuditLogPageDTO> list(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) UUID entityId,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeValues) {
+        AuditLogQuery query = buildQuery(entityType, entityId, userId, action, from, to, includeValues);
+        return ResponseEntity.ok(auditQueryService.findPage(query, cursor, limit));
+    }
+
+    /**
+     * Exporta os registros de auditoria em NDJSON (um registro JSON por linha).
+     * A resposta é gerada em streaming, sem limite de registros.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) UUID entityId,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "true") boolean includeValues) {
+        AuditLogQuery query = buildQuery(entityType, entityId, userId, action, from, to, includeValues);
+        log.info("Audit log export requested: {}", query);
+        StreamingResponseBody body = out -> auditQueryService.export(query, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * Reconstrói o estado de uma entidade em um instante a partir do histórico de auditoria.
+     *
+     * @param at instante desejado (padrão: agora)
+     * @return estado da entidade, ou 404 se não houver histórico até o instante
+     */
+    @GetMapping("/state")
+    public ResponseEntity<JsonNode> state(
+            @RequestParam String entityType,
+            @RequestParam UUID entityId,
+            @RequestParam(required = false) Instant at) {
+        JsonNode state = auditQueryService.reconstructState(entityType, entityId, at)
+                .orElseThrow(() -> new ResourceNotFoundException("Estado não encontrado no histórico de auditoria"));
+        return ResponseEntity.ok(state);
+    }
+
+    private static AuditLogQuery buildQuery(String entityType, UUID entityId, UUID userId, AuditAction action,
+            Instant from, Instant to, boolean includeValues) {
+        return AuditLogQuery.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .userId(userId)
+                .action(action)
+                .from(from)
+                .to(to)
+                .includeValues(includeValues)
+                .build();
+    }
+}
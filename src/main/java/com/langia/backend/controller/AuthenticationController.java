@@ -20,6 +20,7 @@ import com.langia.backend.dto.SessionData;
 import com.langia.backend.dto.SessionValidationResponse;
 import com.langia.backend.exception.InvalidSessionException;
 import com.langia.backend.service.AuthenticationService;
+import com.langia.backend.util.IpAddressUtil;
 import com.langia.backend.util.TokenExtractor;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,12 +52,15 @@ public class AuthenticationController {
      * O token é enviado tanto no corpo da resposta quanto em um cookie HttpOnly.
      *
      * @param loginRequest credenciais de login (email e senha)
+     * @param httpRequest  requisição HTTP (para extrair IP)
      * @return resposta com token e dados do usuário
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO loginRequest) {
+    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO loginRequest,
+            HttpServletRequest httpRequest) {
         log.info("Requisição de login recebida para email: {}", loginRequest.getEmail());
-        LoginResponseDTO response = authenticationService.login(loginRequest);
+        String ipAddress = IpAddressUtil.getClientIp(httpRequest);
+        LoginResponseDTO response = authenticationService.login(loginRequest, ipAddress);
 
         // Cria cookie HttpOnly com o token JWT
         ResponseCookie authCookie = buildAuthCookie(response.getToken(), Duration.ofMillis(jwtExpirationMs));
@@ -114,7 +118,8 @@ public class AuthenticationController {
         }
 
         log.debug("Sessão validada com sucesso via API");
-        return ResponseEntity.ok(new SessionValidationResponse(true, sessionData));
+        return ResponseEntity.ok(new SessionValidationResponse(true,
+                SessionValidationResponse.Session.of(sessionData, authenticationService.getPermissions(sessionData))));
     }
 
     /**
@@ -0,0 +1,78 @@
+package com.langia.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.langia.backend.dto.PermissionSourceDTO;
+import com.langia.backend.dto.ProfilePermissionsDTO;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.service.PermissionAdminService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller para consulta e edição das permissões dos perfis.
+ * Requer a permissão manage_permissions (configurada em SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/permissions")
+@RequiredArgsConstructor
+public class PermissionAdminController {
+
+    private final PermissionAdminService permissionAdminService;
+
+    /**
+     * Lista as permissões vigentes de um perfil.
+     *
+     * @param profile perfil
+     * @return permissões e versão do perfil
+     */
+    @GetMapping("/{profile}")
+    public ResponseEntity<ProfilePermissionsDTO> list(@PathVariable UserProfile profile) {
+        return ResponseEntity.ok(permissionAdminService.getPermissions(profile));
+    }
+
+    /**
+     * Explica de onde vem uma permissão de um perfil (concessão direta ou herança).
+     *
+     * @param profile       perfil
+     * @param functionality código da funcionalidade
+     * @return origem da permissão
+     */
+    @GetMapping("/{profile}/{functionality}")
+    public ResponseEntity<PermissionSourceDTO> explain(@PathVariable UserProfile profile,
+            @PathVariable String functionality) {
+        return ResponseEntity.ok(permissionAdminService.explain(profile, functionality));
+    }
+
+    /**
+     * Concede uma funcionalidade a um perfil. Idempotente.
+     *
+     * @param profile       perfil
+     * @param functionality código da funcionalidade
+     * @return permissões do perfil após a alteração
+     */
+    @PutMapping("/{profile}/{functionality}")
+    public ResponseEntity<ProfilePermissionsDTO> grant(@PathVariable UserProfile profile,
+            @PathVariable String functionality) {
+        return ResponseEntity.ok(permissionAdminService.grant(profile, functionality));
+    }
+
+    /**
+     * Revoga uma funcionalidade de um perfil. Idempotente.
+     *
+     * @param profile       perfil
+     * @param functionality código da funcionalidade
+     * @return permissões do perfil após a alteração
+     */
+    @DeleteMapping("/{profile}/{functionality}")
+    public ResponseEntity<ProfilePermissionsDTO> revoke(@PathVariable UserProfile profile,
+            @PathVariable String functionality) {
+        return ResponseEntity.ok(permissionAdminService.revoke(profile, functionality));
+    }
+}
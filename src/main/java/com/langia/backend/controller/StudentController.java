@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.langia.backend.annotation.RequiresPermission;
 import com.langia.backend.dto.LearningPreferencesDTO;
 import com.langia.backend.dto.NotificationSettingsDTO;
 import com.langia.backend.dto.RequestEmailChangeDTO;
@@ -34,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
  * Implementa os critérios de aceite AC-DP-001 a AC-DP-004.
  */
 @RestController
+@RequiresPermission("view_profile")
 @RequestMapping("/api/v1/students/me")
 @RequiredArgsConstructor
 @Slf4j
@@ -69,6 +71,7 @@ public class StudentController {
      * @param request Dados a serem atualizados (campos opcionais)
      * @return Dados pessoais atualizados
      */
+    @RequiresPermission("update_profile")
     @PatchMapping("/personal-data")
     public ResponseEntity<PersonalDataDTO> updatePersonalData(
             @AuthenticationPrincipal SessionData session,
@@ -88,6 +91,7 @@ public class StudentController {
      * @param request Novo e-mail desejado
      * @return Mensagem de confirmação
      */
+    @RequiresPermission("update_profile")
     @PostMapping("/email/change-request")
     public ResponseEntity<Map<String, String>> requestEmailChange(
             @AuthenticationPrincipal SessionData session,
@@ -110,6 +114,7 @@ public class StudentController {
      * @param request Código de verificação de 6 dígitos
      * @return Mensagem de confirmação
      */
+    @RequiresPermission("update_profile")
     @PostMapping("/email/verify")
     public ResponseEntity<Map<String, String>> verifyEmailChange(
             @AuthenticationPrincipal SessionData session,
@@ -145,6 +150,7 @@ public class StudentController {
      * @param request Preferências a serem atualizadas
      * @return Preferências atualizadas
      */
+    @RequiresPermission("manage_preferences")
     @PutMapping("/learning-preferences")
     public ResponseEntity<LearningPreferencesDTO> updateLearningPreferences(
             @AuthenticationPrincipal SessionData session,
@@ -179,6 +185,7 @@ public class StudentController {
      * @param request Dados da autoavaliação
      * @return Autoavaliação criada
      */
+    @RequiresPermission("update_profile")
     @PostMapping("/skill-assessments")
     public ResponseEntity<SkillAssessmentResponseDTO> createSkillAssessment(
             @AuthenticationPrincipal SessionData session,
@@ -212,6 +219,7 @@ public class StudentController {
      * @param request Configurações a serem atualizadas
      * @return Configurações atualizadas
      */
+    @RequiresPermission("manage_preferences")
     @PutMapping("/notifications")
     public ResponseEntity<NotificationSettingsDTO> updateNotificationSettings(
             @AuthenticationPrincipal SessionData session,
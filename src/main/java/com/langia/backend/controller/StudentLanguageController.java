@@ -2,7 +2,9 @@ package com.langia.backend.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,13 +15,15 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.langia.backend.annotation.RequiresPermission;
 import com.langia.backend.dto.EnrollLanguageRequest;
-import com.langia.backend.dto.LanguageDTO;
 import com.langia.backend.dto.LanguageEnrollmentDTO;
 import com.langia.backend.dto.MessageResponse;
 import com.langia.backend.dto.SessionData;
 import com.langia.backend.dto.UpdateLanguageEnrollmentRequest;
+import com.langia.backend.service.LanguageCatalog;
 import com.langia.backend.service.StudentLanguageService;
 
 import jakarta.validation.Valid;
@@ -36,16 +40,27 @@ import lombok.extern.slf4j.Slf4j;
 public class StudentLanguageController {
 
     private final StudentLanguageService studentLanguageService;
+    private final LanguageCatalog languageCatalog;
 
     /**
      * Lista todos os idiomas disponíveis na plataforma.
+     * Rota pública: o corpo vem pré-serializado do catálogo em memória, com ETag, e
+     * requisições com If-None-Match correspondente recebem 304 sem corpo.
      *
-     * @return lista de idiomas disponíveis
+     * @param request requisição, usada para a validação condicional
+     * @return lista de idiomas disponíveis em JSON, ou 304 se não houve alteração
      */
     @GetMapping("/available")
-    public ResponseEntity<List<LanguageDTO>> getAvailableLanguages() {
-        List<LanguageDTO> languages = studentLanguageService.getAvailableLanguages();
-        return ResponseEntity.ok(languages);
+    public ResponseEntity<byte[]> getAvailableLanguages(WebRequest request) {
+        LanguageCatalog.Snapshot catalog = languageCatalog.current();
+        if (request.checkNotModified(catalog.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.body());
     }
 
     /**
@@ -54,6 +69,7 @@ public class StudentLanguageController {
      * @param session sessão do usuário autenticado
      * @return lista de enrollments do usuário
      */
+    @RequiresPermission("view_profile")
     @GetMapping
     public ResponseEntity<List<LanguageEnrollmentDTO>> getEnrollments(
             @AuthenticationPrincipal SessionData session) {
@@ -68,6 +84,7 @@ public class StudentLanguageController {
      * @param request dados do enrollment
      * @return enrollment criado
      */
+    @RequiresPermission("update_profile")
     @PostMapping
     public ResponseEntity<LanguageEnrollmentDTO> enroll(
             @AuthenticationPrincipal SessionData session,
@@ -86,6 +103,7 @@ public class StudentLanguageController {
      * @param request dados para atualização
      * @return enrollment atualizado
      */
+    @RequiresPermission("update_profile")
     @PutMapping("/{languageCode}")
     public ResponseEntity<LanguageEnrollmentDTO> updateEnrollment(
             @AuthenticationPrincipal SessionData session,
@@ -105,6 +123,7 @@ public class StudentLanguageController {
      * @param languageCode código do idioma
      * @return mensagem de sucesso
      */
+    @RequiresPermission("update_profile")
     @DeleteMapping("/{languageCode}")
     public ResponseEntity<MessageResponse> unenroll(
             @AuthenticationPrincipal SessionData session,
@@ -122,6 +141,7 @@ public class StudentLanguageController {
      * @param languageCode código do idioma
      * @return enrollment atualizado
      */
+    @RequiresPermission("update_profile")
     @PutMapping("/{languageCode}/primary")
     public ResponseEntity<LanguageEnrollmentDTO> setPrimary(
             @AuthenticationPrincipal SessionData session,
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.langia.backend.annotation.RequiresPermission;
 import com.langia.backend.dto.LearningPreferencesDTO;
 import com.langia.backend.dto.NotificationSettingsDTO;
 import com.langia.backend.dto.SkillAssessmentDTO;
@@ -30,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
  * REST Controller for student profile management.
  */
 @RestController
+@RequiresPermission("view_profile")
 @RequestMapping("/api/profile")
 @RequiredArgsConstructor
 @Slf4j
@@ -46,6 +48,7 @@ public class StudentProfileController {
         return ResponseEntity.ok(profileService.getProfileDetails(session.getUserId()));
     }
 
+    @RequiresPermission("update_profile")
     @PatchMapping("/details")
     public ResponseEntity<UserProfileDetailsDTO> updateProfileDetails(
             @AuthenticationPrincipal SessionData session,
@@ -63,6 +66,7 @@ public class StudentProfileController {
         return ResponseEntity.ok(profileService.getLearningPreferences(session.getUserId()));
     }
 
+    @RequiresPermission("manage_preferences")
     @PutMapping("/learning-preferences")
     public ResponseEntity<LearningPreferencesDTO> updateLearningPreferences(
             @AuthenticationPrincipal SessionData session,
@@ -80,6 +84,7 @@ public class StudentProfileController {
         return ResponseEntity.ok(profileService.getSkillAssessments(session.getUserId()));
     }
 
+    @RequiresPermission("update_profile")
     @PostMapping("/skill-assessments")
     public ResponseEntity<SkillAssessmentResponseDTO> createSkillAssessment(
             @AuthenticationPrincipal SessionData session,
@@ -98,6 +103,7 @@ public class StudentProfileController {
         return ResponseEntity.ok(profileService.getNotificationSettings(session.getUserId()));
     }
 
+    @RequiresPermission("manage_preferences")
     @PutMapping("/notification-settings")
     public ResponseEntity<NotificationSettingsDTO> updateNotificationSettings(
             @AuthenticationPrincipal SessionData session,
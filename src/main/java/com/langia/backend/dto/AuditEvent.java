@@ -0,0 +1,31 @@
+package com.langia.backend.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.langia.backend.model.AuditLog.AuditAction;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Evento de auditoria capturado na thread da requisição e gravado em lote pelo
+ * {@link com.langia.backend.service.AuditLogWriter}.
+ *
+ * Os valores anterior e novo são serializados para JSON somente na gravação,
+ * portanto não devem ser alterados após o registro do evento.
+ */
+@Value
+@Builder
+public class AuditEvent {
+
+    String entityType;
+    UUID entityId;
+    AuditAction action;
+    Object oldValue;
+    Object newValue;
+    UUID userId;
+    String ipAddress;
+    String userAgent;
+    Instant createdAt;
+}
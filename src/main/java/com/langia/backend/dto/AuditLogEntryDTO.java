@@ -0,0 +1,41 @@
+package com.langia.backend.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um registro de auditoria nas consultas e exportações.
+ * Os valores anterior e novo só são preenchidos quando solicitados e
+ * são repassados como JSON, sem desserialização.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditLogEntryDTO {
+
+    private UUID id;
+    private String entityType;
+    private UUID entityId;
+    private String action;
+    private UUID userId;
+    private String ipAddress;
+    private String userAgent;
+    private Instant createdAt;
+    private String valueFormat;
+
+    @JsonRawValue
+    private String oldValue;
+
+    @JsonRawValue
+    private String newValue;
+}
@@ -0,0 +1,22 @@
+package com.langia.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de registros de auditoria com paginação por cursor (keyset).
+ * nextCursor é nulo quando não há mais registros.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogPageDTO {
+
+    private List<AuditLogEntryDTO> items;
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.langia.backend.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.langia.backend.model.AuditLog.AuditAction;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filtros de consulta de registros de auditoria. Todos os campos são opcionais.
+ * O período é fechado no início (from) e aberto no fim (to).
+ */
+@Value
+@Builder
+public class AuditLogQuery {
+
+    String entityType;
+    UUID entityId;
+    UUID userId;
+    AuditAction action;
+    Instant from;
+    Instant to;
+    boolean includeValues;
+}
@@ -0,0 +1,12 @@
+package com.langia.backend.dto;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Concessão de uma funcionalidade a um perfil, como lida de profile_functionalities.
+ *
+ * @param profile           perfil
+ * @param functionalityCode código da funcionalidade concedida
+ */
+public record PermissionGrant(UserProfile profile, String functionalityCode) {
+}
@@ -0,0 +1,18 @@
+package com.langia.backend.dto;
+
+import java.util.List;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Origem de uma permissão de um perfil.
+ *
+ * @param profile       perfil
+ * @param functionality código da funcionalidade
+ * @param granted       se o perfil possui a permissão
+ * @param inherited     se a permissão vem apenas de perfis inferiores
+ * @param grantedBy     perfis que concedem a permissão diretamente, do próprio perfil para os inferiores
+ */
+public record PermissionSourceDTO(UserProfile profile, String functionality, boolean granted, boolean inherited,
+        List<UserProfile> grantedBy) {
+}
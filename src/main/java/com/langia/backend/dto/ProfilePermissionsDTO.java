@@ -0,0 +1,15 @@
+package com.langia.backend.dto;
+
+import java.util.List;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Permissões vigentes de um perfil.
+ *
+ * @param profile     perfil
+ * @param version     versão das permissões do perfil
+ * @param permissions códigos das funcionalidades concedidas, em ordem alfabética
+ */
+public record ProfilePermissionsDTO(UserProfile profile, int version, List<String> permissions) {
+}
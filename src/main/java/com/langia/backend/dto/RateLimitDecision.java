@@ -0,0 +1,26 @@
+package com.langia.backend.dto;
+
+/**
+ * Resultado de uma verificação de rate limit.
+ *
+ * @param allowed          se a operação é permitida
+ * @param remaining        consumos restantes na janela
+ * @param retryAfterMillis tempo até uma nova tentativa ser permitida (0 se permitida)
+ * @param resetAfterMillis tempo até a janela ser totalmente restabelecida
+ */
+public record RateLimitDecision(boolean allowed, int remaining, long retryAfterMillis, long resetAfterMillis) {
+
+    /**
+     * Tempo até uma nova tentativa ser permitida, em segundos (arredondado para cima).
+     */
+    public long retryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+
+    /**
+     * Tempo até a janela ser totalmente restabelecida, em segundos (arredondado para cima).
+     */
+    public long resetAfterSeconds() {
+        return (resetAfterMillis + 999) / 1000;
+    }
+}
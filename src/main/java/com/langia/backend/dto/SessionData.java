@@ -1,9 +1,9 @@
 package com.langia.backend.dto;
 
 import java.io.Serializable;
-import java.util.Set;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.langia.backend.model.UserProfile;
 
 import lombok.AllArgsConstructor;
@@ -14,7 +14,12 @@ import lombok.NoArgsConstructor;
 /**
  * DTO para armazenar dados da sessão no Redis.
  * Contém informações necessárias para acesso rápido durante validação de requisições.
+ *
+ * As permissões não são copiadas para a sessão: são resolvidas a partir do perfil
+ * pelo {@link com.langia.backend.util.PermissionMapper}. Propriedades desconhecidas
+ * (ex.: "permissions" de sessões antigas em JSON) são ignoradas na leitura.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,9 +49,9 @@ public class SessionData implements Serializable {
     private UserProfile profile;
 
     /**
-     * Conjunto de permissões do perfil.
+     * Versão do conjunto de permissões do perfil no momento da criação da sessão.
      */
-    private Set<String> permissions;
+    private Integer permissionsVersion;
 
     /**
      * Timestamp de quando a sessão foi criada.
@@ -1,6 +1,34 @@
 package com.langia.backend.dto;
 
+import java.util.Set;
+import java.util.UUID;
+
+import com.langia.backend.model.UserProfile;
+
 /**
  * DTO para respostas de validação de sessão.
  */
-public record SessionValidationResponse(boolean valid, SessionData session) {}
+public record SessionValidationResponse(boolean valid, Session session) {
+
+    /**
+     * Dados da sessão expostos ao cliente, com as permissões resolvidas a partir do perfil.
+     */
+    public record Session(
+            UUID userId,
+            String name,
+            String email,
+            UserProfile profile,
+            Set<String> permissions,
+            Long createdAt) {
+
+        public static Session of(SessionData sessionData, Set<String> permissions) {
+            return new Session(
+                    sessionData.getUserId(),
+                    sessionData.getName(),
+                    sessionData.getEmail(),
+                    sessionData.getProfile(),
+                    permissions,
+                    sessionData.getCreatedAt());
+        }
+    }
+}
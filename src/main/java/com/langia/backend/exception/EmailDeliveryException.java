@@ -0,0 +1,24 @@
+package com.langia.backend.exception;
+
+/**
+ * Exceção lançada quando o provedor de e-mail não aceita uma mensagem.
+ * Indica se a falha é temporária (nova tentativa) ou permanente.
+ */
+public class EmailDeliveryException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public EmailDeliveryException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public EmailDeliveryException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
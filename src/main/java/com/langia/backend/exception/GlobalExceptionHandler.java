@@ -2,6 +2,7 @@ package com.langia.backend.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -55,6 +56,17 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ex.getMessage()));
     }
 
+    /**
+     * Trata exceções de permissão insuficiente lançadas pelo PermissionAspect.
+     * Retorna 403 Forbidden com a mesma mensagem do CustomAccessDeniedHandler.
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex) {
+        log.warn("Acesso negado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse("Acesso negado. Você não tem permissão para acessar este recurso."));
+    }
+
     // ========== Exceções de Registro de Usuário ==========
 
     /**
@@ -190,6 +202,20 @@ public class GlobalExceptionHandler {
                 .body(ResendVerificationResponseDTO.rateLimited(ex.getRetryAfterSeconds()));
     }
 
+    // ========== Exceções de Disponibilidade ==========
+
+    /**
+     * Trata a saturação do pool de hashing de senhas.
+     * Retorna 503 Service Unavailable com header Retry-After.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        log.warn("Password hashing unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse("Service temporarily unavailable, please try again"));
+    }
+
     // ========== Exceções de Negócio ==========
 
     /**
@@ -0,0 +1,18 @@
+package com.langia.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * Exceção lançada quando o pool de hashing de senhas está saturado
+ * e a operação não pode ser enfileirada.
+ */
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(long retryAfterSeconds) {
+        super("Password hashing capacity exhausted");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -2,12 +2,10 @@ package com.langia.backend.filter;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -73,17 +71,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 4. Se a sessão for válida, injeta o contexto de segurança
             if (sessionData != null) {
-                log.debug("Token válido para usuário: {} (ID: {}) com {} permissões",
-                        sessionData.getEmail(), sessionData.getUserId(),
-                        sessionData.getPermissions() != null ? sessionData.getPermissions().size() : 0);
+                log.debug("Token válido para usuário: {} (ID: {}) com perfil {}",
+                        sessionData.getEmail(), sessionData.getUserId(), sessionData.getProfile());
 
-                // Converte permissões do SessionData para GrantedAuthority do Spring Security
+                // Obtém as authorities pré-construídas e compartilhadas do perfil
                 Collection<? extends GrantedAuthority> authorities =
-                    sessionData.getPermissions() != null
-                        ? sessionData.getPermissions().stream()
-                            .map(permission -> new SimpleGrantedAuthority(permission))
-                            .collect(Collectors.toList())
-                        : java.util.Collections.emptyList();
+                    authenticationService.getAuthorities(sessionData);
 
                 // Cria objeto de autenticação do Spring Security com permissões
                 UsernamePasswordAuthenticationToken authentication =
@@ -101,6 +94,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Injeta no contexto de segurança do Spring
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
+                // Marca a sessão como ativa (renovação assíncrona, sem I/O na requisição)
+                authenticationService.markSessionActivity(token);
+
                 log.debug("Contexto de segurança configurado para usuário: {} com authorities: {}",
                         sessionData.getEmail(), authorities);
             } else {
@@ -55,19 +55,28 @@ public class AuditLog {
     private AuditAction action;
 
     /**
-     * Estado anterior da entidade (JSON) - null para CREATE
+     * Estado anterior da entidade (JSON) - null para CREATE e para registros em JSON_PATCH
      */
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "old_value", columnDefinition = "jsonb")
     private String oldValue;
 
     /**
-     * Novo estado da entidade (JSON) - null para DELETE
+     * Novo estado da entidade (JSON) - null para DELETE.
+     * Em registros JSON_PATCH contém as operações que levam do estado anterior ao novo.
      */
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "new_value", columnDefinition = "jsonb")
     private String newValue;
 
+    /**
+     * Formato dos valores anterior e novo
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "value_format", nullable = false, length = 20)
+    @Builder.Default
+    private ValueFormat valueFormat = ValueFormat.SNAPSHOT;
+
     /**
      * ID do usuário que realizou a operação
      */
@@ -101,4 +110,14 @@ public class AuditLog {
         UPDATE,
         DELETE
     }
+
+    /**
+     * Formato de armazenamento dos valores de auditoria
+     */
+    public enum ValueFormat {
+        /** Documentos completos do estado anterior e do novo. */
+        SNAPSHOT,
+        /** Apenas o JSON Patch (RFC 6902) do estado anterior para o novo, em new_value. */
+        JSON_PATCH
+    }
 }
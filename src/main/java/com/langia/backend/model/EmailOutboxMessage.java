@@ -0,0 +1,102 @@
+package com.langia.backend.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade que representa um e-mail aguardando entrega (padrão outbox).
+ * É gravada na mesma transação da operação que originou o e-mail e
+ * entregue posteriormente pelo worker de envio.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "recipient", nullable = false, length = 255)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false, length = 500)
+    private String subject;
+
+    /**
+     * Conteúdo HTML. Apagado quando a mensagem é finalizada, pois pode conter
+     * links e códigos de verificação em texto claro.
+     */
+    @Column(name = "html_body", columnDefinition = "TEXT")
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * Número de tentativas de entrega já iniciadas.
+     */
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /**
+     * Instante da próxima tentativa. Para mensagens em entrega (SENDING),
+     * prazo após o qual a mensagem volta a ser elegível.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "provider_message_id", length = 255)
+    private String providerMessageId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * Estados de uma mensagem na fila de saída.
+     */
+    public enum Status {
+        /** Aguardando entrega. */
+        PENDING,
+        /** Reservada por um worker para entrega. */
+        SENDING,
+        /** Entregue ao provedor. */
+        SENT,
+        /** Tentativas esgotadas ou erro permanente. */
+        DEAD
+    }
+}
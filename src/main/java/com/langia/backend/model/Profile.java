@@ -64,6 +64,16 @@ public class Profile {
     @Builder.Default
     private Boolean active = true;
 
+    /**
+     * Versão das permissões do perfil, incrementada a cada alteração de suas funcionalidades.
+     * Sessões criadas com uma versão anterior são invalidadas. O valor inicial é o mesmo
+     * default da coluna (V018), maior que a versão do antigo mapeamento estático (2).
+     */
+    @NotNull
+    @Column(name = "permissions_version", nullable = false)
+    @Builder.Default
+    private Integer permissionsVersion = 3;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
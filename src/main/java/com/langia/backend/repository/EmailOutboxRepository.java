@@ -0,0 +1,79 @@
+package com.langia.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.langia.backend.model.EmailOutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository para a fila de saída de e-mails.
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    /**
+     * Busca mensagens elegíveis para entrega, bloqueando as linhas retornadas.
+     * Linhas já bloqueadas por outra instância são ignoradas (SKIP LOCKED),
+     * permitindo vários workers concorrentes sem entregas duplicadas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now "
+            + "ORDER BY m.nextAttemptAt")
+    List<EmailOutboxMessage> findDueForUpdate(@Param("statuses") Collection<EmailOutboxMessage.Status> statuses,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Marca uma mensagem como entregue, apagando o conteúdo.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.langia.backend.model.EmailOutboxMessage.Status.SENT, "
+            + "m.providerMessageId = :providerMessageId, m.sentAt = :now, m.lastError = NULL, m.htmlBody = NULL "
+            + "WHERE m.id = :id")
+    int markSent(@Param("id") UUID id, @Param("providerMessageId") String providerMessageId,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Registra uma falha de entrega, agendando nova tentativa.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, "
+            + "m.lastError = :error WHERE m.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("status") EmailOutboxMessage.Status status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Encerra uma mensagem sem entrega (DEAD), apagando o conteúdo.
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.langia.backend.model.EmailOutboxMessage.Status.DEAD, "
+            + "m.lastError = :error, m.htmlBody = NULL WHERE m.id = :id")
+    int markDead(@Param("id") UUID id, @Param("error") String error);
+
+    /**
+     * Remove mensagens finalizadas (SENT ou DEAD) criadas antes do instante informado.
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status IN :statuses AND m.createdAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<EmailOutboxMessage.Status> statuses,
+            @Param("before") LocalDateTime before);
+
+    /**
+     * Conta mensagens por status (monitoramento).
+     */
+    long countByStatus(EmailOutboxMessage.Status status);
+}
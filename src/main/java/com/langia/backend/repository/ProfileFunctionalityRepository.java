@@ -1,16 +1,20 @@
 package com.langia.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.langia.backend.dto.PermissionGrant;
 import com.langia.backend.model.Functionality;
 import com.langia.backend.model.Profile;
 import com.langia.backend.model.ProfileFunctionality;
+import com.langia.backend.model.UserProfile;
 
 /**
  * Repository para gerenciar associações entre perfis e funcionalidades.
@@ -65,6 +69,20 @@ public interface ProfileFunctionalityRepository extends JpaRepository<ProfileFun
                         "WHERE pf.profile.id = :profileId")
         List<String> findFunctionalityCodesByProfileId(@Param("profileId") UUID profileId);
 
+        /**
+         * Busca as funcionalidades ativas concedidas diretamente (sem herança) aos perfis
+         * informados, em uma única consulta.
+         *
+         * @param profiles códigos dos perfis
+         * @return pares perfil/código de funcionalidade
+         */
+        @Query("SELECT new com.langia.backend.dto.PermissionGrant(p.code, f.code) " +
+                        "FROM ProfileFunctionality pf " +
+                        "JOIN pf.profile p " +
+                        "JOIN pf.functionality f " +
+                        "WHERE p.code IN :profiles AND f.active = TRUE AND pf.grantedByInheritance = FALSE")
+        List<PermissionGrant> findActiveOwnGrantsByProfileCodes(@Param("profiles") Collection<UserProfile> profiles);
+
         /**
          * Conta funcionalidades de um perfil.
          *
@@ -91,6 +109,18 @@ public interface ProfileFunctionalityRepository extends JpaRepository<ProfileFun
          */
         boolean existsByProfileAndFunctionality(Profile profile, Functionality functionality);
 
+        /**
+         * Remove a associação entre um perfil e uma funcionalidade.
+         *
+         * @param profile       perfil
+         * @param functionality funcionalidade
+         * @return quantidade de associações removidas
+         */
+        @Modifying
+        @Query("DELETE FROM ProfileFunctionality pf WHERE pf.profile = :profile AND pf.functionality = :functionality")
+        int deleteByProfileAndFunctionality(@Param("profile") Profile profile,
+                        @Param("functionality") Functionality functionality);
+
         /**
          * Deleta todas as associações de um perfil.
          *
@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.langia.backend.model.Profile;
@@ -62,4 +65,16 @@ public interface ProfileRepository extends JpaRepository<Profile, java.util.UUID
      * @return true se existe
      */
     boolean existsByCode(UserProfile code);
+
+    /**
+     * Incrementa a versão das permissões dos perfis a partir de um nível hierárquico,
+     * ou seja, de um perfil e de todos os que herdam dele.
+     *
+     * @param hierarchyLevel nível hierárquico mínimo
+     * @return quantidade de perfis atualizados
+     */
+    @Modifying
+    @Query("UPDATE Profile p SET p.permissionsVersion = p.permissionsVersion + 1 " +
+            "WHERE p.hierarchyLevel >= :hierarchyLevel")
+    int incrementPermissionsVersionFromHierarchyLevel(@Param("hierarchyLevel") Integer hierarchyLevel);
 }
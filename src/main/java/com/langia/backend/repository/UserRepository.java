@@ -2,9 +2,11 @@ package com.langia.backend.repository;
 
 import com.langia.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -57,4 +59,19 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return true if phone exists, false otherwise
      */
     boolean existsByPhone(String phone);
+
+    /**
+     * Replaces a password hash only if it still matches the expected one.
+     * Used to upgrade hashes on login without overwriting a concurrent password change.
+     *
+     * @param id      user ID
+     * @param oldHash hash read at login
+     * @param newHash upgraded hash of the same password
+     * @return number of updated rows (0 if the password changed meanwhile)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int replacePasswordHash(@Param("id") UUID id, @Param("oldHash") String oldHash,
+            @Param("newHash") String newHash);
 }
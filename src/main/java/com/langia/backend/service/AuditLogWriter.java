@@ -0,0 +1,311 @@
+package com.langia.backend.service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langia.backend.config.AuditProperties;
+import com.langia.backend.dto.AuditEvent;
+import com.langia.backend.model.AuditLog.AuditAction;
+import com.langia.backend.model.AuditLog.ValueFormat;
+import com.langia.backend.util.BoundedTtlCache;
+import com.langia.backend.util.JsonPatchUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gravação de eventos de auditoria na tabela audit_logs.
+ *
+ * No modo ASYNC os eventos entram em uma fila limitada sem bloqueio e uma thread
+ * dedicada os serializa e grava com INSERT em lote (JDBC batch), quando o lote atinge
+ * o tamanho configurado ou o intervalo máximo de espera expira. Com a fila cheia o
+ * evento é gravado na thread chamadora ou descartado, conforme a política configurada.
+ * No modo SYNC cada evento é gravado imediatamente.
+ *
+ * A gravação usa conexão própria em auto-commit, independente da transação do chamador:
+ * gravações na thread chamadora (modo SYNC, fila cheia com CALLER_RUNS ou writer parado)
+ * suspendem a transação corrente (PROPAGATION_NOT_SUPPORTED). Assim o registro é mantido
+ * mesmo que a operação auditada seja desfeita, e uma falha no INSERT não aborta a
+ * transação do chamador.
+ *
+ * No formato JSON_PATCH, um UPDATE grava apenas o patch entre os estados anterior e novo.
+ * O primeiro UPDATE de cada entidade visto por esta instância, e depois a cada intervalo
+ * configurado, é gravado como SNAPSHOT completo para servir de base à reconstrução do estado.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    static final String INSERT_SQL = "INSERT INTO audit_logs "
+            + "(id, entity_type, entity_id, action, old_value, new_value, user_id, ip_address, user_agent, created_at, "
+            + "value_format) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SERIALIZATION_FAILED = "{\"error\": \"serialization_failed\"}";
+    private static final int SNAPSHOT_TRACKING_MAX_ENTRIES = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate outsideTransaction;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties.WriterConfig config;
+
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final BoundedTtlCache<String, AtomicInteger> patchesSinceSnapshot =
+            new BoundedTtlCache<>(SNAPSHOT_TRACKING_MAX_ENTRIES, Duration.ofHours(24));
+
+    private final Counter enqueuedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter callerRunsCounter;
+
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outsideTransaction = new TransactionTemplate(transactionManager);
+        outsideTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.objectMapper = objectMapper;
+        this.config = properties.getWriter();
+
+        this.enqueuedCounter = meterRegistry.counter("audit.events.enqueued");
+        this.writtenCounter = meterRegistry.counter("audit.events.written");
+        this.failedCounter = meterRegistry.counter("audit.events.failed");
+        this.droppedCounter = meterRegistry.counter("audit.events.dropped");
+        this.callerRunsCounter = meterRegistry.counter("audit.events.caller_runs");
+        Gauge.builder("audit.queue.size", queued, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Inicia a thread de gravação no modo ASYNC.
+     */
+    @PostConstruct
+    public void start() {
+        if (config.getMode() != AuditProperties.WriteMode.ASYNC) {
+            log.info("Audit writer in SYNC mode");
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runFlusher, "audit-writer");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        log.info("Audit writer in ASYNC mode (queue {}, batch {}, flush {}ms, overflow {})",
+                config.getQueueCapacity(), config.getBatchSize(), config.getFlushIntervalMs(), config.getOverflow());
+    }
+
+    /**
+     * Interrompe a thread de gravação e grava os eventos restantes.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Registra um evento de auditoria. Nunca lança exceção.
+     *
+     * @param event evento capturado
+     */
+    public void submit(AuditEvent event) {
+        if (!running) {
+            write(List.of(event));
+            return;
+        }
+
+        if (queued.incrementAndGet() > config.getQueueCapacity()) {
+            queued.decrementAndGet();
+            handleOverflow(event);
+            return;
+        }
+        queue.offer(event);
+        enqueuedCounter.increment();
+
+        if (!running) {
+            // Encerramento concorrente: grava o que restou na fila
+            drain();
+        } else if (queued.get() >= config.getBatchSize()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /**
+     * Número de eventos aguardando gravação.
+     */
+    public int queueSize() {
+        return queued.get();
+    }
+
+    /**
+     * Grava todos os eventos enfileirados na thread chamadora.
+     */
+    void drain() {
+        while (flushBatch() > 0) {
+            // continua até esvaziar a fila
+        }
+    }
+
+    private void runFlusher() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+        while (running) {
+            // Aguarda o intervalo ou o aviso de lote completo; grava enquanto houver lotes completos
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                while (flushBatch() >= config.getBatchSize()) {
+                    // lote completo: pode haver mais eventos na fila
+                }
+            } catch (Exception e) {
+                log.error("Unexpected error in audit writer: {}", e.getMessage());
+            }
+        }
+    }
+
+    private int flushBatch() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(config.getBatchSize(), Math.max(queued.get(), 1)));
+        AuditEvent event;
+        while (batch.size() < config.getBatchSize() && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(event);
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void handleOverflow(AuditEvent event) {
+        if (config.getOverflow() == AuditProperties.OverflowPolicy.DROP) {
+            droppedCounter.increment();
+            log.warn("Audit queue full, event dropped: {} {} on {}",
+                    event.getAction(), event.getEntityType(), event.getEntityId());
+            return;
+        }
+        callerRunsCounter.increment();
+        write(List.of(event));
+    }
+
+    /**
+     * Serializa e grava um lote de eventos com um único INSERT em lote,
+     * fora de qualquer transação do chamador.
+     */
+    void write(List<AuditEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (AuditEvent event : events) {
+            String patch = toPatch(event);
+            rows.add(new Object[] {
+                    UUID.randomUUID(),
+                    event.getEntityType(),
+                    event.getEntityId(),
+                    event.getAction().name(),
+                    patch != null ? null : toJson(event.getOldValue()),
+                    patch != null ? patch : toJson(event.getNewValue()),
+                    event.getUserId(),
+                    event.getIpAddress(),
+                    event.getUserAgent(),
+                    Timestamp.from(event.getCreatedAt()),
+                    (patch != null ? ValueFormat.JSON_PATCH : ValueFormat.SNAPSHOT).name()
+            });
+        }
+
+        try {
+            outsideTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(),
+                    (ps, row) -> {
+                        ps.setObject(1, row[0]);
+                        ps.setString(2, (String) row[1]);
+                        ps.setObject(3, row[2]);
+                        ps.setString(4, (String) row[3]);
+                        // Types.OTHER permite ao PostgreSQL converter o texto para jsonb
+                        ps.setObject(5, row[4], Types.OTHER);
+                        ps.setObject(6, row[5], Types.OTHER);
+                        ps.setObject(7, row[6]);
+                        ps.setString(8, (String) row[7]);
+                        ps.setString(9, (String) row[8]);
+                        ps.setTimestamp(10, (Timestamp) row[9]);
+                        ps.setString(11, (String) row[10]);
+                    }));
+            writtenCounter.increment(rows.size());
+            log.debug("Audit batch written: {} events", rows.size());
+        } catch (Exception e) {
+            failedCounter.increment(rows.size());
+            log.error("Failed to write {} audit events: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Calcula o JSON Patch de um UPDATE quando o formato JSON_PATCH está ativo.
+     *
+     * @return patch serializado, ou null se o evento deve ser gravado como SNAPSHOT
+     */
+    private String toPatch(AuditEvent event) {
+        if (config.getValueFormat() != ValueFormat.JSON_PATCH) {
+            return null;
+        }
+        String entityKey = event.getEntityType() + ":" + event.getEntityId();
+        if (event.getAction() != AuditAction.UPDATE || event.getOldValue() == null || event.getNewValue() == null) {
+            patchesSinceSnapshot.put(entityKey, new AtomicInteger());
+            return null;
+        }
+        AtomicInteger patches = patchesSinceSnapshot.get(entityKey);
+        if (patches == null || patches.incrementAndGet() > config.getSnapshotInterval()) {
+            patchesSinceSnapshot.put(entityKey, new AtomicInteger());
+            return null;
+        }
+        try {
+            JsonNode oldValue = objectMapper.valueToTree(event.getOldValue());
+            JsonNode newValue = objectMapper.valueToTree(event.getNewValue());
+            return objectMapper.writeValueAsString(JsonPatchUtil.diff(oldValue, newValue));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.warn("Failed to compute audit patch, storing snapshot: {}", e.getMessage());
+            patchesSinceSnapshot.put(entityKey, new AtomicInteger());
+            return null;
+        }
+    }
+
+    /**
+     * Converte objeto para JSON string.
+     */
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize object to JSON: {}", e.getMessage());
+            return SERIALIZATION_FAILED;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.langia.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.langia.backend.config.AuditProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manutenção das partições mensais da tabela audit_logs (PostgreSQL).
+ *
+ * Na inicialização e diariamente, cria as partições do mês corrente e dos próximos
+ * meses configurados e aplica a retenção: partições de meses anteriores ao período
+ * mantido são desanexadas (DETACH) ou removidas (DROP). Um advisory lock transacional
+ * garante que apenas uma instância execute a manutenção por vez.
+ *
+ * Cada mês e cada partição expirada é tratado em um savepoint próprio, de modo que a falha
+ * de um passo não desfaz os demais. Registros que ficaram na partição padrão por falta de
+ * partição do mês são movidos para a partição quando ela é criada (V022); registros que
+ * permanecem na partição padrão após a manutenção geram um alerta.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class AuditPartitionMaintenanceJob {
+
+    private static final long ADVISORY_LOCK_KEY = 0x4155_4449_5450_4152L;
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+
+    private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "WHERE p.relname = 'audit_logs'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate stepTemplate;
+    private final AuditProperties.PartitioningConfig config;
+
+    public AuditPartitionMaintenanceJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            AuditProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stepTemplate = new TransactionTemplate(transactionManager);
+        stepTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.config = properties.getPartitioning();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        run();
+    }
+
+    /**
+     * Executa a manutenção das partições.
+     */
+    @Scheduled(cron = "${audit.partitioning.cron:0 15 3 * * *}")
+    public void run() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)",
+                        Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("Audit partition maintenance already running on another instance");
+                    return;
+                }
+                YearMonth current = YearMonth.now(ZoneId.systemDefault());
+                ensurePartitions(current);
+                applyRetention(current);
+                checkDefaultPartition();
+            });
+        } catch (Exception e) {
+            log.error("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cria as partições do mês corrente e dos próximos meses configurados.
+     *
+     * @param current mês corrente
+     */
+    void ensurePartitions(YearMonth current) {
+        for (int i = 0; i <= config.getMonthsAhead(); i++) {
+            LocalDate monthStart = current.plusMonths(i).atDay(1);
+            runStep("create partition " + partitionName(current.plusMonths(i)), () -> {
+                String partition = jdbcTemplate.queryForObject("SELECT create_audit_logs_partition(?)",
+                        String.class, monthStart);
+                log.debug("Audit partition ensured: {}", partition);
+            });
+        }
+    }
+
+    /**
+     * Desanexa ou remove as partições anteriores ao período de retenção.
+     *
+     * @param current mês corrente
+     */
+    void applyRetention(YearMonth current) {
+        if (config.getRetentionMonths() <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(config.getRetentionMonths() - 1L);
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+
+        for (String partition : partitions) {
+            Optional<YearMonth> month = partitionMonth(partition);
+            if (month.isEmpty() || !month.get().isBefore(oldestKept)) {
+                continue;
+            }
+            runStep("retention of " + partition, () -> {
+                if (config.getRetentionAction() == AuditProperties.RetentionAction.DROP) {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                    log.info("Expired audit partition dropped: {}", partition);
+                } else {
+                    jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+                    log.info("Expired audit partition detached: {}", partition);
+                }
+            });
+        }
+    }
+
+    /**
+     * Alerta quando a partição padrão contém registros, o que indica meses sem partição
+     * (ex: datas fora do intervalo pré-criado) que a manutenção não conseguiu mover.
+     */
+    void checkDefaultPartition() {
+        runStep("check default partition", () -> {
+            Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs_default", Long.class);
+            if (rows != null && rows > 0) {
+                log.warn("Audit default partition holds {} rows outside the maintained partitions", rows);
+            }
+        });
+    }
+
+    /**
+     * Executa um passo da manutenção em um savepoint, registrando a falha sem interromper os demais.
+     *
+     * @param description descrição do passo, para o log
+     * @param step        passo a executar
+     */
+    void runStep(String description, Runnable step) {
+        try {
+            stepTemplate.executeWithoutResult(status -> step.run());
+        } catch (Exception e) {
+            log.error("Audit partition maintenance step failed ({}): {}", description, e.getMessage());
+        }
+    }
+
+    /**
+     * Nome da partição de um mês (mesmo formato da função create_audit_logs_partition).
+     */
+    static String partitionName(YearMonth month) {
+        return String.format("audit_logs_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Extrai o mês do nome de uma partição.
+     *
+     * @return mês, ou vazio se o nome não segue o padrão (ex: audit_logs_default)
+     */
+    static Optional<YearMonth> partitionMonth(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
@@ -0,0 +1,325 @@
+package com.langia.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.langia.backend.dto.AuditLogEntryDTO;
+import com.langia.backend.dto.AuditLogPageDTO;
+import com.langia.backend.dto.AuditLogQuery;
+import com.langia.backend.exception.BusinessException;
+import com.langia.backend.util.JsonPatchUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consulta e exportação de registros de auditoria.
+ *
+ * As consultas usam paginação por cursor (keyset) sobre (created_at, id), em ordem
+ * decrescente, de modo que o custo de cada página não depende da sua posição. Apenas
+ * as colunas de metadados são lidas; os valores JSON anterior e novo só são buscados
+ * quando solicitados.
+ *
+ * A exportação grava NDJSON (um registro JSON por linha) diretamente no stream de saída,
+ * lendo as linhas por um cursor do banco em uma transação somente leitura, sem carregar
+ * o resultado completo em memória.
+ *
+ * O estado de uma entidade em um instante é reconstruído a partir do último SNAPSHOT
+ * anterior, aplicando em ordem os JSON Patch dos UPDATEs seguintes.
+ */
+@Service
+@Slf4j
+public class AuditQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final String METADATA_COLUMNS =
+            "id, entity_type, entity_id, action, user_id, ip_address, user_agent, created_at, value_format";
+    private static final String VALUE_COLUMNS = ", old_value, new_value";
+    private static final String ORDER_BY = " ORDER BY created_at DESC, id DESC";
+
+    private static final String LAST_SNAPSHOT_SQL = "SELECT created_at, id, new_value FROM audit_logs "
+            + "WHERE entity_type = :entityType AND entity_id = :entityId AND created_at <= :at "
+            + "AND value_format = 'SNAPSHOT' "
+            + "ORDER BY created_at DESC, id DESC LIMIT 1";
+    private static final String PATCHES_SQL = "SELECT new_value FROM audit_logs "
+            + "WHERE entity_type = :entityType AND entity_id = :entityId "
+            + "AND (created_at, id) > (:snapshotCreatedAt, :snapshotId) AND created_at <= :at "
+            + "AND value_format = 'JSON_PATCH' "
+            + "ORDER BY created_at, id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate exportTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+
+    @Autowired
+    public AuditQueryService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this(new NamedParameterJdbcTemplate(dataSource), exportTemplate(dataSource),
+                readOnlyTransaction(transactionManager), objectMapper);
+    }
+
+    AuditQueryService(NamedParameterJdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate exportJdbcTemplate,
+            TransactionTemplate exportTransactionTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = exportJdbcTemplate;
+        this.exportTransactionTemplate = exportTransactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writerFor(AuditLogEntryDTO.class);
+    }
+
+    /**
+     * Busca uma página de registros de auditoria, do mais recente para o mais antigo.
+     *
+     * @param query  filtros da consulta
+     * @param cursor cursor retornado pela página anterior, ou null para a primeira página
+     * @param limit  tamanho da página (limitado a {@link #MAX_PAGE_SIZE})
+     * @return registros da página e cursor da próxima
+     * @throws BusinessException se o cursor for inválido
+     */
+    public AuditLogPageDTO findPage(AuditLogQuery query, String cursor, Integer limit) {
+        int pageSize = normalizePageSize(limit);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = buildConditions(query, params);
+        if (cursor != null && !cursor.isBlank()) {
+            Cursor position = decodeCursor(cursor);
+            conditions.add("(created_at, id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", Timestamp.from(position.createdAt()));
+            params.addValue("cursorId", position.id());
+        }
+        // Uma linha a mais indica se existe próxima página sem precisar de COUNT
+        params.addValue("limit", pageSize + 1);
+
+        String sql = buildSelect(query.isIncludeValues(), conditions) + ORDER_BY + " LIMIT :limit";
+        List<AuditLogEntryDTO> rows = jdbcTemplate.query(sql, params, rowMapper(query.isIncludeValues()));
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+            AuditLogEntryDTO last = rows.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return AuditLogPageDTO.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Exporta os registros que atendem aos filtros em formato NDJSON.
+     *
+     * @param query filtros da consulta
+     * @param out   stream de saída; não é fechado por este método
+     * @return número de registros exportados
+     */
+    public long export(AuditLogQuery query, OutputStream out) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildSelect(query.isIncludeValues(), buildConditions(query, params)) + ORDER_BY;
+        RowMapper<AuditLogEntryDTO> mapper = rowMapper(query.isIncludeValues());
+
+        long[] count = {0};
+        exportTransactionTemplate.executeWithoutResult(status ->
+                exportJdbcTemplate.query(sql, params, rs -> {
+                    writeLine(out, mapper.mapRow(rs, (int) count[0]));
+                    count[0]++;
+                }));
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} audit log entries", count[0]);
+        return count[0];
+    }
+
+    /**
+     * Reconstrói o estado de uma entidade em um instante a partir do histórico de auditoria.
+     *
+     * @param entityType tipo da entidade
+     * @param entityId   ID da entidade
+     * @param at         instante desejado (null para o estado mais recente)
+     * @return estado da entidade, ou vazio se não houver histórico até o instante
+     *         ou se a entidade estava excluída
+     */
+    public Optional<JsonNode> reconstructState(String entityType, UUID entityId, Instant at) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("entityType", entityType)
+                .addValue("entityId", entityId)
+                .addValue("at", Timestamp.from(at != null ? at : Instant.now()));
+
+        List<Snapshot> snapshots = jdbcTemplate.query(LAST_SNAPSHOT_SQL, params, (rs, rowNum) -> new Snapshot(
+                rs.getTimestamp("created_at"), rs.getObject("id", UUID.class), rs.getString("new_value")));
+        if (snapshots.isEmpty() || snapshots.get(0).state() == null) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = snapshots.get(0);
+        params.addValue("snapshotCreatedAt", snapshot.createdAt())
+                .addValue("snapshotId", snapshot.id());
+
+        List<String> patches = jdbcTemplate.queryForList(PATCHES_SQL, params, String.class);
+        try {
+            JsonNode state = objectMapper.readTree(snapshot.state());
+            for (String patch : patches) {
+                state = JsonPatchUtil.apply(state, objectMapper.readTree(patch));
+            }
+            return Optional.of(state);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Failed to reconstruct audit state for {} {}: {}", entityType, entityId, e.getMessage());
+            throw new BusinessException("Não foi possível reconstruir o estado a partir da auditoria");
+        }
+    }
+
+    private void writeLine(OutputStream out, AuditLogEntryDTO entry) {
+        try {
+            out.write(ndjsonWriter.writeValueAsBytes(entry));
+            out.write('\n');
+        } catch (IOException e) {
+            // Cliente desconectado: interrompe a leitura do cursor e desfaz a transação
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> buildConditions(AuditLogQuery query, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (query.getEntityType() != null) {
+            conditions.add("entity_type = :entityType");
+            params.addValue("entityType", query.getEntityType());
+        }
+        if (query.getEntityId() != null) {
+            conditions.add("entity_id = :entityId");
+            params.addValue("entityId", query.getEntityId());
+        }
+        if (query.getUserId() != null) {
+            conditions.add("user_id = :userId");
+            params.addValue("userId", query.getUserId());
+        }
+        if (query.getAction() != null) {
+            conditions.add("action = :action");
+            params.addValue("action", query.getAction().name());
+        }
+        if (query.getFrom() != null) {
+            conditions.add("created_at >= :from");
+            params.addValue("from", Timestamp.from(query.getFrom()));
+        }
+        if (query.getTo() != null) {
+            conditions.add("created_at < :to");
+            params.addValue("to", Timestamp.from(query.getTo()));
+        }
+        return conditions;
+    }
+
+    private static String buildSelect(boolean includeValues, List<String> conditions) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(METADATA_COLUMNS);
+        if (includeValues) {
+            sql.append(VALUE_COLUMNS);
+        }
+        sql.append(" FROM audit_logs");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.toString();
+    }
+
+    private static RowMapper<AuditLogEntryDTO> rowMapper(boolean includeValues) {
+        return (rs, rowNum) -> {
+            AuditLogEntryDTO.AuditLogEntryDTOBuilder entry = AuditLogEntryDTO.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .entityType(rs.getString("entity_type"))
+                    .entityId(rs.getObject("entity_id", UUID.class))
+                    .action(rs.getString("action"))
+                    .userId(rs.getObject("user_id", UUID.class))
+                    .ipAddress(rs.getString("ip_address"))
+                    .userAgent(rs.getString("user_agent"))
+                    .createdAt(toInstant(rs))
+                    .valueFormat(rs.getString("value_format"));
+            if (includeValues) {
+                entry.oldValue(rs.getString("old_value"))
+                        .newValue(rs.getString("new_value"));
+            }
+            return entry.build();
+        };
+    }
+
+    private static Instant toInstant(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return createdAt != null ? createdAt.toInstant() : null;
+    }
+
+    static int normalizePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Codifica a posição do último registro da página em um cursor opaco.
+     */
+    static String encodeCursor(Instant createdAt, UUID id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new Cursor(Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    private static NamedParameterJdbcTemplate exportTemplate(DataSource dataSource) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        // Com auto-commit desligado, o driver do PostgreSQL lê o resultado em blocos por cursor
+        template.setFetchSize(EXPORT_FETCH_SIZE);
+        return new NamedParameterJdbcTemplate(template);
+    }
+
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    record Cursor(Instant createdAt, UUID id) {
+    }
+
+    private record Snapshot(Timestamp createdAt, UUID id, String state) {
+    }
+}
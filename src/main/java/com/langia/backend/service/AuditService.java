@@ -1,16 +1,12 @@
 package com.langia.backend.service;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.langia.backend.model.AuditLog;
+import com.langia.backend.dto.AuditEvent;
 import com.langia.backend.model.AuditLog.AuditAction;
-import com.langia.backend.repository.AuditLogRepository;
 import com.langia.backend.util.IpAddressUtil;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,20 +15,21 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Serviço responsável por registrar operações de auditoria.
+ * Captura o contexto da requisição e delega a gravação ao {@link AuditLogWriter}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditService {
 
-    private final AuditLogRepository auditLogRepository;
-    private final ObjectMapper objectMapper;
+    private final AuditLogWriter auditLogWriter;
     private final HttpServletRequest request;
 
     /**
      * Registra uma operação de auditoria.
-     * Usa propagação REQUIRES_NEW para garantir que o log seja salvo
-     * mesmo se a transação principal falhar.
+     * A gravação não participa da transação do chamador, mesmo quando feita na thread
+     * chamadora: o log é mantido se a transação principal falhar, e uma falha na gravação
+     * não afeta a transação principal.
      *
      * @param entityType Tipo da entidade
      * @param entityId   ID da entidade
@@ -41,23 +38,23 @@ public class AuditService {
      * @param newValue   Novo valor (pode ser null)
      * @param userId     ID do usuário que realizou a operação
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(String entityType, UUID entityId, AuditAction action,
                     Object oldValue, Object newValue, UUID userId) {
         try {
-            AuditLog auditLog = AuditLog.builder()
+            AuditEvent event = AuditEvent.builder()
                     .entityType(entityType)
                     .entityId(entityId)
                     .action(action)
-                    .oldValue(toJson(oldValue))
-                    .newValue(toJson(newValue))
+                    .oldValue(oldValue)
+                    .newValue(newValue)
                     .userId(userId)
                     .ipAddress(getClientIp())
                     .userAgent(getUserAgent())
+                    .createdAt(Instant.now())
                     .build();
 
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log created: {} {} on {} ({})",
+            auditLogWriter.submit(event);
+            log.debug("Audit event registered: {} {} on {} ({})",
                     action, entityType, entityId, userId);
         } catch (Exception e) {
             log.error("Failed to create audit log for {} {} on {}: {}",
@@ -86,21 +83,6 @@ public class AuditService {
         log(entityType, entityId, AuditAction.DELETE, oldValue, null, userId);
     }
 
-    /**
-     * Converte objeto para JSON string.
-     */
-    private String toJson(Object value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to serialize object to JSON: {}", e.getMessage());
-            return "{\"error\": \"serialization_failed\"}";
-        }
-    }
-
     /**
      * Obtém o IP do cliente da requisição atual.
      */
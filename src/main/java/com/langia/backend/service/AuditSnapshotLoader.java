@@ -0,0 +1,34 @@
+package com.langia.backend.service;
+
+import java.util.UUID;
+
+/**
+ * Carregador do estado de um tipo de entidade para registros de auditoria.
+ *
+ * Os valores retornados são serializados para JSON somente pelo {@link AuditLogWriter},
+ * fora da thread da requisição; por isso devem ser cópias que não mudam após o retorno
+ * e que não dependem de uma sessão aberta (sem proxies ou coleções lazy).
+ */
+public interface AuditSnapshotLoader {
+
+    /**
+     * Tipo de entidade atendido, como informado em {@code @Auditable(entityType = ...)}.
+     */
+    String getEntityType();
+
+    /**
+     * Carrega o estado da entidade antes da operação auditada.
+     *
+     * @param entityId ID da entidade
+     * @return estado anterior, ou null se a entidade não existir
+     */
+    Object loadPreImage(UUID entityId);
+
+    /**
+     * Carrega o estado atual da entidade, após a operação auditada.
+     *
+     * @param entityId ID da entidade
+     * @return estado atual, ou null se a entidade não existir
+     */
+    Object loadCurrentState(UUID entityId);
+}
@@ -0,0 +1,74 @@
+package com.langia.backend.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro dos carregadores de estado de auditoria por tipo de entidade.
+ * Tipos sem carregador registrado não têm estado anterior capturado.
+ */
+@Component
+@Slf4j
+public class AuditSnapshotRegistry {
+
+    private final Map<String, AuditSnapshotLoader> loaders = new HashMap<>();
+
+    public AuditSnapshotRegistry(List<AuditSnapshotLoader> loaders) {
+        for (AuditSnapshotLoader loader : loaders) {
+            AuditSnapshotLoader previous = this.loaders.put(loader.getEntityType(), loader);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate audit snapshot loader for " + loader.getEntityType());
+            }
+        }
+        log.info("Audit snapshot loaders registered: {}", this.loaders.keySet());
+    }
+
+    /**
+     * Verifica se há carregador para o tipo de entidade.
+     */
+    public boolean supports(String entityType) {
+        return loaders.containsKey(entityType);
+    }
+
+    /**
+     * Carrega o estado anterior da entidade. Nunca lança exceção.
+     *
+     * @return estado anterior, ou null se não houver carregador ou a entidade não existir
+     */
+    public Object loadPreImage(String entityType, UUID entityId) {
+        AuditSnapshotLoader loader = loaders.get(entityType);
+        if (loader == null) {
+            return null;
+        }
+        try {
+            return loader.loadPreImage(entityId);
+        } catch (Exception e) {
+            log.warn("Failed to load audit pre-image for {} {}: {}", entityType, entityId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Carrega o estado atual da entidade. Nunca lança exceção.
+     *
+     * @return estado atual, ou null se não houver carregador ou a entidade não existir
+     */
+    public Object loadCurrentState(String entityType, UUID entityId) {
+        AuditSnapshotLoader loader = loaders.get(entityType);
+        if (loader == null) {
+            return null;
+        }
+        try {
+            return loader.loadCurrentState(entityId);
+        } catch (Exception e) {
+            log.warn("Failed to load audit state for {} {}: {}", entityType, entityId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.langia.backend.service;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -13,11 +15,13 @@ import com.langia.backend.dto.LoginResponseDTO;
 import com.langia.backend.dto.SessionData;
 import com.langia.backend.exception.EmailNotVerifiedException;
 import com.langia.backend.exception.InvalidCredentialsException;
+import com.langia.backend.exception.RateLimitExceededException;
 import com.langia.backend.model.User;
 import com.langia.backend.repository.UserRepository;
 import com.langia.backend.util.EmailMaskUtil;
 import com.langia.backend.util.JwtUtil;
 import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.ValidatedClaims;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,6 +49,9 @@ public class AuthenticationService {
     @Autowired
     private PermissionMapper permissionMapper;
 
+    @Autowired
+    private LoginThrottleService loginThrottleService;
+
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
 
@@ -52,37 +59,48 @@ public class AuthenticationService {
      * Realiza o processo completo de autenticação do usuário.
      *
      * Fluxo:
-     * 1. Busca o usuário pelo email
-     * 2. Valida a senha usando BCrypt
-     * 3. Gera token JWT
-     * 4. Salva sessão no Redis
-     * 5. Busca permissões do perfil
-     * 6. Retorna resposta completa com token e dados do usuário
+     * 1. Verifica os limites de tentativas do IP e da conta
+     * 2. Busca o usuário pelo email
+     * 3. Valida a senha usando BCrypt (refazendo o hash se estiver abaixo do custo atual)
+     * 4. Gera token JWT
+     * 5. Salva sessão no Redis
+     * 6. Busca permissões do perfil
+     * 7. Retorna resposta completa com token e dados do usuário
      *
      * @param loginRequest credenciais de login (email e senha)
+     * @param ipAddress    endereço IP do cliente
      * @return resposta de login com token e informações do usuário
      * @throws InvalidCredentialsException se as credenciais forem inválidas
+     * @throws RateLimitExceededException  se o IP ou a conta excederam as tentativas
      */
-    public LoginResponseDTO login(LoginRequestDTO loginRequest) {
+    public LoginResponseDTO login(LoginRequestDTO loginRequest, String ipAddress) {
         log.info("Tentativa de login para o email: {}", loginRequest.getEmail());
 
-        // 1. Busca o usuário pelo email
+        // 1. Rejeita tentativas limitadas antes de qualquer consulta ou BCrypt
+        loginThrottleService.checkLoginAllowed(ipAddress, loginRequest.getEmail());
+
+        // 2. Busca o usuário pelo email
         Optional<User> userOptional = userRepository.findByEmail(loginRequest.getEmail());
 
         if (userOptional.isEmpty()) {
             log.warn("Tentativa de login com email não cadastrado: {}", loginRequest.getEmail());
+            loginThrottleService.recordFailure(loginRequest.getEmail());
             throw new InvalidCredentialsException();
         }
 
         User user = userOptional.get();
 
-        // 2. Valida a senha usando BCrypt
+        // 3. Valida a senha usando BCrypt
         if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
             log.warn("Tentativa de login com senha incorreta para o email: {}", loginRequest.getEmail());
+            loginThrottleService.recordFailure(loginRequest.getEmail());
             throw new InvalidCredentialsException();
         }
 
-        // 3. Verifica se o e-mail esta verificado
+        loginThrottleService.recordSuccess(loginRequest.getEmail());
+        upgradePasswordHash(user, loginRequest.getPassword());
+
+        // Verifica se o e-mail esta verificado
         if (!user.isEmailVerified()) {
             log.warn("Tentativa de login com e-mail nao verificado: {}", loginRequest.getEmail());
             throw new EmailNotVerifiedException(user.getId(), EmailMaskUtil.mask(user.getEmail()));
@@ -90,26 +108,26 @@ public class AuthenticationService {
 
         log.info("Credenciais validas para usuario: {} (ID: {})", user.getEmail(), user.getId());
 
-        // 3. Gera token JWT
+        // 4. Gera token JWT
         String token = jwtUtil.generateToken(user);
 
-        // 4. Busca permissões do perfil
+        // 5. Busca permissões do perfil
         Set<String> permissions = permissionMapper.getPermissionsForProfile(user.getProfileCode());
 
-        // 5. Salva sessão no Redis
+        // 6. Salva sessão no Redis (apenas o perfil e a versão das permissões)
         SessionData sessionData = SessionData.builder()
                 .userId(user.getId())
                 .name(user.getName())
                 .email(user.getEmail())
                 .profile(user.getProfileCode())
-                .permissions(permissions)
+                .permissionsVersion(permissionMapper.getPermissionsVersion(user.getProfileCode()))
                 .build();
 
         sessionService.saveSession(token, sessionData);
 
         log.info("Login bem-sucedido para usuário: {} (Perfil: {})", user.getEmail(), user.getProfileCode());
 
-        // 6. Retorna resposta completa
+        // 7. Retorna resposta completa
         return LoginResponseDTO.builder()
                 .token(token)
                 .userId(user.getId())
@@ -121,6 +139,29 @@ public class AuthenticationService {
                 .build();
     }
 
+    /**
+     * Refaz o hash da senha quando foi gerado com algoritmo ou custo abaixo do atual.
+     * Falhas não impedem o login; o hash será atualizado em um próximo login.
+     *
+     * @param user        usuário autenticado
+     * @param rawPassword senha em texto plano já validada
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+        try {
+            String upgradedHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.replacePasswordHash(user.getId(), currentHash, upgradedHash) > 0) {
+                user.setPassword(upgradedHash);
+                log.info("Hash de senha atualizado para usuário: {}", user.getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao atualizar hash de senha do usuário {}: {}", user.getId(), e.getMessage());
+        }
+    }
+
     /**
      * Valida se uma sessão ainda é válida.
      * Verifica tanto a validade do token JWT quanto a existência da sessão no Redis.
@@ -132,7 +173,7 @@ public class AuthenticationService {
         log.debug("Validando sessão para token");
 
         // Valida o token JWT (assinatura e expiração)
-        if (!jwtUtil.validateToken(token)) {
+        if (jwtUtil.verifyToken(token) == null) {
             log.warn("Token JWT inválido ou expirado");
             return null;
         }
@@ -145,12 +186,62 @@ public class AuthenticationService {
             return null;
         }
 
+        // Invalida sessões criadas antes da última alteração das permissões do perfil
+        if (isPermissionsVersionStale(sessionData)) {
+            log.info("Sessão invalidada por alteração de permissões do perfil {} (usuário: {})",
+                    sessionData.getProfile(), sessionData.getUserId());
+            sessionService.removeSession(token);
+            return null;
+        }
+
         log.debug("Sessão válida para usuário: {} (ID: {})",
                 sessionData.getEmail(), sessionData.getUserId());
 
         return sessionData;
     }
 
+    /**
+     * Verifica se a sessão foi criada com uma versão de permissões anterior à atual do perfil.
+     * Versões maiores que a carregada são aceitas, pois esta instância pode ainda não ter
+     * recarregado a matriz após uma alteração.
+     */
+    private boolean isPermissionsVersionStale(SessionData sessionData) {
+        Integer sessionVersion = sessionData.getPermissionsVersion();
+        return sessionVersion != null
+                && sessionVersion < permissionMapper.getPermissionsVersion(sessionData.getProfile());
+    }
+
+    /**
+     * Registra atividade em uma sessão válida, permitindo sua renovação automática
+     * quando a expiração deslizante está habilitada.
+     *
+     * @param token token JWT da sessão
+     */
+    public void markSessionActivity(String token) {
+        sessionService.touchSession(token);
+    }
+
+    /**
+     * Obtém as permissões associadas a uma sessão, resolvidas a partir do perfil.
+     *
+     * @param sessionData dados da sessão
+     * @return conjunto imutável de permissões
+     */
+    public Set<String> getPermissions(SessionData sessionData) {
+        return permissionMapper.getPermissionsForProfile(sessionData.getProfile());
+    }
+
+    /**
+     * Obtém as authorities do Spring Security de uma sessão.
+     * Retorna a lista pré-construída e compartilhada do perfil, sem alocação por requisição.
+     *
+     * @param sessionData dados da sessão
+     * @return lista imutável de authorities
+     */
+    public List<GrantedAuthority> getAuthorities(SessionData sessionData) {
+        return permissionMapper.getAuthoritiesForProfile(sessionData.getProfile());
+    }
+
     /**
      * Realiza o logout do usuário, removendo a sessão do Redis.
      * O token será invalidado imediatamente, mesmo que ainda não tenha expirado.
@@ -194,13 +285,14 @@ public class AuthenticationService {
         log.debug("Renovando sessão");
 
         // Valida que o token JWT ainda é válido
-        if (!jwtUtil.validateToken(token)) {
+        ValidatedClaims claims = jwtUtil.verifyToken(token);
+        if (claims == null) {
             log.warn("Tentativa de renovar sessão com token JWT inválido");
             return false;
         }
 
         // Renova a expiração no Redis
-        boolean renewed = sessionService.renewSession(token);
+        boolean renewed = sessionService.renewSession(token, claims.getUserId());
 
         if (renewed) {
             log.debug("Sessão renovada com sucesso");
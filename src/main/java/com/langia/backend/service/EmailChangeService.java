@@ -8,6 +8,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.langia.backend.dto.RateLimitDecision;
 import com.langia.backend.exception.EmailAlreadyExistsException;
 import com.langia.backend.exception.InvalidEmailChangeCodeException;
 import com.langia.backend.exception.RateLimitExceededException;
@@ -87,8 +88,9 @@ public class EmailChangeService {
     @Transactional
     public void confirmEmailChange(UUID userId, String code) {
         // Check rate limit before processing
-        if (rateLimitService.isAttemptLimitReached(userId)) {
-            long lockoutTime = rateLimitService.getLockoutTimeRemaining(userId);
+        RateLimitDecision attempt = rateLimitService.checkAttempt(userId);
+        if (!attempt.allowed()) {
+            long lockoutTime = attempt.retryAfterSeconds();
             log.warn("Email change verification blocked for user {} - rate limit exceeded", userId);
             throw new RateLimitExceededException(lockoutTime > 0 ? lockoutTime : 3600);
         }
@@ -0,0 +1,159 @@
+package com.langia.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.langia.backend.config.EmailOutboxProperties;
+import com.langia.backend.exception.EmailDeliveryException;
+import com.langia.backend.model.EmailOutboxMessage;
+import com.langia.backend.repository.EmailOutboxRepository;
+import com.langia.backend.util.EmailMaskUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço da fila de saída de e-mails (padrão outbox).
+ *
+ * Os e-mails são gravados na transação de quem os solicita, de modo que só são
+ * entregues se a operação de negócio for confirmada, e a latência do provedor
+ * deixa de afetar a requisição. A entrega é feita pelo {@link EmailOutboxWorker}.
+ *
+ * O conteúdo das mensagens é apagado quando elas são finalizadas, e as mensagens
+ * finalizadas são removidas após o período de retenção.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxProperties properties;
+
+    /**
+     * Enfileira um e-mail para entrega, participando da transação corrente se houver.
+     *
+     * @param to      destinatário
+     * @param subject assunto
+     * @param html    conteúdo HTML
+     * @return mensagem enfileirada
+     */
+    @Transactional
+    public EmailOutboxMessage enqueue(String to, String subject, String html) {
+        EmailOutboxMessage message = EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .htmlBody(html)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        message = emailOutboxRepository.save(message);
+        log.info("Email queued for: {} - Subject: {}", EmailMaskUtil.mask(to), subject);
+        return message;
+    }
+
+    /**
+     * Reserva um lote de mensagens para entrega.
+     * Cada mensagem reservada conta uma tentativa e fica indisponível para outros
+     * workers até o fim do prazo de entrega.
+     *
+     * @param batchSize número máximo de mensagens
+     * @return mensagens reservadas
+     */
+    @Transactional
+    public List<EmailOutboxMessage> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> batch = emailOutboxRepository.findDueForUpdate(
+                EnumSet.of(EmailOutboxMessage.Status.PENDING, EmailOutboxMessage.Status.SENDING),
+                now, PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plusSeconds(properties.getWorker().getLeaseSeconds());
+        for (EmailOutboxMessage message : batch) {
+            message.setStatus(EmailOutboxMessage.Status.SENDING);
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(leaseUntil);
+        }
+        return batch;
+    }
+
+    /**
+     * Registra a entrega de uma mensagem.
+     *
+     * @param id                ID da mensagem
+     * @param providerMessageId ID da mensagem no provedor
+     */
+    @Transactional
+    public void recordSuccess(UUID id, String providerMessageId) {
+        emailOutboxRepository.markSent(id, providerMessageId, LocalDateTime.now());
+    }
+
+    /**
+     * Registra uma falha de entrega. Falhas temporárias são reagendadas com backoff
+     * exponencial; falhas permanentes ou tentativas esgotadas marcam a mensagem como DEAD.
+     *
+     * @param message mensagem reservada
+     * @param error   erro retornado pelo provedor
+     */
+    @Transactional
+    public void recordFailure(EmailOutboxMessage message, EmailDeliveryException error) {
+        String errorMessage = truncate(error.getMessage());
+        boolean exhausted = message.getAttempts() >= properties.getRetry().getMaxAttempts();
+
+        if (!error.isRetryable() || exhausted) {
+            emailOutboxRepository.markDead(message.getId(), errorMessage);
+            log.error("Email to: {} moved to dead letter after {} attempts - Error: {}",
+                    EmailMaskUtil.mask(message.getRecipient()), message.getAttempts(), errorMessage);
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(message.getAttempts()));
+        emailOutboxRepository.markFailed(message.getId(), EmailOutboxMessage.Status.PENDING,
+                nextAttemptAt, errorMessage);
+        log.warn("Failed to send email to: {} (attempt {}), retrying at {} - Error: {}",
+                EmailMaskUtil.mask(message.getRecipient()), message.getAttempts(), nextAttemptAt, errorMessage);
+    }
+
+    /**
+     * Remove as mensagens finalizadas (SENT ou DEAD) mais antigas que o período de retenção.
+     *
+     * @return número de mensagens removidas
+     */
+    @Transactional
+    public int purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minusDays(properties.getRetention().getDays());
+        int removed = emailOutboxRepository.deleteFinishedBefore(
+                EnumSet.of(EmailOutboxMessage.Status.SENT, EmailOutboxMessage.Status.DEAD), before);
+        if (removed > 0) {
+            log.info("Purged {} finished outbound emails created before {}", removed, before);
+        }
+        return removed;
+    }
+
+    /**
+     * Calcula a espera antes da próxima tentativa.
+     *
+     * @param attempts tentativas já realizadas (a partir de 1)
+     * @return espera, dobrando a cada falha até o máximo configurado
+     */
+    Duration backoff(int attempts) {
+        EmailOutboxProperties.RetryConfig retry = properties.getRetry();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long seconds = Math.min(retry.getInitialBackoffSeconds() << exponent, retry.getMaxBackoffSeconds());
+        return Duration.ofSeconds(seconds);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
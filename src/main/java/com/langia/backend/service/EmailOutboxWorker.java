@@ -0,0 +1,110 @@
+package com.langia.backend.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.config.EmailOutboxProperties;
+import com.langia.backend.exception.EmailDeliveryException;
+import com.langia.backend.model.EmailOutboxMessage;
+import com.langia.backend.util.EmailMaskUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Worker que entrega os e-mails da fila de saída.
+ *
+ * A cada ciclo reserva um lote de mensagens e as envia em paralelo por um pool
+ * de threads limitado, o que restringe a concorrência contra o provedor.
+ * Cada ciclo processa um único lote, para não ocupar por tempo indefinido uma
+ * thread do scheduler compartilhado; um acúmulo é drenado nos ciclos seguintes.
+ */
+@Component
+@ConditionalOnProperty(name = "email.outbox.worker.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailSender emailSender;
+    private final int batchSize;
+    private final ThreadPoolTaskExecutor executor;
+
+    public EmailOutboxWorker(EmailOutboxService emailOutboxService, EmailSender emailSender,
+            EmailOutboxProperties properties) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailSender = emailSender;
+        this.batchSize = properties.getWorker().getBatchSize();
+
+        int threads = properties.getWorker().getThreads();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.initialize();
+    }
+
+    /**
+     * Processa um lote de mensagens elegíveis para entrega.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.worker.poll-interval-ms:2000}")
+    public void poll() {
+        List<EmailOutboxMessage> batch;
+        try {
+            batch = emailOutboxService.claimBatch(batchSize);
+        } catch (Exception e) {
+            log.warn("Failed to claim email outbox batch: {}", e.getMessage());
+            return;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] deliveries = batch.stream()
+                .map(message -> CompletableFuture.runAsync(() -> deliver(message), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(deliveries).join();
+        log.debug("Processed {} outbound emails", batch.size());
+    }
+
+    /**
+     * Remove diariamente as mensagens finalizadas fora do período de retenção.
+     */
+    @Scheduled(cron = "${email.outbox.retention.cron:0 45 3 * * *}")
+    public void purgeFinished() {
+        try {
+            emailOutboxService.purgeFinished();
+        } catch (Exception e) {
+            log.error("Failed to purge finished outbound emails: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Entrega uma mensagem e registra o resultado.
+     *
+     * @param message mensagem reservada
+     */
+    void deliver(EmailOutboxMessage message) {
+        try {
+            String providerMessageId = emailSender.send(message.getRecipient(), message.getSubject(),
+                    message.getHtmlBody());
+            emailOutboxService.recordSuccess(message.getId(), providerMessageId);
+            log.info("Email sent successfully to: {} - ID: {}",
+                    EmailMaskUtil.mask(message.getRecipient()), providerMessageId);
+        } catch (EmailDeliveryException e) {
+            emailOutboxService.recordFailure(message, e);
+        } catch (RuntimeException e) {
+            emailOutboxService.recordFailure(message, new EmailDeliveryException(e.getMessage(), true, e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,21 @@
+package com.langia.backend.service;
+
+import com.langia.backend.exception.EmailDeliveryException;
+
+/**
+ * Entrega de e-mails a um provedor externo.
+ * A implementação é escolhida pela propriedade email.sender (resend ou log).
+ */
+public interface EmailSender {
+
+    /**
+     * Envia um e-mail HTML.
+     *
+     * @param to      destinatário
+     * @param subject assunto
+     * @param html    conteúdo HTML
+     * @return ID da mensagem no provedor
+     * @throws EmailDeliveryException se o provedor não aceitar a mensagem
+     */
+    String send(String to, String subject, String html);
+}
@@ -2,56 +2,55 @@ package com.langia.backend.service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
-
-import com.resend.Resend;
-import com.resend.core.exception.ResendException;
-import com.resend.services.emails.model.CreateEmailOptions;
-import com.resend.services.emails.model.CreateEmailResponse;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Serviço para envio de emails utilizando Resend API e templates Thymeleaf.
+ * Serviço para envio de emails utilizando templates Thymeleaf pré-compilados
+ * ({@link EmailTemplateRenderer}).
+ * Os emails são gravados na fila de saída ({@link EmailOutboxService}) e entregues
+ * de forma assíncrona, sem depender da latência do provedor.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final TemplateEngine templateEngine;
-
-    @Value("${resend.api-key:}")
-    private String resendApiKey;
+    private static final String PASSWORD_RESET_TEMPLATE = "email/password-reset-email";
+    private static final String PASSWORD_CHANGED_TEMPLATE = "email/password-changed-email";
+    private static final String EMAIL_VERIFICATION_TEMPLATE = "email/email-verification";
+    private static final String EMAIL_CHANGE_VERIFICATION_TEMPLATE = "email/email-change-verification";
+    private static final String EMAIL_CHANGED_NOTIFICATION_TEMPLATE = "email/email-changed-notification";
 
-    @Value("${resend.from-email:onboarding@resend.dev}")
-    private String fromEmail;
+    private final EmailTemplateRenderer templateRenderer;
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.platform.name:LangIA}")
     private String platformName;
 
-    @Value("${app.support.email:suporte@langia.com}")
-    private String supportEmail;
-
-    private Resend resend;
-
     private static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
 
+    /**
+     * Pré-compila os templates de email na inicialização.
+     */
     @PostConstruct
-    public void init() {
-        if (resendApiKey != null && !resendApiKey.isBlank()) {
-            this.resend = new Resend(resendApiKey);
-            log.info("Resend email service initialized successfully");
-        } else {
-            log.warn("Resend API key not configured - emails will not be sent");
-        }
+    public void precompileTemplates() {
+        templateRenderer.precompile(PASSWORD_RESET_TEMPLATE, List.of("userName", "resetLink", "expirationTime"));
+        templateRenderer.precompile(PASSWORD_CHANGED_TEMPLATE, List.of("userName", "changeTime"));
+        templateRenderer.precompile(EMAIL_VERIFICATION_TEMPLATE, List.of("userName", "verifyLink", "expirationTime"));
+        templateRenderer.precompile(EMAIL_CHANGE_VERIFICATION_TEMPLATE,
+                List.of("userName", "code", "expirationTime"));
+        templateRenderer.precompile(EMAIL_CHANGED_NOTIFICATION_TEMPLATE,
+                List.of("userName", "newEmail", "changeTime"));
     }
 
     /**
@@ -65,13 +64,12 @@ public class EmailService {
     public void sendPasswordResetEmail(String toEmail, String userName, String resetLink, String expirationTime) {
         log.info("Preparing password reset email for: {}", maskEmail(toEmail));
 
-        Context context = new Context();
-        context.setVariable("userName", userName);
-        context.setVariable("resetLink", resetLink);
-        context.setVariable("expirationTime", expirationTime);
-        context.setVariable("platformName", platformName);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("userName", userName);
+        variables.put("resetLink", resetLink);
+        variables.put("expirationTime", expirationTime);
 
-        String html = templateEngine.process("email/password-reset-email", context);
+        String html = templateRenderer.render(PASSWORD_RESET_TEMPLATE, variables);
         String subject = "Recuperação de Senha - " + platformName;
 
         sendHtmlEmail(toEmail, subject, html);
@@ -86,13 +84,11 @@ public class EmailService {
     public void sendPasswordChangedEmail(String toEmail, String userName) {
         log.info("Preparing password changed email for: {}", maskEmail(toEmail));
 
-        Context context = new Context();
-        context.setVariable("userName", userName);
-        context.setVariable("changeTime", LocalDateTime.now().format(DATE_TIME_FORMATTER));
-        context.setVariable("platformName", platformName);
-        context.setVariable("supportEmail", supportEmail);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("userName", userName);
+        variables.put("changeTime", LocalDateTime.now().format(DATE_TIME_FORMATTER));
 
-        String html = templateEngine.process("email/password-changed-email", context);
+        String html = templateRenderer.render(PASSWORD_CHANGED_TEMPLATE, variables);
         String subject = "Senha Alterada - " + platformName;
 
         sendHtmlEmail(toEmail, subject, html);
@@ -109,14 +105,12 @@ public class EmailService {
     public void sendEmailVerificationEmail(String toEmail, String userName, String verifyLink, String expirationTime) {
         log.info("Preparing email verification for: {}", maskEmail(toEmail));
 
-        Context context = new Context();
-        context.setVariable("userName", userName);
-        context.setVariable("verifyLink", verifyLink);
-        context.setVariable("expirationTime", expirationTime);
-        context.setVariable("platformName", platformName);
-        context.setVariable("supportEmail", supportEmail);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("userName", userName);
+        variables.put("verifyLink", verifyLink);
+        variables.put("expirationTime", expirationTime);
 
-        String html = templateEngine.process("email/email-verification", context);
+        String html = templateRenderer.render(EMAIL_VERIFICATION_TEMPLATE, variables);
         String subject = "Confirme seu e-mail - " + platformName;
 
         sendHtmlEmail(toEmail, subject, html);
@@ -132,14 +126,12 @@ public class EmailService {
     public void sendEmailChangeVerification(String toEmail, String userName, String code) {
         log.info("Preparing email change verification for: {}", maskEmail(toEmail));
 
-        Context context = new Context();
-        context.setVariable("userName", userName);
-        context.setVariable("code", code);
-        context.setVariable("expirationTime", "15 minutos");
-        context.setVariable("platformName", platformName);
-        context.setVariable("supportEmail", supportEmail);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("userName", userName);
+        variables.put("code", code);
+        variables.put("expirationTime", "15 minutos");
 
-        String html = templateEngine.process("email/email-change-verification", context);
+        String html = templateRenderer.render(EMAIL_CHANGE_VERIFICATION_TEMPLATE, variables);
         String subject = "Codigo de Verificacao - Alteracao de E-mail - " + platformName;
 
         sendHtmlEmail(toEmail, subject, html);
@@ -155,48 +147,27 @@ public class EmailService {
     public void sendEmailChangedNotification(String oldEmail, String userName, String newEmail) {
         log.info("Preparing email changed notification for: {}", maskEmail(oldEmail));
 
-        Context context = new Context();
-        context.setVariable("userName", userName);
-        context.setVariable("newEmail", maskEmail(newEmail));
-        context.setVariable("changeTime", LocalDateTime.now().format(DATE_TIME_FORMATTER));
-        context.setVariable("platformName", platformName);
-        context.setVariable("supportEmail", supportEmail);
+        Map<String, String> variables = new HashMap<>();
+        variables.put("userName", userName);
+        variables.put("newEmail", maskEmail(newEmail));
+        variables.put("changeTime", LocalDateTime.now().format(DATE_TIME_FORMATTER));
 
-        String html = templateEngine.process("email/email-changed-notification", context);
+        String html = templateRenderer.render(EMAIL_CHANGED_NOTIFICATION_TEMPLATE, variables);
         String subject = "E-mail Alterado - " + platformName;
 
         sendHtmlEmail(oldEmail, subject, html);
     }
 
     /**
-     * Envia email HTML usando Resend API.
+     * Enfileira email HTML para entrega assíncrona.
+     * Participa da transação do chamador: o email só é enviado se ela for confirmada.
      *
      * @param to      Destinatario
      * @param subject Assunto
      * @param html    Conteudo HTML
      */
     private void sendHtmlEmail(String to, String subject, String html) {
-        if (resend == null) {
-            log.warn("Email not sent - Resend not configured. To: {}, Subject: {}", maskEmail(to), subject);
-            return;
-        }
-
-        try {
-            CreateEmailOptions options = CreateEmailOptions.builder()
-                    .from(platformName + " <" + fromEmail + ">")
-                    .to(to)
-                    .subject(subject)
-                    .html(html)
-                    .build();
-
-            CreateEmailResponse response = resend.emails().send(options);
-            log.info("Email sent successfully to: {} - ID: {}", maskEmail(to), response.getId());
-
-        } catch (ResendException e) {
-            log.error("Failed to send email to: {} - Error: {}", maskEmail(to), e.getMessage());
-            // Não lançamos exceção para não bloquear o fluxo de recuperação de senha
-            // O usuário receberá resposta de sucesso mesmo que o email falhe
-        }
+        emailOutboxService.enqueue(to, subject, html);
     }
 
     /**
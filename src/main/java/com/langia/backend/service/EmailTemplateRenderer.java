@@ -0,0 +1,176 @@
+package com.langia.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.html.HtmlEscapeLevel;
+import org.unbescape.html.HtmlEscapeType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renderização de templates de e-mail com pré-compilação.
+ *
+ * Cada template é processado pelo Thymeleaf uma única vez por idioma, com as variáveis
+ * comuns a todos os envios (platformName, supportEmail) já preenchidas e marcadores no
+ * lugar das variáveis de cada destinatário. O HTML resultante é dividido em trechos
+ * estáticos e posições de variáveis, de modo que um envio apenas concatena os trechos
+ * com os valores escapados, sem percorrer o template novamente.
+ *
+ * Variáveis de destinatário devem ser usadas apenas para exibição (th:text, th:href);
+ * condições sobre elas se limitam a testar se são vazias. Envios com alguma variável
+ * nula ou vazia são renderizados pelo Thymeleaf, garantindo o mesmo resultado.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private static final String MARKER_PREFIX = "{{{langia:";
+    private static final String MARKER_SUFFIX = "}}}";
+
+    private final TemplateEngine templateEngine;
+    private final Map<String, Object> staticVariables;
+    private final Map<TemplateKey, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine,
+            @Value("${app.platform.name:LangIA}") String platformName,
+            @Value("${app.support.email:suporte@langia.com}") String supportEmail) {
+        this.templateEngine = templateEngine;
+        this.staticVariables = Map.of("platformName", platformName, "supportEmail", supportEmail);
+    }
+
+    /**
+     * Pré-compila um template no idioma padrão.
+     *
+     * @param templateName  nome do template (ex: email/password-reset-email)
+     * @param variableNames variáveis de destinatário usadas pelo template
+     */
+    public void precompile(String templateName, Collection<String> variableNames) {
+        compiledTemplates.computeIfAbsent(new TemplateKey(templateName, Locale.getDefault(),
+                new TreeSet<>(variableNames)), this::compile);
+    }
+
+    /**
+     * Renderiza um template no idioma padrão.
+     *
+     * @param templateName nome do template
+     * @param variables    variáveis de destinatário
+     * @return HTML renderizado
+     */
+    public String render(String templateName, Map<String, String> variables) {
+        return render(templateName, Locale.getDefault(), variables);
+    }
+
+    /**
+     * Renderiza um template no idioma informado.
+     *
+     * @param templateName nome do template
+     * @param locale       idioma
+     * @param variables    variáveis de destinatário
+     * @return HTML renderizado
+     */
+    public String render(String templateName, Locale locale, Map<String, String> variables) {
+        if (hasEmptyValue(variables)) {
+            return process(templateName, locale, variables);
+        }
+        CompiledTemplate template = compiledTemplates.computeIfAbsent(
+                new TemplateKey(templateName, locale, new TreeSet<>(variables.keySet())), this::compile);
+        return template.render(variables);
+    }
+
+    /**
+     * Renderiza um template pelo Thymeleaf, sem pré-compilação.
+     */
+    String process(String templateName, Locale locale, Map<String, ?> variables) {
+        Context context = new Context(locale);
+        context.setVariables(staticVariables);
+        variables.forEach(context::setVariable);
+        return templateEngine.process(templateName, context);
+    }
+
+    private CompiledTemplate compile(TemplateKey key) {
+        Map<String, String> markers = new HashMap<>();
+        for (String name : key.variableNames()) {
+            markers.put(name, MARKER_PREFIX + name + MARKER_SUFFIX);
+        }
+        String html = process(key.templateName(), key.locale(), markers);
+
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = html.indexOf(MARKER_PREFIX, position)) >= 0) {
+            int end = html.indexOf(MARKER_SUFFIX, start + MARKER_PREFIX.length());
+            String name = html.substring(start + MARKER_PREFIX.length(), end);
+            segments.add(html.substring(position, start));
+            slots.add(name);
+            position = end + MARKER_SUFFIX.length();
+        }
+        segments.add(html.substring(position));
+
+        log.info("Email template compiled: {} ({}, {} variables, {} static fragments)",
+                key.templateName(), key.locale(), slots.size(), segments.size());
+        return new CompiledTemplate(segments.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    private static boolean hasEmptyValue(Map<String, String> variables) {
+        for (String value : variables.values()) {
+            if (value == null || value.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record TemplateKey(String templateName, Locale locale, Set<String> variableNames) {
+    }
+
+    /**
+     * Template pré-compilado: trechos estáticos intercalados com variáveis.
+     * segments.length == slots.length + 1.
+     */
+    private static final class CompiledTemplate {
+
+        private final String[] segments;
+        private final String[] slots;
+        private final int staticLength;
+
+        CompiledTemplate(String[] segments, String[] slots) {
+            this.segments = segments;
+            this.slots = slots;
+            int length = 0;
+            for (String segment : segments) {
+                length += segment.length();
+            }
+            this.staticLength = length;
+        }
+
+        String render(Map<String, String> variables) {
+            StringBuilder html = new StringBuilder(staticLength + slots.length * 32);
+            for (int i = 0; i < slots.length; i++) {
+                html.append(segments[i]).append(escape(variables.get(slots[i])));
+            }
+            return html.append(segments[slots.length]).toString();
+        }
+
+        /**
+         * Mesmo escape aplicado pelo Thymeleaf a th:text e atributos em modo HTML.
+         */
+        private static String escape(String value) {
+            return HtmlEscape.escapeHtml(value, HtmlEscapeType.HTML4_NAMED_REFERENCES_DEFAULT_TO_DECIMAL,
+                    HtmlEscapeLevel.LEVEL_1_ONLY_MARKUP_SIGNIFICANT);
+        }
+    }
+}
@@ -1,75 +1,41 @@
 package com.langia.backend.service;
 
-import java.time.Duration;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.langia.backend.dto.RateLimitDecision;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service para rate limiting de reenvios de verificacao de e-mail.
- * Usa Redis para contagem com TTL automatico.
+ * Usa a politica email-verification-resend do {@link RateLimiter}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailVerificationRateLimitService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
-    @Value("${email.verification.rate-limit.max-resends-per-hour:3}")
-    private int maxResendsPerHour;
-
-    @Value("${email.verification.rate-limit.window-hours:1}")
-    private int windowHours;
+    static final String RESEND_POLICY = "email-verification-resend";
 
-    private static final String RESEND_KEY_PREFIX = "email_verify:resend:";
+    private final RateLimiter rateLimiter;
 
     /**
-     * Verifica se o limite de reenvios foi atingido para um usuario.
+     * Verifica o limite de reenvios e registra a tentativa se permitida.
      *
      * @param userId ID do usuario
-     * @return true se limite atingido, false se pode prosseguir
+     * @return decisao com reenvios restantes ou tempo ate nova tentativa
      */
-    public boolean isResendLimitReached(UUID userId) {
-        String key = RESEND_KEY_PREFIX + userId.toString();
-        String count = redisTemplate.opsForValue().get(key);
-
-        if (count == null) {
-            return false;
-        }
-
-        int attempts = Integer.parseInt(count);
-        boolean limited = attempts >= maxResendsPerHour;
-
-        if (limited) {
+    public RateLimitDecision tryAcquireResend(UUID userId) {
+        RateLimitDecision decision = rateLimiter.tryConsume(RESEND_POLICY, userId.toString());
+        if (!decision.allowed()) {
             log.warn("Email verification resend limit reached for user: {}", userId);
+        } else {
+            log.debug("Recorded resend attempt for user: {} ({} remaining)", userId, decision.remaining());
         }
-
-        return limited;
-    }
-
-    /**
-     * Registra uma tentativa de reenvio de verificacao.
-     *
-     * @param userId ID do usuario
-     */
-    public void recordResendAttempt(UUID userId) {
-        String key = RESEND_KEY_PREFIX + userId.toString();
-        Long count = redisTemplate.opsForValue().increment(key);
-
-        // Define TTL apenas na primeira tentativa
-        if (count != null && count == 1) {
-            Duration window = Duration.ofHours(windowHours);
-            redisTemplate.expire(key, window);
-            log.debug("Started resend rate limit window for user: {}", userId);
-        }
-
-        log.debug("Recorded resend attempt {} for user: {}", count, userId);
+        return decision;
     }
 
     /**
@@ -79,23 +45,17 @@ public class EmailVerificationRateLimitService {
      * @return Numero de reenvios restantes
      */
     public int getRemainingResends(UUID userId) {
-        String key = RESEND_KEY_PREFIX + userId.toString();
-        String count = redisTemplate.opsForValue().get(key);
-
-        int used = count != null ? Integer.parseInt(count) : 0;
-        return Math.max(0, maxResendsPerHour - used);
+        return rateLimiter.peek(RESEND_POLICY, userId.toString()).remaining();
     }
 
     /**
-     * Retorna o tempo restante ate o reset do rate limit em segundos.
+     * Retorna o tempo restante ate um novo reenvio ser permitido, em segundos.
      *
      * @param userId ID do usuario
-     * @return Segundos ate expirar, ou -1 se nao ha limite ativo
+     * @return Segundos ate nova tentativa, ou 0 se nao ha limite ativo
      */
     public long getTimeUntilReset(UUID userId) {
-        String key = RESEND_KEY_PREFIX + userId.toString();
-        Long ttl = redisTemplate.getExpire(key);
-        return ttl != null ? ttl : -1;
+        return rateLimiter.peek(RESEND_POLICY, userId.toString()).retryAfterSeconds();
     }
 
     /**
@@ -104,8 +64,7 @@ public class EmailVerificationRateLimitService {
      * @param userId ID do usuario
      */
     public void resetResendAttempts(UUID userId) {
-        String key = RESEND_KEY_PREFIX + userId.toString();
-        redisTemplate.delete(key);
+        rateLimiter.reset(RESEND_POLICY, userId.toString());
         log.info("Reset resend rate limit for user: {}", userId);
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.langia.backend.dto.EmailVerificationResponseDTO;
+import com.langia.backend.dto.RateLimitDecision;
 import com.langia.backend.dto.ResendVerificationResponseDTO;
 import com.langia.backend.exception.EmailVerificationRateLimitException;
 import com.langia.backend.exception.InvalidVerificationTokenException;
@@ -104,21 +105,19 @@ public class EmailVerificationService {
             return ResendVerificationResponseDTO.alreadyVerified();
         }
 
-        // 3. Verificar rate limit
-        if (rateLimitService.isResendLimitReached(userId)) {
-            long retryAfter = rateLimitService.getTimeUntilReset(userId);
+        // 3. Verificar rate limit e registrar tentativa
+        RateLimitDecision decision = rateLimitService.tryAcquireResend(userId);
+        if (!decision.allowed()) {
+            long retryAfter = decision.retryAfterSeconds();
             log.warn("Resend rate limit exceeded for user: {}", userId);
             throw new EmailVerificationRateLimitException(retryAfter > 0 ? retryAfter : 3600);
         }
 
-        // 4. Registrar tentativa
-        rateLimitService.recordResendAttempt(userId);
-
-        // 5. Enviar novo email
+        // 4. Enviar novo email
         sendVerificationEmail(user);
 
-        // 6. Retornar resposta
-        int remaining = rateLimitService.getRemainingResends(userId);
+        // 5. Retornar resposta
+        int remaining = decision.remaining();
         String maskedEmail = EmailMaskUtil.mask(user.getEmail());
 
         return ResendVerificationResponseDTO.success(maskedEmail, remaining);
@@ -0,0 +1,108 @@
+package com.langia.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Carregador de estado de auditoria para entidades JPA.
+ *
+ * A entidade é obtida com {@link EntityManager#find}, que reutiliza a instância já presente
+ * no contexto de persistência sem novo SELECT. O estado anterior vem do estado carregado
+ * mantido pelo Hibernate para o dirty checking (loaded state), que não reflete alterações
+ * ainda não gravadas; o estado atual vem dos valores da instância.
+ *
+ * Associações são representadas pelo ID da entidade associada, coleções são omitidas e
+ * propriedades sensíveis podem ser excluídas. O resultado é um mapa de propriedade para
+ * valor, serializado depois pela thread de gravação da auditoria.
+ */
+public class JpaAuditSnapshotLoader implements AuditSnapshotLoader {
+
+    private final String entityType;
+    private final Class<?> entityClass;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> excludedProperties;
+
+    /**
+     * @param entityType         tipo de entidade de auditoria atendido
+     * @param entityClass        classe da entidade JPA
+     * @param entityManager      EntityManager compartilhado
+     * @param transactionManager gerenciador de transações, usado para ler na transação
+     *                           (ou no EntityManager da requisição) corrente
+     * @param excludedProperties propriedades que não devem ser auditadas (ex: senha)
+     */
+    public JpaAuditSnapshotLoader(String entityType, Class<?> entityClass, EntityManager entityManager,
+            PlatformTransactionManager transactionManager, Set<String> excludedProperties) {
+        this.entityType = entityType;
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.excludedProperties = Set.copyOf(excludedProperties);
+    }
+
+    @Override
+    public String getEntityType() {
+        return entityType;
+    }
+
+    @Override
+    public Object loadPreImage(UUID entityId) {
+        return load(entityId, true);
+    }
+
+    @Override
+    public Object loadCurrentState(UUID entityId) {
+        return load(entityId, false);
+    }
+
+    private Map<String, Object> load(UUID entityId, boolean loadedState) {
+        // Participa da transação corrente; sem transação, mantém find e leitura do
+        // contexto de persistência no mesmo EntityManager
+        return transactionTemplate.execute(status -> {
+            Object entity = entityManager.find(entityClass, entityId);
+            if (entity == null) {
+                return null;
+            }
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            EntityEntry entry = session.getPersistenceContextInternal().getEntry(entity);
+            EntityPersister persister = entry != null
+                    ? entry.getPersister()
+                    : session.getEntityPersister(entityClass.getName(), entity);
+            Object[] values = loadedState && entry != null && entry.getLoadedState() != null
+                    ? entry.getLoadedState()
+                    : persister.getValues(entity);
+            return toSnapshot(persister, entityId, values);
+        });
+    }
+
+    private Map<String, Object> toSnapshot(EntityPersister persister, UUID entityId, Object[] values) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put(persister.getIdentifierPropertyName(), entityId);
+        for (int i = 0; i < names.length; i++) {
+            if (excludedProperties.contains(names[i]) || types[i] instanceof CollectionType) {
+                continue;
+            }
+            Object value = values[i];
+            if (types[i] instanceof EntityType && value != null) {
+                value = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(value);
+            }
+            snapshot.put(names[i], value);
+        }
+        return snapshot;
+    }
+}
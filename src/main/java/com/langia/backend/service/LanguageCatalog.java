@@ -0,0 +1,156 @@
+package com.langia.backend.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langia.backend.dto.LanguageDTO;
+import com.langia.backend.repository.LanguageRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catálogo em memória dos idiomas ativos da plataforma.
+ *
+ * O catálogo é carregado na inicialização e recarregado periodicamente; quem altera a tabela
+ * languages deve chamar {@link #refresh()} para publicar a mudança imediatamente. Cada carga
+ * gera um snapshot imutável com a lista de DTOs, o corpo JSON já serializado e um ETag
+ * derivado do conteúdo (igual em todas as instâncias). A versão só muda quando o conteúdo muda.
+ *
+ * As leituras usam apenas o snapshot corrente, de modo que o tráfego do endpoint público
+ * não chega ao banco de dados. Se a carga inicial falhar, a primeira leitura tenta novamente,
+ * uma thread por vez. As cargas são serializadas por um ReentrantLock, que não prende virtual
+ * threads durante a consulta ao banco.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LanguageCatalog {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final LanguageRepository languageRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Snapshot imutável do catálogo.
+     *
+     * @param version   versão do conteúdo, incrementada a cada mudança
+     * @param languages idiomas ativos ordenados pelo nome em português
+     * @param body      lista serializada em JSON
+     * @param etag      ETag forte do corpo, já entre aspas
+     */
+    public record Snapshot(long version, List<LanguageDTO> languages, byte[] body, String etag) {
+    }
+
+    /**
+     * Carrega o catálogo antes de a aplicação começar a atender requisições.
+     * Uma falha não impede a inicialização; a carga é refeita na primeira leitura.
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Failed to load language catalog on startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarrega o catálogo periodicamente, mantendo o anterior em caso de falha.
+     */
+    @Scheduled(fixedDelayString = "${languages.catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${languages.catalog.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Failed to refresh language catalog: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarrega o catálogo do banco de dados.
+     *
+     * @return snapshot corrente após a recarga
+     */
+    public Snapshot refresh() {
+        lock.lock();
+        try {
+            List<LanguageDTO> languages = languageRepository.findByActiveTrueOrderByNamePtAsc()
+                    .stream()
+                    .map(LanguageDTO::fromEntity)
+                    .toList();
+            byte[] body = serialize(languages);
+            String etag = etagOf(body);
+
+            Snapshot current = snapshot;
+            if (current != null && current.etag().equals(etag)) {
+                return current;
+            }
+            long version = current == null ? 1 : current.version() + 1;
+            snapshot = new Snapshot(version, languages, body, etag);
+            log.info("Language catalog loaded (version {}, {} languages)", version, languages.size());
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém o snapshot corrente, carregando-o se ainda não houver um.
+     *
+     * @return snapshot corrente
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            return snapshot != null ? snapshot : refresh();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lista os idiomas ativos.
+     *
+     * @return lista imutável de idiomas
+     */
+    public List<LanguageDTO> getLanguages() {
+        return current().languages();
+    }
+
+    private byte[] serialize(List<LanguageDTO> languages) {
+        try {
+            return objectMapper.writeValueAsBytes(languages);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize language catalog", e);
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HEX.formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.langia.backend.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.dto.LanguageEnrollmentDTO;
+
+/**
+ * Executa as alterações de enrollments de idiomas com uma única ida ao banco por operação.
+ *
+ * Matrícula e remoção usam as funções enroll_student_language e unenroll_student_language
+ * (migration V020), que aplicam limite, unicidade e promoção do idioma primário de forma
+ * atômica. Atualizações são um único UPDATE ... RETURNING; o trigger
+ * trg_ensure_single_primary remove o flag primário dos demais idiomas.
+ */
+@Component
+public class LanguageEnrollmentWriter {
+
+    private static final String ENROLL_SQL = "SELECT * FROM enroll_student_language("
+            + "CAST(:userId AS UUID), CAST(:languageCode AS VARCHAR), CAST(:cefrLevel AS VARCHAR), "
+            + ":primary, :maxLanguages)";
+
+    private static final String UNENROLL_SQL = "SELECT unenroll_student_language("
+            + "CAST(:userId AS UUID), CAST(:languageCode AS VARCHAR))";
+
+    private static final String UPDATE_SQL = "UPDATE student_language_enrollments e "
+            + "SET cefr_level = COALESCE(CAST(:cefrLevel AS VARCHAR), e.cefr_level), "
+            + "is_primary = e.is_primary OR :primary "
+            + "FROM languages l "
+            + "WHERE l.code = e.language_code AND e.user_id = :userId AND e.language_code = :languageCode "
+            + "RETURNING e.id, e.language_code, l.name_pt, l.name_en, l.name_es, e.cefr_level, e.is_primary, "
+            + "e.enrolled_at, e.last_studied_at";
+
+    private static final RowMapper<LanguageEnrollmentDTO> UPDATED_ROW_MAPPER = (rs, rowNum) ->
+            LanguageEnrollmentDTO.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .languageCode(rs.getString("language_code"))
+                    .languageNamePt(rs.getString("name_pt"))
+                    .languageNameEn(rs.getString("name_en"))
+                    .languageNameEs(rs.getString("name_es"))
+                    .cefrLevel(rs.getString("cefr_level"))
+                    .isPrimary(rs.getBoolean("is_primary"))
+                    .enrolledAt(toLocalDateTime(rs.getTimestamp("enrolled_at")))
+                    .lastStudiedAt(toLocalDateTime(rs.getTimestamp("last_studied_at")))
+                    .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public LanguageEnrollmentWriter(DataSource dataSource) {
+        this(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    LanguageEnrollmentWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Resultado da matrícula em um idioma.
+     *
+     * @param status     resultado da operação
+     * @param enrollment enrollment criado, ou null se a matrícula foi recusada
+     */
+    public record EnrollResult(EnrollStatus status, LanguageEnrollmentDTO enrollment) {
+    }
+
+    /**
+     * Resultados possíveis da função enroll_student_language.
+     */
+    public enum EnrollStatus {
+        ENROLLED,
+        USER_NOT_FOUND,
+        LANGUAGE_NOT_FOUND,
+        LANGUAGE_INACTIVE,
+        ALREADY_ENROLLED,
+        LIMIT_REACHED
+    }
+
+    /**
+     * Matricula um usuário em um idioma.
+     *
+     * @param userId       ID do usuário
+     * @param languageCode código do idioma
+     * @param cefrLevel    nível CEFR informado, ou null
+     * @param primary      se o idioma deve ser o primário
+     * @param maxLanguages limite de idiomas por usuário
+     * @return resultado da matrícula
+     */
+    public EnrollResult enroll(UUID userId, String languageCode, String cefrLevel, boolean primary,
+            int maxLanguages) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("languageCode", languageCode)
+                .addValue("cefrLevel", cefrLevel)
+                .addValue("primary", primary)
+                .addValue("maxLanguages", maxLanguages);
+        return jdbcTemplate.queryForObject(ENROLL_SQL, params, (rs, rowNum) -> toEnrollResult(rs, languageCode,
+                cefrLevel));
+    }
+
+    /**
+     * Atualiza o nível CEFR e/ou marca o idioma como primário.
+     *
+     * @param userId       ID do usuário
+     * @param languageCode código do idioma
+     * @param cefrLevel    novo nível CEFR, ou null para manter o atual
+     * @param primary      se true, o idioma passa a ser o primário
+     * @return enrollment atualizado, ou vazio se não existir
+     */
+    public Optional<LanguageEnrollmentDTO> update(UUID userId, String languageCode, String cefrLevel,
+            boolean primary) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("languageCode", languageCode)
+                .addValue("cefrLevel", cefrLevel)
+                .addValue("primary", primary);
+        List<LanguageEnrollmentDTO> rows = jdbcTemplate.query(UPDATE_SQL, params, UPDATED_ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Remove a matrícula de um usuário em um idioma, promovendo outro idioma a primário se necessário.
+     *
+     * @param userId       ID do usuário
+     * @param languageCode código do idioma
+     * @return true se a matrícula existia
+     */
+    public boolean unenroll(UUID userId, String languageCode) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("languageCode", languageCode);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(UNENROLL_SQL, params, Boolean.class));
+    }
+
+    private static EnrollResult toEnrollResult(ResultSet rs, String languageCode, String cefrLevel)
+            throws SQLException {
+        EnrollStatus status = EnrollStatus.valueOf(rs.getString("result_status"));
+        if (status != EnrollStatus.ENROLLED) {
+            return new EnrollResult(status, null);
+        }
+        LanguageEnrollmentDTO enrollment = LanguageEnrollmentDTO.builder()
+                .id(rs.getObject("enrollment_id", UUID.class))
+                .languageCode(languageCode)
+                .languageNamePt(rs.getString("language_name_pt"))
+                .languageNameEn(rs.getString("language_name_en"))
+                .languageNameEs(rs.getString("language_name_es"))
+                .cefrLevel(cefrLevel)
+                .isPrimary(rs.getBoolean("enrollment_primary"))
+                .enrolledAt(toLocalDateTime(rs.getTimestamp("enrollment_enrolled_at")))
+                .build();
+        return new EnrollResult(status, enrollment);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.langia.backend.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.config.RateLimitProperties;
+import com.langia.backend.util.BoundedTtlCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pré-filtro de rate limiting em memória, consultado antes do {@link RateLimiter}.
+ *
+ * Cada instância mantém um balde de fichas por identificador (ex: IP) para as políticas
+ * com capacidade local configurada, descartando rajadas abusivas sem ida ao Redis.
+ * O Redis continua sendo a autoridade do limite global; o balde local apenas impede
+ * que uma enxurrada de requisições de um mesmo identificador chegue até ele.
+ *
+ * Os baldes ficam em um {@link BoundedTtlCache} (segmentado e com descarte LRU) e
+ * expiram após o tempo de reabastecimento completo; a atualização de cada balde é
+ * feita por CAS, sem locks.
+ */
+@Component
+@Slf4j
+public class LocalRateLimiter {
+
+    private final Map<String, PolicyBuckets> policies = new HashMap<>();
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        if (!properties.getLocal().isEnabled()) {
+            log.info("Local rate limit pre-filter disabled");
+            return;
+        }
+        int maxEntries = properties.getLocal().getMaxEntries();
+        properties.getPolicies().forEach((name, policy) -> {
+            if (policy.getLocalCapacity() > 0) {
+                policies.put(name, new PolicyBuckets(name, policy, maxEntries, meterRegistry));
+            }
+        });
+        if (!policies.isEmpty()) {
+            log.info("Local rate limit pre-filter enabled for policies: {}", policies.keySet());
+        }
+    }
+
+    /**
+     * Tenta retirar uma ficha do balde local do identificador.
+     *
+     * @param policy nome da política
+     * @param key    identificador limitado
+     * @return 0 se permitido (ou se a política não tem balde local); caso contrário,
+     *         milissegundos até a próxima ficha
+     */
+    public long tryAcquire(String policy, String key) {
+        PolicyBuckets buckets = policies.get(policy);
+        if (buckets == null) {
+            return 0;
+        }
+        long waitNanos = buckets.cache.computeIfAbsent(key, k -> new Bucket()).tryAcquire(
+                nanoClock.getAsLong(), buckets.intervalNanos, buckets.burstNanos);
+        if (waitNanos > 0) {
+            buckets.rejected.increment();
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+        buckets.hits.increment();
+        return 0;
+    }
+
+    /**
+     * Indica se a política tem balde local.
+     */
+    public boolean isEnabled(String policy) {
+        return policies.containsKey(policy);
+    }
+
+    /**
+     * Baldes e métricas de uma política.
+     */
+    private static final class PolicyBuckets {
+
+        private final BoundedTtlCache<String, Bucket> cache;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Counter hits;
+        private final Counter rejected;
+
+        PolicyBuckets(String name, RateLimitProperties.Policy policy, int maxEntries, MeterRegistry meterRegistry) {
+            Duration refill = policy.getLocalRefillPeriod();
+            if (refill == null || refill.isNegative() || refill.isZero()) {
+                throw new IllegalStateException("Rate limit policy '" + name + "' requires positive localRefillPeriod");
+            }
+            this.intervalNanos = refill.toNanos();
+            this.burstNanos = intervalNanos * policy.getLocalCapacity();
+            // Um balde ocioso por esse tempo estaria cheio; recriá-lo é equivalente
+            this.cache = new BoundedTtlCache<>(maxEntries, Duration.ofNanos(burstNanos));
+            this.hits = meterRegistry.counter("rate_limit.local.hits", "policy", name);
+            this.rejected = meterRegistry.counter("rate_limit.local.rejected", "policy", name);
+        }
+    }
+
+    /**
+     * Balde de fichas representado pelo instante teórico de chegada (GCRA), o que
+     * permite guardar o estado em um único {@link AtomicLong} e atualizá-lo por CAS.
+     */
+    static final class Bucket {
+
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * @return 0 se a ficha foi retirada; caso contrário, nanossegundos até a próxima ficha
+         */
+        long tryAcquire(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long current = tat.get();
+                long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = base + intervalNanos;
+                long wait = next - now - burstNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.langia.backend.service;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.util.EmailMaskUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envio local de e-mails que apenas registra a mensagem em log.
+ * Usado em testes e desenvolvimento (email.sender=log).
+ */
+@Component
+@ConditionalOnProperty(name = "email.sender", havingValue = "log")
+@Slf4j
+public class LoggingEmailSender implements EmailSender {
+
+    @Override
+    public String send(String to, String subject, String html) {
+        String messageId = "log-" + UUID.randomUUID();
+        log.info("Email (log) to: {} - Subject: {} - ID: {}", EmailMaskUtil.mask(to), subject, messageId);
+        return messageId;
+    }
+}
@@ -0,0 +1,84 @@
+package com.langia.backend.service;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.langia.backend.dto.RateLimitDecision;
+import com.langia.backend.exception.RateLimitExceededException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service para limitação de tentativas de login (proteção contra força bruta).
+ *
+ * Usa duas políticas do {@link RateLimiter}:
+ * - login-ip: toda tentativa consome do limite do IP, com pré-filtro local por instância;
+ * - login-account: apenas falhas consomem do limite da conta, com atraso progressivo
+ *   entre falhas e bloqueio temporário ao esgotar o limite.
+ *
+ * As verificações são feitas antes da comparação de senha, para que tentativas
+ * rejeitadas não custem uma computação de BCrypt.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginThrottleService {
+
+    static final String IP_POLICY = "login-ip";
+    static final String ACCOUNT_POLICY = "login-account";
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Verifica se a tentativa de login pode prosseguir, registrando-a no limite do IP.
+     *
+     * @param ipAddress Endereço IP do cliente (ignorado se nulo)
+     * @param email     Email informado no login
+     * @throws RateLimitExceededException se o IP ou a conta estiverem limitados
+     */
+    public void checkLoginAllowed(String ipAddress, String email) {
+        if (ipAddress != null) {
+            RateLimitDecision ipDecision = rateLimiter.tryConsume(IP_POLICY, ipAddress);
+            if (!ipDecision.allowed()) {
+                log.warn("Login blocked for IP {} - too many attempts", ipAddress);
+                throw new RateLimitExceededException(ipDecision.retryAfterSeconds());
+            }
+        }
+
+        RateLimitDecision accountDecision = rateLimiter.peek(ACCOUNT_POLICY, accountKey(email));
+        if (!accountDecision.allowed()) {
+            log.warn("Login blocked for account {} - too many failed attempts", email);
+            throw new RateLimitExceededException(accountDecision.retryAfterSeconds());
+        }
+    }
+
+    /**
+     * Registra uma falha de login para a conta.
+     * Falhas acima do limite livre impõem atraso progressivo até o bloqueio temporário.
+     *
+     * @param email Email informado no login
+     */
+    public void recordFailure(String email) {
+        RateLimitDecision decision = rateLimiter.tryConsume(ACCOUNT_POLICY, accountKey(email));
+        if (decision.remaining() == 0) {
+            log.warn("Account {} temporarily locked after failed login attempts", email);
+        } else {
+            log.debug("Failed login for account {} ({} attempts remaining)", email, decision.remaining());
+        }
+    }
+
+    /**
+     * Limpa as falhas da conta após senha correta.
+     *
+     * @param email Email informado no login
+     */
+    public void recordSuccess(String email) {
+        rateLimiter.reset(ACCOUNT_POLICY, accountKey(email));
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,71 +1,56 @@
 package com.langia.backend.service;
 
-import java.time.Duration;
-
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import com.langia.backend.config.PasswordResetProperties;
+import com.langia.backend.dto.RateLimitDecision;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service para rate limiting de tentativas de recuperação de senha.
- * Usa Redis para contagem com TTL automático.
+ * Limita por IP e por e-mail com as políticas password-reset-ip e password-reset-email
+ * do {@link RateLimiter}; cada verificação consome a tentativa na mesma operação.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PasswordResetRateLimitService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final PasswordResetProperties properties;
+    static final String IP_POLICY = "password-reset-ip";
+    static final String EMAIL_POLICY = "password-reset-email";
 
-    private static final String IP_KEY_PREFIX = "reset_limit:ip:";
-    private static final String EMAIL_KEY_PREFIX = "reset_limit:email:";
+    private final RateLimiter rateLimiter;
 
     /**
-     * Verifica se o IP está bloqueado por excesso de tentativas.
+     * Verifica o limite do IP e registra a tentativa se permitida.
      *
      * @param ipAddress Endereço IP do cliente
-     * @return true se bloqueado, false se pode prosseguir
+     * @return decisão; quando negada, contém o tempo até nova tentativa
      */
-    public boolean isIpBlocked(String ipAddress) {
-        String key = IP_KEY_PREFIX + ipAddress;
-        String count = redisTemplate.opsForValue().get(key);
-
-        if (count == null) {
-            return false;
-        }
-
-        int attempts = Integer.parseInt(count);
-        boolean blocked = attempts >= properties.getRateLimit().getMaxAttemptsPerIp();
-
-        if (blocked) {
-            log.warn("IP {} blocked - exceeded {} attempts", ipAddress, attempts);
+    public RateLimitDecision tryAcquireForIp(String ipAddress) {
+        RateLimitDecision decision = rateLimiter.tryConsume(IP_POLICY, ipAddress);
+        if (!decision.allowed()) {
+            log.warn("IP {} blocked - exceeded password reset attempts", ipAddress);
+        } else {
+            log.debug("Recorded password reset attempt for IP {} ({} remaining)", ipAddress, decision.remaining());
         }
-
-        return blocked;
+        return decision;
     }
 
     /**
-     * Registra uma tentativa de recuperação de senha.
+     * Verifica o limite do e-mail e registra a tentativa se permitida.
+     * Nota: Não bloqueia, apenas indica se deve ignorar silenciosamente.
      *
-     * @param ipAddress Endereço IP do cliente
+     * @param email Email normalizado
+     * @return true se pode prosseguir, false se o limite foi atingido
      */
-    public void recordAttempt(String ipAddress) {
-        String key = IP_KEY_PREFIX + ipAddress;
-        Long count = redisTemplate.opsForValue().increment(key);
-
-        // Define TTL apenas na primeira tentativa
-        if (count != null && count == 1) {
-            Duration window = Duration.ofHours(properties.getRateLimit().getWindowHours());
-            redisTemplate.expire(key, window);
-            log.debug("Started rate limit window for IP {}", ipAddress);
+    public boolean tryAcquireForEmail(String email) {
+        RateLimitDecision decision = rateLimiter.tryConsume(EMAIL_POLICY, email);
+        if (!decision.allowed()) {
+            log.info("Email {} rate limited for password reset", email);
         }
-
-        log.debug("Recorded attempt {} for IP {}", count, ipAddress);
+        return decision.allowed();
     }
 
     /**
@@ -75,25 +60,17 @@ public class PasswordResetRateLimitService {
      * @return Número de tentativas restantes
      */
     public int getRemainingAttempts(String ipAddress) {
-        String key = IP_KEY_PREFIX + ipAddress;
-        String count = redisTemplate.opsForValue().get(key);
-
-        int used = count != null ? Integer.parseInt(count) : 0;
-        int max = properties.getRateLimit().getMaxAttemptsPerIp();
-
-        return Math.max(0, max - used);
+        return rateLimiter.peek(IP_POLICY, ipAddress).remaining();
     }
 
     /**
-     * Retorna o tempo restante até o reset do rate limit em segundos.
+     * Retorna o tempo restante até o IP poder tentar novamente, em segundos.
      *
      * @param ipAddress Endereço IP do cliente
-     * @return Segundos até expirar, ou -1 se não há limite ativo
+     * @return Segundos até nova tentativa, ou 0 se não está bloqueado
      */
     public long getTimeUntilReset(String ipAddress) {
-        String key = IP_KEY_PREFIX + ipAddress;
-        Long ttl = redisTemplate.getExpire(key);
-        return ttl != null ? ttl : -1;
+        return rateLimiter.peek(IP_POLICY, ipAddress).retryAfterSeconds();
     }
 
     /**
@@ -102,78 +79,17 @@ public class PasswordResetRateLimitService {
      * @param ipAddress Endereço IP do cliente
      */
     public void resetAttempts(String ipAddress) {
-        String key = IP_KEY_PREFIX + ipAddress;
-        redisTemplate.delete(key);
+        rateLimiter.reset(IP_POLICY, ipAddress);
         log.info("Reset rate limit for IP {}", ipAddress);
     }
 
-    // ============================================
-    // Rate Limiting por Email
-    // ============================================
-
-    /**
-     * Verifica se o email atingiu o limite de tentativas.
-     * Nota: Não bloqueia, apenas indica se deve ignorar silenciosamente.
-     *
-     * @param email Email normalizado
-     * @return true se limite atingido, false se pode prosseguir
-     */
-    public boolean isEmailLimitReached(String email) {
-        String key = EMAIL_KEY_PREFIX + email;
-        String count = redisTemplate.opsForValue().get(key);
-
-        if (count == null) {
-            return false;
-        }
-
-        int attempts = Integer.parseInt(count);
-        boolean limited = attempts >= properties.getRateLimit().getMaxAttemptsPerEmail();
-
-        if (limited) {
-            log.info("Email {} rate limited - {} attempts", email, attempts);
-        }
-
-        return limited;
-    }
-
-    /**
-     * Registra uma tentativa de recuperação de senha por email.
-     *
-     * @param email Email normalizado
-     */
-    public void recordEmailAttempt(String email) {
-        String key = EMAIL_KEY_PREFIX + email;
-        Long count = redisTemplate.opsForValue().increment(key);
-
-        // Define TTL apenas na primeira tentativa
-        if (count != null && count == 1) {
-            Duration window = Duration.ofHours(properties.getRateLimit().getWindowHours());
-            redisTemplate.expire(key, window);
-            log.debug("Started rate limit window for email {}", email);
-        }
-
-        log.debug("Recorded attempt {} for email {}", count, email);
-    }
-
-    /**
-     * Registra tentativas tanto por IP quanto por email.
-     *
-     * @param ipAddress Endereço IP do cliente
-     * @param email Email normalizado
-     */
-    public void recordAttempt(String ipAddress, String email) {
-        recordAttempt(ipAddress);
-        recordEmailAttempt(email);
-    }
-
     /**
      * Reseta o contador de tentativas para um email (uso administrativo).
      *
      * @param email Email do cliente
      */
     public void resetEmailAttempts(String email) {
-        String key = EMAIL_KEY_PREFIX + email;
-        redisTemplate.delete(key);
+        rateLimiter.reset(EMAIL_POLICY, email);
         log.info("Reset rate limit for email {}", email);
     }
 }
@@ -6,11 +6,12 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.langia.backend.config.PasswordResetProperties;
+import com.langia.backend.dto.RateLimitDecision;
 import com.langia.backend.dto.ValidateTokenResponseDTO;
 import com.langia.backend.exception.InvalidResetTokenException;
 import com.langia.backend.exception.PasswordRecentlyUsedException;
@@ -43,7 +44,7 @@ public class PasswordResetService {
     private final PasswordResetRateLimitService rateLimitService;
     private final SessionService sessionService;
     private final EmailService emailService;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final PasswordResetProperties properties;
 
     @Value("${app.frontend.url:http://localhost:5173}")
@@ -63,24 +64,22 @@ public class PasswordResetService {
         String normalizedEmail = normalizeEmail(email);
         log.info("Password reset requested for email: {}", normalizedEmail);
 
-        // 2. Verificar rate limiting por email (silencioso)
-        if (rateLimitService.isEmailLimitReached(normalizedEmail)) {
-            log.warn("Email rate limit reached for: {}", normalizedEmail);
-            // Retorna sucesso para não revelar informação
-            return true;
-        }
-
-        // 3. Verificar rate limiting por IP (lança exceção)
-        if (rateLimitService.isIpBlocked(ipAddress)) {
-            long retryAfter = rateLimitService.getTimeUntilReset(ipAddress);
+        // 2. Verificar e registrar tentativa por IP (lança exceção)
+        RateLimitDecision ipDecision = rateLimitService.tryAcquireForIp(ipAddress);
+        if (!ipDecision.allowed()) {
+            long retryAfter = ipDecision.retryAfterSeconds();
             log.warn("IP rate limit exceeded: {}", ipAddress);
             throw new RateLimitExceededException(retryAfter > 0 ? retryAfter : 3600);
         }
 
-        // 4. Registrar tentativa
-        rateLimitService.recordAttempt(ipAddress, normalizedEmail);
+        // 3. Verificar e registrar tentativa por email (silencioso)
+        if (!rateLimitService.tryAcquireForEmail(normalizedEmail)) {
+            log.warn("Email rate limit reached for: {}", normalizedEmail);
+            // Retorna sucesso para não revelar informação
+            return true;
+        }
 
-        // 5. Buscar usuário (silenciosamente)
+        // 4. Buscar usuário (silenciosamente)
         Optional<User> userOptional = userRepository.findByEmail(normalizedEmail);
 
         if (userOptional.isEmpty()) {
@@ -91,13 +90,13 @@ public class PasswordResetService {
 
         User user = userOptional.get();
 
-        // 6. Invalidar tokens anteriores
+        // 5. Invalidar tokens anteriores
         int invalidated = tokenRepository.invalidateAllUserTokens(user.getId(), LocalDateTime.now());
         if (invalidated > 0) {
             log.debug("Invalidated {} previous tokens for user: {}", invalidated, user.getId());
         }
 
-        // 7. Gerar novo token
+        // 6. Gerar novo token
         String plainToken = TokenHashUtil.generateSecureToken();
         String tokenHash = TokenHashUtil.hashToken(plainToken);
         LocalDateTime expiresAt = LocalDateTime.now()
@@ -112,7 +111,7 @@ public class PasswordResetService {
         tokenRepository.save(resetToken);
         log.info("Password reset token generated for user: {}", user.getId());
 
-        // 8. Enviar email
+        // 7. Enviar email
         String resetLink = frontendUrl + "/reset-password?token=" + plainToken;
         String expirationTime = properties.getToken().getExpirationMinutes() + " minutos";
 
@@ -0,0 +1,149 @@
+package com.langia.backend.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.langia.backend.dto.PermissionSourceDTO;
+import com.langia.backend.dto.ProfilePermissionsDTO;
+import com.langia.backend.exception.ResourceNotFoundException;
+import com.langia.backend.model.Functionality;
+import com.langia.backend.model.Profile;
+import com.langia.backend.model.ProfileFunctionality;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.repository.FunctionalityRepository;
+import com.langia.backend.repository.ProfileFunctionalityRepository;
+import com.langia.backend.repository.ProfileRepository;
+import com.langia.backend.util.PermissionMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service para edição das permissões dos perfis sem necessidade de novo deploy.
+ *
+ * Cada alteração grava a concessão direta em profile_functionalities e incrementa, na mesma
+ * transação, a versão das permissões do perfil e dos perfis superiores que herdam dele.
+ * Após o commit, a matriz é recarregada nesta instância e as demais são notificadas; as
+ * sessões desses perfis criadas com a versão anterior deixam de ser aceitas.
+ */
+@Service
+@Slf4j
+public class PermissionAdminService {
+
+    private final ProfileRepository profileRepository;
+    private final FunctionalityRepository functionalityRepository;
+    private final ProfileFunctionalityRepository profileFunctionalityRepository;
+    private final PermissionMatrixLoader permissionMatrixLoader;
+    private final PermissionMapper permissionMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public PermissionAdminService(ProfileRepository profileRepository,
+            FunctionalityRepository functionalityRepository,
+            ProfileFunctionalityRepository profileFunctionalityRepository,
+            PermissionMatrixLoader permissionMatrixLoader,
+            PermissionMapper permissionMapper,
+            PlatformTransactionManager transactionManager) {
+        this.profileRepository = profileRepository;
+        this.functionalityRepository = functionalityRepository;
+        this.profileFunctionalityRepository = profileFunctionalityRepository;
+        this.permissionMatrixLoader = permissionMatrixLoader;
+        this.permissionMapper = permissionMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Obtém as permissões vigentes de um perfil, como carregadas na matriz.
+     *
+     * @param profile perfil
+     * @return permissões e versão do perfil
+     */
+    public ProfilePermissionsDTO getPermissions(UserProfile profile) {
+        List<String> permissions = permissionMapper.getPermissionsForProfile(profile).stream()
+                .sorted()
+                .toList();
+        return new ProfilePermissionsDTO(profile, permissionMapper.getPermissionsVersion(profile), permissions);
+    }
+
+    /**
+     * Explica a origem de uma permissão de um perfil.
+     *
+     * @param profile           perfil
+     * @param functionalityCode código da funcionalidade
+     * @return perfis que concedem a permissão, do próprio perfil para os inferiores
+     */
+    public PermissionSourceDTO explain(UserProfile profile, String functionalityCode) {
+        List<UserProfile> grantedBy = permissionMapper.getGrantingProfiles(profile, functionalityCode);
+        return new PermissionSourceDTO(profile, functionalityCode,
+                permissionMapper.hasPermission(profile, functionalityCode),
+                !grantedBy.isEmpty() && grantedBy.get(0) != profile, grantedBy);
+    }
+
+    /**
+     * Concede uma funcionalidade a um perfil.
+     *
+     * @param profile           perfil
+     * @param functionalityCode código da funcionalidade
+     * @return permissões do perfil após a alteração
+     * @throws ResourceNotFoundException se o perfil ou a funcionalidade não existirem
+     */
+    public ProfilePermissionsDTO grant(UserProfile profile, String functionalityCode) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            Profile entity = findProfile(profile);
+            Functionality functionality = findFunctionality(functionalityCode);
+            if (profileFunctionalityRepository.existsByProfileAndFunctionality(entity, functionality)) {
+                return false;
+            }
+            profileFunctionalityRepository.save(ProfileFunctionality.builder()
+                    .profile(entity)
+                    .functionality(functionality)
+                    .grantedByInheritance(false)
+                    .build());
+            profileRepository.incrementPermissionsVersionFromHierarchyLevel(entity.getHierarchyLevel());
+            return true;
+        });
+        return afterChange(profile, functionalityCode, "granted", Boolean.TRUE.equals(changed));
+    }
+
+    /**
+     * Revoga uma funcionalidade de um perfil.
+     *
+     * @param profile           perfil
+     * @param functionalityCode código da funcionalidade
+     * @return permissões do perfil após a alteração
+     * @throws ResourceNotFoundException se o perfil ou a funcionalidade não existirem
+     */
+    public ProfilePermissionsDTO revoke(UserProfile profile, String functionalityCode) {
+        Boolean changed = transactionTemplate.execute(status -> {
+            Profile entity = findProfile(profile);
+            Functionality functionality = findFunctionality(functionalityCode);
+            if (profileFunctionalityRepository.deleteByProfileAndFunctionality(entity, functionality) == 0) {
+                return false;
+            }
+            profileRepository.incrementPermissionsVersionFromHierarchyLevel(entity.getHierarchyLevel());
+            return true;
+        });
+        return afterChange(profile, functionalityCode, "revoked", Boolean.TRUE.equals(changed));
+    }
+
+    private ProfilePermissionsDTO afterChange(UserProfile profile, String functionalityCode, String operation,
+            boolean changed) {
+        if (changed) {
+            log.info("Permission {} {} for profile {}", functionalityCode, operation, profile);
+            permissionMatrixLoader.notifyProfileChanged(profile);
+        }
+        return getPermissions(profile);
+    }
+
+    private Profile findProfile(UserProfile profile) {
+        return profileRepository.findByCode(profile)
+                .orElseThrow(() -> new ResourceNotFoundException("Perfil não encontrado: " + profile));
+    }
+
+    private Functionality findFunctionality(String functionalityCode) {
+        return functionalityRepository.findByCode(functionalityCode)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Funcionalidade não encontrada: " + functionalityCode));
+    }
+}
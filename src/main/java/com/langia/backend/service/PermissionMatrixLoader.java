@@ -0,0 +1,222 @@
+package com.langia.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.config.RedisConfig;
+import com.langia.backend.dto.PermissionGrant;
+import com.langia.backend.model.Profile;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.repository.ProfileFunctionalityRepository;
+import com.langia.backend.repository.ProfileRepository;
+import com.langia.backend.util.PermissionInheritanceResolver;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrix;
+import com.langia.backend.util.PermissionMatrix.ProfileGrants;
+import com.langia.backend.util.PermissionMatrix.ProfilePermissions;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carrega a matriz de permissões do banco de dados e a mantém atualizada no {@link PermissionMapper}.
+ *
+ * A matriz é carregada na inicialização e recarregada de forma incremental: apenas os perfis
+ * cuja versão de permissões mudou no banco, e os perfis superiores que herdam deles, são
+ * reconstruídos. A herança é resolvida na carga a partir das concessões diretas de cada perfil
+ * (granted_by_inheritance = FALSE), de modo que a matriz já guarda os conjuntos efetivos. Alterações feitas
+ * por uma instância são propagadas às demais via Redis pub/sub no canal {@link #CHANGE_CHANNEL};
+ * a verificação periódica de versões cobre mensagens perdidas e alterações feitas diretamente
+ * no banco (que devem incrementar profiles.permissions_version).
+ *
+ * Falhas de carga mantêm a matriz anterior; sem nenhuma carga bem-sucedida, todas as
+ * permissões são negadas. As cargas são serializadas por um ReentrantLock, e não por
+ * synchronized, para não prender virtual threads durante as consultas ao banco.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionMatrixLoader implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "permissions:changed";
+
+    private final ProfileRepository profileRepository;
+    private final ProfileFunctionalityRepository profileFunctionalityRepository;
+    private final PermissionMapper permissionMapper;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Carrega a matriz antes de a aplicação começar a atender requisições.
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * Inicia a escuta de alterações de permissões após a aplicação estar pronta.
+     * Uma falha de conexão não impede a inicialização; a verificação periódica continua ativa.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        if (!context.containsBean(RedisConfig.PERMISSION_CHANGE_CONTAINER)) {
+            return;
+        }
+        try {
+            context.getBean(RedisConfig.PERMISSION_CHANGE_CONTAINER, RedisMessageListenerContainer.class).start();
+            log.info("Permission matrix subscribed to change channel: {}", CHANGE_CHANNEL);
+        } catch (Exception e) {
+            log.warn("Failed to subscribe to permission change channel, relying on periodic refresh: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Recarrega os perfis cuja versão de permissões mudou desde a última carga.
+     */
+    @Scheduled(fixedDelayString = "${permissions.refresh-interval-ms:60000}",
+            initialDelayString = "${permissions.refresh-interval-ms:60000}")
+    public void refresh() {
+        lock.lock();
+        try {
+            Map<UserProfile, Profile> active = loadActiveProfiles();
+            PermissionMatrix current = permissionMapper.getMatrix();
+
+            Set<UserProfile> changed = EnumSet.noneOf(UserProfile.class);
+            active.forEach((code, profile) -> {
+                ProfilePermissions loaded = current.get(code);
+                if (loaded == null || loaded.version() != profile.getPermissionsVersion()) {
+                    changed.add(code);
+                }
+            });
+            // Um perfil removido pode ter concedido permissões herdadas por qualquer outro
+            if (!active.keySet().containsAll(current.profiles())) {
+                changed.addAll(active.keySet());
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            load(changed, active);
+        } catch (Exception e) {
+            log.error("Failed to refresh permission matrix: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Recarrega as permissões de um perfil, e dos perfis que herdam dele, independentemente da versão.
+     *
+     * @param profile perfil alterado
+     */
+    public void reloadProfile(UserProfile profile) {
+        lock.lock();
+        try {
+            Map<UserProfile, Profile> active = loadActiveProfiles();
+            Set<UserProfile> changed = active.containsKey(profile)
+                    ? EnumSet.of(profile)
+                    : EnumSet.noneOf(UserProfile.class);
+            load(changed, active);
+        } catch (Exception e) {
+            log.error("Failed to reload permissions for profile {}: {}", profile, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Recarrega as permissões de um perfil nesta instância e notifica as demais.
+     *
+     * @param profile perfil alterado
+     */
+    public void notifyProfileChanged(UserProfile profile) {
+        reloadProfile(profile);
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, profile.name());
+        } catch (Exception e) {
+            // As demais instâncias recarregam o perfil na próxima verificação periódica
+            log.warn("Failed to publish permission change for profile {}: {}", profile, e.getMessage());
+        }
+    }
+
+    /**
+     * Processa notificações de alteração publicadas por outras instâncias.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        UserProfile profile;
+        try {
+            profile = UserProfile.valueOf(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown permission change message: {}", body);
+            return;
+        }
+        reloadProfile(profile);
+    }
+
+    private Map<UserProfile, Profile> loadActiveProfiles() {
+        Map<UserProfile, Profile> profiles = new EnumMap<>(UserProfile.class);
+        for (Profile profile : profileRepository.findByActive(true)) {
+            profiles.put(profile.getCode(), profile);
+        }
+        return profiles;
+    }
+
+    private void load(Set<UserProfile> changed, Map<UserProfile, Profile> active) {
+        Map<UserProfile, Integer> levels = new EnumMap<>(UserProfile.class);
+        active.forEach((code, profile) -> levels.put(code, profile.getHierarchyLevel()));
+
+        // Perfis que herdam de um perfil alterado também são reconstruídos
+        int lowestChanged = changed.stream().mapToInt(levels::get).min().orElse(Integer.MAX_VALUE);
+        Set<UserProfile> rebuilt = EnumSet.noneOf(UserProfile.class);
+        levels.forEach((code, level) -> {
+            if (level >= lowestChanged) {
+                rebuilt.add(code);
+            }
+        });
+
+        // Concessões diretas dos perfis reconstruídos e de todos os perfis dos quais herdam
+        int highestRebuilt = rebuilt.stream().mapToInt(levels::get).max().orElse(Integer.MIN_VALUE);
+        Set<UserProfile> sources = EnumSet.noneOf(UserProfile.class);
+        levels.forEach((code, level) -> {
+            if (level <= highestRebuilt) {
+                sources.add(code);
+            }
+        });
+        Map<UserProfile, List<String>> ownGrants = new EnumMap<>(UserProfile.class);
+        if (!sources.isEmpty()) {
+            for (PermissionGrant grant : profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(sources)) {
+                ownGrants.computeIfAbsent(grant.profile(), profile -> new ArrayList<>()).add(grant.functionalityCode());
+            }
+        }
+
+        Map<UserProfile, ProfileGrants> grants = new EnumMap<>(UserProfile.class);
+        PermissionInheritanceResolver.resolve(levels, ownGrants, rebuilt).forEach((profile, resolved) ->
+                grants.put(profile, new ProfileGrants(active.get(profile).getPermissionsVersion(), resolved)));
+        permissionMapper.setMatrix(permissionMapper.getMatrix().apply(grants, active.keySet()));
+
+        grants.forEach((profile, loaded) -> log.info("Permissions loaded for profile {} (version {}, {} permissions)",
+                profile, loaded.version(), loaded.codes().size()));
+    }
+}
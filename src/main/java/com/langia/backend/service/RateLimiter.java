@@ -0,0 +1,146 @@
+package com.langia.backend.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import com.langia.backend.config.RateLimitProperties;
+import com.langia.backend.config.RateLimitProperties.Algorithm;
+import com.langia.backend.dto.RateLimitDecision;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mecanismo de rate limiting com políticas declaradas em {@link RateLimitProperties}.
+ *
+ * Cada verificação executa um único script Lua no Redis, que lê o estado, decide e
+ * consome de forma atômica, definindo a expiração das chaves na mesma operação.
+ * O instante de referência é obtido do próprio Redis, não das instâncias da aplicação.
+ *
+ * Políticas com balde local configurado passam antes pelo {@link LocalRateLimiter},
+ * que rejeita rajadas abusivas na própria instância sem consultar o Redis.
+ */
+@Service
+@Slf4j
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final String LOCK_SUFFIX = ":lock";
+
+    private static final Map<Algorithm, RedisScript<List<Long>>> SCRIPTS = new EnumMap<>(Algorithm.class);
+
+    static {
+        SCRIPTS.put(Algorithm.FIXED_WINDOW, loadScript("redis/ratelimit_fixed_window.lua"));
+        SCRIPTS.put(Algorithm.SLIDING_LOG, loadScript("redis/ratelimit_sliding_log.lua"));
+        SCRIPTS.put(Algorithm.GCRA, loadScript("redis/ratelimit_gcra.lua"));
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LocalRateLimiter localRateLimiter;
+    private final Map<String, RateLimitProperties.Policy> policies;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties,
+            LocalRateLimiter localRateLimiter) {
+        this.redisTemplate = redisTemplate;
+        this.localRateLimiter = localRateLimiter;
+        this.policies = Map.copyOf(properties.getPolicies());
+        policies.forEach(RateLimiter::validate);
+        log.info("Rate limit policies loaded: {}", policies.keySet());
+    }
+
+    /**
+     * Verifica e consome uma unidade do limite em uma única operação atômica.
+     *
+     * @param policy nome da política
+     * @param key    identificador limitado (ex: IP, e-mail, ID do usuário)
+     * @return decisão; quando negada, nada é consumido no Redis
+     */
+    public RateLimitDecision tryConsume(String policy, String key) {
+        long localWaitMillis = localRateLimiter.tryAcquire(policy, key);
+        if (localWaitMillis > 0) {
+            return new RateLimitDecision(false, 0, localWaitMillis, localWaitMillis);
+        }
+        return execute(policy, key, 1);
+    }
+
+    /**
+     * Consulta o estado do limite sem consumir.
+     *
+     * @param policy nome da política
+     * @param key    identificador limitado
+     * @return decisão que uma tentativa receberia agora
+     */
+    public RateLimitDecision peek(String policy, String key) {
+        return execute(policy, key, 0);
+    }
+
+    /**
+     * Remove o estado e o bloqueio de um identificador.
+     *
+     * @param policy nome da política
+     * @param key    identificador limitado
+     */
+    public void reset(String policy, String key) {
+        policyFor(policy);
+        String stateKey = stateKey(policy, key);
+        redisTemplate.delete(List.of(stateKey, stateKey + LOCK_SUFFIX));
+    }
+
+    /**
+     * Limite configurado da política.
+     */
+    public int limitOf(String policy) {
+        return policyFor(policy).getLimit();
+    }
+
+    private RateLimitDecision execute(String policyName, String key, int cost) {
+        RateLimitProperties.Policy policy = policyFor(policyName);
+        String stateKey = stateKey(policyName, key);
+        List<Long> result = redisTemplate.execute(SCRIPTS.get(policy.getAlgorithm()),
+                List.of(stateKey, stateKey + LOCK_SUFFIX),
+                String.valueOf(policy.getLimit()),
+                String.valueOf(policy.getWindow().toMillis()),
+                String.valueOf(cost),
+                String.valueOf(policy.getLockout().toMillis()),
+                String.valueOf(policy.getDelayAfter()),
+                String.valueOf(policy.getDelayBase().toMillis()));
+        if (result == null || result.size() < 4) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new RateLimitDecision(result.get(0) == 1L, result.get(1).intValue(), result.get(2), result.get(3));
+    }
+
+    private RateLimitProperties.Policy policyFor(String policy) {
+        RateLimitProperties.Policy config = policies.get(policy);
+        if (config == null) {
+            throw new IllegalArgumentException("Unknown rate limit policy: " + policy);
+        }
+        return config;
+    }
+
+    private static String stateKey(String policy, String key) {
+        return KEY_PREFIX + policy + ":" + key;
+    }
+
+    private static void validate(String name, RateLimitProperties.Policy policy) {
+        if (policy.getLimit() <= 0 || policy.getWindow() == null || policy.getWindow().isNegative()
+                || policy.getWindow().isZero()) {
+            throw new IllegalStateException("Rate limit policy '" + name + "' requires positive limit and window");
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static RedisScript<List<Long>> loadScript(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(List.class);
+        return (RedisScript) script;
+    }
+}
@@ -0,0 +1,66 @@
+package com.langia.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.exception.EmailDeliveryException;
+import com.resend.Resend;
+import com.resend.core.exception.ResendException;
+import com.resend.services.emails.model.CreateEmailOptions;
+import com.resend.services.emails.model.CreateEmailResponse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envio de e-mails pela API do Resend.
+ */
+@Component
+@ConditionalOnProperty(name = "email.sender", havingValue = "resend", matchIfMissing = true)
+@Slf4j
+public class ResendEmailSender implements EmailSender {
+
+    @Value("${resend.api-key:}")
+    private String resendApiKey;
+
+    @Value("${resend.from-email:onboarding@resend.dev}")
+    private String fromEmail;
+
+    @Value("${app.platform.name:LangIA}")
+    private String platformName;
+
+    private Resend resend;
+
+    @PostConstruct
+    public void init() {
+        if (resendApiKey != null && !resendApiKey.isBlank()) {
+            this.resend = new Resend(resendApiKey);
+            log.info("Resend email service initialized successfully");
+        } else {
+            log.warn("Resend API key not configured - emails will not be sent");
+        }
+    }
+
+    @Override
+    public String send(String to, String subject, String html) {
+        if (resend == null) {
+            throw new EmailDeliveryException("Resend not configured", false);
+        }
+
+        CreateEmailOptions options = CreateEmailOptions.builder()
+                .from(platformName + " <" + fromEmail + ">")
+                .to(to)
+                .subject(subject)
+                .html(html)
+                .build();
+
+        try {
+            CreateEmailResponse response = resend.emails().send(options);
+            return response.getId();
+        } catch (ResendException e) {
+            // A API não expõe o status HTTP; toda falha do provedor é tratada como temporária
+            throw new EmailDeliveryException(e.getMessage(), true, e);
+        }
+    }
+}
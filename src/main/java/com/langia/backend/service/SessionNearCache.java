@@ -0,0 +1,237 @@
+package com.langia.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.config.RedisConfig;
+import com.langia.backend.config.SessionProperties;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.util.BoundedTtlCache;
+import com.langia.backend.util.TokenHashUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache local (near-cache) de sessões, mantido em memória em cada instância.
+ *
+ * Evita a ida ao Redis e a desserialização da sessão em toda requisição autenticada.
+ * As entradas são indexadas pelo hash SHA-256 do token e expiram após um TTL curto.
+ * Remoções de sessão (logout, revogação de todas as sessões do usuário) são propagadas
+ * para as demais instâncias via Redis pub/sub no canal {@link #INVALIDATION_CHANNEL}.
+ *
+ * O cache só passa a ser usado depois que a inscrição no canal é confirmada; se o Redis
+ * estiver indisponível na inicialização, as sessões são sempre lidas do Redis.
+ *
+ * Cada invalidação incrementa uma geração: por token (distribuída em faixas pelo hash) e
+ * por usuário (única). Quem lê a sessão do Redis obtém um {@link Stamp} antes da leitura e
+ * só a armazena se nenhuma invalidação ocorreu desde então, impedindo que uma sessão
+ * revogada durante a leitura volte ao cache.
+ */
+@Component
+@Slf4j
+public class SessionNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "session:invalidation";
+
+    private static final String TOKEN_MESSAGE_PREFIX = "token:";
+    private static final String USER_MESSAGE_PREFIX = "user:";
+    private static final int TOKEN_GENERATION_STRIPES = 1024;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final boolean enabled;
+    private final BoundedTtlCache<String, SessionData> cache;
+    private final AtomicLongArray tokenGenerations = new AtomicLongArray(TOKEN_GENERATION_STRIPES);
+    private final AtomicLong userGeneration = new AtomicLong();
+    private volatile boolean subscribed;
+
+    /**
+     * Gerações de invalidação observadas antes da leitura de uma sessão no Redis.
+     *
+     * @param tokenHash       hash SHA-256 do token
+     * @param tokenGeneration geração da faixa do token
+     * @param userGeneration  geração das invalidações por usuário
+     */
+    public record Stamp(String tokenHash, long tokenGeneration, long userGeneration) {
+    }
+
+    public SessionNearCache(RedisTemplate<String, String> stringRedisTemplate, SessionProperties properties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        SessionProperties.NearCacheConfig config = properties.getNearCache();
+        this.enabled = config.isEnabled();
+        this.cache = new BoundedTtlCache<>(config.getMaxEntries(), Duration.ofSeconds(config.getTtlSeconds()));
+        log.info("Near-cache de sessões {} (máx. {} entradas, TTL {}s)",
+                enabled ? "habilitado" : "desabilitado", config.getMaxEntries(), config.getTtlSeconds());
+    }
+
+    /**
+     * Inicia a escuta de invalidações após a aplicação estar pronta.
+     * Uma falha de conexão não impede a inicialização da aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        if (context.containsBean(RedisConfig.SESSION_INVALIDATION_CONTAINER)) {
+            startListening(context.getBean(RedisConfig.SESSION_INVALIDATION_CONTAINER,
+                    RedisMessageListenerContainer.class));
+        }
+    }
+
+    /**
+     * Inicia o container de mensagens e habilita o cache local se a inscrição for bem-sucedida.
+     *
+     * @param container container de mensagens Redis com este listener registrado
+     */
+    public void startListening(RedisMessageListenerContainer container) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            container.start();
+            subscribed = true;
+            log.info("Near-cache de sessões inscrito no canal de invalidação: {}", INVALIDATION_CHANNEL);
+        } catch (Exception e) {
+            log.warn("Near-cache de sessões desativado: falha ao inscrever no canal de invalidação: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Busca uma sessão no cache local.
+     *
+     * @param token token JWT
+     * @return dados da sessão, ou null se não estiver em cache
+     */
+    public SessionData get(String token) {
+        if (!subscribed) {
+            return null;
+        }
+        return cache.get(TokenHashUtil.hashToken(token));
+    }
+
+    /**
+     * Registra as gerações de invalidação correntes para um token.
+     * Deve ser chamado antes de ler a sessão no Redis.
+     *
+     * @param token token JWT
+     * @return gerações observadas, ou null se o cache não está em uso
+     */
+    public Stamp stamp(String token) {
+        if (!subscribed) {
+            return null;
+        }
+        String tokenHash = TokenHashUtil.hashToken(token);
+        return new Stamp(tokenHash, tokenGenerations.get(stripe(tokenHash)), userGeneration.get());
+    }
+
+    /**
+     * Armazena uma sessão no cache local.
+     *
+     * @param token       token JWT
+     * @param sessionData dados da sessão
+     */
+    public void put(String token, SessionData sessionData) {
+        put(sessionData, stamp(token));
+    }
+
+    /**
+     * Armazena uma sessão lida do Redis, desde que nenhuma invalidação que possa atingi-la
+     * tenha ocorrido desde o {@link Stamp}. Uma invalidação concorrente com a inserção
+     * é detectada na verificação seguinte e remove a entrada.
+     *
+     * @param sessionData dados da sessão
+     * @param stamp       gerações observadas antes da leitura (null ignora a inserção)
+     */
+    public void put(SessionData sessionData, Stamp stamp) {
+        if (!subscribed || sessionData == null || stamp == null || !isCurrent(stamp)) {
+            return;
+        }
+        cache.put(stamp.tokenHash(), sessionData);
+        if (!isCurrent(stamp)) {
+            cache.invalidate(stamp.tokenHash());
+        }
+    }
+
+    /**
+     * Remove a sessão do cache local e notifica as demais instâncias.
+     *
+     * @param token token JWT da sessão removida
+     */
+    public void evictToken(String token) {
+        if (!subscribed) {
+            return;
+        }
+        String tokenHash = TokenHashUtil.hashToken(token);
+        invalidateTokenLocally(tokenHash);
+        publish(TOKEN_MESSAGE_PREFIX + tokenHash);
+    }
+
+    /**
+     * Remove todas as sessões de um usuário do cache local e notifica as demais instâncias.
+     *
+     * @param userId ID do usuário
+     */
+    public void evictUser(String userId) {
+        if (!subscribed) {
+            return;
+        }
+        evictUserLocally(userId);
+        publish(USER_MESSAGE_PREFIX + userId);
+    }
+
+    /**
+     * Processa mensagens de invalidação recebidas de outras instâncias.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(TOKEN_MESSAGE_PREFIX)) {
+            invalidateTokenLocally(body.substring(TOKEN_MESSAGE_PREFIX.length()));
+        } else if (body.startsWith(USER_MESSAGE_PREFIX)) {
+            evictUserLocally(body.substring(USER_MESSAGE_PREFIX.length()));
+        } else {
+            log.warn("Mensagem de invalidação de sessão desconhecida: {}", body);
+        }
+    }
+
+    private void invalidateTokenLocally(String tokenHash) {
+        // A geração muda antes da remoção, para que uma inserção concorrente seja desfeita
+        tokenGenerations.incrementAndGet(stripe(tokenHash));
+        cache.invalidate(tokenHash);
+    }
+
+    private void evictUserLocally(String userId) {
+        userGeneration.incrementAndGet();
+        int removed = cache.invalidateIf(session -> session.getUserId() != null
+                && session.getUserId().toString().equals(userId));
+        log.debug("Removidas {} sessões do near-cache para usuário: {}", removed, userId);
+    }
+
+    private boolean isCurrent(Stamp stamp) {
+        return tokenGenerations.get(stripe(stamp.tokenHash())) == stamp.tokenGeneration()
+                && userGeneration.get() == stamp.userGeneration();
+    }
+
+    private static int stripe(String tokenHash) {
+        return Math.floorMod(tokenHash.hashCode(), TOKEN_GENERATION_STRIPES);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // Outras instâncias descartarão a entrada ao fim do TTL do near-cache
+            log.warn("Falha ao publicar invalidação de sessão: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.langia.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.langia.backend.config.SessionProperties;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.util.BoundedTtlCache;
+import com.langia.backend.util.JwtUtil;
+import com.langia.backend.util.ValidatedClaims;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renovação assíncrona e agrupada de sessões (expiração deslizante).
+ *
+ * As requisições autenticadas apenas marcam a sessão como ativa ({@link #touch(String)}),
+ * sem I/O no Redis. Marcações de um mesmo token são agrupadas e, no máximo uma vez por
+ * intervalo configurado, um lote de PEXPIRE é enviado ao Redis em pipeline.
+ * O novo TTL é o tempo de inatividade configurado, limitado à expiração do JWT.
+ */
+@Component
+@Slf4j
+public class SessionRenewalBatcher {
+
+    private static final String SESSION_PREFIX = "session:";
+
+    private final RedisTemplate<String, SessionData> sessionRedisTemplate;
+    private final JwtUtil jwtUtil;
+    private final SessionProperties.SlidingConfig config;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Boolean> pending = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<String, Boolean> recentlyTouched;
+
+    @Autowired
+    public SessionRenewalBatcher(RedisTemplate<String, SessionData> sessionRedisTemplate, JwtUtil jwtUtil,
+            SessionProperties properties) {
+        this(sessionRedisTemplate, jwtUtil, properties, System::currentTimeMillis);
+    }
+
+    SessionRenewalBatcher(RedisTemplate<String, SessionData> sessionRedisTemplate, JwtUtil jwtUtil,
+            SessionProperties properties, LongSupplier clock) {
+        this.sessionRedisTemplate = sessionRedisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.config = properties.getSliding();
+        this.clock = clock;
+        this.recentlyTouched = new BoundedTtlCache<>(config.getMaxPending(),
+                Duration.ofSeconds(config.getRenewIntervalSeconds()), clock);
+    }
+
+    /**
+     * Indica se a expiração deslizante está habilitada.
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Calcula o TTL inicial de uma sessão.
+     *
+     * @param tokenTtlMs tempo de vida do JWT em milissegundos
+     * @return TTL da sessão em milissegundos
+     */
+    public long initialTtlMs(long tokenTtlMs) {
+        if (!config.isEnabled()) {
+            return tokenTtlMs;
+        }
+        return Math.min(idleTimeoutMs(), tokenTtlMs);
+    }
+
+    /**
+     * Marca uma sessão como ativa. Não realiza I/O; a renovação ocorre no próximo lote.
+     * Marcações repetidas dentro do intervalo de renovação são ignoradas.
+     *
+     * @param token token JWT da sessão
+     */
+    public void touch(String token) {
+        if (!config.isEnabled() || recentlyTouched.get(token) != null) {
+            return;
+        }
+        if (pending.size() >= config.getMaxPending()) {
+            log.debug("Fila de renovação de sessões cheia, marcação descartada");
+            return;
+        }
+        recentlyTouched.put(token, Boolean.TRUE);
+        pending.put(token, Boolean.TRUE);
+    }
+
+    /**
+     * Envia ao Redis, em pipeline, a renovação das sessões marcadas desde o último envio.
+     * PEXPIRE não recria chaves, portanto sessões encerradas nesse intervalo não são renovadas.
+     */
+    @Scheduled(fixedDelayString = "${session.sliding.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        List<byte[]> keys = new ArrayList<>();
+        List<Long> ttls = new ArrayList<>();
+        Iterator<String> it = pending.keySet().iterator();
+        while (it.hasNext()) {
+            String token = it.next();
+            it.remove();
+            long ttl = renewedTtlMs(token, now);
+            if (ttl > 0) {
+                keys.add((SESSION_PREFIX + token).getBytes(StandardCharsets.UTF_8));
+                ttls.add(ttl);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            sessionRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                pexpireAll(connection, keys, ttls);
+                return null;
+            });
+            log.debug("Renovadas {} sessões em lote", keys.size());
+        } catch (Exception e) {
+            log.warn("Falha ao renovar lote de {} sessões: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Número de sessões aguardando renovação.
+     */
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private static void pexpireAll(RedisConnection connection, List<byte[]> keys, List<Long> ttls) {
+        for (int i = 0; i < keys.size(); i++) {
+            connection.keyCommands().pExpire(keys.get(i), ttls.get(i));
+        }
+    }
+
+    /**
+     * Calcula o novo TTL da sessão: o tempo de inatividade, limitado à expiração do JWT.
+     *
+     * @return TTL em milissegundos, ou 0 se o token já expirou ou é inválido
+     */
+    private long renewedTtlMs(String token, long now) {
+        ValidatedClaims claims = jwtUtil.verifyToken(token);
+        if (claims == null) {
+            return 0;
+        }
+        return Math.min(idleTimeoutMs(), claims.getExpiresAt() - now);
+    }
+
+    private long idleTimeoutMs() {
+        return Duration.ofMinutes(config.getIdleTimeoutMinutes()).toMillis();
+    }
+}
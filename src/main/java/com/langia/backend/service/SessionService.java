@@ -1,11 +1,19 @@
 package com.langia.backend.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
 import com.langia.backend.dto.SessionData;
@@ -16,6 +24,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Serviço para gerenciamento de sessões de usuário no Redis.
  * Responsável por criar, recuperar e remover sessões com TTL configurável.
+ *
+ * Operações que alteram a sessão e o índice de sessões do usuário são executadas
+ * como scripts Lua (resources/redis), em um único round trip e de forma atômica.
  */
 @Service
 @Slf4j
@@ -24,14 +35,24 @@ public class SessionService {
     private static final String SESSION_PREFIX = "session:";
     private static final String USER_SESSIONS_PREFIX = "user_sessions:";
 
+    private static final RedisScript<Long> SAVE_SCRIPT = loadScript("redis/session_save.lua");
+    private static final RedisScript<Long> REMOVE_SCRIPT = loadScript("redis/session_remove.lua");
+    private static final RedisScript<Long> RENEW_SCRIPT = loadScript("redis/session_renew.lua");
+    private static final RedisScript<Long> REMOVE_ALL_SCRIPT = loadScript("redis/session_remove_all.lua");
+
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
     @Autowired
     private RedisTemplate<String, SessionData> sessionRedisTemplate;
 
     @Autowired
-    private RedisTemplate<String, String> stringRedisTemplate;
+    private JwtUtil jwtUtil;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private SessionNearCache sessionNearCache;
+
+    @Autowired
+    private SessionRenewalBatcher sessionRenewalBatcher;
 
     @Value("${jwt.expiration}")
     private Long jwtExpirationMs;
@@ -46,8 +67,68 @@ public class SessionService {
         return SESSION_PREFIX + token;
     }
 
+    /**
+     * Carrega um script Lua do classpath.
+     *
+     * @param path caminho do script no classpath
+     * @return script Redis com retorno numérico
+     */
+    private static RedisScript<Long> loadScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * Executa um script Lua com argumentos já serializados em bytes.
+     *
+     * @param script script a ser executado
+     * @param keys   chaves acessadas pelo script
+     * @param args   argumentos em bytes
+     * @return resultado numérico do script
+     */
+    private Long executeScript(RedisScript<Long> script, List<String> keys, byte[]... args) {
+        return sessionRedisTemplate.execute(script, RedisSerializer.byteArray(), LONG_RESULT_SERIALIZER,
+                keys, (Object[]) args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(SessionData sessionData) {
+        return ((RedisSerializer<SessionData>) sessionRedisTemplate.getValueSerializer()).serialize(sessionData);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Obtém o ID do usuário dono da sessão a partir das claims do token.
+     * Se o token não puder ser lido (ex.: expirado), consulta a sessão no Redis.
+     *
+     * @param token token JWT
+     * @return ID do usuário, ou null se não for possível determinar
+     */
+    private UUID resolveUserId(String token) {
+        try {
+            return jwtUtil.extractUserId(token);
+        } catch (Exception e) {
+            SessionData sessionData = sessionRedisTemplate.opsForValue().get(getSessionKey(token));
+            return sessionData != null ? sessionData.getUserId() : null;
+        }
+    }
+
+    /**
+     * Monta a lista de chaves de um script: sessão e, quando conhecido, o índice do usuário.
+     */
+    private List<String> sessionKeys(String token, UUID userId) {
+        String key = getSessionKey(token);
+        return userId != null ? List.of(key, USER_SESSIONS_PREFIX + userId) : List.of(key);
+    }
+
     /**
      * Salva uma nova sessão no Redis com TTL baseado na configuração jwt.expiration.
+     * Com expiração deslizante habilitada, o TTL inicial é o tempo de inatividade configurado.
      *
      * @param token token JWT usado como chave
      * @param sessionData dados da sessão a serem salvos
@@ -57,21 +138,16 @@ public class SessionService {
             String key = getSessionKey(token);
             sessionData.setCreatedAt(System.currentTimeMillis());
 
-            // Usa o tempo de expiração configurado (mesmo do JWT)
-            sessionRedisTemplate.opsForValue().set(
-                    key,
-                    sessionData,
-                    jwtExpirationMs,
-                    TimeUnit.MILLISECONDS
-            );
-
-            // Adiciona token ao índice de sessões do usuário
             String userSessionsKey = USER_SESSIONS_PREFIX + sessionData.getUserId();
-            stringRedisTemplate.opsForSet().add(userSessionsKey, token);
-            stringRedisTemplate.expire(userSessionsKey, jwtExpirationMs, TimeUnit.MILLISECONDS);
+            long sessionTtlMs = sessionRenewalBatcher.initialTtlMs(jwtExpirationMs);
+
+            // Grava a sessão e o índice de sessões do usuário (o índice dura o tempo de vida do JWT)
+            executeScript(SAVE_SCRIPT, List.of(key, userSessionsKey),
+                    serialize(sessionData), bytes(Long.toString(sessionTtlMs)), bytes(token),
+                    bytes(jwtExpirationMs.toString()));
 
             log.info("Sessão criada no Redis para usuário: {} (ID: {}) com TTL de {}ms",
-                    sessionData.getEmail(), sessionData.getUserId(), jwtExpirationMs);
+                    sessionData.getEmail(), sessionData.getUserId(), sessionTtlMs);
         } catch (Exception e) {
             log.error("Erro ao salvar sessão no Redis para token: {}", token, e);
             throw new RuntimeException("Falha ao criar sessão no Redis", e);
@@ -80,16 +156,25 @@ public class SessionService {
 
     /**
      * Recupera os dados de uma sessão pelo token.
+     * Consulta primeiro o near-cache local e, em caso de ausência, o Redis.
      *
      * @param token token JWT
      * @return dados da sessão se existir e for válida, null caso contrário
      */
     public SessionData getSession(String token) {
+        SessionData cached = sessionNearCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
+            // Gerações de invalidação anteriores à leitura: uma revogação concorrente impede o cache
+            SessionNearCache.Stamp stamp = sessionNearCache.stamp(token);
             String key = getSessionKey(token);
             SessionData sessionData = sessionRedisTemplate.opsForValue().get(key);
 
             if (sessionData != null) {
+                sessionNearCache.put(sessionData, stamp);
                 log.debug("Sessão recuperada do Redis para usuário: {} (ID: {})",
                         sessionData.getEmail(), sessionData.getUserId());
             } else {
@@ -103,6 +188,16 @@ public class SessionService {
         }
     }
 
+    /**
+     * Marca uma sessão como ativa para renovação automática (expiração deslizante).
+     * Não realiza I/O no Redis; a renovação é feita em lote em segundo plano.
+     *
+     * @param token token JWT
+     */
+    public void touchSession(String token) {
+        sessionRenewalBatcher.touch(token);
+    }
+
     /**
      * Remove uma sessão do Redis.
      * Usado principalmente no processo de logout.
@@ -112,20 +207,13 @@ public class SessionService {
      */
     public boolean removeSession(String token) {
         try {
-            String key = getSessionKey(token);
-
-            // Recupera a sessão antes de remover para limpar o índice
-            SessionData sessionData = sessionRedisTemplate.opsForValue().get(key);
+            // Remove a sessão e a retira do índice de sessões do usuário
+            Long deleted = executeScript(REMOVE_SCRIPT, sessionKeys(token, resolveUserId(token)), bytes(token));
 
-            Boolean deleted = sessionRedisTemplate.delete(key);
+            // Invalida o near-cache local e das demais instâncias
+            sessionNearCache.evictToken(token);
 
-            // Remove do índice de sessões do usuário
-            if (sessionData != null) {
-                String userSessionsKey = USER_SESSIONS_PREFIX + sessionData.getUserId();
-                stringRedisTemplate.opsForSet().remove(userSessionsKey, token);
-            }
-
-            if (Boolean.TRUE.equals(deleted)) {
+            if (deleted != null && deleted > 0) {
                 log.info("Sessão removida do Redis com sucesso");
                 return true;
             } else {
@@ -164,29 +252,35 @@ public class SessionService {
      * @return true se a sessão foi renovada, false se não existe
      */
     public boolean renewSession(String token) {
+        UUID userId;
         try {
-            String key = getSessionKey(token);
+            userId = jwtUtil.extractUserId(token);
+        } catch (Exception e) {
+            log.warn("Não foi possível extrair usuário do token: {}", e.getMessage());
+            userId = null;
+        }
+        return renewSession(token, userId);
+    }
 
-            if (Boolean.TRUE.equals(sessionRedisTemplate.hasKey(key))) {
-                // Renova TTL da sessão
-                Boolean renewed = sessionRedisTemplate.expire(
-                        key,
-                        jwtExpirationMs,
-                        TimeUnit.MILLISECONDS
-                );
-
-                if (Boolean.TRUE.equals(renewed)) {
-                    // Tenta renovar TTL do índice de sessões do usuário (operação secundária)
-                    try {
-                        UUID userId = jwtUtil.extractUserId(token);
-                        String userSessionsKey = USER_SESSIONS_PREFIX + userId;
-                        stringRedisTemplate.expire(userSessionsKey, jwtExpirationMs, TimeUnit.MILLISECONDS);
-                        log.debug("Sessão e índice de usuário renovados com TTL de {}ms", jwtExpirationMs);
-                    } catch (Exception e) {
-                        log.warn("Não foi possível renovar índice de sessões do usuário: {}", e.getMessage());
-                    }
-                    return true;
-                }
+    /**
+     * Renova o tempo de expiração de uma sessão existente e do índice de sessões do usuário,
+     * usando o ID do usuário já extraído das claims verificadas do token.
+     * Com expiração deslizante habilitada, a sessão é renovada pelo tempo de inatividade,
+     * como na renovação em lote, e não pelo tempo de vida do JWT.
+     *
+     * @param token  token JWT
+     * @param userId ID do usuário dono da sessão (pode ser null)
+     * @return true se a sessão foi renovada, false se não existe
+     */
+    public boolean renewSession(String token, UUID userId) {
+        try {
+            long sessionTtlMs = sessionRenewalBatcher.initialTtlMs(jwtExpirationMs);
+            Long renewed = executeScript(RENEW_SCRIPT, sessionKeys(token, userId),
+                    bytes(Long.toString(sessionTtlMs)), bytes(jwtExpirationMs.toString()));
+
+            if (renewed != null && renewed > 0) {
+                log.debug("Sessão e índice de usuário renovados com TTL de {}ms", sessionTtlMs);
+                return true;
             }
 
             log.warn("Tentativa de renovar sessão inexistente");
@@ -219,7 +313,8 @@ public class SessionService {
      * Útil quando é necessário revogar todos os acessos de um usuário.
      *
      * Usa índice auxiliar (user_sessions:userId) para performance O(1) ao invés de
-     * scan O(N) no Redis, evitando operações custosas em produção.
+     * scan O(N) no Redis, evitando operações custosas em produção. Todas as sessões
+     * e o índice são removidos por um único script.
      *
      * @param userId ID do usuário
      * @return número de sessões removidas
@@ -227,24 +322,14 @@ public class SessionService {
     public long removeAllUserSessions(String userId) {
         try {
             log.info("Removendo todas as sessões do usuário: {}", userId);
-            long removedCount = 0;
 
-            // Usa índice auxiliar para buscar tokens do usuário (O(1))
+            // Remove as sessões listadas no índice auxiliar e o próprio índice
             String userSessionsKey = USER_SESSIONS_PREFIX + userId;
-            var tokens = stringRedisTemplate.opsForSet().members(userSessionsKey);
-
-            if (tokens != null && !tokens.isEmpty()) {
-                for (String token : tokens) {
-                    String sessionKey = getSessionKey(token);
-                    Boolean deleted = sessionRedisTemplate.delete(sessionKey);
-                    if (Boolean.TRUE.equals(deleted)) {
-                        removedCount++;
-                    }
-                }
-
-                // Remove o índice de sessões do usuário
-                stringRedisTemplate.delete(userSessionsKey);
-            }
+            Long removed = executeScript(REMOVE_ALL_SCRIPT, List.of(userSessionsKey), bytes(SESSION_PREFIX));
+            long removedCount = removed != null ? removed : 0;
+
+            // Invalida o near-cache local e das demais instâncias
+            sessionNearCache.evictUser(userId);
 
             log.info("Removidas {} sessões do usuário: {}", removedCount, userId);
             return removedCount;
@@ -12,12 +12,8 @@ import com.langia.backend.dto.LanguageEnrollmentDTO;
 import com.langia.backend.dto.UpdateLanguageEnrollmentRequest;
 import com.langia.backend.exception.BusinessException;
 import com.langia.backend.exception.ResourceNotFoundException;
-import com.langia.backend.model.Language;
-import com.langia.backend.model.StudentLanguageEnrollment;
-import com.langia.backend.model.User;
-import com.langia.backend.repository.LanguageRepository;
 import com.langia.backend.repository.StudentLanguageEnrollmentRepository;
-import com.langia.backend.repository.UserRepository;
+import com.langia.backend.service.LanguageEnrollmentWriter.EnrollResult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,17 +29,14 @@ public class StudentLanguageService {
     private static final int MAX_LANGUAGES = 3;
 
     private final StudentLanguageEnrollmentRepository enrollmentRepository;
-    private final LanguageRepository languageRepository;
-    private final UserRepository userRepository;
+    private final LanguageEnrollmentWriter enrollmentWriter;
+    private final LanguageCatalog languageCatalog;
 
     /**
-     * Lista todos os idiomas disponíveis na plataforma.
+     * Lista todos os idiomas disponíveis na plataforma, a partir do catálogo em memória.
      */
     public List<LanguageDTO> getAvailableLanguages() {
-        return languageRepository.findByActiveTrueOrderByNamePtAsc()
-                .stream()
-                .map(LanguageDTO::fromEntity)
-                .toList();
+        return languageCatalog.getLanguages();
     }
 
     /**
@@ -58,44 +51,25 @@ public class StudentLanguageService {
 
     /**
      * Adiciona um novo idioma para o estudante.
+     * Existência do usuário e do idioma, unicidade e limite são verificados pelo banco
+     * na mesma chamada que cria o enrollment.
      */
     @Transactional
     public LanguageEnrollmentDTO enroll(UUID userId, EnrollLanguageRequest request) {
-        // Verifica se usuário existe
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        // Verifica se idioma existe e está ativo
-        Language language = languageRepository.findById(request.getLanguageCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Language not found: " + request.getLanguageCode()));
-
-        if (!language.isActive()) {
-            throw new BusinessException("Language is not available: " + request.getLanguageCode());
-        }
-
-        // Verifica se usuário já tem este idioma
-        if (enrollmentRepository.existsByUserIdAndLanguageCode(userId, request.getLanguageCode())) {
-            throw new BusinessException("User already enrolled in this language");
+        String languageCode = request.getLanguageCode();
+        EnrollResult result = enrollmentWriter.enroll(userId, languageCode, request.getCefrLevel(),
+                request.isPrimary(), MAX_LANGUAGES);
+
+        switch (result.status()) {
+            case USER_NOT_FOUND -> throw new ResourceNotFoundException("User not found");
+            case LANGUAGE_NOT_FOUND -> throw new ResourceNotFoundException("Language not found: " + languageCode);
+            case LANGUAGE_INACTIVE -> throw new BusinessException("Language is not available: " + languageCode);
+            case ALREADY_ENROLLED -> throw new BusinessException("User already enrolled in this language");
+            case LIMIT_REACHED -> throw new BusinessException(
+                    "Maximum of " + MAX_LANGUAGES + " languages allowed per student");
+            case ENROLLED -> log.info("User {} enrolled in language {}", userId, languageCode);
         }
-
-        // Verifica limite de 3 idiomas
-        long currentCount = enrollmentRepository.countByUserId(userId);
-        if (currentCount >= MAX_LANGUAGES) {
-            throw new BusinessException("Maximum of " + MAX_LANGUAGES + " languages allowed per student");
-        }
-
-        // Cria enrollment
-        StudentLanguageEnrollment enrollment = StudentLanguageEnrollment.builder()
-                .user(user)
-                .language(language)
-                .cefrLevel(request.getCefrLevel())
-                .isPrimary(request.isPrimary() || currentCount == 0) // Primeiro idioma é primário por padrão
-                .build();
-
-        enrollment = enrollmentRepository.save(enrollment);
-        log.info("User {} enrolled in language {}", userId, request.getLanguageCode());
-
-        return LanguageEnrollmentDTO.fromEntity(enrollment);
+        return result.enrollment();
     }
 
     /**
@@ -103,47 +77,24 @@ public class StudentLanguageService {
      */
     @Transactional
     public LanguageEnrollmentDTO updateEnrollment(UUID userId, String languageCode, UpdateLanguageEnrollmentRequest request) {
-        StudentLanguageEnrollment enrollment = enrollmentRepository.findByUserIdAndLanguageCode(userId, languageCode)
+        // Trigger no banco garante que outros idiomas perdem o flag primário
+        LanguageEnrollmentDTO enrollment = enrollmentWriter.update(userId, languageCode, request.getCefrLevel(),
+                        Boolean.TRUE.equals(request.getIsPrimary()))
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found for language: " + languageCode));
 
-        if (request.getCefrLevel() != null) {
-            enrollment.setCefrLevel(request.getCefrLevel());
-        }
-
-        if (request.getIsPrimary() != null && request.getIsPrimary()) {
-            enrollment.setPrimary(true);
-            // Trigger no banco garante que outros idiomas perdem o flag primário
-        }
-
-        enrollment = enrollmentRepository.save(enrollment);
         log.info("User {} updated enrollment for language {}", userId, languageCode);
-
-        return LanguageEnrollmentDTO.fromEntity(enrollment);
+        return enrollment;
     }
 
     /**
      * Remove um idioma do estudante.
+     * Se era o idioma primário, o banco promove o idioma matriculado há mais tempo.
      */
     @Transactional
     public void unenroll(UUID userId, String languageCode) {
-        StudentLanguageEnrollment enrollment = enrollmentRepository.findByUserIdAndLanguageCode(userId, languageCode)
-                .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found for language: " + languageCode));
-
-        // Se era primário e há outros idiomas, promove o próximo
-        if (enrollment.isPrimary()) {
-            List<StudentLanguageEnrollment> others = enrollmentRepository.findByUserId(userId)
-                    .stream()
-                    .filter(e -> !e.getId().equals(enrollment.getId()))
-                    .toList();
-
-            if (!others.isEmpty()) {
-                StudentLanguageEnrollment newPrimary = others.get(0);
-                newPrimary.setPrimary(true);
-                enrollmentRepository.save(newPrimary);
-            }
+        if (!enrollmentWriter.unenroll(userId, languageCode)) {
+            throw new ResourceNotFoundException("Enrollment not found for language: " + languageCode);
         }
-
-        enrollmentRepository.delete(enrollment);
         log.info("User {} unenrolled from language {}", userId, languageCode);
     }
 
@@ -152,14 +103,11 @@ public class StudentLanguageService {
      */
     @Transactional
     public LanguageEnrollmentDTO setPrimary(UUID userId, String languageCode) {
-        StudentLanguageEnrollment enrollment = enrollmentRepository.findByUserIdAndLanguageCode(userId, languageCode)
-                .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found for language: " + languageCode));
-
-        enrollment.setPrimary(true);
-        enrollment = enrollmentRepository.save(enrollment);
         // Trigger no banco garante que outros idiomas perdem o flag primário
+        LanguageEnrollmentDTO enrollment = enrollmentWriter.update(userId, languageCode, null, true)
+                .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found for language: " + languageCode));
 
         log.info("User {} set language {} as primary", userId, languageCode);
-        return LanguageEnrollmentDTO.fromEntity(enrollment);
+        return enrollment;
     }
 }
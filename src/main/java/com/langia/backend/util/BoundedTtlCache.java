@@ -0,0 +1,237 @@
+package com.langia.backend.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Cache em memória com limite de entradas (LRU) e expiração por entrada.
+ *
+ * As entradas são distribuídas em segmentos independentes pelo hash da chave,
+ * cada um com seu próprio lock, para reduzir contenção entre threads.
+ * Quando um segmento atinge sua capacidade, a entrada menos recentemente
+ * acessada é descartada.
+ *
+ * @param <K> tipo da chave
+ * @param <V> tipo do valor
+ */
+public class BoundedTtlCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long defaultTtlMillis;
+    private final LongSupplier clock;
+
+    /**
+     * Cria um cache com capacidade máxima e TTL padrão.
+     *
+     * @param maxEntries número máximo de entradas
+     * @param defaultTtl tempo de vida padrão das entradas
+     */
+    public BoundedTtlCache(int maxEntries, Duration defaultTtl) {
+        this(maxEntries, defaultTtl, System::currentTimeMillis);
+    }
+
+    /**
+     * Cria um cache com relógio customizado (útil para testes).
+     *
+     * @param maxEntries número máximo de entradas
+     * @param defaultTtl tempo de vida padrão das entradas
+     * @param clock      fonte de tempo em milissegundos
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedTtlCache(int maxEntries, Duration defaultTtl, LongSupplier clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        int segmentCapacity = Math.max(1, (maxEntries + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+        this.defaultTtlMillis = defaultTtl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Obtém um valor do cache.
+     *
+     * @param key chave
+     * @return valor, ou null se ausente ou expirado
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = clock.getAsLong();
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                segment.map.remove(key);
+                return null;
+            }
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Armazena um valor com o TTL padrão.
+     *
+     * @param key   chave
+     * @param value valor
+     */
+    public void put(K key, V value) {
+        putUntil(key, value, clock.getAsLong() + defaultTtlMillis);
+    }
+
+    /**
+     * Armazena um valor que expira no instante informado, limitado ao TTL padrão.
+     *
+     * @param key             chave
+     * @param value           valor
+     * @param expiresAtMillis instante de expiração (epoch em milissegundos)
+     */
+    public void putUntil(K key, V value, long expiresAtMillis) {
+        long now = clock.getAsLong();
+        long expiresAt = Math.min(expiresAtMillis, now + defaultTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Obtém o valor da chave ou cria um novo de forma atômica.
+     *
+     * @param key     chave
+     * @param factory função que cria o valor quando ausente ou expirado
+     * @return valor existente ou recém-criado
+     */
+    public V computeIfAbsent(K key, Function<K, V> factory) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = clock.getAsLong();
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.map.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.value;
+            }
+            V value = factory.apply(key);
+            segment.map.put(key, new Entry<>(value, now + defaultTtlMillis));
+            return value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove uma entrada do cache.
+     *
+     * @param key chave
+     */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove todas as entradas cujo valor satisfaz o predicado.
+     * Percorre todo o cache, portanto deve ser usado apenas em operações raras.
+     *
+     * @param predicate condição de remoção
+     * @return número de entradas removidas
+     */
+    public int invalidateIf(Predicate<V> predicate) {
+        int removed = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                Iterator<Entry<V>> it = segment.map.values().iterator();
+                while (it.hasNext()) {
+                    if (predicate.test(it.next().value)) {
+                        it.remove();
+                        removed++;
+                    }
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retorna o número de entradas armazenadas (incluindo expiradas ainda não removidas).
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        Segment(int capacity) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
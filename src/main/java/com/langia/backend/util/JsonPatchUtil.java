@@ -0,0 +1,124 @@
+package com.langia.backend.util;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Utilitário para cálculo e aplicação de JSON Patch (RFC 6902).
+ *
+ * O cálculo percorre objetos recursivamente e gera apenas operações add, remove e
+ * replace. Arrays e valores escalares são comparados como um todo: qualquer diferença
+ * gera um replace do valor completo.
+ */
+public final class JsonPatchUtil {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private JsonPatchUtil() {
+    }
+
+    /**
+     * Calcula o patch que transforma source em target.
+     *
+     * @param source documento original
+     * @param target documento final
+     * @return lista de operações (vazia se os documentos forem iguais)
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = FACTORY.arrayNode();
+        diff(patch, "", source, target);
+        return patch;
+    }
+
+    /**
+     * Aplica um patch a uma cópia do documento.
+     *
+     * @param document documento original (não é alterado)
+     * @param patch    operações add, remove ou replace
+     * @return documento resultante
+     * @throws IllegalArgumentException se uma operação não for suportada ou o caminho não existir
+     */
+    public static JsonNode apply(JsonNode document, JsonNode patch) {
+        JsonNode result = document.deepCopy();
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            String path = operation.path("path").asText();
+            JsonNode value = operation.get("value");
+            if (path.isEmpty()) {
+                if ("remove".equals(op)) {
+                    throw new IllegalArgumentException("Cannot remove document root");
+                }
+                result = value.deepCopy();
+                continue;
+            }
+            int separator = path.lastIndexOf('/');
+            ObjectNode parent = parentObject(result, path.substring(0, separator));
+            String field = unescape(path.substring(separator + 1));
+            switch (op) {
+                case "add", "replace" -> parent.set(field, value.deepCopy());
+                case "remove" -> parent.remove(field);
+                default -> throw new IllegalArgumentException("Unsupported JSON patch operation: " + op);
+            }
+        }
+        return result;
+    }
+
+    private static void diff(ArrayNode patch, String path, JsonNode source, JsonNode target) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (!source.isObject() || !target.isObject()) {
+            patch.add(operation("replace", path, target));
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+        while (sourceFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = sourceFields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            JsonNode targetValue = target.get(field.getKey());
+            if (targetValue == null) {
+                patch.add(operation("remove", fieldPath, null));
+            } else {
+                diff(patch, fieldPath, field.getValue(), targetValue);
+            }
+        }
+        Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+        while (targetFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = targetFields.next();
+            if (!source.has(field.getKey())) {
+                patch.add(operation("add", path + "/" + escape(field.getKey()), field.getValue()));
+            }
+        }
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = FACTORY.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    private static ObjectNode parentObject(JsonNode document, String pointer) {
+        JsonNode node = pointer.isEmpty() ? document : document.at(pointer);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("JSON patch path not found: " + pointer);
+        }
+        return (ObjectNode) node;
+    }
+
+    private static String escape(String field) {
+        return field.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
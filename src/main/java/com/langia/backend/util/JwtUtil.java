@@ -1,10 +1,10 @@
 package com.langia.backend.util;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
@@ -16,16 +16,22 @@ import com.langia.backend.model.UserProfile;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Componente utilitário para gerenciamento de tokens JWT.
  * Responsável por gerar, validar e extrair informações de tokens de autenticação.
+ *
+ * A chave de assinatura e o parser são criados uma única vez na inicialização.
+ * Tokens verificados recentemente são mantidos em um cache LRU limitado, indexado
+ * pelo hash do token, para que a assinatura seja verificada uma única vez por token.
  */
 @Component
 @Slf4j
@@ -37,13 +43,23 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.claims-cache.max-entries:10000}")
+    private int claimsCacheMaxEntries;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private BoundedTtlCache<String, ValidatedClaims> claimsCache;
+
     /**
-     * Gera a chave secreta para assinatura dos tokens.
-     *
-     * @return chave secreta baseada no secret configurado
+     * Inicializa a chave de assinatura, o parser e o cache de claims verificadas.
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.claimsCache = new BoundedTtlCache<>(claimsCacheMaxEntries, Duration.ofMillis(expiration));
     }
 
     /**
@@ -66,34 +82,80 @@ public class JwtUtil {
                 .subject(user.getEmail())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * Extrai todas as claims (informações) de um token JWT.
+     * Obtém as claims verificadas de um token, consultando primeiro o cache.
+     * A assinatura só é verificada quando o token não está em cache.
      *
      * @param token token JWT
-     * @return claims contidas no token
+     * @return claims verificadas do token
+     * @throws io.jsonwebtoken.JwtException se o token for inválido ou expirado
+     * @throws IllegalArgumentException se o token for vazio
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public ValidatedClaims getClaims(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT token vazio");
+        }
+        String key = TokenHashUtil.hashToken(token);
+        ValidatedClaims cached = claimsCache.get(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return cached;
+        }
+
+        ValidatedClaims claims = toValidatedClaims(parser.parseSignedClaims(token).getPayload());
+        claimsCache.putUntil(key, claims, claims.getExpiresAt());
+        return claims;
     }
 
     /**
-     * Extrai uma claim específica do token usando uma função de resolução.
+     * Verifica um token JWT e retorna suas claims.
      *
      * @param token token JWT
-     * @param claimsResolver função para extrair a claim desejada
-     * @return valor da claim extraída
+     * @return claims verificadas, ou null se o token for inválido ou expirado
      */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public ValidatedClaims verifyToken(String token) {
+        try {
+            ValidatedClaims claims = getClaims(token);
+            if (claims.isExpired(System.currentTimeMillis())) {
+                log.warn("Token expirado");
+                return null;
+            }
+            log.debug("Token validado com sucesso");
+            return claims;
+        } catch (SignatureException e) {
+            log.error("Assinatura do token JWT inválida: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Token JWT malformado: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("Token JWT expirado: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Token JWT não suportado: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("Claims do JWT está vazia: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Converte as claims do token no objeto imutável de claims verificadas.
+     *
+     * @param claims claims extraídas do token
+     * @return claims verificadas
+     */
+    private ValidatedClaims toValidatedClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        String profile = claims.get("profile", String.class);
+        Date exp = claims.getExpiration();
+        return ValidatedClaims.builder()
+                .userId(userId != null ? UUID.fromString(userId) : null)
+                .email(claims.getSubject())
+                .profile(profile != null ? UserProfile.valueOf(profile) : null)
+                .name(claims.get("name", String.class))
+                .expiresAt(exp != null ? exp.getTime() : Long.MAX_VALUE)
+                .build();
     }
 
     /**
@@ -103,7 +165,7 @@ public class JwtUtil {
      * @return email do usuário
      */
     public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return getClaims(token).getEmail();
     }
 
     /**
@@ -113,8 +175,7 @@ public class JwtUtil {
      * @return UUID do usuário
      */
     public UUID extractUserId(String token) {
-        String userId = extractClaim(token, claims -> claims.get("userId", String.class));
-        return UUID.fromString(userId);
+        return getClaims(token).getUserId();
     }
 
     /**
@@ -124,8 +185,7 @@ public class JwtUtil {
      * @return perfil do usuário
      */
     public UserProfile extractUserProfile(String token) {
-        String profile = extractClaim(token, claims -> claims.get("profile", String.class));
-        return UserProfile.valueOf(profile);
+        return getClaims(token).getProfile();
     }
 
     /**
@@ -135,7 +195,7 @@ public class JwtUtil {
      * @return nome do usuário
      */
     public String extractUserName(String token) {
-        return extractClaim(token, claims -> claims.get("name", String.class));
+        return getClaims(token).getName();
     }
 
     /**
@@ -145,7 +205,7 @@ public class JwtUtil {
      * @return data de expiração
      */
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return new Date(getClaims(token).getExpiresAt());
     }
 
     /**
@@ -155,7 +215,7 @@ public class JwtUtil {
      * @return true se o token estiver expirado, false caso contrário
      */
     public Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return getClaims(token).isExpired(System.currentTimeMillis());
     }
 
     /**
@@ -165,26 +225,7 @@ public class JwtUtil {
      * @return true se o token for válido, false caso contrário
      */
     public Boolean validateToken(String token) {
-        try {
-            extractAllClaims(token);
-            if (isTokenExpired(token)) {
-                log.warn("Token expirado");
-                return false;
-            }
-            log.debug("Token validado com sucesso");
-            return true;
-        } catch (SignatureException e) {
-            log.error("Assinatura do token JWT inválida: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("Token JWT malformado: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("Token JWT expirado: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("Token JWT não suportado: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("Claims do JWT está vazia: {}", e.getMessage());
-        }
-        return false;
+        return verifyToken(token) != null;
     }
 
     /**
@@ -195,7 +236,7 @@ public class JwtUtil {
      * @return true se o token for válido e pertencer ao email, false caso contrário
      */
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractEmail(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        final ValidatedClaims claims = getClaims(token);
+        return (claims.getEmail().equals(email) && !claims.isExpired(System.currentTimeMillis()));
     }
 }
@@ -0,0 +1,65 @@
+package com.langia.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Resolve a herança de permissões entre perfis.
+ *
+ * Um perfil herda as funcionalidades concedidas diretamente a todos os perfis de nível
+ * hierárquico inferior ao seu; perfis do mesmo nível não herdam entre si. O resultado é o
+ * conjunto efetivo de cada perfil, já achatado, com a origem de cada funcionalidade.
+ */
+public final class PermissionInheritanceResolver {
+
+    private PermissionInheritanceResolver() {
+    }
+
+    /**
+     * Resolve as permissões efetivas dos perfis informados.
+     *
+     * @param levels    níveis hierárquicos dos perfis ativos
+     * @param ownGrants funcionalidades concedidas diretamente a cada perfil
+     * @param targets   perfis a resolver
+     * @return para cada perfil, os códigos efetivos e os perfis que os concedem diretamente,
+     *         do próprio perfil para os inferiores
+     */
+    public static Map<UserProfile, Map<String, List<UserProfile>>> resolve(Map<UserProfile, Integer> levels,
+            Map<UserProfile, ? extends Collection<String>> ownGrants, Collection<UserProfile> targets) {
+        // Perfis do nível mais alto para o mais baixo, para que a origem mais próxima venha primeiro
+        List<UserProfile> byLevel = new ArrayList<>(levels.keySet());
+        byLevel.sort(Comparator.comparing(levels::get, Comparator.reverseOrder()));
+
+        Map<UserProfile, Map<String, List<UserProfile>>> resolved = new EnumMap<>(UserProfile.class);
+        for (UserProfile target : targets) {
+            int level = levels.get(target);
+            Map<String, List<UserProfile>> sources = new LinkedHashMap<>();
+            addGrants(sources, target, ownGrants);
+            for (UserProfile profile : byLevel) {
+                if (levels.get(profile) < level) {
+                    addGrants(sources, profile, ownGrants);
+                }
+            }
+            resolved.put(target, sources);
+        }
+        return resolved;
+    }
+
+    private static void addGrants(Map<String, List<UserProfile>> sources, UserProfile profile,
+            Map<UserProfile, ? extends Collection<String>> ownGrants) {
+        Collection<String> codes = ownGrants.get(profile);
+        if (codes == null) {
+            return;
+        }
+        for (String code : codes) {
+            sources.computeIfAbsent(code, c -> new ArrayList<>()).add(profile);
+        }
+    }
+}
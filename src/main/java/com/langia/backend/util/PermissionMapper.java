@@ -1,82 +1,45 @@
 package com.langia.backend.util;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.PermissionMatrix.ProfilePermissions;
 
 /**
  * Componente responsável por mapear permissões de cada perfil de usuário.
  * Centraliza as regras de autorização do sistema.
+ *
+ * As permissões vêm da matriz carregada do banco de dados (profile_functionalities)
+ * pelo PermissionMatrixLoader, que a substitui atomicamente a cada recarga. As consultas
+ * leem a matriz corrente sem bloqueio e sem alocação por requisição; as permissões herdadas
+ * já estão incluídas em cada perfil. Enquanto nenhuma
+ * matriz foi carregada, todas as permissões são negadas.
  */
 @Component
 public class PermissionMapper {
 
-    private static final Map<UserProfile, Set<String>> PROFILE_PERMISSIONS;
+    private volatile PermissionMatrix matrix = PermissionMatrix.empty();
 
-    static {
-        Map<UserProfile, Set<String>> permissions = new HashMap<>();
-
-        // Permissões do STUDENT
-        permissions.put(UserProfile.STUDENT, Set.of(
-                "view_courses",
-                "view_lessons",
-                "submit_exercises",
-                "view_progress",
-                "chat_with_ai",
-                "view_profile",
-                "update_profile"
-        ));
-
-        // Permissões do TEACHER
-        permissions.put(UserProfile.TEACHER, Set.of(
-                "view_courses",
-                "create_courses",
-                "edit_courses",
-                "delete_courses",
-                "view_lessons",
-                "create_lessons",
-                "edit_lessons",
-                "delete_lessons",
-                "view_students",
-                "view_student_progress",
-                "grade_exercises",
-                "view_profile",
-                "update_profile",
-                "manage_class"
-        ));
-
-        // Permissões do ADMIN
-        permissions.put(UserProfile.ADMIN, Set.of(
-                "view_courses",
-                "create_courses",
-                "edit_courses",
-                "delete_courses",
-                "view_lessons",
-                "create_lessons",
-                "edit_lessons",
-                "delete_lessons",
-                "view_students",
-                "view_teachers",
-                "view_student_progress",
-                "grade_exercises",
-                "view_profile",
-                "update_profile",
-                "manage_class",
-                "manage_users",
-                "create_users",
-                "edit_users",
-                "delete_users",
-                "view_system_stats",
-                "manage_settings",
-                "manage_integrations"
-        ));
+    /**
+     * Obtém a matriz de permissões corrente.
+     *
+     * @return matriz imutável
+     */
+    public PermissionMatrix getMatrix() {
+        return matrix;
+    }
 
-        PROFILE_PERMISSIONS = Collections.unmodifiableMap(permissions);
+    /**
+     * Substitui a matriz de permissões corrente.
+     *
+     * @param matrix nova matriz
+     */
+    public void setMatrix(PermissionMatrix matrix) {
+        this.matrix = matrix;
     }
 
     /**
@@ -86,7 +49,8 @@ public class PermissionMapper {
      * @return conjunto imutável de permissões
      */
     public Set<String> getPermissionsForProfile(UserProfile profile) {
-        return PROFILE_PERMISSIONS.getOrDefault(profile, Collections.emptySet());
+        ProfilePermissions permissions = matrix.get(profile);
+        return permissions == null ? Set.of() : permissions.codes();
     }
 
     /**
@@ -97,7 +61,43 @@ public class PermissionMapper {
      * @return true se o perfil possui a permissão, false caso contrário
      */
     public boolean hasPermission(UserProfile profile, String permission) {
-        Set<String> permissions = PROFILE_PERMISSIONS.get(profile);
-        return permissions != null && permissions.contains(permission);
+        return matrix.hasPermission(profile, permission);
+    }
+
+    /**
+     * Obtém as authorities do Spring Security de um perfil.
+     * A lista é imutável e compartilhada, sem alocação por requisição.
+     *
+     * @param profile perfil do usuário
+     * @return lista imutável de authorities
+     */
+    public List<GrantedAuthority> getAuthoritiesForProfile(UserProfile profile) {
+        ProfilePermissions permissions = matrix.get(profile);
+        return permissions == null ? List.of() : permissions.authorities();
+    }
+
+    /**
+     * Obtém os perfis que concedem diretamente uma permissão a um perfil: o próprio perfil,
+     * quando concedida a ele, seguido dos perfis inferiores dos quais é herdada.
+     *
+     * @param profile    perfil do usuário
+     * @param permission permissão a ser explicada
+     * @return lista imutável de perfis, vazia se o perfil não possui a permissão
+     */
+    public List<UserProfile> getGrantingProfiles(UserProfile profile, String permission) {
+        ProfilePermissions permissions = matrix.get(profile);
+        return permissions == null ? List.of() : permissions.grantedBy(permission);
+    }
+
+    /**
+     * Obtém a versão atual do conjunto de permissões de um perfil.
+     * A versão é incrementada no banco a cada alteração das permissões do perfil.
+     *
+     * @param profile perfil do usuário
+     * @return versão das permissões, ou 0 se o perfil não estiver carregado
+     */
+    public int getPermissionsVersion(UserProfile profile) {
+        ProfilePermissions permissions = matrix.get(profile);
+        return permissions == null ? 0 : permissions.version();
     }
 }
@@ -0,0 +1,308 @@
+package com.langia.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Matriz imutável de permissões por perfil.
+ *
+ * Cada código de funcionalidade recebe um índice de bit fixo e cada perfil guarda suas
+ * permissões como um bitset (long[]), de modo que a verificação de uma permissão é uma
+ * busca no índice e um teste de bit, sem alocação. Os códigos, conjuntos e authorities
+ * são criados uma única vez por versão do perfil e compartilhados entre as requisições.
+ *
+ * Os índices de bit só crescem entre recargas: códigos já conhecidos mantêm o índice,
+ * e perfis não alterados são reaproveitados da matriz anterior sem cópia.
+ *
+ * As permissões de cada perfil já incluem as herdadas dos perfis inferiores (resolvidas pelo
+ * {@link PermissionInheritanceResolver} na carga), junto com a origem de cada uma; as
+ * verificações nunca percorrem a hierarquia.
+ */
+public final class PermissionMatrix {
+
+    private static final PermissionMatrix EMPTY = new PermissionMatrix(Map.of(), List.of(),
+            new EnumMap<>(UserProfile.class));
+
+    private final Map<String, Integer> bitIndex;
+    private final List<String> codes;
+    private final Map<UserProfile, ProfilePermissions> profiles;
+
+    private PermissionMatrix(Map<String, Integer> bitIndex, List<String> codes,
+            EnumMap<UserProfile, ProfilePermissions> profiles) {
+        this.bitIndex = bitIndex;
+        this.codes = codes;
+        this.profiles = Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * Matriz sem perfis carregados; nega todas as permissões.
+     *
+     * @return matriz vazia
+     */
+    public static PermissionMatrix empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Cria uma nova matriz substituindo as permissões dos perfis informados.
+     *
+     * @param changed        perfis recarregados, com versão e permissões efetivas
+     * @param activeProfiles perfis ativos; os demais são removidos da matriz
+     * @return nova matriz
+     */
+    public PermissionMatrix apply(Map<UserProfile, ProfileGrants> changed, Collection<UserProfile> activeProfiles) {
+        Map<String, Integer> newIndex = new HashMap<>(bitIndex);
+        List<String> newCodes = new ArrayList<>(codes);
+        // Novos códigos em ordem alfabética para índices determinísticos entre instâncias
+        Set<String> added = new TreeSet<>();
+        changed.values().forEach(grants -> grants.codes().stream()
+                .filter(code -> !bitIndex.containsKey(code))
+                .forEach(added::add));
+        for (String code : added) {
+            newIndex.put(code, newCodes.size());
+            newCodes.add(code);
+        }
+
+        EnumMap<UserProfile, ProfilePermissions> newProfiles = new EnumMap<>(UserProfile.class);
+        for (UserProfile profile : activeProfiles) {
+            ProfileGrants grants = changed.get(profile);
+            if (grants != null) {
+                newProfiles.put(profile, ProfilePermissions.build(grants, newIndex, newCodes));
+            } else if (profiles.containsKey(profile)) {
+                newProfiles.put(profile, profiles.get(profile));
+            }
+        }
+        return new PermissionMatrix(Collections.unmodifiableMap(newIndex), Collections.unmodifiableList(newCodes),
+                newProfiles);
+    }
+
+    /**
+     * Obtém o índice de bit de um código de funcionalidade.
+     *
+     * @param code código da funcionalidade
+     * @return índice do bit, ou -1 se o código não for conhecido
+     */
+    public int bitOf(String code) {
+        Integer bit = code == null ? null : bitIndex.get(code);
+        return bit == null ? -1 : bit;
+    }
+
+    /**
+     * Quantidade de códigos de funcionalidade indexados. Só cresce entre recargas.
+     *
+     * @return quantidade de códigos
+     */
+    public int codeCount() {
+        return codes.size();
+    }
+
+    /**
+     * Compila códigos de funcionalidade em uma máscara de bits. Códigos desconhecidos são ignorados.
+     * Como os índices de bit são estáveis entre recargas, a máscara continua válida enquanto
+     * nenhum dos códigos ignorados passar a existir.
+     *
+     * @param permissionCodes códigos das funcionalidades
+     * @return máscara de bits
+     */
+    public long[] maskOf(String... permissionCodes) {
+        long[] mask = new long[(codes.size() + 63) >>> 6];
+        for (String code : permissionCodes) {
+            int bit = bitOf(code);
+            if (bit >= 0) {
+                mask[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Obtém as permissões carregadas de um perfil.
+     *
+     * @param profile perfil do usuário
+     * @return permissões do perfil, ou null se o perfil não estiver carregado
+     */
+    public ProfilePermissions get(UserProfile profile) {
+        return profile == null ? null : profiles.get(profile);
+    }
+
+    /**
+     * Verifica se um perfil possui uma permissão.
+     *
+     * @param profile    perfil do usuário
+     * @param permission código da funcionalidade
+     * @return true se o perfil possui a permissão
+     */
+    public boolean hasPermission(UserProfile profile, String permission) {
+        ProfilePermissions permissions = get(profile);
+        return permissions != null && permissions.has(bitOf(permission));
+    }
+
+    /**
+     * Perfis carregados na matriz.
+     *
+     * @return conjunto imutável de perfis
+     */
+    public Set<UserProfile> profiles() {
+        return profiles.keySet();
+    }
+
+    /**
+     * Permissões efetivas de um perfil, com os perfis que concedem diretamente cada uma.
+     *
+     * @param version versão das permissões do perfil
+     * @param sources códigos das funcionalidades efetivas e seus perfis de origem, do próprio
+     *                perfil para os inferiores
+     */
+    public record ProfileGrants(int version, Map<String, List<UserProfile>> sources) {
+
+        /**
+         * Cria permissões sem origem conhecida.
+         *
+         * @param version versão das permissões do perfil
+         * @param codes   códigos das funcionalidades efetivas
+         */
+        public ProfileGrants(int version, Collection<String> codes) {
+            this(version, codes.stream().distinct()
+                    .collect(Collectors.toMap(Function.identity(), code -> List.<UserProfile>of())));
+        }
+
+        /**
+         * Códigos das funcionalidades efetivas.
+         *
+         * @return conjunto de códigos
+         */
+        public Set<String> codes() {
+            return sources.keySet();
+        }
+    }
+
+    /**
+     * Permissões de um perfil em uma versão específica.
+     */
+    public static final class ProfilePermissions {
+
+        private final int version;
+        private final long[] bits;
+        private final Set<String> codes;
+        private final List<GrantedAuthority> authorities;
+        private final Map<String, List<UserProfile>> sources;
+
+        private ProfilePermissions(int version, long[] bits, Set<String> codes, List<GrantedAuthority> authorities,
+                Map<String, List<UserProfile>> sources) {
+            this.version = version;
+            this.bits = bits;
+            this.codes = codes;
+            this.authorities = authorities;
+            this.sources = sources;
+        }
+
+        private static ProfilePermissions build(ProfileGrants grants, Map<String, Integer> bitIndex,
+                List<String> canonicalCodes) {
+            long[] bits = new long[(canonicalCodes.size() + 63) >>> 6];
+            for (String code : grants.codes()) {
+                int bit = bitIndex.get(code);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+
+            // Conjunto e authorities usam as instâncias canônicas dos códigos
+            List<String> sorted = new ArrayList<>();
+            for (int bit = 0; bit < canonicalCodes.size(); bit++) {
+                if ((bits[bit >>> 6] & (1L << bit)) != 0) {
+                    sorted.add(canonicalCodes.get(bit));
+                }
+            }
+            sorted.sort(null);
+            List<GrantedAuthority> authorities = sorted.stream()
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
+            Map<String, List<UserProfile>> sources = new HashMap<>();
+            for (String code : sorted) {
+                sources.put(code, List.copyOf(grants.sources().get(code)));
+            }
+            return new ProfilePermissions(grants.version(), bits, Set.copyOf(sorted), authorities,
+                    Collections.unmodifiableMap(sources));
+        }
+
+        /**
+         * Verifica um bit de permissão.
+         *
+         * @param bit índice do bit (negativo para código desconhecido)
+         * @return true se o bit estiver presente
+         */
+        public boolean has(int bit) {
+            int word = bit >>> 6;
+            return bit >= 0 && word < bits.length && (bits[word] & (1L << bit)) != 0;
+        }
+
+        /**
+         * Verifica se todos os bits da máscara estão presentes.
+         *
+         * @param mask máscara compilada por {@link PermissionMatrix#maskOf(String...)}
+         * @return true se o perfil possui todas as permissões da máscara
+         */
+        public boolean containsAll(long[] mask) {
+            for (int word = 0; word < mask.length; word++) {
+                long present = word < bits.length ? bits[word] : 0L;
+                if ((present & mask[word]) != mask[word]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Verifica se algum bit da máscara está presente.
+         *
+         * @param mask máscara compilada por {@link PermissionMatrix#maskOf(String...)}
+         * @return true se o perfil possui alguma permissão da máscara
+         */
+        public boolean containsAny(long[] mask) {
+            int words = Math.min(mask.length, bits.length);
+            for (int word = 0; word < words; word++) {
+                if ((bits[word] & mask[word]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int version() {
+            return version;
+        }
+
+        public Set<String> codes() {
+            return codes;
+        }
+
+        public List<GrantedAuthority> authorities() {
+            return authorities;
+        }
+
+        /**
+         * Perfis que concedem diretamente uma permissão a este perfil: o próprio perfil, quando
+         * concedida a ele, seguido dos perfis inferiores dos quais é herdada.
+         *
+         * @param code código da funcionalidade
+         * @return lista imutável de perfis, vazia se a permissão não for concedida ou a origem
+         *         não for conhecida
+         */
+        public List<UserProfile> grantedBy(String code) {
+            List<UserProfile> profiles = code == null ? null : sources.get(code);
+            return profiles == null ? List.of() : profiles;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HexFormat;
 
 import lombok.experimental.UtilityClass;
 
@@ -17,6 +18,7 @@ public class TokenHashUtil {
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private static final int TOKEN_BYTE_LENGTH = 32;
+    private static final HexFormat HEX = HexFormat.of();
 
     /**
      * Gera um token seguro de 32 bytes codificado em Base64 URL-safe.
@@ -39,7 +41,7 @@ public class TokenHashUtil {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
+            return HEX.formatHex(hash);
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("SHA-256 algorithm not available", e);
         }
@@ -56,12 +58,4 @@ public class TokenHashUtil {
         String computedHash = hashToken(token);
         return computedHash.equalsIgnoreCase(hash);
     }
-
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
-    }
 }
@@ -0,0 +1,38 @@
+package com.langia.backend.util;
+
+import java.util.UUID;
+
+import com.langia.backend.model.UserProfile;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Claims de um token JWT cuja assinatura já foi verificada.
+ * Objeto imutável, produzido uma única vez por token pelo {@link JwtUtil}
+ * e reutilizado pelos componentes que precisam das informações do token.
+ */
+@Value
+@Builder
+public class ValidatedClaims {
+
+    UUID userId;
+    String email;
+    UserProfile profile;
+    String name;
+
+    /**
+     * Instante de expiração do token (epoch em milissegundos).
+     */
+    long expiresAt;
+
+    /**
+     * Verifica se o token está expirado no instante informado.
+     *
+     * @param nowMillis instante atual em milissegundos
+     * @return true se o token estiver expirado
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+}
@@ -0,0 +1,35 @@
+-- Migration: Criar tabela de saída de e-mails (outbox)
+-- Descrição: E-mails são gravados na mesma transação da operação de negócio
+--            e entregues de forma assíncrona por um worker com novas tentativas
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(500) NOT NULL,
+    html_body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    provider_message_id VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'DEAD'))
+);
+
+-- Índice parcial para a busca de mensagens a entregar pelo worker
+CREATE INDEX IF NOT EXISTS idx_email_outbox_due
+    ON email_outbox(next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
+
+-- Índice para monitoramento de mensagens por status
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status
+    ON email_outbox(status, created_at DESC);
+
+COMMENT ON TABLE email_outbox IS 'Fila durável de e-mails a enviar (padrão outbox)';
+COMMENT ON COLUMN email_outbox.status IS 'PENDING, SENDING (em entrega), SENT ou DEAD (tentativas esgotadas)';
+COMMENT ON COLUMN email_outbox.attempts IS 'Número de tentativas de entrega já iniciadas';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS 'Próxima tentativa; para SENDING, fim do prazo de entrega antes de nova tentativa';
+COMMENT ON COLUMN email_outbox.last_error IS 'Último erro retornado pelo provedor';
+COMMENT ON COLUMN email_outbox.provider_message_id IS 'ID da mensagem no provedor de e-mail';
@@ -0,0 +1,85 @@
+-- Migration: Particionar audit_logs por mês
+-- Descrição: Converte audit_logs em tabela particionada por faixa de created_at (um mês por partição).
+--            Novas partições são criadas antecipadamente pelo job de manutenção da aplicação
+--            (AuditPartitionMaintenanceJob), que também desanexa ou remove partições expiradas.
+
+-- Tabela atual passa a ser a origem da migração dos dados
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX IF EXISTS idx_audit_logs_entity RENAME TO idx_audit_logs_legacy_entity;
+ALTER INDEX IF EXISTS idx_audit_logs_user RENAME TO idx_audit_logs_legacy_user;
+ALTER INDEX IF EXISTS idx_audit_logs_created RENAME TO idx_audit_logs_legacy_created;
+ALTER INDEX IF EXISTS idx_audit_logs_action RENAME TO idx_audit_logs_legacy_action;
+ALTER INDEX IF EXISTS idx_audit_logs_user_entity RENAME TO idx_audit_logs_legacy_user_entity;
+
+-- Tabela particionada (a chave primária precisa incluir a coluna de particionamento)
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    old_value JSONB,
+    new_value JSONB,
+    user_id UUID NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW() NOT NULL,
+
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id, created_at),
+    CONSTRAINT chk_audit_action_partitioned CHECK (action IN ('CREATE', 'UPDATE', 'DELETE'))
+) PARTITION BY RANGE (created_at);
+
+-- Índices propagados para todas as partições.
+-- idx_audit_logs_user e idx_audit_logs_action não foram recriados: o primeiro é coberto
+-- pelo prefixo de idx_audit_logs_user_entity e o segundo tem baixa seletividade.
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_type, entity_id);
+CREATE INDEX idx_audit_logs_created ON audit_logs(created_at DESC);
+CREATE INDEX idx_audit_logs_user_entity ON audit_logs(user_id, entity_type, created_at DESC);
+
+-- Cria (se não existir) a partição do mês que contém a data informada.
+-- Nome: audit_logs_yAAAAmMM (ex: audit_logs_y2026m01).
+CREATE OR REPLACE FUNCTION create_audit_logs_partition(month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('audit_logs_y%sm%s', to_char(range_start, 'YYYY'), to_char(range_start, 'MM'));
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+        partition_name, range_start, range_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições dos meses com dados existentes e dos próximos três meses
+SELECT create_audit_logs_partition(month::DATE)
+FROM generate_series(
+    date_trunc('month', LEAST(COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), NOW()), NOW())),
+    date_trunc('month', NOW() + INTERVAL '3 months'),
+    INTERVAL '1 month') AS month;
+
+-- Partição padrão: recebe registros fora das partições criadas caso o job de manutenção
+-- não tenha sido executado. Deve permanecer vazia em operação normal.
+CREATE TABLE IF NOT EXISTS audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Migra os dados existentes
+INSERT INTO audit_logs (id, entity_type, entity_id, action, old_value, new_value,
+                        user_id, ip_address, user_agent, created_at)
+SELECT id, entity_type, entity_id, action, old_value, new_value,
+       user_id, ip_address, user_agent, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- Comentários na tabela e colunas
+COMMENT ON TABLE audit_logs IS 'Registro de auditoria de todas as operações do sistema (particionada por mês de created_at)';
+COMMENT ON COLUMN audit_logs.entity_type IS 'Tipo da entidade alterada (ex: USER, PREFERENCES)';
+COMMENT ON COLUMN audit_logs.entity_id IS 'ID da entidade alterada';
+COMMENT ON COLUMN audit_logs.action IS 'Tipo de operação: CREATE, UPDATE ou DELETE';
+COMMENT ON COLUMN audit_logs.old_value IS 'Estado anterior da entidade (JSON) - null para CREATE';
+COMMENT ON COLUMN audit_logs.new_value IS 'Novo estado da entidade (JSON) - null para DELETE';
+COMMENT ON COLUMN audit_logs.user_id IS 'ID do usuário que realizou a operação';
+COMMENT ON COLUMN audit_logs.ip_address IS 'Endereço IP de origem da requisição';
+COMMENT ON COLUMN audit_logs.user_agent IS 'User-Agent do cliente';
+COMMENT ON COLUMN audit_logs.created_at IS 'Timestamp da operação (chave de particionamento)';
+COMMENT ON FUNCTION create_audit_logs_partition(DATE) IS 'Cria a partição mensal de audit_logs que contém a data informada';
@@ -0,0 +1,12 @@
+-- Migration: Índices de paginação por cursor em audit_logs
+-- Descrição: As consultas de auditoria paginam por (created_at, id) em ordem decrescente.
+--            Os índices passam a incluir o id como desempate, permitindo que cada página
+--            seja lida diretamente do índice, sem ordenação.
+
+DROP INDEX IF EXISTS idx_audit_logs_entity;
+DROP INDEX IF EXISTS idx_audit_logs_created;
+DROP INDEX IF EXISTS idx_audit_logs_user_entity;
+
+CREATE INDEX idx_audit_logs_entity ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_created ON audit_logs(created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_user_entity ON audit_logs(user_id, entity_type, created_at DESC, id DESC);
@@ -0,0 +1,10 @@
+-- Migration: Formato dos valores de auditoria
+-- Descrição: Registros de UPDATE podem armazenar apenas o JSON Patch (RFC 6902) entre o estado
+--            anterior e o novo, em new_value, em vez dos dois documentos completos.
+--            Registros existentes permanecem como SNAPSHOT.
+
+ALTER TABLE audit_logs
+    ADD COLUMN value_format VARCHAR(20) NOT NULL DEFAULT 'SNAPSHOT';
+
+ALTER TABLE audit_logs
+    ADD CONSTRAINT chk_audit_value_format CHECK (value_format IN ('SNAPSHOT', 'JSON_PATCH'));
@@ -0,0 +1,9 @@
+-- Migration: Versão das permissões por perfil
+-- Descrição: A matriz de permissões passa a ser carregada de profile_functionalities em vez
+--            de um mapeamento estático no código. Cada perfil guarda a versão de suas
+--            permissões, incrementada a cada alteração; sessões criadas com uma versão
+--            anterior são invalidadas. A versão inicial (3) é maior que a do mapeamento
+--            estático (2), invalidando as sessões criadas com ele.
+
+ALTER TABLE profiles
+    ADD COLUMN permissions_version INTEGER NOT NULL DEFAULT 3;
@@ -0,0 +1,12 @@
+-- Migration: Herança de permissões resolvida na carga
+-- Descrição: A herança entre perfis passa a ser calculada pela aplicação a partir das
+--            concessões diretas de cada perfil e do hierarchy_level. As cópias herdadas
+--            gravadas pela V4 (granted_by_inheritance = TRUE) deixam de ser usadas e são
+--            removidas, para que alterações em um perfil inferior se propaguem aos superiores.
+--            A versão das permissões é incrementada, invalidando as sessões existentes.
+
+DELETE FROM profile_functionalities
+WHERE granted_by_inheritance = TRUE;
+
+UPDATE profiles
+SET permissions_version = permissions_version + 1;
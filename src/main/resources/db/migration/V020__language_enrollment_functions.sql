@@ -0,0 +1,117 @@
+-- =============================================================================
+-- Migration V020: Funções de enrollment de idiomas
+-- Matrícula e remoção de idiomas passam a ser executadas em uma única chamada ao
+-- banco. As funções bloqueiam a linha do usuário, serializando as alterações de
+-- idiomas do mesmo aluno, e aplicam limite, unicidade e promoção do idioma
+-- primário de forma atômica, sem a corrida entre verificação e escrita.
+-- =============================================================================
+
+-- Matricula um aluno em um idioma.
+-- Retorna uma linha com result_status = 'ENROLLED' e os dados do enrollment criado,
+-- ou com o motivo da recusa: USER_NOT_FOUND, LANGUAGE_NOT_FOUND, LANGUAGE_INACTIVE,
+-- ALREADY_ENROLLED ou LIMIT_REACHED.
+CREATE OR REPLACE FUNCTION enroll_student_language(
+    p_user_id UUID,
+    p_language_code VARCHAR,
+    p_cefr_level VARCHAR,
+    p_primary BOOLEAN,
+    p_max_languages INTEGER
+)
+RETURNS TABLE (
+    result_status VARCHAR,
+    enrollment_id UUID,
+    enrollment_primary BOOLEAN,
+    enrollment_enrolled_at TIMESTAMP WITH TIME ZONE,
+    language_name_pt VARCHAR,
+    language_name_en VARCHAR,
+    language_name_es VARCHAR
+) AS $$
+DECLARE
+    v_language languages%ROWTYPE;
+    v_count INTEGER;
+    v_exists BOOLEAN;
+BEGIN
+    PERFORM 1 FROM users u WHERE u.id = p_user_id FOR UPDATE;
+    IF NOT FOUND THEN
+        result_status := 'USER_NOT_FOUND';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    SELECT * INTO v_language FROM languages l WHERE l.code = p_language_code;
+    IF NOT FOUND THEN
+        result_status := 'LANGUAGE_NOT_FOUND';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+    IF NOT v_language.active THEN
+        result_status := 'LANGUAGE_INACTIVE';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*), COALESCE(BOOL_OR(e.language_code = p_language_code), FALSE)
+    INTO v_count, v_exists
+    FROM student_language_enrollments e
+    WHERE e.user_id = p_user_id;
+
+    IF v_exists THEN
+        result_status := 'ALREADY_ENROLLED';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+    IF v_count >= p_max_languages THEN
+        result_status := 'LIMIT_REACHED';
+        RETURN NEXT;
+        RETURN;
+    END IF;
+
+    -- Primeiro idioma é primário por padrão; o trigger remove o flag dos demais
+    INSERT INTO student_language_enrollments AS e (user_id, language_code, cefr_level, is_primary)
+    VALUES (p_user_id, p_language_code, p_cefr_level, p_primary OR v_count = 0)
+    RETURNING e.id, e.is_primary, e.enrolled_at
+    INTO enrollment_id, enrollment_primary, enrollment_enrolled_at;
+
+    result_status := 'ENROLLED';
+    language_name_pt := v_language.name_pt;
+    language_name_en := v_language.name_en;
+    language_name_es := v_language.name_es;
+    RETURN NEXT;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Remove a matrícula de um aluno em um idioma.
+-- Se o idioma removido era o primário, promove o idioma matriculado há mais tempo.
+-- Retorna FALSE se a matrícula não existir.
+CREATE OR REPLACE FUNCTION unenroll_student_language(
+    p_user_id UUID,
+    p_language_code VARCHAR
+)
+RETURNS BOOLEAN AS $$
+DECLARE
+    v_was_primary BOOLEAN;
+BEGIN
+    PERFORM 1 FROM users u WHERE u.id = p_user_id FOR UPDATE;
+
+    DELETE FROM student_language_enrollments e
+    WHERE e.user_id = p_user_id AND e.language_code = p_language_code
+    RETURNING e.is_primary INTO v_was_primary;
+
+    IF NOT FOUND THEN
+        RETURN FALSE;
+    END IF;
+
+    IF v_was_primary THEN
+        UPDATE student_language_enrollments
+        SET is_primary = TRUE
+        WHERE id = (
+            SELECT e.id FROM student_language_enrollments e
+            WHERE e.user_id = p_user_id
+            ORDER BY e.enrolled_at ASC, e.id ASC
+            LIMIT 1
+        );
+    END IF;
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
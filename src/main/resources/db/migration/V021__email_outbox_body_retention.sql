@@ -0,0 +1,14 @@
+-- Migration: Retenção do conteúdo da fila de saída de e-mails
+-- Descrição: O HTML das mensagens contém links de redefinição de senha e códigos de
+--            verificação em texto claro. O conteúdo passa a ser apagado quando a mensagem
+--            é entregue (SENT) ou descartada (DEAD), e mensagens finalizadas são removidas
+--            após o período de retenção pelo worker de envio.
+
+ALTER TABLE email_outbox
+    ALTER COLUMN html_body DROP NOT NULL;
+
+UPDATE email_outbox
+SET html_body = NULL
+WHERE status IN ('SENT', 'DEAD');
+
+COMMENT ON COLUMN email_outbox.html_body IS 'Conteúdo HTML; apagado quando a mensagem é finalizada (SENT ou DEAD)';
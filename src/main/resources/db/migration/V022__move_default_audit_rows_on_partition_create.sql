@@ -0,0 +1,46 @@
+-- Migration: Criação de partições de audit_logs com registros na partição padrão
+-- Descrição: Se o job de manutenção não rodar a tempo, registros de um mês sem partição caem em
+--            audit_logs_default. Depois disso, CREATE TABLE ... PARTITION OF para o mês falha,
+--            pois a partição padrão passaria a violar a faixa da nova partição. A função passa a
+--            criar a partição como tabela avulsa, mover para ela os registros do mês que estão na
+--            partição padrão e só então anexá-la.
+
+CREATE OR REPLACE FUNCTION create_audit_logs_partition(month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('audit_logs_y%sm%s', to_char(range_start, 'YYYY'), to_char(range_start, 'MM'));
+    moved_rows BIGINT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF to_regclass('audit_logs_default') IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            partition_name, range_start, range_end);
+        RETURN partition_name;
+    END IF;
+
+    -- Impede que novos registros do mês cheguem à partição padrão durante a movimentação
+    LOCK TABLE audit_logs_default IN ACCESS EXCLUSIVE MODE;
+
+    EXECUTE format('CREATE TABLE %I (LIKE audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM audit_logs_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+        || 'INSERT INTO %I SELECT * FROM moved',
+        range_start, range_end, partition_name);
+    GET DIAGNOSTICS moved_rows = ROW_COUNT;
+
+    EXECUTE format(
+        'ALTER TABLE audit_logs ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, range_start, range_end);
+
+    IF moved_rows > 0 THEN
+        RAISE WARNING 'Moved % rows from audit_logs_default to %', moved_rows, partition_name;
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,54 @@
+-- Rate limit por janela fixa: contador com expiração definida no primeiro consumo.
+-- KEYS[1] = contador da janela
+-- KEYS[2] = chave de bloqueio (lockout)
+-- ARGV[1] = limite de consumos por janela
+-- ARGV[2] = duração da janela em milissegundos
+-- ARGV[3] = quantidade a consumir (0 apenas consulta)
+-- ARGV[4] = duração do bloqueio ao esgotar o limite em milissegundos (0 sem bloqueio)
+-- ARGV[5] = consumos na janela antes de aplicar atraso progressivo
+-- ARGV[6] = atraso base em milissegundos, dobrado a cada consumo seguinte (0 sem atraso)
+-- Retorna {permitido (1/0), restantes, aguardar (ms), reinício da janela (ms)}.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3])
+local lockout = tonumber(ARGV[4])
+local delay_after = tonumber(ARGV[5])
+local delay_base = tonumber(ARGV[6])
+
+local locked = redis.call('PTTL', KEYS[2])
+if locked > 0 then
+    return {0, 0, locked, locked}
+end
+
+local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl < 0 then
+    ttl = window
+end
+
+if cost == 0 then
+    if count >= limit then
+        return {0, 0, ttl, ttl}
+    end
+    return {1, limit - count, 0, ttl}
+end
+
+if count + cost > limit then
+    return {0, math.max(limit - count, 0), ttl, ttl}
+end
+
+count = redis.call('INCRBY', KEYS[1], cost)
+-- Define a expiração também em contadores antigos sem TTL
+if count == cost or redis.call('PTTL', KEYS[1]) < 0 then
+    redis.call('PEXPIRE', KEYS[1], window)
+    ttl = window
+end
+
+local remaining = limit - count
+if remaining == 0 and lockout > 0 then
+    redis.call('SET', KEYS[2], '1', 'PX', lockout)
+elseif delay_base > 0 and limit - remaining > delay_after then
+    local delay = math.min(delay_base * 2 ^ (limit - remaining - delay_after - 1), window)
+    redis.call('SET', KEYS[2], '1', 'PX', math.floor(delay))
+end
+return {1, remaining, 0, ttl}
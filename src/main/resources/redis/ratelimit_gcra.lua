@@ -0,0 +1,55 @@
+-- Rate limit por GCRA (Generic Cell Rate Algorithm), equivalente a um token bucket:
+-- permite rajadas de até o limite e reabastece uma unidade a cada janela/limite.
+-- Armazena apenas o TAT (theoretical arrival time) em milissegundos.
+-- KEYS[1] = TAT
+-- KEYS[2] = chave de bloqueio (lockout)
+-- ARGV[1] = limite de consumos por janela (tamanho da rajada)
+-- ARGV[2] = duração da janela em milissegundos
+-- ARGV[3] = quantidade a consumir (0 apenas consulta)
+-- ARGV[4] = duração do bloqueio ao esgotar o limite em milissegundos (0 sem bloqueio)
+-- ARGV[5] = consumos na janela antes de aplicar atraso progressivo
+-- ARGV[6] = atraso base em milissegundos, dobrado a cada consumo seguinte (0 sem atraso)
+-- Retorna {permitido (1/0), restantes, aguardar (ms), reinício completo (ms)}.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3])
+local lockout = tonumber(ARGV[4])
+local delay_after = tonumber(ARGV[5])
+local delay_base = tonumber(ARGV[6])
+
+local locked = redis.call('PTTL', KEYS[2])
+if locked > 0 then
+    return {0, 0, locked, locked}
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local interval = window / limit
+
+local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+if tat < now then
+    tat = now
+end
+
+local new_tat = tat + interval * math.max(cost, 1)
+local allow_at = new_tat - window
+if now < allow_at then
+    local remaining = math.max(math.floor((now - (tat - window)) / interval), 0)
+    return {0, remaining, math.ceil(allow_at - now), math.ceil(tat - now)}
+end
+
+if cost == 0 then
+    return {1, math.floor((now - (tat - window)) / interval), 0, math.ceil(tat - now)}
+end
+
+local ttl = math.ceil(new_tat - now)
+redis.call('SET', KEYS[1], string.format('%.3f', new_tat), 'PX', ttl)
+
+local remaining = math.floor((now - allow_at) / interval)
+if remaining == 0 and lockout > 0 then
+    redis.call('SET', KEYS[2], '1', 'PX', lockout)
+elseif delay_base > 0 and limit - remaining > delay_after then
+    local delay = math.min(delay_base * 2 ^ (limit - remaining - delay_after - 1), window)
+    redis.call('SET', KEYS[2], '1', 'PX', math.floor(delay))
+end
+return {1, remaining, 0, ttl}
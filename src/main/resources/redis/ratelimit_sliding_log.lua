@@ -0,0 +1,60 @@
+-- Rate limit por janela deslizante: registra o instante de cada consumo em um sorted set.
+-- KEYS[1] = registro de consumos
+-- KEYS[2] = chave de bloqueio (lockout)
+-- ARGV[1] = limite de consumos por janela
+-- ARGV[2] = duração da janela em milissegundos
+-- ARGV[3] = quantidade a consumir (0 apenas consulta)
+-- ARGV[4] = duração do bloqueio ao esgotar o limite em milissegundos (0 sem bloqueio)
+-- ARGV[5] = consumos na janela antes de aplicar atraso progressivo
+-- ARGV[6] = atraso base em milissegundos, dobrado a cada consumo seguinte (0 sem atraso)
+-- Retorna {permitido (1/0), restantes, aguardar (ms), reinício da janela (ms)}.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3])
+local lockout = tonumber(ARGV[4])
+local delay_after = tonumber(ARGV[5])
+local delay_base = tonumber(ARGV[6])
+
+local locked = redis.call('PTTL', KEYS[2])
+if locked > 0 then
+    return {0, 0, locked, locked}
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+
+-- Tempo até o consumo mais antigo sair da janela
+local function oldest_expiry()
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    if #oldest == 0 then
+        return window
+    end
+    return tonumber(oldest[2]) + window - now
+end
+
+local requested = math.max(cost, 1)
+if count + requested > limit then
+    local retry = oldest_expiry()
+    return {0, math.max(limit - count, 0), retry, retry}
+end
+
+if cost == 0 then
+    return {1, limit - count, 0, oldest_expiry()}
+end
+
+for i = 1, cost do
+    redis.call('ZADD', KEYS[1], now, now .. '-' .. (count + i))
+end
+redis.call('PEXPIRE', KEYS[1], window)
+
+local remaining = limit - count - cost
+if remaining == 0 and lockout > 0 then
+    redis.call('SET', KEYS[2], '1', 'PX', lockout)
+elseif delay_base > 0 and limit - remaining > delay_after then
+    local delay = math.min(delay_base * 2 ^ (limit - remaining - delay_after - 1), window)
+    redis.call('SET', KEYS[2], '1', 'PX', math.floor(delay))
+end
+return {1, remaining, 0, oldest_expiry()}
@@ -0,0 +1,10 @@
+-- Remove uma sessão e a retira do índice de sessões do usuário de forma atômica.
+-- KEYS[1] = session:{token}
+-- KEYS[2] = user_sessions:{userId} (opcional)
+-- ARGV[1] = token
+-- Retorna 1 se a sessão existia, 0 caso contrário.
+local deleted = redis.call('DEL', KEYS[1])
+if #KEYS > 1 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+return deleted
@@ -0,0 +1,12 @@
+-- Remove todas as sessões de um usuário a partir do índice user_sessions:{userId}.
+-- KEYS[1] = user_sessions:{userId}
+-- ARGV[1] = prefixo das chaves de sessão (session:)
+-- Retorna o número de sessões removidas.
+-- As chaves de sessão são derivadas do índice; suportado apenas em Redis standalone.
+local tokens = redis.call('SMEMBERS', KEYS[1])
+local removed = 0
+for _, token in ipairs(tokens) do
+    removed = removed + redis.call('DEL', ARGV[1] .. token)
+end
+redis.call('DEL', KEYS[1])
+return removed
@@ -0,0 +1,13 @@
+-- Renova o TTL de uma sessão existente e do índice de sessões do usuário.
+-- KEYS[1] = session:{token}
+-- KEYS[2] = user_sessions:{userId} (opcional)
+-- ARGV[1] = TTL da sessão em milissegundos
+-- ARGV[2] = TTL do índice em milissegundos (tempo de vida do JWT)
+-- Retorna 1 se a sessão foi renovada, 0 se não existe.
+if redis.call('PEXPIRE', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+if #KEYS > 1 then
+    redis.call('PEXPIRE', KEYS[2], ARGV[2])
+end
+return 1
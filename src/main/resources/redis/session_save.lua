@@ -0,0 +1,11 @@
+-- Cria uma sessão e a registra no índice de sessões do usuário de forma atômica.
+-- KEYS[1] = session:{token}
+-- KEYS[2] = user_sessions:{userId}
+-- ARGV[1] = dados da sessão serializados
+-- ARGV[2] = TTL da sessão em milissegundos
+-- ARGV[3] = token
+-- ARGV[4] = TTL do índice em milissegundos
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+redis.call('SADD', KEYS[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+return 1
@@ -0,0 +1,187 @@
+package com.langia.backend.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.langia.backend.annotation.Auditable;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.AuditLog.AuditAction;
+import com.langia.backend.service.AuditService;
+import com.langia.backend.service.AuditSnapshotRegistry;
+
+/**
+ * Testes para o aspecto de auditoria de métodos anotados com @Auditable.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditAspectTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private AuditSnapshotRegistry auditSnapshotRegistry;
+
+    private AuditAspect aspect;
+    private AuditedOperations proxy;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new AuditAspect(auditService, auditSnapshotRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuditedOperations());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+
+        SessionData session = new SessionData();
+        session.setUserId(USER_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(session, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void deveUsarParametroInformadoEmEntityIdParam() {
+        UUID target = UUID.randomUUID();
+
+        proxy.update(UUID.randomUUID(), target.toString(), "novo");
+
+        verify(auditService).log(eq("ITEM"), eq(target), eq(AuditAction.UPDATE), isNull(), eq("novo"), eq(USER_ID));
+    }
+
+    @Test
+    void deveUsarEstadosDoCarregadorRegistrado() {
+        UUID target = UUID.randomUUID();
+        Map<String, Object> before = Map.of("name", "antigo");
+        Map<String, Object> after = Map.of("name", "novo");
+        when(auditSnapshotRegistry.loadPreImage("ITEM", target)).thenReturn(before);
+        when(auditSnapshotRegistry.supports("ITEM")).thenReturn(true);
+        when(auditSnapshotRegistry.loadCurrentState("ITEM", target)).thenReturn(after);
+
+        proxy.update(UUID.randomUUID(), target.toString(), "novo");
+
+        verify(auditService).log(eq("ITEM"), eq(target), eq(AuditAction.UPDATE), eq(before), eq(after),
+                eq(USER_ID));
+    }
+
+    @Test
+    void naoDeveCapturarEstadoAnteriorEmCreate() {
+        proxy.create("nome");
+
+        verify(auditSnapshotRegistry, never()).loadPreImage(any(), any());
+    }
+
+    @Test
+    void deveEncontrarIdPorNomeDoParametro() {
+        UUID itemId = UUID.randomUUID();
+
+        proxy.delete("motivo", itemId);
+
+        verify(auditService).log(eq("ITEM"), eq(itemId), eq(AuditAction.DELETE), isNull(), isNull(), eq(USER_ID));
+    }
+
+    @Test
+    void deveExtrairIdDoResultadoEmCreate() {
+        Item item = proxy.create("nome");
+
+        verify(auditService).log(eq("ITEM"), eq(item.getId()), eq(AuditAction.CREATE), isNull(), eq(item),
+                eq(USER_ID));
+    }
+
+    @Test
+    void naoDeveAuditarSemIdDaEntidade() {
+        proxy.createWithoutId("nome");
+
+        verify(auditService, never()).log(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void deveRegistrarUsuarioNuloSemAutenticacao() {
+        SecurityContextHolder.clearContext();
+        UUID itemId = UUID.randomUUID();
+
+        proxy.delete("motivo", itemId);
+
+        verify(auditService).log(eq("ITEM"), eq(itemId), eq(AuditAction.DELETE), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void deveAnalisarMetodoApenasUmaVez() throws Exception {
+        Method method = AuditedOperations.class.getMethod("delete", String.class, UUID.class);
+        Auditable auditable = method.getAnnotation(Auditable.class);
+
+        AuditMethodMetadata first = aspect.metadataFor(method, auditable);
+
+        assertSame(first, aspect.metadataFor(method, auditable));
+        assertNull(first.entityId(new Object[] {"motivo", null}));
+        assertEquals(USER_ID, first.entityId(new Object[] {"motivo", USER_ID}));
+    }
+
+    static class AuditedOperations {
+
+        @Auditable(entityType = "ITEM", action = AuditAction.UPDATE, entityIdParam = "targetId")
+        public String update(UUID ownerId, String targetId, String value) {
+            return value;
+        }
+
+        @Auditable(entityType = "ITEM", action = AuditAction.DELETE)
+        public void delete(String reason, UUID itemId) {
+        }
+
+        @Auditable(entityType = "ITEM", action = AuditAction.CREATE)
+        public Item create(String name) {
+            return new Item(UUID.randomUUID(), name);
+        }
+
+        @Auditable(entityType = "ITEM", action = AuditAction.CREATE)
+        public String createWithoutId(String name) {
+            return name;
+        }
+    }
+
+    public static class Item {
+
+        private final UUID id;
+        private final String name;
+
+        Item(UUID id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
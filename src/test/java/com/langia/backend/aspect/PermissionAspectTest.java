@@ -0,0 +1,142 @@
+package com.langia.backend.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.langia.backend.annotation.RequiresPermission;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrix;
+import com.langia.backend.util.PermissionMatrix.ProfileGrants;
+import com.langia.backend.util.PermissionMatrixFixtures;
+
+/**
+ * Testes para o aspecto de verificação de métodos anotados com @RequiresPermission.
+ */
+class PermissionAspectTest {
+
+    private PermissionMapper permissionMapper;
+    private PermissionAspect aspect;
+    private ProtectedOperations proxy;
+
+    @BeforeEach
+    void setUp() {
+        permissionMapper = PermissionMatrixFixtures.mapper();
+        aspect = new PermissionAspect(permissionMapper);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ProtectedOperations());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void devePermitirQuandoPerfilPossuiPermissaoDaClasse() {
+        authenticate(UserProfile.STUDENT);
+
+        assertEquals("view", proxy.view());
+    }
+
+    @Test
+    void deveNegarQuandoPerfilNaoPossuiPermissaoDoMetodo() {
+        authenticate(UserProfile.STUDENT);
+
+        assertThrows(AccessDeniedException.class, () -> proxy.manageUsers());
+    }
+
+    @Test
+    void devePermitirQuandoPerfilPossuiTodasAsPermissoes() {
+        authenticate(UserProfile.ADMIN);
+
+        assertEquals("manage", proxy.manageUsers());
+    }
+
+    @Test
+    void devePermitirQuandoPerfilPossuiAlgumaDasPermissoes() {
+        authenticate(UserProfile.TEACHER);
+
+        assertEquals("grade", proxy.gradeOrManage());
+    }
+
+    @Test
+    void deveNegarSemSessaoAutenticada() {
+        assertThrows(AccessDeniedException.class, () -> proxy.view());
+    }
+
+    @Test
+    void deveNegarPermissaoDesconhecida() {
+        authenticate(UserProfile.ADMIN);
+
+        assertThrows(AccessDeniedException.class, () -> proxy.unknown());
+    }
+
+    @Test
+    void deveRecompilarQuandoPermissaoDesconhecidaPassaAExistir() throws Exception {
+        authenticate(UserProfile.ADMIN);
+        assertThrows(AccessDeniedException.class, () -> proxy.unknown());
+
+        permissionMapper.setMatrix(permissionMapper.getMatrix().apply(
+                Map.of(UserProfile.ADMIN, new ProfileGrants(4, List.of("new_permission", "manage_users"))),
+                EnumSet.allOf(UserProfile.class)));
+
+        assertEquals("unknown", proxy.unknown());
+    }
+
+    @Test
+    void deveReaproveitarExigenciaCompilada() throws Exception {
+        PermissionMatrix matrix = permissionMapper.getMatrix();
+
+        PermissionRequirement first = aspect.requirementFor(ProtectedOperations.class.getMethod("view"), matrix);
+        PermissionRequirement second = aspect.requirementFor(ProtectedOperations.class.getMethod("view"), matrix);
+
+        assertSame(first, second);
+    }
+
+    private static void authenticate(UserProfile profile) {
+        SessionData session = new SessionData();
+        session.setProfile(profile);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(session, null, List.of()));
+    }
+
+    @RequiresPermission("view_profile")
+    static class ProtectedOperations {
+
+        public String view() {
+            return "view";
+        }
+
+        @RequiresPermission({"manage_users", "view_audit_logs"})
+        public String manageUsers() {
+            return "manage";
+        }
+
+        @RequiresPermission(value = {"grade_exercises", "manage_users"}, anyOf = true)
+        public String gradeOrManage() {
+            return "grade";
+        }
+
+        @RequiresPermission("new_permission")
+        public String unknown() {
+            return "unknown";
+        }
+    }
+}
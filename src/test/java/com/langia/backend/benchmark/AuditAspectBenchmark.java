@@ -0,0 +1,169 @@
+package com.langia.backend.benchmark;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.langia.backend.annotation.Auditable;
+import com.langia.backend.aspect.AuditMethodMetadata;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.AuditLog.AuditAction;
+
+/**
+ * Compara o custo por chamada da extração de dados de auditoria do AuditAspect:
+ * análise por reflexão a cada chamada (implementação anterior) e metadados
+ * pré-calculados por método. Resultado em nanossegundos por chamada.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.langia.backend.benchmark.AuditAspectBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditAspectBenchmark {
+
+    private Method method;
+    private Auditable auditable;
+    private AuditMethodMetadata metadata;
+    private Object[] args;
+    private Object result;
+    private SessionData principal;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = AuditedService.class.getMethod("updateItem", String.class, Integer.class, UUID.class);
+        auditable = method.getAnnotation(Auditable.class);
+        metadata = AuditMethodMetadata.of(method, auditable);
+        args = new Object[] {"descrição", 3, UUID.randomUUID()};
+        result = new Item(UUID.randomUUID());
+        principal = new SessionData();
+        principal.setUserId(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public void reflectionPerCall(Blackhole blackhole) {
+        blackhole.consume(LegacyExtraction.entityId(method, auditable, args));
+        blackhole.consume(LegacyExtraction.idFromResult(result));
+        blackhole.consume(LegacyExtraction.userId(principal));
+    }
+
+    @Benchmark
+    public void precomputedMetadata(Blackhole blackhole) {
+        blackhole.consume(metadata.entityId(args));
+        blackhole.consume(AuditMethodMetadata.resultId(result));
+        blackhole.consume(principal.getUserId());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditAspectBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Extração por reflexão a cada chamada, como no AuditAspect antes dos metadados pré-calculados.
+     */
+    static final class LegacyExtraction {
+
+        private LegacyExtraction() {
+        }
+
+        static UUID entityId(Method method, Auditable auditable, Object[] args) {
+            Parameter[] parameters = method.getParameters();
+            String entityIdParam = auditable.entityIdParam();
+            if (!entityIdParam.isEmpty()) {
+                for (int i = 0; i < parameters.length; i++) {
+                    if (parameters[i].getName().equals(entityIdParam)) {
+                        return toUUID(args[i]);
+                    }
+                }
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                String paramName = parameters[i].getName().toLowerCase();
+                if (paramName.equals("id") || paramName.equals("entityid")
+                        || paramName.equals("userid") || paramName.endsWith("id")) {
+                    UUID uuid = toUUID(args[i]);
+                    if (uuid != null) {
+                        return uuid;
+                    }
+                }
+            }
+            for (Object arg : args) {
+                if (arg instanceof UUID uuid) {
+                    return uuid;
+                }
+            }
+            return null;
+        }
+
+        static UUID idFromResult(Object result) {
+            try {
+                return toUUID(result.getClass().getMethod("getId").invoke(result));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        static UUID userId(Object principal) {
+            try {
+                return toUUID(principal.getClass().getMethod("getId").invoke(principal));
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private static UUID toUUID(Object value) {
+            if (value instanceof UUID uuid) {
+                return uuid;
+            }
+            if (value instanceof String text) {
+                try {
+                    return UUID.fromString(text);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static class AuditedService {
+
+        @Auditable(entityType = "ITEM", action = AuditAction.UPDATE)
+        public Item updateItem(String description, Integer quantity, UUID itemId) {
+            return new Item(itemId);
+        }
+    }
+
+    public static class Item {
+
+        private final UUID id;
+
+        Item(UUID id) {
+            this.id = id;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+    }
+}
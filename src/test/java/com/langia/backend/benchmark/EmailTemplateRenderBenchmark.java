@@ -0,0 +1,88 @@
+package com.langia.backend.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.langia.backend.service.EmailTemplateRenderer;
+
+/**
+ * Compara a renderização pré-compilada de emails com o processamento completo pelo Thymeleaf.
+ * Resultado em renderizações por segundo.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.langia.backend.benchmark.EmailTemplateRenderBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateRenderBenchmark {
+
+    private static final String TEMPLATE = "email/password-reset-email";
+
+    private EmailTemplateRenderer renderer;
+    private SpringTemplateEngine templateEngine;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EmailTemplateRenderer(templateEngine, "LangIA", "suporte@langia.com");
+        renderer.precompile(TEMPLATE, List.of("userName", "resetLink", "expirationTime"));
+
+        variables = new HashMap<>();
+        variables.put("userName", "Maria Aparecida dos Santos");
+        variables.put("resetLink", "https://langia.com/reset-password?token=3f9a1c0e7b2d4e6f8a0b1c2d3e4f5a6b");
+        variables.put("expirationTime", "30 minutos");
+    }
+
+    @Benchmark
+    public String renderThymeleaf() {
+        Context context = new Context(Locale.getDefault());
+        context.setVariable("platformName", "LangIA");
+        context.setVariable("supportEmail", "suporte@langia.com");
+        variables.forEach(context::setVariable);
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    @Benchmark
+    public String renderPrecompiled() {
+        return renderer.render(TEMPLATE, variables);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateRenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
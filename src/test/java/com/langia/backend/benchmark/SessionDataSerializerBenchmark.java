@@ -0,0 +1,85 @@
+package com.langia.backend.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.langia.backend.config.SessionDataRedisSerializer;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Compara o serializador binário de sessões com o serializador JSON anterior.
+ *
+ * Execução: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.langia.backend.benchmark.SessionDataSerializerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionDataSerializerBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final SessionDataRedisSerializer binarySerializer = new SessionDataRedisSerializer();
+
+    private SessionData session;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        session = SessionData.builder()
+                .userId(UUID.randomUUID())
+                .name("Maria Aparecida dos Santos")
+                .email("maria.santos@example.com")
+                .profile(UserProfile.ADMIN)
+                .permissionsVersion(1)
+                .createdAt(System.currentTimeMillis())
+                .build();
+        jsonBytes = jsonSerializer.serialize(session);
+        binaryBytes = binarySerializer.serialize(session);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(session);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(session);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public SessionData deserializeBinary() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SessionDataSerializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
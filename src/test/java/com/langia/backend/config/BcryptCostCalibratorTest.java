@@ -0,0 +1,39 @@
+package com.langia.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes da calibração de custo do BCrypt.
+ */
+class BcryptCostCalibratorTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void deveEscolherMaiorCustoDentroDoAlvo() {
+        // 60ms no custo 10: 120ms (11), 240ms (12), 480ms (13)
+        assertEquals(12, BcryptCostCalibrator.chooseCost(10, 60 * MS, 250 * MS, 10, 14));
+    }
+
+    @Test
+    void deveRespeitarCustoMinimoEmHardwareLento() {
+        assertEquals(10, BcryptCostCalibrator.chooseCost(10, 400 * MS, 250 * MS, 10, 14));
+    }
+
+    @Test
+    void deveRespeitarCustoMaximoEmHardwareRapido() {
+        assertEquals(14, BcryptCostCalibrator.chooseCost(10, MS, 250 * MS, 10, 14));
+    }
+
+    @Test
+    void deveCalibrarNoHardwareAtual() {
+        int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(1), 4, 6);
+
+        assertTrue(cost >= 4 && cost <= 6);
+    }
+}
@@ -0,0 +1,152 @@
+package com.langia.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.langia.backend.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do BoundedPasswordEncoder.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void deveDelegarEncodeEMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), properties(2, 4), meterRegistry);
+
+        String hash = encoder.encode("Senha@123");
+
+        assertNotEquals("Senha@123", hash);
+        assertTrue(encoder.matches("Senha@123", hash));
+        assertFalse(encoder.matches("outra", hash));
+        assertEquals(1, meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing.queue.wait").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void deveRejeitarImediatamenteQuandoFilaCheia() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), properties(1, 1), meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+
+        // Ocupa a única thread e a única posição da fila
+        Future<String> running = callers.submit(() -> encoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("b"));
+        waitForQueueSize(1);
+
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> encoder.encode("c"));
+
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hash-a", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash-b", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void deveFalharRapidoQuandoHashExcedeTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordHashingProperties properties = properties(1, 1);
+        properties.setTimeout(Duration.ofMillis(100));
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), properties, meterRegistry);
+
+        long start = System.nanoTime();
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+                () -> encoder.encode("a"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.timeouts").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void devePropagarExcecaoDoEncoderDelegado() {
+        PasswordEncoder failing = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("rawPassword cannot be null");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(failing, properties(1, 1), meterRegistry);
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < expected) {
+            assertTrue(System.currentTimeMillis() < deadline, "Operação não entrou na fila");
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.langia.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Testes do encoder com prefixo de algoritmo criado pelo PasswordEncoderConfig.
+ */
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "Senha@123";
+
+    @Test
+    void deveGravarHashComPrefixoBcrypt() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(5);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches(PASSWORD, hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void deveAceitarHashLegadoSemPrefixoESolicitarAtualizacao() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(5);
+        String legacyHash = new BCryptPasswordEncoder(5).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, legacyHash));
+        assertFalse(encoder.matches("outra", legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void deveSolicitarAtualizacaoDeHashComCustoMenor() {
+        String weakHash = PasswordEncoderConfig.delegatingEncoder(4).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(6);
+
+        assertTrue(encoder.matches(PASSWORD, weakHash));
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode(PASSWORD)));
+    }
+}
@@ -0,0 +1,112 @@
+package com.langia.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Testes para o serializador binário de sessões.
+ */
+class SessionDataRedisSerializerTest {
+
+    private SessionDataRedisSerializer serializer;
+    private SessionData session;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new SessionDataRedisSerializer();
+        session = SessionData.builder()
+                .userId(UUID.randomUUID())
+                .name("José da Silva")
+                .email("jose@example.com")
+                .profile(UserProfile.TEACHER)
+                .permissionsVersion(1)
+                .createdAt(System.currentTimeMillis())
+                .build();
+    }
+
+    @Test
+    void deveSerializarEDesserializarTodosOsCampos() {
+        SessionData result = serializer.deserialize(serializer.serialize(session));
+
+        assertEquals(session, result);
+    }
+
+    @Test
+    void deveManterCamposNulos() {
+        SessionData parcial = SessionData.builder()
+                .userId(UUID.randomUUID())
+                .build();
+
+        SessionData result = serializer.deserialize(serializer.serialize(parcial));
+
+        assertEquals(parcial, result);
+        assertNull(result.getPermissionsVersion());
+        assertNull(result.getCreatedAt());
+    }
+
+    @Test
+    void deveLerSessaoGravadaEmJson() {
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(session);
+
+        SessionData result = serializer.deserialize(json);
+
+        assertEquals(session, result);
+    }
+
+    @Test
+    void deveLerSessaoAntigaEmJsonComPermissoes() {
+        String json = "{\"@class\":\"com.langia.backend.dto.SessionData\","
+                + "\"userId\":\"" + session.getUserId() + "\",\"email\":\"jose@example.com\","
+                + "\"profile\":\"TEACHER\",\"permissions\":[\"java.util.ImmutableCollections$SetN\",[\"view_courses\"]]}";
+
+        SessionData result = serializer.deserialize(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(session.getUserId(), result.getUserId());
+        assertEquals(UserProfile.TEACHER, result.getProfile());
+    }
+
+    @Test
+    void deveGerarFormatoMenorQueJson() {
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(session);
+        byte[] binary = serializer.serialize(session);
+
+        assertTrue(binary.length * 3 < json.length,
+                "Binário (" + binary.length + ") deveria ser bem menor que JSON (" + json.length + ")");
+    }
+
+    @Test
+    void deveRetornarNullParaEntradaVazia() {
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    void deveRejeitarVersaoDesconhecida() {
+        byte[] bytes = serializer.serialize(session);
+        bytes[1] = 99;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    @Test
+    void deveRejeitarEntradaTruncada() {
+        byte[] bytes = serializer.serialize(session);
+        byte[] truncado = Arrays.copyOf(bytes, bytes.length - 5);
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(truncado));
+    }
+}
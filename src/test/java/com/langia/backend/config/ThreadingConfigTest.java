@@ -0,0 +1,28 @@
+package com.langia.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Testes para a configuração do modelo de threads.
+ */
+class ThreadingConfigTest {
+
+    @Test
+    void naoDeveAtivarVirtualThreadsPorPadrao() {
+        assertFalse(ThreadingConfig.isVirtualThreadsActive(new MockEnvironment()));
+    }
+
+    @Test
+    void deveAtivarVirtualThreadsSomenteEmJava21OuSuperior() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(ThreadingConfig.VIRTUAL_THREADS_PROPERTY, "true");
+
+        boolean java21 = JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+        assertEquals(java21, ThreadingConfig.isVirtualThreadsActive(environment));
+    }
+}
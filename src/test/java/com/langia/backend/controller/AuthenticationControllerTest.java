@@ -1,9 +1,11 @@
 package com.langia.backend.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,6 +28,7 @@ import com.langia.backend.dto.LoginRequestDTO;
 import com.langia.backend.dto.LoginResponseDTO;
 import com.langia.backend.dto.SessionData;
 import com.langia.backend.exception.InvalidCredentialsException;
+import com.langia.backend.exception.RateLimitExceededException;
 import com.langia.backend.model.UserProfile;
 import com.langia.backend.service.AuthenticationService;
 import com.langia.backend.util.TokenExtractor;
@@ -82,7 +85,7 @@ class AuthenticationControllerTest {
                 .name("Test User")
                 .email("test@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(permissions)
+                .permissionsVersion(1)
                 .createdAt(System.currentTimeMillis())
                 .build();
 
@@ -99,7 +102,7 @@ class AuthenticationControllerTest {
     @Test
     void deveRealizarLoginComSucesso() throws Exception {
         // Arrange
-        when(authenticationService.login(any(LoginRequestDTO.class))).thenReturn(loginResponse);
+        when(authenticationService.login(any(LoginRequestDTO.class), anyString())).thenReturn(loginResponse);
 
         // Act & Assert
         mockMvc.perform(post("/api/auth/login")
@@ -118,7 +121,7 @@ class AuthenticationControllerTest {
     @Test
     void deveRetornar401ParaCredenciaisInvalidas() throws Exception {
         // Arrange
-        when(authenticationService.login(any(LoginRequestDTO.class)))
+        when(authenticationService.login(any(LoginRequestDTO.class), anyString()))
                 .thenThrow(new InvalidCredentialsException());
 
         // Act & Assert
@@ -129,6 +132,20 @@ class AuthenticationControllerTest {
                 .andExpect(jsonPath("$.message").value("Invalid credentials"));
     }
 
+    @Test
+    void deveRetornar429ComRetryAfterQuandoLoginLimitado() throws Exception {
+        // Arrange
+        when(authenticationService.login(any(LoginRequestDTO.class), anyString()))
+                .thenThrow(new RateLimitExceededException(120));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "120"));
+    }
+
     @Test
     void deveRetornar400ParaEmailInvalido() throws Exception {
         // Arrange
@@ -168,7 +185,7 @@ class AuthenticationControllerTest {
     @Test
     void deveRetornar500ParaErroInesperado() throws Exception {
         // Arrange
-        when(authenticationService.login(any(LoginRequestDTO.class)))
+        when(authenticationService.login(any(LoginRequestDTO.class), anyString()))
                 .thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
@@ -236,6 +253,7 @@ class AuthenticationControllerTest {
         // Arrange
         when(tokenExtractor.extractFromRequest(any(HttpServletRequest.class))).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(sessionData);
+        when(authenticationService.getPermissions(sessionData)).thenReturn(loginResponse.getPermissions());
 
         // Act & Assert
         mockMvc.perform(get("/api/auth/validate")
@@ -244,7 +262,9 @@ class AuthenticationControllerTest {
                 .andExpect(jsonPath("$.valid").value(true))
                 .andExpect(jsonPath("$.session.userId").value(sessionData.getUserId().toString()))
                 .andExpect(jsonPath("$.session.email").value(sessionData.getEmail()))
-                .andExpect(jsonPath("$.session.profile").value(sessionData.getProfile().toString()));
+                .andExpect(jsonPath("$.session.profile").value(sessionData.getProfile().toString()))
+                .andExpect(jsonPath("$.session.permissions").isArray())
+                .andExpect(jsonPath("$.session.permissions.length()").value(3));
     }
 
     @Test
@@ -3,13 +3,13 @@ package com.langia.backend.filter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +28,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import com.langia.backend.dto.SessionData;
 import com.langia.backend.model.UserProfile;
 import com.langia.backend.service.AuthenticationService;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrixFixtures;
 import com.langia.backend.util.TokenExtractor;
 
 /**
@@ -42,6 +44,8 @@ class JwtAuthenticationFilterTest {
     @Mock
     private TokenExtractor tokenExtractor;
 
+    private final PermissionMapper permissionMapper = PermissionMatrixFixtures.mapper();
+
     @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -65,7 +69,7 @@ class JwtAuthenticationFilterTest {
                 .name("Test User")
                 .email("test@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(Set.of("view_courses", "view_lessons"))
+                .permissionsVersion(1)
                 .createdAt(System.currentTimeMillis())
                 .build();
 
@@ -81,12 +85,15 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Assert
         verify(authenticationService).validateSession(validToken);
+        verify(authenticationService).markSessionActivity(validToken);
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth);
         assertNotNull(auth.getPrincipal());
@@ -144,6 +151,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -189,6 +198,7 @@ class JwtAuthenticationFilterTest {
 
         // Assert
         verify(authenticationService).validateSession(expiredToken);
+        verify(authenticationService, never()).markSessionActivity(anyString());
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNull(auth);
     }
@@ -201,6 +211,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -272,6 +284,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -290,6 +304,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -308,6 +324,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -373,10 +391,11 @@ class JwtAuthenticationFilterTest {
     @Test
     void deveMappearPermissoesParaGrantedAuthorities() throws Exception {
         // Arrange
-        validSessionData.setPermissions(Set.of("view_courses", "view_lessons", "submit_exercises"));
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -385,9 +404,9 @@ class JwtAuthenticationFilterTest {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth);
         assertNotNull(auth.getAuthorities());
-        assertEquals(3, auth.getAuthorities().size());
+        assertEquals(7, auth.getAuthorities().size());
 
-        // Verifica que todas as permissões foram convertidas para GrantedAuthority
+        // Verifica que as permissões do perfil foram convertidas para GrantedAuthority
         var authorityNames = auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .toList();
@@ -400,10 +419,12 @@ class JwtAuthenticationFilterTest {
     @Test
     void deveInjetarAuthoritiesVaziaQuandoSemPermissoes() throws Exception {
         // Arrange
-        validSessionData.setPermissions(null); // Sem permissões
+        validSessionData.setProfile(null); // Sem perfil, sem permissões
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -418,15 +439,13 @@ class JwtAuthenticationFilterTest {
     @Test
     void deveMappearPermissoesDiferentesPorPerfil() throws Exception {
         // Arrange - Perfil ADMIN com mais permissões
-        Set<String> adminPermissions = Set.of(
-                "view_courses", "create_courses", "manage_users", "view_system_stats"
-        );
         validSessionData.setProfile(UserProfile.ADMIN);
-        validSessionData.setPermissions(adminPermissions);
 
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -434,7 +453,7 @@ class JwtAuthenticationFilterTest {
         // Assert
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(auth);
-        assertEquals(4, auth.getAuthorities().size());
+        assertEquals(23, auth.getAuthorities().size());
 
         var authorityNames = auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -447,10 +466,12 @@ class JwtAuthenticationFilterTest {
     @Test
     void devePermitirAuthorizationComAuthorities() throws Exception {
         // Arrange
-        validSessionData.setPermissions(Set.of("manage_users"));
+        validSessionData.setProfile(UserProfile.ADMIN);
         request.addHeader("Authorization", "Bearer " + validToken);
         when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
         when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -465,4 +486,25 @@ class JwtAuthenticationFilterTest {
 
         assertTrue(hasManageUsersAuthority, "Deve ter a authority 'manage_users'");
     }
+
+    @Test
+    void deveReutilizarAuthoritiesDoPerfilEntreRequisicoes() throws Exception {
+        // Arrange
+        when(tokenExtractor.extractFromRequest(request)).thenReturn(validToken);
+        when(authenticationService.validateSession(validToken)).thenReturn(validSessionData);
+        when(authenticationService.getAuthorities(validSessionData))
+                .thenAnswer(inv -> permissionMapper.getAuthoritiesForProfile(validSessionData.getProfile()));
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        var firstAuthorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, new MockFilterChain());
+        var secondAuthorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+
+        // Assert
+        assertEquals(firstAuthorities, secondAuthorities);
+        assertSame(permissionMapper.getAuthoritiesForProfile(UserProfile.STUDENT),
+                permissionMapper.getAuthoritiesForProfile(UserProfile.STUDENT));
+    }
 }
@@ -0,0 +1,310 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langia.backend.config.AuditProperties;
+import com.langia.backend.dto.AuditEvent;
+import com.langia.backend.model.AuditLog.AuditAction;
+import com.langia.backend.model.AuditLog.ValueFormat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para a gravação em lote de eventos de auditoria.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.getWriter().setFlushIntervalMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarImediatamenteNoModoSync() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        writer = createWriter();
+
+        writer.submit(event(null, new Value("novo")));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), rows.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        Object[] row = rows.getValue().get(0);
+        assertEquals("USER", row[1]);
+        assertEquals("UPDATE", row[3]);
+        assertNull(row[4]);
+        assertEquals("{\"name\":\"novo\"}", row[5]);
+        assertEquals(1.0, meterRegistry.counter("audit.events.written").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarSnapshotNoPrimeiroUpdateEPatchNosSeguintes() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        writer = createWriter();
+        UUID entityId = UUID.randomUUID();
+
+        writer.submit(event(entityId, new Value("a"), new Value("b")));
+        writer.submit(event(entityId, new Value("b"), new Value("c")));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), rows.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        Object[] snapshot = rows.getAllValues().get(0).get(0);
+        assertEquals("{\"name\":\"a\"}", snapshot[4]);
+        assertEquals("SNAPSHOT", snapshot[10]);
+        Object[] patch = rows.getAllValues().get(1).get(0);
+        assertNull(patch[4]);
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"c\"}]", patch[5]);
+        assertEquals("JSON_PATCH", patch[10]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarNovoSnapshotAposIntervaloConfigurado() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        properties.getWriter().setSnapshotInterval(1);
+        writer = createWriter();
+        UUID entityId = UUID.randomUUID();
+
+        writer.submit(event(entityId, new Value("a"), new Value("b")));
+        writer.submit(event(entityId, new Value("b"), new Value("c")));
+        writer.submit(event(entityId, new Value("c"), new Value("d")));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), rows.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals("SNAPSHOT", rows.getAllValues().get(0).get(0)[10]);
+        assertEquals("JSON_PATCH", rows.getAllValues().get(1).get(0)[10]);
+        assertEquals("SNAPSHOT", rows.getAllValues().get(2).get(0)[10]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarSnapshotQuandoFormatoConfigurado() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        properties.getWriter().setValueFormat(ValueFormat.SNAPSHOT);
+        writer = createWriter();
+        UUID entityId = UUID.randomUUID();
+
+        writer.submit(event(entityId, new Value("a"), new Value("b")));
+        writer.submit(event(entityId, new Value("b"), new Value("c")));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), rows.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        Object[] second = rows.getAllValues().get(1).get(0);
+        assertEquals("{\"name\":\"b\"}", second[4]);
+        assertEquals("SNAPSHOT", second[10]);
+    }
+
+    @Test
+    void deveGravarLoteQuandoAtingeOTamanhoConfigurado() {
+        properties.getWriter().setBatchSize(3);
+        writer = createWriter();
+
+        writer.submit(event(null, null));
+        writer.submit(event(null, null));
+        writer.submit(event(null, null));
+
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyCollection(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(3.0, meterRegistry.counter("audit.events.enqueued").count());
+    }
+
+    @Test
+    void deveGravarEventosPendentesAoEncerrar() {
+        writer = createWriter();
+        writer.submit(event(null, null));
+        writer.submit(event(null, null));
+
+        writer.stop();
+
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyCollection(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, writer.queueSize());
+    }
+
+    @Test
+    void deveDescartarEventoComFilaCheiaQuandoPoliticaDrop() {
+        properties.getWriter().setQueueCapacity(1);
+        properties.getWriter().setOverflow(AuditProperties.OverflowPolicy.DROP);
+        writer = createWriter();
+
+        writer.submit(event(null, null));
+        writer.submit(event(null, null));
+
+        writer.stop();
+
+        assertEquals(1.0, meterRegistry.counter("audit.events.dropped").count());
+        assertEquals(1.0, meterRegistry.counter("audit.events.written").count());
+    }
+
+    @Test
+    void deveGravarNaThreadChamadoraComFilaCheia() {
+        properties.getWriter().setQueueCapacity(1);
+        writer = createWriter();
+
+        writer.submit(event(null, null));
+        writer.submit(event(null, null));
+
+        assertEquals(1.0, meterRegistry.counter("audit.events.caller_runs").count());
+        verify(jdbcTemplate).batchUpdate(eq(AuditLogWriter.INSERT_SQL), anyCollection(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void deveContabilizarFalhaDeGravacao() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        writer = createWriter();
+        when(jdbcTemplate.batchUpdate(any(String.class), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenThrow(new RuntimeException("DB error"));
+
+        writer.submit(event(null, null));
+
+        assertEquals(1.0, meterRegistry.counter("audit.events.failed").count());
+        assertEquals(0.0, meterRegistry.counter("audit.events.written").count());
+    }
+
+    @Test
+    void deveManterRegistroQuandoTransacaoDoChamadorEDesfeita() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        try {
+            JdbcTemplate realJdbcTemplate = new JdbcTemplate(database);
+            realJdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY)");
+            realJdbcTemplate.execute("CREATE TABLE audit_logs (id UUID PRIMARY KEY, entity_type VARCHAR(100), "
+                    + "entity_id UUID, action VARCHAR(20), old_value VARCHAR(4000), new_value VARCHAR(4000), "
+                    + "user_id UUID, ip_address VARCHAR(45), user_agent VARCHAR(500), created_at TIMESTAMP, "
+                    + "value_format VARCHAR(20))");
+            DataSourceTransactionManager realTransactionManager = new DataSourceTransactionManager(database);
+            writer = new AuditLogWriter(realJdbcTemplate, realTransactionManager, new ObjectMapper(), properties,
+                    meterRegistry);
+            writer.start();
+
+            new TransactionTemplate(realTransactionManager).executeWithoutResult(status -> {
+                realJdbcTemplate.update("INSERT INTO users (id) VALUES (?)", UUID.randomUUID());
+                writer.submit(event(null, null));
+                status.setRollbackOnly();
+            });
+
+            assertEquals(0, realJdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+            assertEquals(1, realJdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Integer.class));
+            assertEquals(1.0, meterRegistry.counter("audit.events.written").count());
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    void naoDeveAfetarTransacaoDoChamadorQuandoGravacaoFalha() {
+        properties.getWriter().setMode(AuditProperties.WriteMode.SYNC);
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        try {
+            JdbcTemplate realJdbcTemplate = new JdbcTemplate(database);
+            realJdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY)");
+            DataSourceTransactionManager realTransactionManager = new DataSourceTransactionManager(database);
+            writer = new AuditLogWriter(realJdbcTemplate, realTransactionManager, new ObjectMapper(), properties,
+                    meterRegistry);
+            writer.start();
+
+            // Sem a tabela audit_logs a gravação falha; a transação do chamador deve ser confirmada
+            new TransactionTemplate(realTransactionManager).executeWithoutResult(status -> {
+                realJdbcTemplate.update("INSERT INTO users (id) VALUES (?)", UUID.randomUUID());
+                writer.submit(event(null, null));
+                assertFalse(status.isRollbackOnly());
+            });
+
+            assertEquals(1, realJdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+            assertEquals(1.0, meterRegistry.counter("audit.events.failed").count());
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    private AuditLogWriter createWriter() {
+        AuditLogWriter auditLogWriter = new AuditLogWriter(jdbcTemplate, transactionManager, new ObjectMapper(),
+                properties, meterRegistry);
+        auditLogWriter.start();
+        return auditLogWriter;
+    }
+
+    private static AuditEvent event(Object oldValue, Object newValue) {
+        return event(UUID.randomUUID(), oldValue, newValue);
+    }
+
+    private static AuditEvent event(UUID entityId, Object oldValue, Object newValue) {
+        return AuditEvent.builder()
+                .entityType("USER")
+                .entityId(entityId)
+                .action(AuditAction.UPDATE)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .userId(UUID.randomUUID())
+                .ipAddress("127.0.0.1")
+                .userAgent("JUnit")
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    record Value(String name) {
+    }
+}
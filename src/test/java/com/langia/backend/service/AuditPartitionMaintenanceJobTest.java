@@ -0,0 +1,138 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.langia.backend.config.AuditProperties;
+
+/**
+ * Testes para a manutenção das partições de auditoria.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionMaintenanceJobTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 3);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditProperties properties;
+    private AuditPartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.getPartitioning().setMonthsAhead(2);
+        properties.getPartitioning().setRetentionMonths(3);
+        job = new AuditPartitionMaintenanceJob(jdbcTemplate, transactionManager, properties);
+    }
+
+    @Test
+    void deveCriarParticoesDoMesCorrenteEDosProximosMeses() {
+        job.ensurePartitions(CURRENT);
+
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 3, 1));
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 4, 1));
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 5, 1));
+    }
+
+    @Test
+    void deveContinuarCriandoParticoesQuandoUmMesFalha() {
+        lenient().when(jdbcTemplate.queryForObject(eq("SELECT create_audit_logs_partition(?)"), eq(String.class),
+                any(LocalDate.class))).thenAnswer(invocation -> "audit_logs_partition");
+        lenient().when(jdbcTemplate.queryForObject(eq("SELECT create_audit_logs_partition(?)"), eq(String.class),
+                eq(LocalDate.of(2026, 4, 1)))).thenThrow(new DataIntegrityViolationException("default partition"));
+
+        job.ensurePartitions(CURRENT);
+
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 3, 1));
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 4, 1));
+        verify(jdbcTemplate).queryForObject("SELECT create_audit_logs_partition(?)", String.class,
+                LocalDate.of(2026, 5, 1));
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void deveContinuarRetencaoQuandoUmaParticaoFalha() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "audit_logs_y2025m11", "audit_logs_y2025m12"));
+        lenient().doThrow(new DataIntegrityViolationException("lock timeout"))
+                .when(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_y2025m11");
+
+        job.applyRetention(CURRENT);
+
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_y2025m12");
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void deveDesanexarParticoesForaDaRetencao() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "audit_logs_y2025m12", "audit_logs_y2026m01", "audit_logs_y2026m02", "audit_logs_default"));
+
+        job.applyRetention(CURRENT);
+
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_y2025m12");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_y2026m01");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_default");
+    }
+
+    @Test
+    void deveRemoverParticoesForaDaRetencaoQuandoConfigurado() {
+        properties.getPartitioning().setRetentionAction(AuditProperties.RetentionAction.DROP);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("audit_logs_y2025m11"));
+
+        job.applyRetention(CURRENT);
+
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_y2025m11");
+    }
+
+    @Test
+    void naoDeveAplicarRetencaoQuandoDesativada() {
+        properties.getPartitioning().setRetentionMonths(0);
+
+        job.applyRetention(CURRENT);
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void deveConverterNomeDaParticaoEmMes() {
+        assertEquals("audit_logs_y2026m03", AuditPartitionMaintenanceJob.partitionName(CURRENT));
+        assertEquals(Optional.of(CURRENT), AuditPartitionMaintenanceJob.partitionMonth("audit_logs_y2026m03"));
+        assertTrue(AuditPartitionMaintenanceJob.partitionMonth("audit_logs_default").isEmpty());
+    }
+}
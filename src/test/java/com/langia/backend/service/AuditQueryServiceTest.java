@@ -0,0 +1,249 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.langia.backend.dto.AuditLogEntryDTO;
+import com.langia.backend.dto.AuditLogPageDTO;
+import com.langia.backend.dto.AuditLogQuery;
+import com.langia.backend.exception.BusinessException;
+import com.langia.backend.model.AuditLog.AuditAction;
+
+/**
+ * Testes para a consulta e exportação de registros de auditoria.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditQueryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00.123456Z");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate exportJdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new AuditQueryService(jdbcTemplate, exportJdbcTemplate,
+                new TransactionTemplate(transactionManager), objectMapper);
+    }
+
+    @Test
+    void deveBuscarApenasMetadadosQuandoValoresNaoSolicitados() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        service.findPage(AuditLogQuery.builder().entityType("USER").build(), null, null);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("old_value"));
+        assertTrue(sql.getValue().contains("entity_type = :entityType"));
+        assertTrue(sql.getValue().endsWith("ORDER BY created_at DESC, id DESC LIMIT :limit"));
+    }
+
+    @Test
+    void deveIncluirValoresQuandoSolicitados() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        service.findPage(AuditLogQuery.builder().includeValues(true).build(), null, 10);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("old_value, new_value"));
+        assertFalse(sql.getValue().contains("WHERE"));
+    }
+
+    @Test
+    void deveRetornarCursorQuandoHaProximaPagina() {
+        List<AuditLogEntryDTO> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(entry(NOW.minusSeconds(i)));
+        }
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(rows);
+
+        AuditLogPageDTO page = service.findPage(AuditLogQuery.builder().build(), null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        AuditQueryService.Cursor cursor = AuditQueryService.decodeCursor(page.getNextCursor());
+        assertEquals(rows.get(1).getCreatedAt(), cursor.createdAt());
+        assertEquals(rows.get(1).getId(), cursor.id());
+
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(anyString(), params.capture(), any(RowMapper.class));
+        assertEquals(3, params.getValue().getValue("limit"));
+    }
+
+    @Test
+    void naoDeveRetornarCursorNaUltimaPagina() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new ArrayList<>(List.of(entry(NOW))));
+
+        AuditLogPageDTO page = service.findPage(AuditLogQuery.builder().build(), null, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void deveAplicarPosicaoDoCursorNaConsulta() {
+        UUID id = UUID.randomUUID();
+        String cursor = AuditQueryService.encodeCursor(NOW, id);
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        service.findPage(AuditLogQuery.builder().action(AuditAction.UPDATE).build(), cursor, null);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("(created_at, id) < (:cursorCreatedAt, :cursorId)"));
+        assertEquals(Timestamp.from(NOW), params.getValue().getValue("cursorCreatedAt"));
+        assertEquals(id, params.getValue().getValue("cursorId"));
+        assertEquals("UPDATE", params.getValue().getValue("action"));
+        assertEquals(AuditQueryService.DEFAULT_PAGE_SIZE + 1, params.getValue().getValue("limit"));
+    }
+
+    @Test
+    void deveRejeitarCursorInvalido() {
+        AuditLogQuery query = AuditLogQuery.builder().build();
+
+        assertThrows(BusinessException.class, () -> service.findPage(query, "nao-e-um-cursor", null));
+        assertThrows(BusinessException.class, () -> service.findPage(query,
+                AuditQueryService.encodeCursor(NOW, UUID.randomUUID()).substring(3), null));
+    }
+
+    @Test
+    void deveLimitarTamanhoDaPagina() {
+        assertEquals(AuditQueryService.DEFAULT_PAGE_SIZE, AuditQueryService.normalizePageSize(null));
+        assertEquals(AuditQueryService.DEFAULT_PAGE_SIZE, AuditQueryService.normalizePageSize(0));
+        assertEquals(AuditQueryService.MAX_PAGE_SIZE, AuditQueryService.normalizePageSize(10_000));
+        assertEquals(20, AuditQueryService.normalizePageSize(20));
+    }
+
+    @Test
+    void deveExportarUmRegistroPorLinha() throws Exception {
+        UUID id = UUID.randomUUID();
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getObject("id", UUID.class)).thenReturn(id);
+        when(rs.getString("entity_type")).thenReturn("USER");
+        when(rs.getString("action")).thenReturn("UPDATE");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.from(NOW));
+        when(rs.getString("old_value")).thenReturn("{\"name\":\"A\"}");
+        when(rs.getString("new_value")).thenReturn("{\"name\":\"B\"}");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(exportJdbcTemplate).query(anyString(), any(MapSqlParameterSource.class),
+                any(RowCallbackHandler.class));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = service.export(AuditLogQuery.builder().includeValues(true).build(), out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":\"" + id + "\""));
+        assertTrue(lines[0].contains("\"oldValue\":{\"name\":\"A\"}"));
+        assertTrue(lines[0].contains("\"createdAt\":\"2026-03-10T12:00:00.123456Z\""));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveReconstruirEstadoAplicandoPatchesAposSnapshot() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.from(NOW));
+        when(rs.getObject("id", UUID.class)).thenReturn(UUID.randomUUID());
+        when(rs.getString("new_value")).thenReturn("{\"name\":\"a\",\"level\":1}");
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<?> mapper = invocation.getArgument(2);
+                    return List.of(mapper.mapRow(rs, 0));
+                });
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class)))
+                .thenReturn(List.of(
+                        "[{\"op\":\"replace\",\"path\":\"/level\",\"value\":2}]",
+                        "[{\"op\":\"remove\",\"path\":\"/name\"}]"));
+
+        Optional<JsonNode> state = service.reconstructState("USER", UUID.randomUUID(), NOW.plusSeconds(60));
+
+        assertTrue(state.isPresent());
+        assertEquals("{\"level\":2}", state.get().toString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetornarVazioSemSnapshotAnterior() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        assertTrue(service.reconstructState("USER", UUID.randomUUID(), NOW).isEmpty());
+    }
+
+    private static AuditLogEntryDTO entry(Instant createdAt) {
+        return AuditLogEntryDTO.builder()
+                .id(UUID.randomUUID())
+                .entityType("USER")
+                .entityId(UUID.randomUUID())
+                .action("UPDATE")
+                .userId(UUID.randomUUID())
+                .createdAt(createdAt)
+                .build();
+    }
+}
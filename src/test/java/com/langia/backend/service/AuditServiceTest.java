@@ -3,7 +3,9 @@ package com.langia.backend.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,10 +20,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.langia.backend.model.AuditLog;
+import com.langia.backend.dto.AuditEvent;
 import com.langia.backend.model.AuditLog.AuditAction;
-import com.langia.backend.repository.AuditLogRepository;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -32,7 +32,7 @@ import jakarta.servlet.http.HttpServletRequest;
 class AuditServiceTest {
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogWriter auditLogWriter;
 
     @Mock
     private HttpServletRequest request;
@@ -41,16 +41,14 @@ class AuditServiceTest {
     private AuditService auditService;
 
     @Captor
-    private ArgumentCaptor<AuditLog> auditLogCaptor;
+    private ArgumentCaptor<AuditEvent> auditEventCaptor;
 
     private UUID testUserId;
     private UUID testEntityId;
 
     @BeforeEach
     void setUp() {
-        // Configurar ObjectMapper real para serialização JSON
-        ObjectMapper objectMapper = new ObjectMapper();
-        auditService = new AuditService(auditLogRepository, objectMapper, request);
+        auditService = new AuditService(auditLogWriter, request);
 
         testUserId = UUID.randomUUID();
         testEntityId = UUID.randomUUID();
@@ -63,15 +61,14 @@ class AuditServiceTest {
         // Arrange
         when(request.getHeader("X-Forwarded-For")).thenReturn("192.168.1.100");
         when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.log("USER", testEntityId, AuditAction.UPDATE,
                 new TestEntity("old"), new TestEntity("new"), testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        AuditLog savedLog = auditLogCaptor.getValue();
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        AuditEvent savedLog = auditEventCaptor.getValue();
 
         assertEquals("USER", savedLog.getEntityType());
         assertEquals(testEntityId, savedLog.getEntityId());
@@ -87,14 +84,13 @@ class AuditServiceTest {
     @Test
     void deveRegistrarLogComValoresNulos() {
         // Arrange
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.log("USER", testEntityId, AuditAction.CREATE, null, new TestEntity("new"), testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        AuditLog savedLog = auditLogCaptor.getValue();
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        AuditEvent savedLog = auditEventCaptor.getValue();
 
         assertNull(savedLog.getOldValue());
         assertNotNull(savedLog.getNewValue());
@@ -105,14 +101,13 @@ class AuditServiceTest {
     @Test
     void deveRegistrarLogDeCreate() {
         // Arrange
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.logCreate("PREFERENCES", testEntityId, new TestEntity("new"), testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        AuditLog savedLog = auditLogCaptor.getValue();
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        AuditEvent savedLog = auditEventCaptor.getValue();
 
         assertEquals(AuditAction.CREATE, savedLog.getAction());
         assertNull(savedLog.getOldValue());
@@ -124,14 +119,13 @@ class AuditServiceTest {
     @Test
     void deveRegistrarLogDeUpdate() {
         // Arrange
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.logUpdate("USER", testEntityId, new TestEntity("old"), new TestEntity("new"), testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        AuditLog savedLog = auditLogCaptor.getValue();
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        AuditEvent savedLog = auditEventCaptor.getValue();
 
         assertEquals(AuditAction.UPDATE, savedLog.getAction());
         assertNotNull(savedLog.getOldValue());
@@ -143,14 +137,13 @@ class AuditServiceTest {
     @Test
     void deveRegistrarLogDeDelete() {
         // Arrange
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.logDelete("USER", testEntityId, new TestEntity("old"), testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        AuditLog savedLog = auditLogCaptor.getValue();
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        AuditEvent savedLog = auditEventCaptor.getValue();
 
         assertEquals(AuditAction.DELETE, savedLog.getAction());
         assertNotNull(savedLog.getOldValue());
@@ -163,14 +156,13 @@ class AuditServiceTest {
     void deveCapturarIpDoHeaderXForwardedFor() {
         // Arrange
         when(request.getHeader("X-Forwarded-For")).thenReturn("10.0.0.1, 192.168.1.1");
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.log("USER", testEntityId, AuditAction.UPDATE, null, null, testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        assertEquals("10.0.0.1", auditLogCaptor.getValue().getIpAddress());
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        assertEquals("10.0.0.1", auditEventCaptor.getValue().getIpAddress());
     }
 
     @Test
@@ -178,14 +170,13 @@ class AuditServiceTest {
         // Arrange
         String longUserAgent = "A".repeat(600);
         when(request.getHeader("User-Agent")).thenReturn(longUserAgent);
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.log("USER", testEntityId, AuditAction.UPDATE, null, null, testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        assertEquals(500, auditLogCaptor.getValue().getUserAgent().length());
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        assertEquals(500, auditEventCaptor.getValue().getUserAgent().length());
     }
 
     // ========== Testes de tratamento de erro ==========
@@ -193,29 +184,26 @@ class AuditServiceTest {
     @Test
     void deveContinuarMesmoComErroNoRepositorio() {
         // Arrange
-        when(auditLogRepository.save(any(AuditLog.class))).thenThrow(new RuntimeException("DB error"));
+        doThrow(new RuntimeException("DB error")).when(auditLogWriter).submit(any(AuditEvent.class));
 
         // Act - não deve lançar exceção
         auditService.log("USER", testEntityId, AuditAction.UPDATE, null, null, testUserId);
 
         // Assert - método foi chamado mesmo com erro
-        verify(auditLogRepository).save(any(AuditLog.class));
+        verify(auditLogWriter).submit(any(AuditEvent.class));
     }
 
     @Test
-    void deveSerializarObjetoParaJson() {
+    void deveRepassarValoresSemSerializarNaThreadDaRequisicao() {
         // Arrange
         TestEntity entity = new TestEntity("test value");
-        when(auditLogRepository.save(any(AuditLog.class))).thenAnswer(i -> i.getArguments()[0]);
 
         // Act
         auditService.logCreate("TEST", testEntityId, entity, testUserId);
 
         // Assert
-        verify(auditLogRepository).save(auditLogCaptor.capture());
-        String json = auditLogCaptor.getValue().getNewValue();
-        assertNotNull(json);
-        assertEquals("{\"name\":\"test value\"}", json);
+        verify(auditLogWriter).submit(auditEventCaptor.capture());
+        assertSame(entity, auditEventCaptor.getValue().getNewValue());
     }
 
     // ========== Classe auxiliar para testes ==========
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,6 +21,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,12 +32,15 @@ import com.langia.backend.dto.LoginRequestDTO;
 import com.langia.backend.dto.LoginResponseDTO;
 import com.langia.backend.dto.SessionData;
 import com.langia.backend.exception.InvalidCredentialsException;
+import com.langia.backend.exception.PasswordHashingUnavailableException;
+import com.langia.backend.exception.RateLimitExceededException;
 import com.langia.backend.model.Profile;
 import com.langia.backend.model.User;
 import com.langia.backend.model.UserProfile;
 import com.langia.backend.repository.UserRepository;
 import com.langia.backend.util.JwtUtil;
 import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.ValidatedClaims;
 
 /**
  * Testes para o serviço de autenticação.
@@ -57,14 +63,20 @@ class AuthenticationServiceTest {
     @Mock
     private PermissionMapper permissionMapper;
 
+    @Mock
+    private LoginThrottleService loginThrottleService;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
+    private static final String TEST_IP = "192.168.1.1";
+
     private User testUser;
     private LoginRequestDTO loginRequest;
     private String testToken;
     private Set<String> testPermissions;
     private SessionData testSessionData;
+    private ValidatedClaims testClaims;
 
     @BeforeEach
     void setUp() {
@@ -98,13 +110,22 @@ class AuthenticationServiceTest {
         // Permissões de teste
         testPermissions = Set.of("view_courses", "view_lessons", "submit_exercises");
 
+        // Claims verificadas do token de teste
+        testClaims = ValidatedClaims.builder()
+                .userId(testUser.getId())
+                .email(testUser.getEmail())
+                .profile(testUser.getProfileCode())
+                .name(testUser.getName())
+                .expiresAt(System.currentTimeMillis() + 3600000L)
+                .build();
+
         // Session data de teste
         testSessionData = SessionData.builder()
                 .userId(testUser.getId())
                 .name(testUser.getName())
                 .email(testUser.getEmail())
                 .profile(testUser.getProfileCode())
-                .permissions(testPermissions)
+                .permissionsVersion(1)
                 .createdAt(System.currentTimeMillis())
                 .build();
 
@@ -123,7 +144,7 @@ class AuthenticationServiceTest {
         when(permissionMapper.getPermissionsForProfile(testUser.getProfileCode())).thenReturn(testPermissions);
 
         // Act
-        LoginResponseDTO response = authenticationService.login(loginRequest);
+        LoginResponseDTO response = authenticationService.login(loginRequest, TEST_IP);
 
         // Assert
         assertNotNull(response);
@@ -135,8 +156,10 @@ class AuthenticationServiceTest {
         assertEquals(testPermissions, response.getPermissions());
         assertEquals(3600000L, response.getExpiresIn());
 
-        // Verifica que a sessão foi salva
+        // Verifica que a sessão foi salva e as falhas da conta foram limpas
         verify(sessionService).saveSession(anyString(), any(SessionData.class));
+        verify(loginThrottleService).checkLoginAllowed(TEST_IP, loginRequest.getEmail());
+        verify(loginThrottleService).recordSuccess(loginRequest.getEmail());
     }
 
     @Test
@@ -146,13 +169,14 @@ class AuthenticationServiceTest {
 
         // Act & Assert
         InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> {
-            authenticationService.login(loginRequest);
+            authenticationService.login(loginRequest, TEST_IP);
         });
 
         assertEquals("Invalid credentials", exception.getMessage());
 
-        // Verifica que a senha não foi verificada
+        // Verifica que a senha não foi verificada e a falha foi registrada
         verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(loginThrottleService).recordFailure(loginRequest.getEmail());
         // Verifica que nenhuma sessão foi criada
         verify(sessionService, never()).saveSession(anyString(), any(SessionData.class));
     }
@@ -165,17 +189,85 @@ class AuthenticationServiceTest {
 
         // Act & Assert
         InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> {
-            authenticationService.login(loginRequest);
+            authenticationService.login(loginRequest, TEST_IP);
         });
 
         assertEquals("Invalid credentials", exception.getMessage());
 
-        // Verifica que nenhum token foi gerado
+        // Verifica que a falha foi registrada e nenhum token foi gerado
+        verify(loginThrottleService).recordFailure(loginRequest.getEmail());
         verify(jwtUtil, never()).generateToken(any(User.class));
         // Verifica que nenhuma sessão foi criada
         verify(sessionService, never()).saveSession(anyString(), any(SessionData.class));
     }
 
+    @Test
+    void deveRejeitarLoginLimitadoAntesDoBcrypt() {
+        // Arrange
+        doThrow(new RateLimitExceededException(30)).when(loginThrottleService)
+                .checkLoginAllowed(TEST_IP, loginRequest.getEmail());
+
+        // Act & Assert
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> authenticationService.login(loginRequest, TEST_IP));
+
+        assertEquals(30, exception.getRetryAfterSeconds());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(loginThrottleService, never()).recordFailure(anyString());
+    }
+
+    @Test
+    void deveAtualizarHashAbaixoDoCustoAtualAposLogin() {
+        // Arrange
+        String oldHash = testUser.getPassword();
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(loginRequest.getPassword(), oldHash)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(oldHash)).thenReturn(true);
+        when(passwordEncoder.encode(loginRequest.getPassword())).thenReturn("{bcrypt}$2a$12$upgraded");
+        when(userRepository.replacePasswordHash(testUser.getId(), oldHash, "{bcrypt}$2a$12$upgraded")).thenReturn(1);
+        when(jwtUtil.generateToken(testUser)).thenReturn(testToken);
+
+        // Act
+        authenticationService.login(loginRequest, TEST_IP);
+
+        // Assert
+        verify(userRepository).replacePasswordHash(testUser.getId(), oldHash, "{bcrypt}$2a$12$upgraded");
+    }
+
+    @Test
+    void naoDeveAtualizarHashNoCustoAtual() {
+        // Arrange
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPassword())).thenReturn(true);
+        when(jwtUtil.generateToken(testUser)).thenReturn(testToken);
+
+        // Act
+        authenticationService.login(loginRequest, TEST_IP);
+
+        // Assert
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).replacePasswordHash(any(), anyString(), anyString());
+    }
+
+    @Test
+    void deveConcluirLoginQuandoAtualizacaoDoHashFalha() {
+        // Arrange
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(testUser.getPassword())).thenReturn(true);
+        when(passwordEncoder.encode(loginRequest.getPassword()))
+                .thenThrow(new PasswordHashingUnavailableException(1));
+        when(jwtUtil.generateToken(testUser)).thenReturn(testToken);
+
+        // Act
+        LoginResponseDTO response = authenticationService.login(loginRequest, TEST_IP);
+
+        // Assert
+        assertEquals(testToken, response.getToken());
+        verify(userRepository, never()).replacePasswordHash(any(), anyString(), anyString());
+    }
+
     @Test
     void deveIncluirPermissoesCorretas() {
         // Arrange
@@ -185,7 +277,7 @@ class AuthenticationServiceTest {
         when(permissionMapper.getPermissionsForProfile(testUser.getProfileCode())).thenReturn(testPermissions);
 
         // Act
-        LoginResponseDTO response = authenticationService.login(loginRequest);
+        LoginResponseDTO response = authenticationService.login(loginRequest, TEST_IP);
 
         // Assert
         assertNotNull(response.getPermissions());
@@ -198,12 +290,31 @@ class AuthenticationServiceTest {
         verify(permissionMapper).getPermissionsForProfile(testUser.getProfileCode());
     }
 
+    @Test
+    void deveSalvarSessaoApenasComPerfilEVersaoDasPermissoes() {
+        // Arrange
+        when(userRepository.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPassword())).thenReturn(true);
+        when(jwtUtil.generateToken(testUser)).thenReturn(testToken);
+        when(permissionMapper.getPermissionsForProfile(testUser.getProfileCode())).thenReturn(testPermissions);
+        when(permissionMapper.getPermissionsVersion(testUser.getProfileCode())).thenReturn(3);
+
+        // Act
+        authenticationService.login(loginRequest, TEST_IP);
+
+        // Assert
+        ArgumentCaptor<SessionData> captor = ArgumentCaptor.forClass(SessionData.class);
+        verify(sessionService).saveSession(eq(testToken), captor.capture());
+        assertEquals(UserProfile.STUDENT, captor.getValue().getProfile());
+        assertEquals(3, captor.getValue().getPermissionsVersion());
+    }
+
     // ========== Testes de Validação de Sessão ==========
 
     @Test
     void deveValidarSessaoComSucesso() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(true);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
         when(sessionService.getSession(testToken)).thenReturn(testSessionData);
 
         // Act
@@ -216,14 +327,14 @@ class AuthenticationServiceTest {
         assertEquals(testSessionData.getProfile(), result.getProfile());
 
         // Verifica que o token foi validado e a sessão buscada
-        verify(jwtUtil).validateToken(testToken);
+        verify(jwtUtil).verifyToken(testToken);
         verify(sessionService).getSession(testToken);
     }
 
     @Test
     void deveRetornarNullParaTokenJWTInvalido() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(false);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(null);
 
         // Act
         SessionData result = authenticationService.validateSession(testToken);
@@ -238,7 +349,7 @@ class AuthenticationServiceTest {
     @Test
     void deveRetornarNullParaSessaoNaoEncontradaNoRedis() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(true);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
         when(sessionService.getSession(testToken)).thenReturn(null);
 
         // Act
@@ -251,10 +362,41 @@ class AuthenticationServiceTest {
         verify(sessionService).getSession(testToken);
     }
 
+    @Test
+    void deveInvalidarSessaoComVersaoDePermissoesAnterior() {
+        // Arrange
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
+        when(sessionService.getSession(testToken)).thenReturn(testSessionData);
+        when(permissionMapper.getPermissionsVersion(testUser.getProfileCode())).thenReturn(2);
+
+        // Act
+        SessionData result = authenticationService.validateSession(testToken);
+
+        // Assert
+        assertNull(result);
+        verify(sessionService).removeSession(testToken);
+    }
+
+    @Test
+    void deveAceitarSessaoComVersaoDePermissoesMaisRecenteQueAMatrizLocal() {
+        // Arrange
+        testSessionData.setPermissionsVersion(5);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
+        when(sessionService.getSession(testToken)).thenReturn(testSessionData);
+        when(permissionMapper.getPermissionsVersion(testUser.getProfileCode())).thenReturn(4);
+
+        // Act
+        SessionData result = authenticationService.validateSession(testToken);
+
+        // Assert
+        assertNotNull(result);
+        verify(sessionService, never()).removeSession(anyString());
+    }
+
     @Test
     void deveRetornarTrueParaSessaoValida() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(true);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
         when(sessionService.getSession(testToken)).thenReturn(testSessionData);
 
         // Act
@@ -267,7 +409,7 @@ class AuthenticationServiceTest {
     @Test
     void deveRetornarFalseParaSessaoInvalida() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(false);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(null);
 
         // Act
         boolean isValid = authenticationService.isSessionValid(testToken);
@@ -313,8 +455,8 @@ class AuthenticationServiceTest {
     @Test
     void deveRenovarSessaoComSucesso() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(true);
-        when(sessionService.renewSession(testToken)).thenReturn(true);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
+        when(sessionService.renewSession(testToken, testUser.getId())).thenReturn(true);
 
         // Act
         boolean result = authenticationService.renewSession(testToken);
@@ -323,14 +465,14 @@ class AuthenticationServiceTest {
         assertTrue(result);
 
         // Verifica que o token foi validado e a sessão renovada
-        verify(jwtUtil).validateToken(testToken);
-        verify(sessionService).renewSession(testToken);
+        verify(jwtUtil).verifyToken(testToken);
+        verify(sessionService).renewSession(testToken, testUser.getId());
     }
 
     @Test
     void naoDeveRenovarSessaoComTokenInvalido() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(false);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(null);
 
         // Act
         boolean result = authenticationService.renewSession(testToken);
@@ -339,14 +481,14 @@ class AuthenticationServiceTest {
         assertFalse(result);
 
         // Verifica que a sessão não foi renovada
-        verify(sessionService, never()).renewSession(anyString());
+        verify(sessionService, never()).renewSession(anyString(), any());
     }
 
     @Test
     void deveRetornarFalseAoRenovarSessaoInexistente() {
         // Arrange
-        when(jwtUtil.validateToken(testToken)).thenReturn(true);
-        when(sessionService.renewSession(testToken)).thenReturn(false);
+        when(jwtUtil.verifyToken(testToken)).thenReturn(testClaims);
+        when(sessionService.renewSession(testToken, testUser.getId())).thenReturn(false);
 
         // Act
         boolean result = authenticationService.renewSession(testToken);
@@ -355,7 +497,7 @@ class AuthenticationServiceTest {
         assertFalse(result);
 
         // Verifica que tentou renovar
-        verify(sessionService).renewSession(testToken);
+        verify(sessionService).renewSession(testToken, testUser.getId());
     }
 
     // ========== Testes de Diferentes Perfis ==========
@@ -381,7 +523,7 @@ class AuthenticationServiceTest {
         when(permissionMapper.getPermissionsForProfile(UserProfile.TEACHER)).thenReturn(teacherPermissions);
 
         // Act
-        LoginResponseDTO response = authenticationService.login(loginRequest);
+        LoginResponseDTO response = authenticationService.login(loginRequest, TEST_IP);
 
         // Assert
         assertEquals(UserProfile.TEACHER, response.getProfile());
@@ -409,7 +551,7 @@ class AuthenticationServiceTest {
         when(permissionMapper.getPermissionsForProfile(UserProfile.ADMIN)).thenReturn(adminPermissions);
 
         // Act
-        LoginResponseDTO response = authenticationService.login(loginRequest);
+        LoginResponseDTO response = authenticationService.login(loginRequest, TEST_IP);
 
         // Assert
         assertEquals(UserProfile.ADMIN, response.getProfile());
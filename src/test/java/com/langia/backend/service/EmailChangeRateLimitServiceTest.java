@@ -3,14 +3,9 @@ package com.langia.backend.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.time.Duration;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,191 +13,125 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.junit.jupiter.MockitoSettings;
-import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.test.util.ReflectionTestUtils;
+
+import com.langia.backend.dto.RateLimitDecision;
 
 /**
  * Testes unitários para EmailChangeRateLimitService.
  */
 @ExtendWith(MockitoExtension.class)
-@MockitoSettings(strictness = Strictness.LENIENT)
 class EmailChangeRateLimitServiceTest {
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RateLimiter rateLimiter;
 
     private EmailChangeRateLimitService rateLimitService;
 
     private UUID userId;
-    private String attemptKey;
-    private String lockoutKey;
+    private String key;
 
     @BeforeEach
     void setUp() {
-        rateLimitService = new EmailChangeRateLimitService(redisTemplate);
-        ReflectionTestUtils.setField(rateLimitService, "maxAttemptsPerWindow", 5);
-        ReflectionTestUtils.setField(rateLimitService, "windowMinutes", 15);
-        ReflectionTestUtils.setField(rateLimitService, "lockoutMinutes", 60);
-
+        rateLimitService = new EmailChangeRateLimitService(rateLimiter);
         userId = UUID.randomUUID();
-        attemptKey = "email_change:verify:" + userId;
-        lockoutKey = "email_change:lockout:" + userId;
-
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-
-    @Test
-    void deveRetornarFalseQuandoNaoHaTentativas() {
-        // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(false);
-        when(valueOperations.get(attemptKey)).thenReturn(null);
-
-        // Act
-        boolean result = rateLimitService.isAttemptLimitReached(userId);
-
-        // Assert
-        assertFalse(result);
+        key = userId.toString();
     }
 
     @Test
     void deveRetornarFalseQuandoTentativasAbaixoDoLimite() {
         // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(false);
-        when(valueOperations.get(attemptKey)).thenReturn("3");
+        when(rateLimiter.peek(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(true, 2, 0, 900_000));
 
-        // Act
-        boolean result = rateLimitService.isAttemptLimitReached(userId);
-
-        // Assert
-        assertFalse(result);
-    }
-
-    @Test
-    void deveRetornarTrueQuandoLimiteAtingido() {
-        // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(false);
-        when(valueOperations.get(attemptKey)).thenReturn("5");
-
-        // Act
-        boolean result = rateLimitService.isAttemptLimitReached(userId);
-
-        // Assert
-        assertTrue(result);
+        // Act & Assert
+        assertFalse(rateLimitService.isAttemptLimitReached(userId));
     }
 
     @Test
     void deveRetornarTrueQuandoUsuarioBloqueado() {
         // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(true);
+        when(rateLimiter.peek(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(false, 0, 3_600_000, 3_600_000));
 
-        // Act
-        boolean result = rateLimitService.isAttemptLimitReached(userId);
-
-        // Assert
-        assertTrue(result);
-        verify(valueOperations, never()).get(anyString());
+        // Act & Assert
+        assertTrue(rateLimitService.isAttemptLimitReached(userId));
     }
 
     @Test
-    void deveIncrementarTentativasEDefinirTTLNaPrimeiraTentativa() {
+    void deveRegistrarFalhaSemBloquearQuandoRestamTentativas() {
         // Arrange
-        when(valueOperations.increment(attemptKey)).thenReturn(1L);
-
-        // Act
-        boolean locked = rateLimitService.recordFailedAttempt(userId);
+        when(rateLimiter.tryConsume(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(true, 3, 0, 900_000));
 
-        // Assert
-        assertFalse(locked);
-        verify(valueOperations).increment(attemptKey);
-        verify(redisTemplate).expire(eq(attemptKey), any(Duration.class));
+        // Act & Assert
+        assertFalse(rateLimitService.recordFailedAttempt(userId));
     }
 
     @Test
-    void naoDeveDefinirTTLEmTentativasSubsequentes() {
+    void deveBloquearQuandoUltimaTentativaConsumida() {
         // Arrange
-        when(valueOperations.increment(attemptKey)).thenReturn(2L);
-
-        // Act
-        boolean locked = rateLimitService.recordFailedAttempt(userId);
+        when(rateLimiter.tryConsume(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(true, 0, 3_600_000, 3_600_000));
 
-        // Assert
-        assertFalse(locked);
-        verify(valueOperations).increment(attemptKey);
-        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        // Act & Assert
+        assertTrue(rateLimitService.recordFailedAttempt(userId));
     }
 
     @Test
-    void deveAplicarLockoutQuandoAtingeLimite() {
+    void deveConsiderarBloqueadoQuandoConsumoNegado() {
         // Arrange
-        when(valueOperations.increment(attemptKey)).thenReturn(5L);
-
-        // Act
-        boolean locked = rateLimitService.recordFailedAttempt(userId);
+        when(rateLimiter.tryConsume(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(false, 0, 1_000_000, 1_000_000));
 
-        // Assert
-        assertTrue(locked);
-        verify(valueOperations).set(eq(lockoutKey), eq("locked"), any(Duration.class));
+        // Act & Assert
+        assertTrue(rateLimitService.recordFailedAttempt(userId));
     }
 
     @Test
-    void deveLimparTentativasCorretamente() {
-        // Act
-        rateLimitService.clearAttempts(userId);
+    void deveRetornarTentativasRestantes() {
+        // Arrange
+        when(rateLimiter.peek(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(true, 4, 0, 900_000));
 
-        // Assert
-        verify(redisTemplate).delete(attemptKey);
+        // Act & Assert
+        assertEquals(4, rateLimitService.getRemainingAttempts(userId));
     }
 
     @Test
-    void deveRetornarTentativasRestantesCorretamente() {
+    void deveRetornarTempoRestanteDoBloqueioArredondadoParaCima() {
         // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(false);
-        when(valueOperations.get(attemptKey)).thenReturn("2");
+        when(rateLimiter.peek(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(false, 0, 1_800_001, 1_800_001));
 
-        // Act
-        int remaining = rateLimitService.getRemainingAttempts(userId);
-
-        // Assert
-        assertEquals(3, remaining);
+        // Act & Assert
+        assertEquals(1801L, rateLimitService.getLockoutTimeRemaining(userId));
     }
 
     @Test
-    void deveRetornarZeroTentativasQuandoBloqueado() {
+    void deveRetornarMenosUmQuandoNaoBloqueado() {
         // Arrange
-        when(redisTemplate.hasKey(lockoutKey)).thenReturn(true);
+        when(rateLimiter.peek(EmailChangeRateLimitService.VERIFY_POLICY, key))
+                .thenReturn(new RateLimitDecision(true, 5, 0, 0));
 
-        // Act
-        int remaining = rateLimitService.getRemainingAttempts(userId);
-
-        // Assert
-        assertEquals(0, remaining);
+        // Act & Assert
+        assertEquals(-1L, rateLimitService.getLockoutTimeRemaining(userId));
     }
 
     @Test
-    void deveRetornarTempoRestanteDoLockout() {
-        // Arrange
-        when(redisTemplate.getExpire(lockoutKey)).thenReturn(3000L);
-
+    void deveLimparTentativas() {
         // Act
-        long timeRemaining = rateLimitService.getLockoutTimeRemaining(userId);
+        rateLimitService.clearAttempts(userId);
 
         // Assert
-        assertEquals(3000L, timeRemaining);
+        verify(rateLimiter).reset(EmailChangeRateLimitService.VERIFY_POLICY, key);
     }
 
     @Test
-    void deveResetarLockoutCorretamente() {
+    void deveResetarBloqueio() {
         // Act
         rateLimitService.resetLockout(userId);
 
         // Assert
-        verify(redisTemplate).delete(attemptKey);
-        verify(redisTemplate).delete(lockoutKey);
+        verify(rateLimiter).reset(EmailChangeRateLimitService.VERIFY_POLICY, key);
     }
 }
@@ -0,0 +1,134 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.langia.backend.config.EmailOutboxProperties;
+import com.langia.backend.exception.EmailDeliveryException;
+import com.langia.backend.model.EmailOutboxMessage;
+import com.langia.backend.repository.EmailOutboxRepository;
+
+/**
+ * Testes para a fila de saída de e-mails.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private EmailOutboxProperties properties;
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailOutboxProperties();
+        emailOutboxService = new EmailOutboxService(emailOutboxRepository, properties);
+    }
+
+    @Test
+    void deveEnfileirarEmailComoPendente() {
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        EmailOutboxMessage message = emailOutboxService.enqueue("user@test.com", "Assunto", "<html/>");
+
+        assertEquals(EmailOutboxMessage.Status.PENDING, message.getStatus());
+        assertEquals(0, message.getAttempts());
+        assertEquals("user@test.com", message.getRecipient());
+    }
+
+    @Test
+    void deveReservarLoteContandoTentativa() {
+        EmailOutboxMessage message = message(0);
+        when(emailOutboxRepository.findDueForUpdate(anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(message));
+
+        List<EmailOutboxMessage> batch = emailOutboxService.claimBatch(10);
+
+        assertEquals(1, batch.size());
+        assertEquals(EmailOutboxMessage.Status.SENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertTrue(message.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(250)));
+    }
+
+    @Test
+    void deveReagendarFalhaTemporariaComBackoff() {
+        EmailOutboxMessage message = message(1);
+
+        emailOutboxService.recordFailure(message, new EmailDeliveryException("timeout", true));
+
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).markFailed(eq(message.getId()), eq(EmailOutboxMessage.Status.PENDING),
+                nextAttempt.capture(), eq("timeout"));
+        assertTrue(nextAttempt.getValue().isAfter(LocalDateTime.now().plusSeconds(25)));
+    }
+
+    @Test
+    void deveMoverParaDeadAposEsgotarTentativas() {
+        EmailOutboxMessage message = message(properties.getRetry().getMaxAttempts());
+
+        emailOutboxService.recordFailure(message, new EmailDeliveryException("timeout", true));
+
+        verify(emailOutboxRepository).markDead(message.getId(), "timeout");
+    }
+
+    @Test
+    void deveMoverParaDeadEmFalhaPermanente() {
+        EmailOutboxMessage message = message(1);
+
+        emailOutboxService.recordFailure(message, new EmailDeliveryException("not configured", false));
+
+        verify(emailOutboxRepository).markDead(message.getId(), "not configured");
+    }
+
+    @Test
+    void deveRemoverMensagensFinalizadasForaDaRetencao() {
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(emailOutboxRepository.deleteFinishedBefore(
+                eq(EnumSet.of(EmailOutboxMessage.Status.SENT, EmailOutboxMessage.Status.DEAD)), before.capture()))
+                .thenReturn(5);
+
+        int removed = emailOutboxService.purgeFinished();
+
+        assertEquals(5, removed);
+        assertTrue(before.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+
+    @Test
+    void deveDobrarBackoffAteOLimite() {
+        assertEquals(Duration.ofSeconds(30), emailOutboxService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), emailOutboxService.backoff(2));
+        assertEquals(Duration.ofSeconds(240), emailOutboxService.backoff(4));
+        assertEquals(Duration.ofSeconds(3600), emailOutboxService.backoff(20));
+    }
+
+    private EmailOutboxMessage message(int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient("user@test.com")
+                .subject("Assunto")
+                .htmlBody("<html/>")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.langia.backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.langia.backend.config.EmailOutboxProperties;
+import com.langia.backend.exception.EmailDeliveryException;
+import com.langia.backend.model.EmailOutboxMessage;
+
+/**
+ * Testes para o worker de entrega de e-mails.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxWorkerTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private EmailSender emailSender;
+
+    private EmailOutboxProperties properties;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailOutboxProperties();
+        properties.getWorker().setBatchSize(2);
+        worker = new EmailOutboxWorker(emailOutboxService, emailSender, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void deveRegistrarEntregaBemSucedida() {
+        EmailOutboxMessage message = message();
+        when(emailSender.send("user@test.com", "Assunto", "<html/>")).thenReturn("provider-id");
+
+        worker.deliver(message);
+
+        verify(emailOutboxService).recordSuccess(message.getId(), "provider-id");
+    }
+
+    @Test
+    void deveRegistrarFalhaDoProvedor() {
+        EmailOutboxMessage message = message();
+        EmailDeliveryException error = new EmailDeliveryException("timeout", true);
+        when(emailSender.send(any(), any(), any())).thenThrow(error);
+
+        worker.deliver(message);
+
+        verify(emailOutboxService).recordFailure(message, error);
+        verify(emailOutboxService, never()).recordSuccess(any(), any());
+    }
+
+    @Test
+    void deveTratarErroInesperadoComoFalhaTemporaria() {
+        EmailOutboxMessage message = message();
+        when(emailSender.send(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        worker.deliver(message);
+
+        verify(emailOutboxService).recordFailure(eq(message), argThat(EmailDeliveryException::isRetryable));
+    }
+
+    @Test
+    void deveProcessarUmUnicoLotePorCiclo() {
+        when(emailOutboxService.claimBatch(2))
+                .thenReturn(List.of(message(), message()));
+        when(emailSender.send(any(), any(), any())).thenReturn("provider-id");
+
+        worker.poll();
+
+        verify(emailOutboxService, times(1)).claimBatch(2);
+        verify(emailSender, times(2)).send(any(), any(), any());
+        verify(emailOutboxService, times(2)).recordSuccess(any(), eq("provider-id"));
+    }
+
+    private EmailOutboxMessage message() {
+        return EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient("user@test.com")
+                .subject("Assunto")
+                .htmlBody("<html/>")
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
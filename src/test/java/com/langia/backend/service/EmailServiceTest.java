@@ -1,6 +1,9 @@
 package com.langia.backend.service;
 
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,8 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 /**
  * Testes para o serviço de email.
@@ -21,86 +22,104 @@ import org.thymeleaf.context.Context;
 class EmailServiceTest {
 
     @Mock
-    private TemplateEngine templateEngine;
+    private EmailTemplateRenderer templateRenderer;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
 
     @InjectMocks
     private EmailService emailService;
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(emailService, "resendApiKey", "");
-        ReflectionTestUtils.setField(emailService, "fromEmail", "test@test.com");
         ReflectionTestUtils.setField(emailService, "platformName", "LangIA");
-        ReflectionTestUtils.setField(emailService, "supportEmail", "suporte@langia.com");
     }
 
     @Test
     void deveProcessarTemplateDePasswordReset() {
         // Arrange
-        when(templateEngine.process(anyString(), org.mockito.ArgumentMatchers.any(Context.class)))
-                .thenReturn("<html>Test</html>");
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
+
+        // Act
+        emailService.sendPasswordResetEmail("user@test.com", "User", "http://link", "30 minutos");
+
+        // Assert
+        verify(templateRenderer).render(eq("email/password-reset-email"), anyMap());
+    }
+
+    @Test
+    void deveEnfileirarEmailEmVezDeEnviarDiretamente() {
+        // Arrange
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
 
         // Act
         emailService.sendPasswordResetEmail("user@test.com", "User", "http://link", "30 minutos");
 
         // Assert
-        verify(templateEngine).process(org.mockito.ArgumentMatchers.eq("email/password-reset-email"),
-                org.mockito.ArgumentMatchers.any(Context.class));
+        verify(emailOutboxService).enqueue("user@test.com", "Recuperação de Senha - LangIA", "<html>Test</html>");
     }
 
     @Test
     void deveProcessarTemplateDePasswordChanged() {
         // Arrange
-        when(templateEngine.process(anyString(), org.mockito.ArgumentMatchers.any(Context.class)))
-                .thenReturn("<html>Test</html>");
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
 
         // Act
         emailService.sendPasswordChangedEmail("user@test.com", "User");
 
         // Assert
-        verify(templateEngine).process(org.mockito.ArgumentMatchers.eq("email/password-changed-email"),
-                org.mockito.ArgumentMatchers.any(Context.class));
+        verify(templateRenderer).render(eq("email/password-changed-email"), anyMap());
     }
 
     @Test
     void deveProcessarTemplateDeEmailVerification() {
         // Arrange
-        when(templateEngine.process(anyString(), org.mockito.ArgumentMatchers.any(Context.class)))
-                .thenReturn("<html>Test</html>");
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
 
         // Act
         emailService.sendEmailVerificationEmail("user@test.com", "User", "http://link", "24 horas");
 
         // Assert
-        verify(templateEngine).process(org.mockito.ArgumentMatchers.eq("email/email-verification"),
-                org.mockito.ArgumentMatchers.any(Context.class));
+        verify(templateRenderer).render(eq("email/email-verification"), anyMap());
     }
 
     @Test
     void deveProcessarTemplateDeEmailChangeVerification() {
         // Arrange
-        when(templateEngine.process(anyString(), org.mockito.ArgumentMatchers.any(Context.class)))
-                .thenReturn("<html>Test</html>");
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
 
         // Act
         emailService.sendEmailChangeVerification("user@test.com", "User", "123456");
 
         // Assert
-        verify(templateEngine).process(org.mockito.ArgumentMatchers.eq("email/email-change-verification"),
-                org.mockito.ArgumentMatchers.any(Context.class));
+        verify(templateRenderer).render(eq("email/email-change-verification"), anyMap());
     }
 
     @Test
     void deveProcessarTemplateDeEmailChangedNotification() {
         // Arrange
-        when(templateEngine.process(anyString(), org.mockito.ArgumentMatchers.any(Context.class)))
-                .thenReturn("<html>Test</html>");
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
+
+        // Act
+        emailService.sendEmailChangedNotification("old@test.com", "User", "new@test.com");
+
+        // Assert
+        verify(templateRenderer).render(eq("email/email-changed-notification"), anyMap());
+    }
+
+    @Test
+    void deveEnviarApenasVariaveisDoDestinatarioAoRenderizador() {
+        // Arrange
+        when(templateRenderer.render(anyString(), anyMap())).thenReturn("<html>Test</html>");
 
         // Act
         emailService.sendEmailChangedNotification("old@test.com", "User", "new@test.com");
 
         // Assert
-        verify(templateEngine).process(org.mockito.ArgumentMatchers.eq("email/email-changed-notification"),
-                org.mockito.ArgumentMatchers.any(Context.class));
+        verify(templateRenderer).render(eq("email/email-changed-notification"), argThat(variables ->
+                "User".equals(variables.get("userName"))
+                        && !"new@test.com".equals(variables.get("newEmail"))
+                        && variables.get("changeTime") != null
+                        && !variables.containsKey("platformName")));
     }
 }
@@ -0,0 +1,96 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Testes para a renderização pré-compilada de templates de email.
+ * O resultado deve ser idêntico ao processamento completo pelo Thymeleaf.
+ */
+class EmailTemplateRendererTest {
+
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new EmailTemplateRenderer(templateEngine, "LangIA", "suporte@langia.com");
+    }
+
+    @Test
+    void deveRenderizarResetDeSenhaIgualAoThymeleaf() {
+        Map<String, String> variables = variables(
+                "userName", "Maria <Admin> & \"Cia\" d'Ávila",
+                "resetLink", "https://langia.com/reset?token=abc&x=\"1\"",
+                "expirationTime", "30 minutos");
+
+        assertRenderedLikeThymeleaf("email/password-reset-email", variables);
+    }
+
+    @Test
+    void deveRenderizarTodosOsTemplatesIgualAoThymeleaf() {
+        assertRenderedLikeThymeleaf("email/password-changed-email",
+                variables("userName", "João", "changeTime", "01/01/2026 10:00"));
+        assertRenderedLikeThymeleaf("email/email-verification",
+                variables("userName", "João", "verifyLink", "https://langia.com/v?t=1", "expirationTime", "24 horas"));
+        assertRenderedLikeThymeleaf("email/email-change-verification",
+                variables("userName", "João", "code", "123456", "expirationTime", "15 minutos"));
+        assertRenderedLikeThymeleaf("email/email-changed-notification",
+                variables("userName", "João", "newEmail", "n***@e***.com", "changeTime", "01/01/2026 10:00"));
+    }
+
+    @Test
+    void deveUsarThymeleafQuandoVariavelEstaVazia() {
+        Map<String, String> variables = variables("userName", "", "changeTime", "01/01/2026 10:00");
+
+        String html = renderer.render("email/password-changed-email", variables);
+
+        assertEquals(renderer.process("email/password-changed-email", Locale.getDefault(), variables), html);
+        assertTrue(html.contains("Olá!"));
+    }
+
+    @Test
+    void deveRenderizarSemMarcadoresEComVariaveisEstaticas() {
+        renderer.precompile("email/password-changed-email", List.of("userName", "changeTime"));
+
+        String html = renderer.render("email/password-changed-email",
+                variables("userName", "Ana", "changeTime", "01/01/2026 10:00"));
+
+        assertFalse(html.contains("{{{langia:"));
+        assertTrue(html.contains("suporte@langia.com"));
+        assertTrue(html.contains("Ana"));
+    }
+
+    private void assertRenderedLikeThymeleaf(String template, Map<String, String> variables) {
+        String expected = renderer.process(template, Locale.getDefault(), variables);
+        assertEquals(expected, renderer.render(template, variables));
+        // Segunda renderização usa o template já compilado
+        assertEquals(expected, renderer.render(template, variables));
+    }
+
+    private static Map<String, String> variables(String... keyValues) {
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            variables.put(keyValues[i], keyValues[i + 1]);
+        }
+        return variables;
+    }
+}
@@ -26,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.langia.backend.dto.EmailVerificationResponseDTO;
+import com.langia.backend.dto.RateLimitDecision;
 import com.langia.backend.dto.ResendVerificationResponseDTO;
 import com.langia.backend.exception.EmailVerificationRateLimitException;
 import com.langia.backend.exception.InvalidVerificationTokenException;
@@ -264,8 +265,8 @@ class EmailVerificationServiceTest {
     void deveReenviarVerificacaoComSucesso() {
         // Arrange
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-        when(rateLimitService.isResendLimitReached(testUser.getId())).thenReturn(false);
-        when(rateLimitService.getRemainingResends(testUser.getId())).thenReturn(2);
+        when(rateLimitService.tryAcquireResend(testUser.getId()))
+                .thenReturn(new RateLimitDecision(true, 2, 0, 3_600_000));
         when(tokenRepository.invalidateAllUserTokens(any(UUID.class), any(LocalDateTime.class))).thenReturn(0);
         when(tokenRepository.save(any(EmailVerificationToken.class))).thenReturn(validToken);
 
@@ -276,7 +277,7 @@ class EmailVerificationServiceTest {
         assertTrue(response.isSuccess());
         assertEquals(2, response.getRemainingResends());
 
-        verify(rateLimitService).recordResendAttempt(testUser.getId());
+        verify(rateLimitService).tryAcquireResend(testUser.getId());
         verify(emailService).sendEmailVerificationEmail(anyString(), anyString(), anyString(), anyString());
     }
 
@@ -293,7 +294,7 @@ class EmailVerificationServiceTest {
         assertFalse(response.isSuccess());
         assertEquals("E-mail ja verificado.", response.getMessage());
 
-        verify(rateLimitService, never()).recordResendAttempt(any());
+        verify(rateLimitService, never()).tryAcquireResend(any());
         verify(emailService, never()).sendEmailVerificationEmail(anyString(), anyString(), anyString(), anyString());
     }
 
@@ -301,8 +302,8 @@ class EmailVerificationServiceTest {
     void deveRejeitarReenvioQuandoRateLimitExcedido() {
         // Arrange
         when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
-        when(rateLimitService.isResendLimitReached(testUser.getId())).thenReturn(true);
-        when(rateLimitService.getTimeUntilReset(testUser.getId())).thenReturn(1800L);
+        when(rateLimitService.tryAcquireResend(testUser.getId()))
+                .thenReturn(new RateLimitDecision(false, 0, 1_800_000, 3_600_000));
 
         // Act & Assert
         EmailVerificationRateLimitException exception = assertThrows(
@@ -0,0 +1,127 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.langia.backend.model.Profile;
+import com.langia.backend.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+
+/**
+ * Testes para o carregador de estado de auditoria de entidades JPA.
+ */
+@ExtendWith(MockitoExtension.class)
+class JpaAuditSnapshotLoaderTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID PROFILE_ID = UUID.randomUUID();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SessionImplementor session;
+
+    @Mock
+    private PersistenceContext persistenceContext;
+
+    @Mock
+    private EntityEntry entry;
+
+    @Mock
+    private EntityPersister persister;
+
+    private final User user = new User();
+    private final Profile profile = new Profile();
+    private JpaAuditSnapshotLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new JpaAuditSnapshotLoader("USER", User.class, entityManager, transactionManager,
+                Set.of("password"));
+    }
+
+    @Test
+    void deveUsarEstadoCarregadoComoEstadoAnterior() {
+        stubManagedEntity();
+        when(entry.getLoadedState()).thenReturn(new Object[] {"Nome antigo", "hash", profile, null});
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> snapshot = (Map<String, Object>) loader.loadPreImage(USER_ID);
+
+        assertEquals(USER_ID, snapshot.get("id"));
+        assertEquals("Nome antigo", snapshot.get("name"));
+        assertEquals(PROFILE_ID, snapshot.get("profile"));
+        assertFalse(snapshot.containsKey("password"));
+        assertFalse(snapshot.containsKey("passwordHistory"));
+        verify(persister, never()).getValues(user);
+    }
+
+    @Test
+    void deveUsarValoresAtuaisComoEstadoAtual() {
+        stubManagedEntity();
+        when(persister.getValues(user)).thenReturn(new Object[] {"Nome novo", "hash", null, null});
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> snapshot = (Map<String, Object>) loader.loadCurrentState(USER_ID);
+
+        assertEquals("Nome novo", snapshot.get("name"));
+        assertNull(snapshot.get("profile"));
+    }
+
+    @Test
+    void deveRetornarNuloQuandoEntidadeNaoExiste() {
+        when(entityManager.find(User.class, USER_ID)).thenReturn(null);
+
+        assertNull(loader.loadPreImage(USER_ID));
+    }
+
+    private void stubManagedEntity() {
+        when(entityManager.find(User.class, USER_ID)).thenReturn(user);
+        when(entityManager.unwrap(SessionImplementor.class)).thenReturn(session);
+        when(session.getPersistenceContextInternal()).thenReturn(persistenceContext);
+        when(persistenceContext.getEntry(user)).thenReturn(entry);
+        when(entry.getPersister()).thenReturn(persister);
+        when(persister.getIdentifierPropertyName()).thenReturn("id");
+        when(persister.getPropertyNames()).thenReturn(new String[] {"name", "password", "profile", "passwordHistory"});
+        when(persister.getPropertyTypes()).thenReturn(new Type[] {
+                mock(Type.class), mock(Type.class), mock(EntityType.class), mock(CollectionType.class)});
+
+        // Usado apenas quando a associação está preenchida
+        EntityManagerFactory factory = mock(EntityManagerFactory.class);
+        PersistenceUnitUtil unitUtil = mock(PersistenceUnitUtil.class);
+        lenient().when(entityManager.getEntityManagerFactory()).thenReturn(factory);
+        lenient().when(factory.getPersistenceUnitUtil()).thenReturn(unitUtil);
+        lenient().when(unitUtil.getIdentifier(profile)).thenReturn(PROFILE_ID);
+    }
+}
@@ -0,0 +1,121 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.langia.backend.model.Language;
+import com.langia.backend.repository.LanguageRepository;
+
+/**
+ * Testes do LanguageCatalog.
+ */
+@ExtendWith(MockitoExtension.class)
+class LanguageCatalogTest {
+
+    @Mock
+    private LanguageRepository languageRepository;
+
+    private LanguageCatalog catalog;
+    private Language english;
+    private Language spanish;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new LanguageCatalog(languageRepository, new ObjectMapper());
+        english = Language.builder().code("en").namePt("Inglês").nameEn("English").active(true).build();
+        spanish = Language.builder().code("es").namePt("Espanhol").nameEn("Spanish").active(true).build();
+    }
+
+    @Test
+    void deveServirLeiturasDoSnapshotSemConsultarBanco() {
+        // Arrange
+        when(languageRepository.findByActiveTrueOrderByNamePtAsc()).thenReturn(List.of(english));
+        catalog.loadOnStartup();
+
+        // Act
+        catalog.getLanguages();
+        LanguageCatalog.Snapshot snapshot = catalog.current();
+
+        // Assert
+        assertEquals(1, snapshot.languages().size());
+        assertTrue(new String(snapshot.body(), StandardCharsets.UTF_8).contains("\"code\":\"en\""));
+        assertTrue(snapshot.etag().startsWith("\"") && snapshot.etag().endsWith("\""));
+        verify(languageRepository, times(1)).findByActiveTrueOrderByNamePtAsc();
+    }
+
+    @Test
+    void deveManterVersaoQuandoConteudoNaoMuda() {
+        // Arrange
+        when(languageRepository.findByActiveTrueOrderByNamePtAsc()).thenReturn(List.of(english));
+        LanguageCatalog.Snapshot first = catalog.refresh();
+
+        // Act
+        LanguageCatalog.Snapshot second = catalog.refresh();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, second.version());
+    }
+
+    @Test
+    void deveIncrementarVersaoEEtagQuandoConteudoMuda() {
+        // Arrange
+        when(languageRepository.findByActiveTrueOrderByNamePtAsc())
+                .thenReturn(List.of(english))
+                .thenReturn(List.of(spanish, english));
+        LanguageCatalog.Snapshot first = catalog.refresh();
+
+        // Act
+        LanguageCatalog.Snapshot second = catalog.refresh();
+
+        // Assert
+        assertEquals(2, second.version());
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals(2, catalog.getLanguages().size());
+    }
+
+    @Test
+    void deveCarregarNaPrimeiraLeituraQuandoCargaInicialFalha() {
+        // Arrange
+        when(languageRepository.findByActiveTrueOrderByNamePtAsc())
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(List.of(english));
+        catalog.loadOnStartup();
+
+        // Act
+        LanguageCatalog.Snapshot snapshot = catalog.current();
+
+        // Assert
+        assertEquals(1, snapshot.languages().size());
+    }
+
+    @Test
+    void deveManterSnapshotAnteriorQuandoRecargaAgendadaFalha() {
+        // Arrange
+        when(languageRepository.findByActiveTrueOrderByNamePtAsc())
+                .thenReturn(List.of(english))
+                .thenThrow(new IllegalStateException("database down"));
+        LanguageCatalog.Snapshot first = catalog.refresh();
+
+        // Act
+        catalog.scheduledRefresh();
+
+        // Assert
+        assertSame(first, catalog.current());
+    }
+}
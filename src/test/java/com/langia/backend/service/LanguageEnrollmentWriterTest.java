@@ -0,0 +1,172 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.langia.backend.dto.LanguageEnrollmentDTO;
+import com.langia.backend.service.LanguageEnrollmentWriter.EnrollResult;
+import com.langia.backend.service.LanguageEnrollmentWriter.EnrollStatus;
+
+/**
+ * Testes para as alterações de enrollments de idiomas em uma única ida ao banco.
+ */
+@ExtendWith(MockitoExtension.class)
+class LanguageEnrollmentWriterTest {
+
+    private static final LocalDateTime ENROLLED_AT = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private LanguageEnrollmentWriter writer;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        writer = new LanguageEnrollmentWriter(jdbcTemplate);
+        userId = UUID.randomUUID();
+    }
+
+    // ========== Testes de Enroll ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveMapearEnrollmentCriadoPelaFuncao() throws Exception {
+        // Arrange
+        UUID enrollmentId = UUID.randomUUID();
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("result_status")).thenReturn("ENROLLED");
+        when(rs.getObject("enrollment_id", UUID.class)).thenReturn(enrollmentId);
+        when(rs.getString("language_name_pt")).thenReturn("Inglês");
+        when(rs.getString("language_name_en")).thenReturn("English");
+        when(rs.getString("language_name_es")).thenReturn("Inglés");
+        when(rs.getBoolean("enrollment_primary")).thenReturn(true);
+        when(rs.getTimestamp("enrollment_enrolled_at")).thenReturn(Timestamp.valueOf(ENROLLED_AT));
+
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.queryForObject(anyString(), params.capture(), any(RowMapper.class)))
+                .thenAnswer(invocation -> ((RowMapper<EnrollResult>) invocation.getArgument(2)).mapRow(rs, 0));
+
+        // Act
+        EnrollResult result = writer.enroll(userId, "en", "A1", false, 3);
+
+        // Assert
+        assertEquals(EnrollStatus.ENROLLED, result.status());
+        LanguageEnrollmentDTO enrollment = result.enrollment();
+        assertEquals(enrollmentId, enrollment.getId());
+        assertEquals("en", enrollment.getLanguageCode());
+        assertEquals("Inglês", enrollment.getLanguageNamePt());
+        assertEquals("A1", enrollment.getCefrLevel());
+        assertTrue(enrollment.isPrimary());
+        assertEquals(ENROLLED_AT, enrollment.getEnrolledAt());
+        assertEquals(userId, params.getValue().getValue("userId"));
+        assertEquals(3, params.getValue().getValue("maxLanguages"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetornarStatusSemEnrollmentQuandoRecusado() throws Exception {
+        // Arrange
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("result_status")).thenReturn("LIMIT_REACHED");
+        when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> ((RowMapper<EnrollResult>) invocation.getArgument(2)).mapRow(rs, 0));
+
+        // Act
+        EnrollResult result = writer.enroll(userId, "en", null, false, 3);
+
+        // Assert
+        assertEquals(EnrollStatus.LIMIT_REACHED, result.status());
+        assertNull(result.enrollment());
+    }
+
+    // ========== Testes de Update ==========
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveAtualizarComUmUnicoUpdateReturning() {
+        // Arrange
+        LanguageEnrollmentDTO updated = LanguageEnrollmentDTO.builder().languageCode("en").cefrLevel("B2").build();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.query(sql.capture(), params.capture(), any(RowMapper.class)))
+                .thenReturn(List.of(updated));
+
+        // Act
+        Optional<LanguageEnrollmentDTO> result = writer.update(userId, "en", "B2", true);
+
+        // Assert
+        assertEquals(Optional.of(updated), result);
+        assertTrue(sql.getValue().startsWith("UPDATE student_language_enrollments"));
+        assertTrue(sql.getValue().contains("RETURNING"));
+        assertEquals("B2", params.getValue().getValue("cefrLevel"));
+        assertEquals(true, params.getValue().getValue("primary"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRetornarVazioQuandoEnrollmentNaoExiste() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        // Act
+        Optional<LanguageEnrollmentDTO> result = writer.update(userId, "xx", null, false);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    // ========== Testes de Unenroll ==========
+
+    @Test
+    void deveRemoverEnrollmentPelaFuncao() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Boolean.class)))
+                .thenReturn(true);
+
+        // Act
+        boolean removed = writer.unenroll(userId, "en");
+
+        // Assert
+        assertTrue(removed);
+        verify(jdbcTemplate).queryForObject(
+                eq("SELECT unenroll_student_language(CAST(:userId AS UUID), CAST(:languageCode AS VARCHAR))"),
+                any(MapSqlParameterSource.class), eq(Boolean.class));
+    }
+
+    @Test
+    void deveRetornarFalseQuandoFuncaoNaoEncontraEnrollment() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), any(MapSqlParameterSource.class), eq(Boolean.class)))
+                .thenReturn(false);
+
+        // Act & Assert
+        assertFalse(writer.unenroll(userId, "xx"));
+    }
+}
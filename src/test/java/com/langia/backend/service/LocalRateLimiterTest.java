@@ -0,0 +1,130 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.langia.backend.config.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes unitários para LocalRateLimiter.
+ */
+class LocalRateLimiterTest {
+
+    private static final String POLICY = "password-reset-ip";
+    private static final String IP = "203.0.113.7";
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private LocalRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setLimit(10);
+        policy.setWindow(Duration.ofHours(1));
+        policy.setLocalCapacity(3);
+        policy.setLocalRefillPeriod(Duration.ofSeconds(10));
+
+        properties = new RateLimitProperties();
+        properties.getPolicies().put(POLICY, policy);
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        limiter = new LocalRateLimiter(properties, meterRegistry, nanos::get);
+    }
+
+    @Test
+    void devePermitirRajadaAteACapacidadeERejeitarDepois() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(POLICY, IP));
+        }
+
+        long wait = limiter.tryAcquire(POLICY, IP);
+
+        assertEquals(10_000, wait);
+    }
+
+    @Test
+    void deveReabastecerUmaFichaPorPeriodo() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(POLICY, IP);
+        }
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(0, limiter.tryAcquire(POLICY, IP));
+        assertTrue(limiter.tryAcquire(POLICY, IP) > 0);
+    }
+
+    @Test
+    void deveManterBaldesSeparadosPorIdentificador() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(POLICY, IP);
+        }
+
+        assertTrue(limiter.tryAcquire(POLICY, IP) > 0);
+        assertEquals(0, limiter.tryAcquire(POLICY, "198.51.100.1"));
+    }
+
+    @Test
+    void devePermitirPoliticaSemBaldeLocal() {
+        assertFalse(limiter.isEnabled("email-change-verify"));
+        assertEquals(0, limiter.tryAcquire("email-change-verify", IP));
+    }
+
+    @Test
+    void naoDeveCriarBaldesQuandoDesabilitado() {
+        properties.getLocal().setEnabled(false);
+        LocalRateLimiter disabled = new LocalRateLimiter(properties, meterRegistry, nanos::get);
+
+        assertFalse(disabled.isEnabled(POLICY));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, disabled.tryAcquire(POLICY, IP));
+        }
+    }
+
+    @Test
+    void deveContarAcertosERejeicoes() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(POLICY, IP);
+        }
+
+        assertEquals(3.0, meterRegistry.counter("rate_limit.local.hits", "policy", POLICY).count());
+        assertEquals(2.0, meterRegistry.counter("rate_limit.local.rejected", "policy", POLICY).count());
+    }
+
+    @Test
+    void naoDevePermitirMaisQueACapacidadeSobConcorrencia() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (limiter.tryAcquire(POLICY, IP) == 0) {
+                    allowed.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(3, allowed.get());
+    }
+}
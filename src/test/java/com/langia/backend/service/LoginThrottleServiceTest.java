@@ -0,0 +1,117 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.langia.backend.dto.RateLimitDecision;
+import com.langia.backend.exception.RateLimitExceededException;
+
+/**
+ * Testes unitários para LoginThrottleService.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleServiceTest {
+
+    private static final String IP = "192.168.1.1";
+    private static final String EMAIL = "User@Example.com";
+    private static final String ACCOUNT_KEY = "user@example.com";
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private LoginThrottleService throttleService;
+
+    @BeforeEach
+    void setUp() {
+        throttleService = new LoginThrottleService(rateLimiter);
+    }
+
+    @Test
+    void devePermitirLoginDentroDosLimites() {
+        // Arrange
+        when(rateLimiter.tryConsume(LoginThrottleService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(true, 29, 0, 10_000));
+        when(rateLimiter.peek(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY))
+                .thenReturn(new RateLimitDecision(true, 10, 0, 0));
+
+        // Act
+        throttleService.checkLoginAllowed(IP, EMAIL);
+
+        // Assert
+        verify(rateLimiter).peek(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY);
+    }
+
+    @Test
+    void deveRejeitarIpLimitadoSemConsultarConta() {
+        // Arrange
+        when(rateLimiter.tryConsume(LoginThrottleService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(false, 0, 9_500, 300_000));
+
+        // Act & Assert
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> throttleService.checkLoginAllowed(IP, EMAIL));
+
+        assertEquals(10L, exception.getRetryAfterSeconds());
+        verify(rateLimiter, never()).peek(anyString(), anyString());
+    }
+
+    @Test
+    void deveRejeitarContaEmAtrasoOuBloqueada() {
+        // Arrange
+        when(rateLimiter.tryConsume(LoginThrottleService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(true, 20, 0, 10_000));
+        when(rateLimiter.peek(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY))
+                .thenReturn(new RateLimitDecision(false, 0, 900_000, 900_000));
+
+        // Act & Assert
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> throttleService.checkLoginAllowed(IP, EMAIL));
+
+        assertEquals(900L, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void deveIgnorarLimiteDeIpQuandoIpAusente() {
+        // Arrange
+        when(rateLimiter.peek(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY))
+                .thenReturn(new RateLimitDecision(true, 10, 0, 0));
+
+        // Act
+        throttleService.checkLoginAllowed(null, EMAIL);
+
+        // Assert
+        verify(rateLimiter, never()).tryConsume(anyString(), anyString());
+    }
+
+    @Test
+    void deveRegistrarFalhaNaContaNormalizada() {
+        // Arrange
+        when(rateLimiter.tryConsume(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY))
+                .thenReturn(new RateLimitDecision(true, 6, 0, 900_000));
+
+        // Act
+        throttleService.recordFailure(EMAIL);
+
+        // Assert
+        verify(rateLimiter).tryConsume(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY);
+    }
+
+    @Test
+    void deveLimparFalhasAposSucesso() {
+        // Act
+        throttleService.recordSuccess(EMAIL);
+
+        // Assert
+        verify(rateLimiter).reset(LoginThrottleService.ACCOUNT_POLICY, ACCOUNT_KEY);
+    }
+}
@@ -2,248 +2,110 @@ package com.langia.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.time.Duration;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.junit.jupiter.MockitoSettings;
-import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
-import com.langia.backend.config.PasswordResetProperties;
+import com.langia.backend.dto.RateLimitDecision;
 
 /**
- * Testes para o serviço de rate limiting de recuperação de senha.
+ * Testes unitários para PasswordResetRateLimitService.
  */
 @ExtendWith(MockitoExtension.class)
-@MockitoSettings(strictness = Strictness.LENIENT)
 class PasswordResetRateLimitServiceTest {
 
-    @Mock
-    private RedisTemplate<String, String> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-
-    @Mock
-    private PasswordResetProperties properties;
+    private static final String IP = "192.168.1.1";
+    private static final String EMAIL = "test@example.com";
 
     @Mock
-    private PasswordResetProperties.RateLimitConfig rateLimitConfig;
+    private RateLimiter rateLimiter;
 
-    @InjectMocks
     private PasswordResetRateLimitService rateLimitService;
 
-    private String testIpAddress;
-    private String testEmail;
-
     @BeforeEach
     void setUp() {
-        testIpAddress = "192.168.1.1";
-        testEmail = "test@example.com";
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-
-    // ========== Testes de Bloqueio de IP ==========
-
-    @Test
-    void deveRetornarFalseQuandoIpNaoTemTentativas() {
-        // Arrange
-        when(valueOperations.get(anyString())).thenReturn(null);
-
-        // Act
-        boolean result = rateLimitService.isIpBlocked(testIpAddress);
-
-        // Assert
-        assertFalse(result);
-    }
-
-    @Test
-    void deveRetornarFalseQuandoIpAbaixoDoLimite() {
-        // Arrange
-        when(valueOperations.get(anyString())).thenReturn("5");
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerIp()).thenReturn(10);
-
-        // Act
-        boolean result = rateLimitService.isIpBlocked(testIpAddress);
-
-        // Assert
-        assertFalse(result);
-    }
-
-    @Test
-    void deveRetornarTrueQuandoIpAtingeLimite() {
-        // Arrange
-        when(valueOperations.get(anyString())).thenReturn("10");
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerIp()).thenReturn(10);
-
-        // Act
-        boolean result = rateLimitService.isIpBlocked(testIpAddress);
-
-        // Assert
-        assertTrue(result);
-    }
-
-    // ========== Testes de Registro de Tentativas ==========
-
-    @Test
-    void deveRegistrarTentativaEDefinirTTL() {
-        // Arrange
-        when(valueOperations.increment(anyString())).thenReturn(1L);
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getWindowHours()).thenReturn(1);
-
-        // Act
-        rateLimitService.recordAttempt(testIpAddress);
-
-        // Assert
-        verify(valueOperations).increment(anyString());
-        verify(redisTemplate).expire(anyString(), any(Duration.class));
+        rateLimitService = new PasswordResetRateLimitService(rateLimiter);
     }
 
     @Test
-    void naoDeveRedefinirTTLEmTentativasSubsequentes() {
+    void deveRetornarDecisaoDoLimiteDeIp() {
         // Arrange
-        when(valueOperations.increment(anyString())).thenReturn(2L);
+        RateLimitDecision decision = new RateLimitDecision(true, 9, 0, 3_600_000);
+        when(rateLimiter.tryConsume(PasswordResetRateLimitService.IP_POLICY, IP)).thenReturn(decision);
 
-        // Act
-        rateLimitService.recordAttempt(testIpAddress);
-
-        // Assert
-        verify(valueOperations).increment(anyString());
+        // Act & Assert
+        assertSame(decision, rateLimitService.tryAcquireForIp(IP));
     }
 
-    // ========== Testes de Tentativas Restantes ==========
-
     @Test
-    void deveRetornarTentativasRestantesCorretamente() {
+    void deveNegarIpBloqueado() {
         // Arrange
-        when(valueOperations.get(anyString())).thenReturn("3");
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerIp()).thenReturn(10);
+        when(rateLimiter.tryConsume(PasswordResetRateLimitService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(false, 0, 3_599_500, 3_599_500));
 
         // Act
-        int remaining = rateLimitService.getRemainingAttempts(testIpAddress);
+        RateLimitDecision result = rateLimitService.tryAcquireForIp(IP);
 
         // Assert
-        assertEquals(7, remaining);
+        assertFalse(result.allowed());
+        assertEquals(3600L, result.retryAfterSeconds());
     }
 
     @Test
-    void deveRetornarMaximoQuandoNaoHaTentativas() {
+    void devePermitirEmailDentroDoLimite() {
         // Arrange
-        when(valueOperations.get(anyString())).thenReturn(null);
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerIp()).thenReturn(10);
-
-        // Act
-        int remaining = rateLimitService.getRemainingAttempts(testIpAddress);
+        when(rateLimiter.tryConsume(PasswordResetRateLimitService.EMAIL_POLICY, EMAIL))
+                .thenReturn(new RateLimitDecision(true, 4, 0, 3_600_000));
 
-        // Assert
-        assertEquals(10, remaining);
+        // Act & Assert
+        assertTrue(rateLimitService.tryAcquireForEmail(EMAIL));
     }
 
-    // ========== Testes de Tempo até Reset ==========
-
     @Test
-    void deveRetornarTTLCorreto() {
+    void deveNegarEmailAcimaDoLimite() {
         // Arrange
-        when(redisTemplate.getExpire(anyString())).thenReturn(3600L);
+        when(rateLimiter.tryConsume(PasswordResetRateLimitService.EMAIL_POLICY, EMAIL))
+                .thenReturn(new RateLimitDecision(false, 0, 60_000, 60_000));
 
-        // Act
-        long ttl = rateLimitService.getTimeUntilReset(testIpAddress);
-
-        // Assert
-        assertEquals(3600L, ttl);
+        // Act & Assert
+        assertFalse(rateLimitService.tryAcquireForEmail(EMAIL));
     }
 
     @Test
-    void deveRetornarMenosUmQuandoNaoHaTTL() {
+    void deveRetornarTentativasRestantesSemConsumir() {
         // Arrange
-        when(redisTemplate.getExpire(anyString())).thenReturn(null);
+        when(rateLimiter.peek(PasswordResetRateLimitService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(true, 7, 0, 3_600_000));
 
-        // Act
-        long ttl = rateLimitService.getTimeUntilReset(testIpAddress);
-
-        // Assert
-        assertEquals(-1L, ttl);
+        // Act & Assert
+        assertEquals(7, rateLimitService.getRemainingAttempts(IP));
     }
 
-    // ========== Testes de Reset ==========
-
     @Test
-    void deveResetarTentativasDoIp() {
-        // Act
-        rateLimitService.resetAttempts(testIpAddress);
-
-        // Assert
-        verify(redisTemplate).delete(anyString());
-    }
-
-    // ========== Testes de Rate Limiting por Email ==========
-
-    @Test
-    void deveRetornarFalseQuandoEmailAbaixoDoLimite() {
-        // Arrange
-        when(valueOperations.get(anyString())).thenReturn("2");
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerEmail()).thenReturn(5);
-
-        // Act
-        boolean result = rateLimitService.isEmailLimitReached(testEmail);
-
-        // Assert
-        assertFalse(result);
-    }
-
-    @Test
-    void deveRetornarTrueQuandoEmailAtingeLimite() {
-        // Arrange
-        when(valueOperations.get(anyString())).thenReturn("5");
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getMaxAttemptsPerEmail()).thenReturn(5);
-
-        // Act
-        boolean result = rateLimitService.isEmailLimitReached(testEmail);
-
-        // Assert
-        assertTrue(result);
-    }
-
-    @Test
-    void deveRegistrarTentativaPorEmailEDefinirTTL() {
+    void deveRetornarZeroQuandoIpNaoBloqueado() {
         // Arrange
-        when(valueOperations.increment(anyString())).thenReturn(1L);
-        when(properties.getRateLimit()).thenReturn(rateLimitConfig);
-        when(rateLimitConfig.getWindowHours()).thenReturn(1);
+        when(rateLimiter.peek(PasswordResetRateLimitService.IP_POLICY, IP))
+                .thenReturn(new RateLimitDecision(true, 10, 0, 0));
 
-        // Act
-        rateLimitService.recordEmailAttempt(testEmail);
-
-        // Assert
-        verify(valueOperations).increment(anyString());
-        verify(redisTemplate).expire(anyString(), any(Duration.class));
+        // Act & Assert
+        assertEquals(0L, rateLimitService.getTimeUntilReset(IP));
     }
 
     @Test
-    void deveResetarTentativasDoEmail() {
+    void deveResetarTentativasDoIpEDoEmail() {
         // Act
-        rateLimitService.resetEmailAttempts(testEmail);
+        rateLimitService.resetAttempts(IP);
+        rateLimitService.resetEmailAttempts(EMAIL);
 
         // Assert
-        verify(redisTemplate).delete(anyString());
+        verify(rateLimiter).reset(PasswordResetRateLimitService.IP_POLICY, IP);
+        verify(rateLimiter).reset(PasswordResetRateLimitService.EMAIL_POLICY, EMAIL);
     }
 }
@@ -24,10 +24,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.langia.backend.config.PasswordResetProperties;
+import com.langia.backend.dto.RateLimitDecision;
 import com.langia.backend.dto.ValidateTokenResponseDTO;
 import com.langia.backend.exception.InvalidResetTokenException;
 import com.langia.backend.exception.PasswordRecentlyUsedException;
@@ -67,7 +68,7 @@ class PasswordResetServiceTest {
     private EmailService emailService;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     @Mock
     private PasswordResetProperties properties;
@@ -78,12 +79,11 @@ class PasswordResetServiceTest {
     @Mock
     private PasswordResetProperties.HistoryConfig historyConfig;
 
-    @Mock
-    private PasswordResetProperties.RateLimitConfig rateLimitConfig;
-
     @InjectMocks
     private PasswordResetService passwordResetService;
 
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 9, 0, 3_600_000);
+
     private User testUser;
     private PasswordResetToken testToken;
     private String testEmail;
@@ -127,8 +127,8 @@ class PasswordResetServiceTest {
     @Test
     void deveRetornarTrueQuandoEmailNaoExiste() {
         // Arrange
-        when(rateLimitService.isEmailLimitReached(testEmail)).thenReturn(false);
-        when(rateLimitService.isIpBlocked(testIpAddress)).thenReturn(false);
+        when(rateLimitService.tryAcquireForIp(testIpAddress)).thenReturn(ALLOWED);
+        when(rateLimitService.tryAcquireForEmail(testEmail)).thenReturn(true);
         when(userRepository.findByEmail(testEmail)).thenReturn(Optional.empty());
 
         // Act
@@ -143,8 +143,8 @@ class PasswordResetServiceTest {
     @Test
     void deveEnviarEmailQuandoUsuarioExiste() {
         // Arrange
-        when(rateLimitService.isEmailLimitReached(testEmail)).thenReturn(false);
-        when(rateLimitService.isIpBlocked(testIpAddress)).thenReturn(false);
+        when(rateLimitService.tryAcquireForIp(testIpAddress)).thenReturn(ALLOWED);
+        when(rateLimitService.tryAcquireForEmail(testEmail)).thenReturn(true);
         when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
         when(tokenRepository.invalidateAllUserTokens(any(UUID.class), any(LocalDateTime.class))).thenReturn(0);
         when(properties.getToken()).thenReturn(tokenConfig);
@@ -163,23 +163,22 @@ class PasswordResetServiceTest {
     @Test
     void deveRetornarTrueQuandoEmailLimitAtingido() {
         // Arrange
-        when(rateLimitService.isEmailLimitReached(testEmail)).thenReturn(true);
+        when(rateLimitService.tryAcquireForIp(testIpAddress)).thenReturn(ALLOWED);
+        when(rateLimitService.tryAcquireForEmail(testEmail)).thenReturn(false);
 
         // Act
         boolean result = passwordResetService.requestPasswordReset(testEmail, testIpAddress);
 
         // Assert
         assertTrue(result);
-        verify(rateLimitService, never()).isIpBlocked(anyString());
         verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
     void deveLancarExcecaoQuandoIpBloqueado() {
         // Arrange
-        when(rateLimitService.isEmailLimitReached(testEmail)).thenReturn(false);
-        when(rateLimitService.isIpBlocked(testIpAddress)).thenReturn(true);
-        when(rateLimitService.getTimeUntilReset(testIpAddress)).thenReturn(3600L);
+        when(rateLimitService.tryAcquireForIp(testIpAddress))
+                .thenReturn(new RateLimitDecision(false, 0, 1_800_000, 3_600_000));
 
         // Act & Assert
         RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> {
@@ -187,6 +186,8 @@ class PasswordResetServiceTest {
         });
 
         assertNotNull(exception);
+        assertEquals(1800L, exception.getRetryAfterSeconds());
+        verify(rateLimitService, never()).tryAcquireForEmail(anyString());
         verify(userRepository, never()).findByEmail(anyString());
     }
 
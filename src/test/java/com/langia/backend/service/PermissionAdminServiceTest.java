@@ -0,0 +1,171 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.langia.backend.dto.PermissionSourceDTO;
+import com.langia.backend.dto.ProfilePermissionsDTO;
+import com.langia.backend.exception.ResourceNotFoundException;
+import com.langia.backend.model.Functionality;
+import com.langia.backend.model.Profile;
+import com.langia.backend.model.ProfileFunctionality;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.repository.FunctionalityRepository;
+import com.langia.backend.repository.ProfileFunctionalityRepository;
+import com.langia.backend.repository.ProfileRepository;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrix;
+import com.langia.backend.util.PermissionMatrix.ProfileGrants;
+import com.langia.backend.util.PermissionMatrixFixtures;
+
+/**
+ * Testes unitários para PermissionAdminService.
+ */
+@ExtendWith(MockitoExtension.class)
+class PermissionAdminServiceTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private FunctionalityRepository functionalityRepository;
+
+    @Mock
+    private ProfileFunctionalityRepository profileFunctionalityRepository;
+
+    @Mock
+    private PermissionMatrixLoader permissionMatrixLoader;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PermissionAdminService service;
+    private Profile student;
+    private Functionality chat;
+
+    @BeforeEach
+    void setUp() {
+        PermissionMapper permissionMapper = PermissionMatrixFixtures.mapper();
+        service = new PermissionAdminService(profileRepository, functionalityRepository,
+                profileFunctionalityRepository, permissionMatrixLoader, permissionMapper, transactionManager);
+        student = Profile.builder().code(UserProfile.STUDENT).name("Student").hierarchyLevel(1).build();
+        chat = Functionality.builder().code("chat_with_ai").build();
+    }
+
+    @Test
+    void deveConcederFuncionalidadeEIncrementarVersao() {
+        // Arrange
+        when(profileRepository.findByCode(UserProfile.STUDENT)).thenReturn(Optional.of(student));
+        when(functionalityRepository.findByCode("manage_users")).thenReturn(Optional.of(chat));
+        when(profileFunctionalityRepository.existsByProfileAndFunctionality(student, chat)).thenReturn(false);
+
+        // Act
+        service.grant(UserProfile.STUDENT, "manage_users");
+
+        // Assert
+        verify(profileFunctionalityRepository).save(any(ProfileFunctionality.class));
+        verify(profileRepository).incrementPermissionsVersionFromHierarchyLevel(1);
+        verify(permissionMatrixLoader).notifyProfileChanged(UserProfile.STUDENT);
+    }
+
+    @Test
+    void naoDeveAlterarVersaoAoConcederFuncionalidadeExistente() {
+        // Arrange
+        when(profileRepository.findByCode(UserProfile.STUDENT)).thenReturn(Optional.of(student));
+        when(functionalityRepository.findByCode("chat_with_ai")).thenReturn(Optional.of(chat));
+        when(profileFunctionalityRepository.existsByProfileAndFunctionality(student, chat)).thenReturn(true);
+
+        // Act
+        ProfilePermissionsDTO result = service.grant(UserProfile.STUDENT, "chat_with_ai");
+
+        // Assert
+        assertEquals(PermissionMatrixFixtures.STUDENT.size(), result.permissions().size());
+        verify(profileRepository, never()).incrementPermissionsVersionFromHierarchyLevel(any());
+        verify(permissionMatrixLoader, never()).notifyProfileChanged(any());
+    }
+
+    @Test
+    void deveRevogarFuncionalidadeEIncrementarVersao() {
+        // Arrange
+        when(profileRepository.findByCode(UserProfile.STUDENT)).thenReturn(Optional.of(student));
+        when(functionalityRepository.findByCode("chat_with_ai")).thenReturn(Optional.of(chat));
+        when(profileFunctionalityRepository.deleteByProfileAndFunctionality(student, chat)).thenReturn(1);
+
+        // Act
+        service.revoke(UserProfile.STUDENT, "chat_with_ai");
+
+        // Assert
+        verify(profileRepository).incrementPermissionsVersionFromHierarchyLevel(1);
+        verify(permissionMatrixLoader).notifyProfileChanged(UserProfile.STUDENT);
+    }
+
+    @Test
+    void deveLancarExcecaoParaFuncionalidadeInexistente() {
+        // Arrange
+        when(profileRepository.findByCode(UserProfile.STUDENT)).thenReturn(Optional.of(student));
+        when(functionalityRepository.findByCode("inexistente")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> service.grant(UserProfile.STUDENT, "inexistente"));
+        verify(permissionMatrixLoader, never()).notifyProfileChanged(any());
+    }
+
+    @Test
+    void deveRetornarPermissoesOrdenadasComVersao() {
+        // Act
+        ProfilePermissionsDTO result = service.getPermissions(UserProfile.TEACHER);
+
+        // Assert
+        assertEquals(UserProfile.TEACHER, result.profile());
+        assertEquals(PermissionMatrixFixtures.VERSION, result.version());
+        assertEquals(PermissionMatrixFixtures.TEACHER.stream().sorted().toList(), result.permissions());
+    }
+
+    @Test
+    void deveExplicarPermissaoNaoConcedida() {
+        // Act
+        PermissionSourceDTO result = service.explain(UserProfile.STUDENT, "manage_users");
+
+        // Assert
+        assertFalse(result.granted());
+        assertFalse(result.inherited());
+        assertTrue(result.grantedBy().isEmpty());
+    }
+
+    @Test
+    void deveExplicarPermissaoHerdada() {
+        // Arrange
+        PermissionMapper permissionMapper = new PermissionMapper();
+        permissionMapper.setMatrix(PermissionMatrix.empty().apply(
+                Map.of(UserProfile.TEACHER, new ProfileGrants(2, Map.of("view_courses", List.of(UserProfile.STUDENT)))),
+                EnumSet.allOf(UserProfile.class)));
+        service = new PermissionAdminService(profileRepository, functionalityRepository,
+                profileFunctionalityRepository, permissionMatrixLoader, permissionMapper, transactionManager);
+
+        // Act
+        PermissionSourceDTO result = service.explain(UserProfile.TEACHER, "view_courses");
+
+        // Assert
+        assertTrue(result.granted());
+        assertTrue(result.inherited());
+        assertEquals(List.of(UserProfile.STUDENT), result.grantedBy());
+    }
+}
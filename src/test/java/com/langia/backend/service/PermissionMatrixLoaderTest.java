@@ -0,0 +1,242 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.langia.backend.dto.PermissionGrant;
+import com.langia.backend.model.Profile;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.repository.ProfileFunctionalityRepository;
+import com.langia.backend.repository.ProfileRepository;
+import com.langia.backend.util.PermissionMapper;
+import com.langia.backend.util.PermissionMatrix;
+
+/**
+ * Testes do PermissionMatrixLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class PermissionMatrixLoaderTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private ProfileFunctionalityRepository profileFunctionalityRepository;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    private PermissionMapper permissionMapper;
+    private PermissionMatrixLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        permissionMapper = new PermissionMapper();
+        loader = new PermissionMatrixLoader(profileRepository, profileFunctionalityRepository, permissionMapper,
+                stringRedisTemplate);
+    }
+
+    @Test
+    void deveCarregarMatrizDoBancoNaInicializacao() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 3), profile(UserProfile.ADMIN, 5)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(
+                Set.of(UserProfile.STUDENT, UserProfile.ADMIN))).thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "view_courses"),
+                        new PermissionGrant(UserProfile.ADMIN, "view_courses"),
+                        new PermissionGrant(UserProfile.ADMIN, "manage_users")));
+
+        // Act
+        loader.loadOnStartup();
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.STUDENT, "view_courses"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.STUDENT, "manage_users"));
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "manage_users"));
+        assertEquals(5, permissionMapper.getPermissionsVersion(UserProfile.ADMIN));
+        assertTrue(permissionMapper.getPermissionsForProfile(UserProfile.TEACHER).isEmpty());
+    }
+
+    @Test
+    void deveRecarregarApenasPerfisComVersaoAlterada() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 3), profile(UserProfile.ADMIN, 3)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(
+                Set.of(UserProfile.STUDENT, UserProfile.ADMIN))).thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "view_courses"),
+                        new PermissionGrant(UserProfile.ADMIN, "manage_users")));
+        loader.refresh();
+        PermissionMatrix.ProfilePermissions student = permissionMapper.getMatrix().get(UserProfile.STUDENT);
+
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 3), profile(UserProfile.ADMIN, 4)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(
+                Set.of(UserProfile.STUDENT, UserProfile.ADMIN))).thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "view_courses"),
+                        new PermissionGrant(UserProfile.ADMIN, "view_audit_logs")));
+
+        // Act
+        loader.refresh();
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "view_audit_logs"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.ADMIN, "manage_users"));
+        assertEquals(4, permissionMapper.getPermissionsVersion(UserProfile.ADMIN));
+        assertSame(student, permissionMapper.getMatrix().get(UserProfile.STUDENT));
+    }
+
+    @Test
+    void deveResolverHerancaDosPerfisInferiores() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 3), profile(UserProfile.TEACHER, 3), profile(UserProfile.ADMIN, 3)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(EnumSet.allOf(UserProfile.class)))
+                .thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "view_courses"),
+                        new PermissionGrant(UserProfile.TEACHER, "manage_class"),
+                        new PermissionGrant(UserProfile.ADMIN, "manage_users")));
+
+        // Act
+        loader.refresh();
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "view_courses"));
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "manage_class"));
+        assertTrue(permissionMapper.hasPermission(UserProfile.TEACHER, "view_courses"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.TEACHER, "manage_users"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.STUDENT, "manage_class"));
+        assertEquals(List.of(UserProfile.TEACHER),
+                permissionMapper.getGrantingProfiles(UserProfile.ADMIN, "manage_class"));
+    }
+
+    @Test
+    void deveReconstruirPerfisSuperioresQuandoPerfilInferiorMuda() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 3), profile(UserProfile.ADMIN, 3)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(
+                Set.of(UserProfile.STUDENT, UserProfile.ADMIN))).thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "view_courses"),
+                        new PermissionGrant(UserProfile.ADMIN, "manage_users")));
+        loader.refresh();
+
+        when(profileRepository.findByActive(true)).thenReturn(List.of(
+                profile(UserProfile.STUDENT, 4), profile(UserProfile.ADMIN, 4)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(
+                Set.of(UserProfile.STUDENT, UserProfile.ADMIN))).thenReturn(List.of(
+                        new PermissionGrant(UserProfile.STUDENT, "chat_with_ai"),
+                        new PermissionGrant(UserProfile.ADMIN, "manage_users")));
+
+        // Act
+        loader.reloadProfile(UserProfile.STUDENT);
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "chat_with_ai"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.ADMIN, "view_courses"));
+        assertEquals(4, permissionMapper.getPermissionsVersion(UserProfile.ADMIN));
+    }
+
+    @Test
+    void naoDeveConsultarFuncionalidadesQuandoVersoesNaoMudaram() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(profile(UserProfile.STUDENT, 3)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(Set.of(UserProfile.STUDENT)))
+                .thenReturn(List.of(new PermissionGrant(UserProfile.STUDENT, "view_courses")));
+        loader.refresh();
+        PermissionMatrix matrix = permissionMapper.getMatrix();
+
+        // Act
+        loader.refresh();
+
+        // Assert
+        assertSame(matrix, permissionMapper.getMatrix());
+        verify(profileFunctionalityRepository).findActiveOwnGrantsByProfileCodes(any());
+    }
+
+    @Test
+    void deveManterMatrizAnteriorQuandoCargaFalha() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(profile(UserProfile.STUDENT, 3)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(Set.of(UserProfile.STUDENT)))
+                .thenReturn(List.of(new PermissionGrant(UserProfile.STUDENT, "view_courses")));
+        loader.refresh();
+        when(profileRepository.findByActive(true)).thenThrow(new IllegalStateException("database down"));
+
+        // Act
+        loader.refresh();
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.STUDENT, "view_courses"));
+    }
+
+    @Test
+    void deveRecarregarPerfilAoReceberNotificacao() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(profile(UserProfile.TEACHER, 7)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(Set.of(UserProfile.TEACHER)))
+                .thenReturn(List.of(new PermissionGrant(UserProfile.TEACHER, "manage_class")));
+
+        // Act
+        loader.onMessage(new DefaultMessage(PermissionMatrixLoader.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "TEACHER".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.TEACHER, "manage_class"));
+        assertEquals(7, permissionMapper.getPermissionsVersion(UserProfile.TEACHER));
+    }
+
+    @Test
+    void deveIgnorarNotificacaoDesconhecida() {
+        // Act
+        loader.onMessage(new DefaultMessage(PermissionMatrixLoader.CHANGE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "GUEST".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Assert
+        verify(profileRepository, never()).findByActive(true);
+    }
+
+    @Test
+    void devePublicarAlteracaoAposRecarregarLocalmente() {
+        // Arrange
+        when(profileRepository.findByActive(true)).thenReturn(List.of(profile(UserProfile.ADMIN, 4)));
+        when(profileFunctionalityRepository.findActiveOwnGrantsByProfileCodes(Set.of(UserProfile.ADMIN)))
+                .thenReturn(List.of(new PermissionGrant(UserProfile.ADMIN, "manage_permissions")));
+
+        // Act
+        loader.notifyProfileChanged(UserProfile.ADMIN);
+
+        // Assert
+        assertTrue(permissionMapper.hasPermission(UserProfile.ADMIN, "manage_permissions"));
+        verify(stringRedisTemplate).convertAndSend(PermissionMatrixLoader.CHANGE_CHANNEL, "ADMIN");
+    }
+
+    private static Profile profile(UserProfile code, int permissionsVersion) {
+        return Profile.builder()
+                .code(code)
+                .name(code.name())
+                .hierarchyLevel(code.ordinal() + 1)
+                .permissionsVersion(permissionsVersion)
+                .build();
+    }
+}
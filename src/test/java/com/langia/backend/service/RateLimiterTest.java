@@ -0,0 +1,209 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.langia.backend.config.RateLimitProperties;
+import com.langia.backend.config.RateLimitProperties.Algorithm;
+import com.langia.backend.dto.RateLimitDecision;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do RateLimiter executando os scripts Lua no Redis.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RateLimiterTest {
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    private RateLimiter rateLimiter;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("fixed", policy(Algorithm.FIXED_WINDOW, 3, Duration.ofMinutes(1), Duration.ZERO));
+        properties.getPolicies().put("fixed-lockout",
+                policy(Algorithm.FIXED_WINDOW, 2, Duration.ofMinutes(1), Duration.ofMinutes(10)));
+        properties.getPolicies().put("sliding", policy(Algorithm.SLIDING_LOG, 3, Duration.ofMinutes(1), Duration.ZERO));
+        properties.getPolicies().put("sliding-short",
+                policy(Algorithm.SLIDING_LOG, 1, Duration.ofMillis(200), Duration.ZERO));
+        properties.getPolicies().put("gcra", policy(Algorithm.GCRA, 3, Duration.ofMinutes(1), Duration.ZERO));
+        RateLimitProperties.Policy local = policy(Algorithm.SLIDING_LOG, 100, Duration.ofMinutes(1), Duration.ZERO);
+        local.setLocalCapacity(2);
+        local.setLocalRefillPeriod(Duration.ofMinutes(1));
+        properties.getPolicies().put("local", local);
+        RateLimitProperties.Policy delayed = policy(Algorithm.FIXED_WINDOW, 10, Duration.ofMinutes(1), Duration.ZERO);
+        delayed.setDelayAfter(2);
+        delayed.setDelayBase(Duration.ofSeconds(1));
+        properties.getPolicies().put("delayed", delayed);
+        rateLimiter = new RateLimiter(stringRedisTemplate, properties,
+                new LocalRateLimiter(properties, new SimpleMeterRegistry()));
+        key = "test-" + UUID.randomUUID();
+    }
+
+    @Test
+    void janelaFixaDevePermitirAteOLimiteENegarDepois() {
+        assertEquals(2, rateLimiter.tryConsume("fixed", key).remaining());
+        assertEquals(1, rateLimiter.tryConsume("fixed", key).remaining());
+        assertEquals(0, rateLimiter.tryConsume("fixed", key).remaining());
+
+        RateLimitDecision denied = rateLimiter.tryConsume("fixed", key);
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterMillis() > 0 && denied.retryAfterMillis() <= 60_000);
+    }
+
+    @Test
+    void janelaFixaDeveDefinirExpiracaoNoContador() {
+        rateLimiter.tryConsume("fixed", key);
+
+        Long ttl = stringRedisTemplate.getExpire("rate_limit:fixed:" + key);
+        assertTrue(ttl != null && ttl > 0 && ttl <= 60);
+    }
+
+    @Test
+    void janelaFixaDeveCorrigirContadorSemExpiracao() {
+        stringRedisTemplate.opsForValue().set("rate_limit:fixed:" + key, "1");
+
+        rateLimiter.tryConsume("fixed", key);
+
+        Long ttl = stringRedisTemplate.getExpire("rate_limit:fixed:" + key);
+        assertTrue(ttl != null && ttl > 0);
+    }
+
+    @Test
+    void deveAplicarBloqueioAoEsgotarLimite() {
+        rateLimiter.tryConsume("fixed-lockout", key);
+        RateLimitDecision last = rateLimiter.tryConsume("fixed-lockout", key);
+        assertTrue(last.allowed());
+        assertEquals(0, last.remaining());
+
+        RateLimitDecision locked = rateLimiter.peek("fixed-lockout", key);
+        assertFalse(locked.allowed());
+        assertTrue(locked.retryAfterMillis() > 60_000);
+    }
+
+    @Test
+    void janelaDeslizanteDeveNegarAcimaDoLimite() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryConsume("sliding", key).allowed());
+        }
+
+        RateLimitDecision denied = rateLimiter.tryConsume("sliding", key);
+        assertFalse(denied.allowed());
+        assertEquals(0, denied.remaining());
+        assertTrue(denied.retryAfterMillis() > 0);
+    }
+
+    @Test
+    void janelaDeslizanteDeveLiberarAposAJanela() throws InterruptedException {
+        assertTrue(rateLimiter.tryConsume("sliding-short", key).allowed());
+        assertFalse(rateLimiter.tryConsume("sliding-short", key).allowed());
+
+        Thread.sleep(250);
+
+        assertTrue(rateLimiter.tryConsume("sliding-short", key).allowed());
+    }
+
+    @Test
+    void gcraDevePermitirRajadaAteOLimite() {
+        assertEquals(2, rateLimiter.tryConsume("gcra", key).remaining());
+        assertEquals(1, rateLimiter.tryConsume("gcra", key).remaining());
+        assertEquals(0, rateLimiter.tryConsume("gcra", key).remaining());
+
+        RateLimitDecision denied = rateLimiter.tryConsume("gcra", key);
+        assertFalse(denied.allowed());
+        // Uma unidade é reabastecida a cada 20s (janela de 60s / limite 3)
+        assertTrue(denied.retryAfterMillis() > 0 && denied.retryAfterMillis() <= 20_000);
+    }
+
+    @Test
+    void consultaNaoDeveConsumir() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(3, rateLimiter.peek("sliding", key).remaining());
+            assertEquals(3, rateLimiter.peek("gcra", key).remaining());
+            assertEquals(3, rateLimiter.peek("fixed", key).remaining());
+        }
+    }
+
+    @Test
+    void resetDeveRemoverEstadoEBloqueio() {
+        rateLimiter.tryConsume("fixed-lockout", key);
+        rateLimiter.tryConsume("fixed-lockout", key);
+        assertFalse(rateLimiter.peek("fixed-lockout", key).allowed());
+
+        rateLimiter.reset("fixed-lockout", key);
+
+        RateLimitDecision decision = rateLimiter.peek("fixed-lockout", key);
+        assertTrue(decision.allowed());
+        assertEquals(2, decision.remaining());
+    }
+
+    @Test
+    void deveAplicarAtrasoProgressivoAposConsumosLivres() {
+        rateLimiter.tryConsume("delayed", key);
+        rateLimiter.tryConsume("delayed", key);
+        assertTrue(rateLimiter.peek("delayed", key).allowed());
+
+        assertTrue(rateLimiter.tryConsume("delayed", key).allowed());
+        RateLimitDecision delayed = rateLimiter.peek("delayed", key);
+        assertFalse(delayed.allowed());
+        assertTrue(delayed.retryAfterMillis() > 0 && delayed.retryAfterMillis() <= 1000);
+
+        // O atraso dobra a cada consumo seguinte
+        stringRedisTemplate.delete("rate_limit:delayed:" + key + ":lock");
+        rateLimiter.tryConsume("delayed", key);
+        RateLimitDecision doubled = rateLimiter.peek("delayed", key);
+        assertTrue(doubled.retryAfterMillis() > 1000 && doubled.retryAfterMillis() <= 2000);
+    }
+
+    @Test
+    void baldeLocalDeveRejeitarSemConsumirNoRedis() {
+        assertTrue(rateLimiter.tryConsume("local", key).allowed());
+        assertTrue(rateLimiter.tryConsume("local", key).allowed());
+
+        RateLimitDecision denied = rateLimiter.tryConsume("local", key);
+        assertFalse(denied.allowed());
+        assertTrue(denied.retryAfterMillis() > 0);
+        assertEquals(98, rateLimiter.peek("local", key).remaining());
+    }
+
+    @Test
+    void deveRejeitarPoliticaDesconhecida() {
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.tryConsume("unknown", key));
+    }
+
+    @Test
+    void deveRejeitarPoliticaSemJanela() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("invalid", policy(Algorithm.GCRA, 5, null, Duration.ZERO));
+
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(stringRedisTemplate, properties,
+                new LocalRateLimiter(properties, new SimpleMeterRegistry())));
+    }
+
+    private static RateLimitProperties.Policy policy(Algorithm algorithm, int limit, Duration window,
+            Duration lockout) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setAlgorithm(algorithm);
+        policy.setLimit(limit);
+        policy.setWindow(window);
+        policy.setLockout(lockout);
+        return policy;
+    }
+}
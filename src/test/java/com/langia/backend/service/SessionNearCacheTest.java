@@ -0,0 +1,189 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.langia.backend.config.SessionProperties;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.TokenHashUtil;
+
+/**
+ * Testes para o near-cache de sessões.
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionNearCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer container;
+
+    private SessionNearCache nearCache;
+    private SessionData sessionData;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new SessionNearCache(stringRedisTemplate, new SessionProperties());
+        nearCache.startListening(container);
+        sessionData = SessionData.builder()
+                .userId(UUID.randomUUID())
+                .name("Test User")
+                .email("test@example.com")
+                .profile(UserProfile.STUDENT)
+                .build();
+    }
+
+    @Test
+    void deveRetornarSessaoArmazenada() {
+        nearCache.put("token", sessionData);
+
+        assertEquals(sessionData, nearCache.get("token"));
+    }
+
+    @Test
+    void naoDeveArmazenarSessaoRevogadaDuranteLeituraNoRedis() {
+        // Leitura no Redis iniciada antes do logout, concluída depois
+        SessionNearCache.Stamp stamp = nearCache.stamp("token");
+        nearCache.evictToken("token");
+
+        nearCache.put(sessionData, stamp);
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void naoDeveArmazenarSessaoDeUsuarioRevogadoDuranteLeituraNoRedis() {
+        SessionNearCache.Stamp stamp = nearCache.stamp("token");
+        nearCache.evictUser(sessionData.getUserId().toString());
+
+        nearCache.put(sessionData, stamp);
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void naoDeveArmazenarSessaoInvalidadaPorOutraInstanciaDuranteLeitura() {
+        SessionNearCache.Stamp stamp = nearCache.stamp("token");
+        nearCache.onMessage(message("token:" + TokenHashUtil.hashToken("token")), null);
+
+        nearCache.put(sessionData, stamp);
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void deveArmazenarSessaoQuandoNaoHouveInvalidacao() {
+        SessionNearCache.Stamp stamp = nearCache.stamp("token");
+
+        nearCache.put(sessionData, stamp);
+
+        assertEquals(sessionData, nearCache.get("token"));
+    }
+
+    @Test
+    void deveRemoverSessaoEPublicarInvalidacaoPorToken() {
+        nearCache.put("token", sessionData);
+
+        nearCache.evictToken("token");
+
+        assertNull(nearCache.get("token"));
+        verify(stringRedisTemplate).convertAndSend(SessionNearCache.INVALIDATION_CHANNEL,
+                "token:" + TokenHashUtil.hashToken("token"));
+    }
+
+    @Test
+    void deveRemoverTodasAsSessoesDoUsuarioEPublicarInvalidacao() {
+        SessionData outraSessao = SessionData.builder().userId(UUID.randomUUID()).build();
+        nearCache.put("token-1", sessionData);
+        nearCache.put("token-2", sessionData);
+        nearCache.put("token-3", outraSessao);
+
+        nearCache.evictUser(sessionData.getUserId().toString());
+
+        assertNull(nearCache.get("token-1"));
+        assertNull(nearCache.get("token-2"));
+        assertEquals(outraSessao, nearCache.get("token-3"));
+        verify(stringRedisTemplate).convertAndSend(SessionNearCache.INVALIDATION_CHANNEL,
+                "user:" + sessionData.getUserId());
+    }
+
+    @Test
+    void deveInvalidarTokenAoReceberMensagemDeOutraInstancia() {
+        nearCache.put("token", sessionData);
+
+        nearCache.onMessage(message("token:" + TokenHashUtil.hashToken("token")), null);
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void deveInvalidarUsuarioAoReceberMensagemDeOutraInstancia() {
+        nearCache.put("token", sessionData);
+
+        nearCache.onMessage(message("user:" + sessionData.getUserId()), null);
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void deveRemoverLocalmenteMesmoSePublicacaoFalhar() {
+        nearCache.put("token", sessionData);
+        doThrow(new RuntimeException("Redis indisponível"))
+                .when(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+        nearCache.evictToken("token");
+
+        assertNull(nearCache.get("token"));
+    }
+
+    @Test
+    void naoDeveArmazenarQuandoDesabilitado() {
+        SessionProperties properties = new SessionProperties();
+        properties.getNearCache().setEnabled(false);
+        SessionNearCache disabled = new SessionNearCache(stringRedisTemplate, properties);
+        disabled.startListening(container);
+
+        disabled.put("token", sessionData);
+        disabled.evictToken("token");
+
+        assertNull(disabled.get("token"));
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void naoDeveArmazenarQuandoInscricaoFalhar() {
+        SessionNearCache semInscricao = new SessionNearCache(stringRedisTemplate, new SessionProperties());
+        RedisMessageListenerContainer falho = mock(RedisMessageListenerContainer.class);
+        doThrow(new RuntimeException("Redis indisponível")).when(falho).start();
+
+        semInscricao.startListening(falho);
+        semInscricao.put("token", sessionData);
+
+        assertNull(semInscricao.get("token"));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                SessionNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,156 @@
+package com.langia.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.langia.backend.config.SessionProperties;
+import com.langia.backend.dto.SessionData;
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.JwtUtil;
+import com.langia.backend.util.ValidatedClaims;
+
+/**
+ * Testes para a renovação agrupada de sessões (expiração deslizante).
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionRenewalBatcherTest {
+
+    private static final long IDLE_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    @Mock
+    private RedisTemplate<String, SessionData> sessionRedisTemplate;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private SessionProperties properties;
+    private AtomicLong now;
+    private SessionRenewalBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SessionProperties();
+        properties.getSliding().setEnabled(true);
+        now = new AtomicLong(1_000_000L);
+        batcher = new SessionRenewalBatcher(sessionRedisTemplate, jwtUtil, properties, now::get);
+    }
+
+    @Test
+    void naoDeveMarcarSessaoQuandoDesabilitado() {
+        properties.getSliding().setEnabled(false);
+
+        batcher.touch("token");
+        batcher.flush();
+
+        assertEquals(0, batcher.pendingCount());
+        verify(sessionRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void deveAgruparMarcacoesDentroDoIntervaloDeRenovacao() {
+        batcher.touch("token");
+        batcher.touch("token");
+        batcher.touch("token");
+
+        assertEquals(1, batcher.pendingCount());
+    }
+
+    @Test
+    void deveMarcarNovamenteAposIntervaloDeRenovacao() {
+        batcher.touch("token");
+        batcher.flush();
+
+        now.addAndGet(61_000L);
+        batcher.touch("token");
+
+        assertEquals(1, batcher.pendingCount());
+    }
+
+    @Test
+    void deveDescartarMarcacoesQuandoFilaCheia() {
+        properties.getSliding().setMaxPending(2);
+        batcher = new SessionRenewalBatcher(sessionRedisTemplate, jwtUtil, properties, now::get);
+
+        batcher.touch("token-1");
+        batcher.touch("token-2");
+        batcher.touch("token-3");
+
+        assertEquals(2, batcher.pendingCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveRenovarSessoesEmPipelineLimitandoAExpiracaoDoJwt() {
+        when(jwtUtil.verifyToken("longo")).thenReturn(claimsExpiringAt(now.get() + 2 * IDLE_TIMEOUT_MS));
+        when(jwtUtil.verifyToken("curto")).thenReturn(claimsExpiringAt(now.get() + 5_000L));
+        batcher.touch("longo");
+        batcher.touch("curto");
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(sessionRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            ((RedisCallback<Object>) inv.getArgument(0)).doInRedis(connection);
+            return null;
+        });
+
+        batcher.flush();
+
+        verify(keyCommands).pExpire(bytes("session:longo"), IDLE_TIMEOUT_MS);
+        verify(keyCommands).pExpire(bytes("session:curto"), 5_000L);
+        assertEquals(0, batcher.pendingCount());
+    }
+
+    @Test
+    void naoDeveRenovarSessaoComTokenInvalido() {
+        when(jwtUtil.verifyToken(anyString())).thenReturn(null);
+        batcher.touch("invalido");
+
+        batcher.flush();
+
+        verify(sessionRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+        assertEquals(0, batcher.pendingCount());
+    }
+
+    @Test
+    void deveUsarTempoDeInatividadeComoTtlInicial() {
+        assertEquals(IDLE_TIMEOUT_MS, batcher.initialTtlMs(86_400_000L));
+        assertEquals(60_000L, batcher.initialTtlMs(60_000L));
+
+        properties.getSliding().setEnabled(false);
+        assertEquals(86_400_000L, batcher.initialTtlMs(86_400_000L));
+    }
+
+    private ValidatedClaims claimsExpiringAt(long expiresAt) {
+        return ValidatedClaims.builder()
+                .userId(UUID.randomUUID())
+                .email("test@example.com")
+                .profile(UserProfile.STUDENT)
+                .name("Test User")
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
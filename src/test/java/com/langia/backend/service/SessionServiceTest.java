@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterEach;
@@ -34,6 +33,9 @@ class SessionServiceTest {
     @Autowired
     private RedisTemplate<String, SessionData> sessionRedisTemplate;
 
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
     private SessionData testSessionData;
     private String testToken;
 
@@ -46,7 +48,7 @@ class SessionServiceTest {
                 .name("Test User")
                 .email("test@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(Set.of("view_courses", "submit_exercises"))
+                .permissionsVersion(1)
                 .build();
     }
 
@@ -109,6 +111,21 @@ class SessionServiceTest {
         assertFalse(sessionService.sessionExists(testToken), "Sessão não deveria mais existir");
     }
 
+    @Test
+    void deveRemoverTokenDoIndiceDoUsuarioAoRemoverSessao() {
+        // Given
+        sessionService.saveSession(testToken, testSessionData);
+        String userSessionsKey = "user_sessions:" + testSessionData.getUserId();
+        assertTrue(Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(userSessionsKey, testToken)));
+
+        // When
+        sessionService.removeSession(testToken);
+
+        // Then
+        assertFalse(Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(userSessionsKey, testToken)),
+                "Token não deveria mais estar no índice do usuário");
+    }
+
     @Test
     void deveRetornarFalseAoRemoverSessaoInexistente() {
         // When
@@ -175,21 +192,16 @@ class SessionServiceTest {
     }
 
     @Test
-    void deveSalvarPermissoesCorretamente() {
+    void deveSalvarVersaoDePermissoesCorretamente() {
         // Given
-        Set<String> permissions = Set.of("view_courses", "create_courses", "manage_users");
-        testSessionData.setPermissions(permissions);
+        testSessionData.setPermissionsVersion(7);
 
         // When
         sessionService.saveSession(testToken, testSessionData);
         SessionData retrieved = sessionService.getSession(testToken);
 
         // Then
-        assertNotNull(retrieved.getPermissions());
-        assertEquals(3, retrieved.getPermissions().size());
-        assertTrue(retrieved.getPermissions().contains("view_courses"));
-        assertTrue(retrieved.getPermissions().contains("create_courses"));
-        assertTrue(retrieved.getPermissions().contains("manage_users"));
+        assertEquals(7, retrieved.getPermissionsVersion());
     }
 
     @Test
@@ -245,7 +257,7 @@ class SessionServiceTest {
                 .name("User 1")
                 .email("user1@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(Set.of("view_courses"))
+                .permissionsVersion(1)
                 .build();
 
         SessionData session2 = SessionData.builder()
@@ -253,7 +265,7 @@ class SessionServiceTest {
                 .name("User 2")
                 .email("user2@example.com")
                 .profile(UserProfile.TEACHER)
-                .permissions(Set.of("create_courses"))
+                .permissionsVersion(1)
                 .build();
 
         // When
@@ -288,7 +300,7 @@ class SessionServiceTest {
                 .name("User")
                 .email("user@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(Set.of("view_courses"))
+                .permissionsVersion(1)
                 .build();
 
         SessionData session2 = SessionData.builder()
@@ -296,7 +308,7 @@ class SessionServiceTest {
                 .name("User")
                 .email("user@example.com")
                 .profile(UserProfile.STUDENT)
-                .permissions(Set.of("view_courses"))
+                .permissionsVersion(1)
                 .build();
 
         sessionService.saveSession(token1, session1);
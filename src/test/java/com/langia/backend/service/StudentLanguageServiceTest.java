@@ -2,10 +2,14 @@ package com.langia.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -30,9 +34,9 @@ import com.langia.backend.model.Profile;
 import com.langia.backend.model.StudentLanguageEnrollment;
 import com.langia.backend.model.User;
 import com.langia.backend.model.UserProfile;
-import com.langia.backend.repository.LanguageRepository;
 import com.langia.backend.repository.StudentLanguageEnrollmentRepository;
-import com.langia.backend.repository.UserRepository;
+import com.langia.backend.service.LanguageEnrollmentWriter.EnrollResult;
+import com.langia.backend.service.LanguageEnrollmentWriter.EnrollStatus;
 
 /**
  * Testes para o serviço de idiomas de estudantes.
@@ -44,10 +48,10 @@ class StudentLanguageServiceTest {
     private StudentLanguageEnrollmentRepository enrollmentRepository;
 
     @Mock
-    private LanguageRepository languageRepository;
+    private LanguageEnrollmentWriter enrollmentWriter;
 
     @Mock
-    private UserRepository userRepository;
+    private LanguageCatalog languageCatalog;
 
     @InjectMocks
     private StudentLanguageService studentLanguageService;
@@ -55,6 +59,7 @@ class StudentLanguageServiceTest {
     private User testUser;
     private Language testLanguage;
     private StudentLanguageEnrollment testEnrollment;
+    private LanguageEnrollmentDTO testEnrollmentDTO;
     private UUID userId;
 
     @BeforeEach
@@ -90,6 +95,8 @@ class StudentLanguageServiceTest {
                 .cefrLevel("B1")
                 .isPrimary(true)
                 .build();
+
+        testEnrollmentDTO = LanguageEnrollmentDTO.fromEntity(testEnrollment);
     }
 
     // ========== Testes de Listagem de Idiomas ==========
@@ -97,8 +104,8 @@ class StudentLanguageServiceTest {
     @Test
     void deveListarIdiomasDisponiveis() {
         // Arrange
-        when(languageRepository.findByActiveTrueOrderByNamePtAsc())
-                .thenReturn(List.of(testLanguage));
+        when(languageCatalog.getLanguages())
+                .thenReturn(List.of(LanguageDTO.fromEntity(testLanguage)));
 
         // Act
         List<LanguageDTO> result = studentLanguageService.getAvailableLanguages();
@@ -107,6 +114,7 @@ class StudentLanguageServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("en", result.get(0).getCode());
+        verifyNoInteractions(enrollmentRepository, enrollmentWriter);
     }
 
     @Test
@@ -134,18 +142,15 @@ class StudentLanguageServiceTest {
         request.setCefrLevel("A1");
         request.setPrimary(true);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(languageRepository.findById("en")).thenReturn(Optional.of(testLanguage));
-        when(enrollmentRepository.existsByUserIdAndLanguageCode(userId, "en")).thenReturn(false);
-        when(enrollmentRepository.countByUserId(userId)).thenReturn(0L);
-        when(enrollmentRepository.save(any(StudentLanguageEnrollment.class))).thenReturn(testEnrollment);
+        when(enrollmentWriter.enroll(userId, "en", "A1", true, 3))
+                .thenReturn(new EnrollResult(EnrollStatus.ENROLLED, testEnrollmentDTO));
 
         // Act
         LanguageEnrollmentDTO result = studentLanguageService.enroll(userId, request);
 
         // Assert
-        assertNotNull(result);
-        verify(enrollmentRepository).save(any(StudentLanguageEnrollment.class));
+        assertSame(testEnrollmentDTO, result);
+        verifyNoInteractions(enrollmentRepository);
     }
 
     @Test
@@ -154,7 +159,7 @@ class StudentLanguageServiceTest {
         EnrollLanguageRequest request = new EnrollLanguageRequest();
         request.setLanguageCode("en");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        mockEnrollStatus("en", EnrollStatus.USER_NOT_FOUND);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
@@ -168,24 +173,22 @@ class StudentLanguageServiceTest {
         EnrollLanguageRequest request = new EnrollLanguageRequest();
         request.setLanguageCode("xx");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(languageRepository.findById("xx")).thenReturn(Optional.empty());
+        mockEnrollStatus("xx", EnrollStatus.LANGUAGE_NOT_FOUND);
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             studentLanguageService.enroll(userId, request);
         });
+        assertTrue(exception.getMessage().contains("xx"));
     }
 
     @Test
     void deveLancarExcecaoQuandoIdiomaInativo() {
         // Arrange
-        testLanguage.setActive(false);
         EnrollLanguageRequest request = new EnrollLanguageRequest();
         request.setLanguageCode("en");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(languageRepository.findById("en")).thenReturn(Optional.of(testLanguage));
+        mockEnrollStatus("en", EnrollStatus.LANGUAGE_INACTIVE);
 
         // Act & Assert
         assertThrows(BusinessException.class, () -> {
@@ -199,9 +202,7 @@ class StudentLanguageServiceTest {
         EnrollLanguageRequest request = new EnrollLanguageRequest();
         request.setLanguageCode("en");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(languageRepository.findById("en")).thenReturn(Optional.of(testLanguage));
-        when(enrollmentRepository.existsByUserIdAndLanguageCode(userId, "en")).thenReturn(true);
+        mockEnrollStatus("en", EnrollStatus.ALREADY_ENROLLED);
 
         // Act & Assert
         assertThrows(BusinessException.class, () -> {
@@ -215,10 +216,7 @@ class StudentLanguageServiceTest {
         EnrollLanguageRequest request = new EnrollLanguageRequest();
         request.setLanguageCode("en");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(languageRepository.findById("en")).thenReturn(Optional.of(testLanguage));
-        when(enrollmentRepository.existsByUserIdAndLanguageCode(userId, "en")).thenReturn(false);
-        when(enrollmentRepository.countByUserId(userId)).thenReturn(3L);
+        mockEnrollStatus("en", EnrollStatus.LIMIT_REACHED);
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class, () -> {
@@ -235,17 +233,15 @@ class StudentLanguageServiceTest {
         UpdateLanguageEnrollmentRequest request = new UpdateLanguageEnrollmentRequest();
         request.setCefrLevel("B2");
 
-        when(enrollmentRepository.findByUserIdAndLanguageCode(userId, "en"))
-                .thenReturn(Optional.of(testEnrollment));
-        when(enrollmentRepository.save(any(StudentLanguageEnrollment.class)))
-                .thenReturn(testEnrollment);
+        when(enrollmentWriter.update(userId, "en", "B2", false))
+                .thenReturn(Optional.of(testEnrollmentDTO));
 
         // Act
         LanguageEnrollmentDTO result = studentLanguageService.updateEnrollment(userId, "en", request);
 
         // Assert
-        assertNotNull(result);
-        verify(enrollmentRepository).save(any(StudentLanguageEnrollment.class));
+        assertSame(testEnrollmentDTO, result);
+        verifyNoInteractions(enrollmentRepository);
     }
 
     @Test
@@ -253,7 +249,7 @@ class StudentLanguageServiceTest {
         // Arrange
         UpdateLanguageEnrollmentRequest request = new UpdateLanguageEnrollmentRequest();
 
-        when(enrollmentRepository.findByUserIdAndLanguageCode(userId, "xx"))
+        when(enrollmentWriter.update(userId, "xx", null, false))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -267,38 +263,25 @@ class StudentLanguageServiceTest {
     @Test
     void deveRemoverEnrollmentComSucesso() {
         // Arrange
-        testEnrollment.setPrimary(false);
-        when(enrollmentRepository.findByUserIdAndLanguageCode(userId, "en"))
-                .thenReturn(Optional.of(testEnrollment));
+        when(enrollmentWriter.unenroll(userId, "en")).thenReturn(true);
 
         // Act
         studentLanguageService.unenroll(userId, "en");
 
         // Assert
-        verify(enrollmentRepository).delete(testEnrollment);
+        verify(enrollmentWriter).unenroll(userId, "en");
+        verifyNoInteractions(enrollmentRepository);
     }
 
     @Test
-    void devePromoverOutroIdiomaoQuandoRemovePrimario() {
+    void deveLancarExcecaoAoRemoverEnrollmentInexistente() {
         // Arrange
-        StudentLanguageEnrollment secondEnrollment = StudentLanguageEnrollment.builder()
-                .id(UUID.randomUUID())
-                .user(testUser)
-                .language(Language.builder().code("es").build())
-                .isPrimary(false)
-                .build();
-
-        when(enrollmentRepository.findByUserIdAndLanguageCode(userId, "en"))
-                .thenReturn(Optional.of(testEnrollment));
-        when(enrollmentRepository.findByUserId(userId))
-                .thenReturn(List.of(testEnrollment, secondEnrollment));
-
-        // Act
-        studentLanguageService.unenroll(userId, "en");
+        when(enrollmentWriter.unenroll(userId, "xx")).thenReturn(false);
 
-        // Assert
-        verify(enrollmentRepository).save(secondEnrollment);
-        verify(enrollmentRepository).delete(testEnrollment);
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> {
+            studentLanguageService.unenroll(userId, "xx");
+        });
     }
 
     // ========== Testes de Set Primary ==========
@@ -306,16 +289,19 @@ class StudentLanguageServiceTest {
     @Test
     void deveDefinirPrimarioComSucesso() {
         // Arrange
-        when(enrollmentRepository.findByUserIdAndLanguageCode(userId, "en"))
-                .thenReturn(Optional.of(testEnrollment));
-        when(enrollmentRepository.save(any(StudentLanguageEnrollment.class)))
-                .thenReturn(testEnrollment);
+        when(enrollmentWriter.update(userId, "en", null, true))
+                .thenReturn(Optional.of(testEnrollmentDTO));
 
         // Act
         LanguageEnrollmentDTO result = studentLanguageService.setPrimary(userId, "en");
 
         // Assert
-        assertNotNull(result);
-        verify(enrollmentRepository).save(testEnrollment);
+        assertSame(testEnrollmentDTO, result);
+        verify(enrollmentWriter).update(userId, "en", null, true);
+    }
+
+    private void mockEnrollStatus(String languageCode, EnrollStatus status) {
+        when(enrollmentWriter.enroll(eq(userId), eq(languageCode), any(), anyBoolean(), eq(3)))
+                .thenReturn(new EnrollResult(status, null));
     }
 }
@@ -0,0 +1,137 @@
+package com.langia.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes para o cache em memória com limite de entradas e expiração.
+ */
+class BoundedTtlCacheTest {
+
+    private AtomicLong now;
+    private BoundedTtlCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000_000L);
+        cache = new BoundedTtlCache<>(100, Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    void deveRetornarValorArmazenado() {
+        cache.put("chave", "valor");
+
+        assertEquals("valor", cache.get("chave"));
+    }
+
+    @Test
+    void deveRetornarNullParaChaveInexistente() {
+        assertNull(cache.get("inexistente"));
+    }
+
+    @Test
+    void deveExpirarEntradaAposTtlPadrao() {
+        cache.put("chave", "valor");
+
+        now.addAndGet(30_000L);
+
+        assertNull(cache.get("chave"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void deveRespeitarExpiracaoInformadaMenorQueTtlPadrao() {
+        cache.putUntil("chave", "valor", now.get() + 5_000L);
+
+        now.addAndGet(4_999L);
+        assertEquals("valor", cache.get("chave"));
+
+        now.addAndGet(1L);
+        assertNull(cache.get("chave"));
+    }
+
+    @Test
+    void deveLimitarExpiracaoInformadaAoTtlPadrao() {
+        cache.putUntil("chave", "valor", now.get() + 3_600_000L);
+
+        now.addAndGet(30_000L);
+
+        assertNull(cache.get("chave"));
+    }
+
+    @Test
+    void naoDeveArmazenarEntradaJaExpirada() {
+        cache.putUntil("chave", "valor", now.get() - 1L);
+
+        assertNull(cache.get("chave"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void deveDescartarEntradasMenosRecentesAoAtingirCapacidade() {
+        BoundedTtlCache<Integer, Integer> small = new BoundedTtlCache<>(16, Duration.ofMinutes(1), now::get);
+
+        for (int i = 0; i < 1000; i++) {
+            small.put(i, i);
+        }
+
+        assertEquals(16, small.size());
+        assertEquals(999, small.get(999));
+    }
+
+    @Test
+    void deveCriarValorApenasUmaVezComComputeIfAbsent() {
+        AtomicLong calls = new AtomicLong();
+
+        cache.computeIfAbsent("chave", k -> "valor-" + calls.incrementAndGet());
+        String result = cache.computeIfAbsent("chave", k -> "valor-" + calls.incrementAndGet());
+
+        assertEquals("valor-1", result);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void deveInvalidarEntrada() {
+        cache.put("chave", "valor");
+
+        cache.invalidate("chave");
+
+        assertNull(cache.get("chave"));
+    }
+
+    @Test
+    void deveInvalidarEntradasQueSatisfazemPredicado() {
+        cache.put("a", "remover");
+        cache.put("b", "manter");
+        cache.put("c", "remover");
+
+        int removed = cache.invalidateIf("remover"::equals);
+
+        assertEquals(2, removed);
+        assertNull(cache.get("a"));
+        assertEquals("manter", cache.get("b"));
+    }
+
+    @Test
+    void deveInvalidarTodasAsEntradas() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void deveRejeitarCapacidadeInvalida() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedTtlCache<String, String>(0, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.langia.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Testes para o cálculo e aplicação de JSON Patch.
+ */
+class JsonPatchUtilTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void deveGerarPatchVazioParaDocumentosIguais() throws Exception {
+        JsonNode doc = json("{\"a\":1,\"b\":{\"c\":[1,2]}}");
+
+        assertTrue(JsonPatchUtil.diff(doc, doc.deepCopy()).isEmpty());
+    }
+
+    @Test
+    void deveGerarApenasOperacoesDosCamposAlterados() throws Exception {
+        JsonNode source = json("{\"a\":1,\"b\":{\"c\":true,\"d\":\"x\"},\"e\":null}");
+        JsonNode target = json("{\"a\":1,\"b\":{\"c\":false,\"d\":\"x\"},\"f\":[1]}");
+
+        ArrayNode patch = JsonPatchUtil.diff(source, target);
+
+        assertEquals(json("[{\"op\":\"replace\",\"path\":\"/b/c\",\"value\":false},"
+                + "{\"op\":\"remove\",\"path\":\"/e\"},"
+                + "{\"op\":\"add\",\"path\":\"/f\",\"value\":[1]}]"), patch);
+    }
+
+    @Test
+    void deveSubstituirArraysPorCompleto() throws Exception {
+        ArrayNode patch = JsonPatchUtil.diff(json("{\"l\":[1,2,3]}"), json("{\"l\":[1,3]}"));
+
+        assertEquals(json("[{\"op\":\"replace\",\"path\":\"/l\",\"value\":[1,3]}]"), patch);
+    }
+
+    @Test
+    void deveEscaparNomesDeCampoNoCaminho() throws Exception {
+        JsonNode source = json("{\"a/b\":1,\"c~d\":1}");
+        JsonNode target = json("{\"a/b\":2,\"c~d\":2}");
+
+        ArrayNode patch = JsonPatchUtil.diff(source, target);
+
+        assertEquals("/a~1b", patch.get(0).get("path").asText());
+        assertEquals("/c~0d", patch.get(1).get("path").asText());
+        assertEquals(target, JsonPatchUtil.apply(source, patch));
+    }
+
+    @Test
+    void deveReconstruirDocumentoAplicandoPatch() throws Exception {
+        JsonNode source = json("{\"a\":1,\"b\":{\"c\":true},\"e\":\"x\"}");
+        JsonNode target = json("{\"a\":2,\"b\":{\"c\":true,\"n\":{\"z\":1}}}");
+
+        JsonNode result = JsonPatchUtil.apply(source, JsonPatchUtil.diff(source, target));
+
+        assertEquals(target, result);
+        assertEquals(json("{\"a\":1,\"b\":{\"c\":true},\"e\":\"x\"}"), source);
+    }
+
+    @Test
+    void deveRejeitarOperacaoNaoSuportada() throws Exception {
+        JsonNode patch = json("[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/b\"}]");
+
+        assertThrows(IllegalArgumentException.class, () -> JsonPatchUtil.apply(json("{\"a\":1}"), patch));
+    }
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
@@ -3,6 +3,8 @@ package com.langia.backend.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
@@ -195,4 +197,47 @@ class JwtUtilTest {
         // Then
         assertFalse(isValid, "Token vazio deve retornar false");
     }
+
+    @Test
+    void deveRetornarClaimsVerificadas() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        ValidatedClaims claims = jwtUtil.verifyToken(token);
+
+        // Then
+        assertNotNull(claims, "Token válido deve retornar claims");
+        assertEquals(testUser.getId(), claims.getUserId());
+        assertEquals(testUser.getEmail(), claims.getEmail());
+        assertEquals(UserProfile.STUDENT, claims.getProfile());
+        assertEquals(testUser.getName(), claims.getName());
+    }
+
+    @Test
+    void deveReutilizarClaimsDoMesmoToken() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        ValidatedClaims first = jwtUtil.verifyToken(token);
+        ValidatedClaims second = jwtUtil.verifyToken(token);
+
+        // Then
+        assertSame(first, second, "Claims do mesmo token devem vir do cache");
+    }
+
+    @Test
+    void deveRetornarNullParaTokenComAssinaturaAlterada() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+        String tokenAlterado = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When
+        ValidatedClaims claims = jwtUtil.verifyToken(tokenAlterado);
+
+        // Then
+        assertNull(claims, "Token com assinatura alterada deve retornar null");
+    }
 }
@@ -0,0 +1,79 @@
+package com.langia.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.langia.backend.model.UserProfile;
+
+/**
+ * Testes do PermissionInheritanceResolver.
+ */
+class PermissionInheritanceResolverTest {
+
+    private static final Map<UserProfile, Integer> LEVELS = Map.of(
+            UserProfile.STUDENT, 1,
+            UserProfile.TEACHER, 2,
+            UserProfile.ADMIN, 3);
+
+    private static final Map<UserProfile, List<String>> OWN_GRANTS = Map.of(
+            UserProfile.STUDENT, List.of("view_courses", "chat_with_ai"),
+            UserProfile.TEACHER, List.of("manage_class", "view_courses"),
+            UserProfile.ADMIN, List.of("manage_users"));
+
+    @Test
+    void deveHerdarTransitivamenteDosPerfisInferiores() {
+        // When
+        Map<String, List<UserProfile>> admin = PermissionInheritanceResolver
+                .resolve(LEVELS, OWN_GRANTS, EnumSet.of(UserProfile.ADMIN)).get(UserProfile.ADMIN);
+
+        // Then
+        assertEquals(4, admin.size());
+        assertEquals(List.of(UserProfile.ADMIN), admin.get("manage_users"));
+        assertEquals(List.of(UserProfile.TEACHER), admin.get("manage_class"));
+        assertEquals(List.of(UserProfile.STUDENT), admin.get("chat_with_ai"));
+    }
+
+    @Test
+    void deveListarOrigensDoProprioPerfilParaOsInferiores() {
+        // When
+        Map<String, List<UserProfile>> teacher = PermissionInheritanceResolver
+                .resolve(LEVELS, OWN_GRANTS, EnumSet.of(UserProfile.TEACHER)).get(UserProfile.TEACHER);
+
+        // Then
+        assertEquals(List.of(UserProfile.TEACHER, UserProfile.STUDENT), teacher.get("view_courses"));
+        assertFalse(teacher.containsKey("manage_users"));
+    }
+
+    @Test
+    void naoDeveHerdarDePerfisDoMesmoNivel() {
+        // Given
+        Map<UserProfile, Integer> levels = Map.of(UserProfile.STUDENT, 1, UserProfile.TEACHER, 1);
+
+        // When
+        Map<UserProfile, Map<String, List<UserProfile>>> resolved = PermissionInheritanceResolver
+                .resolve(levels, OWN_GRANTS, EnumSet.of(UserProfile.STUDENT, UserProfile.TEACHER));
+
+        // Then
+        assertFalse(resolved.get(UserProfile.STUDENT).containsKey("manage_class"));
+        assertFalse(resolved.get(UserProfile.TEACHER).containsKey("chat_with_ai"));
+    }
+
+    @Test
+    void deveResolverPerfilSemConcessoesDiretas() {
+        // When
+        Map<String, List<UserProfile>> admin = PermissionInheritanceResolver
+                .resolve(LEVELS, Map.of(UserProfile.STUDENT, List.of("view_courses")), EnumSet.of(UserProfile.ADMIN))
+                .get(UserProfile.ADMIN);
+
+        // Then
+        assertTrue(admin.containsKey("view_courses"));
+        assertEquals(1, admin.size());
+    }
+}
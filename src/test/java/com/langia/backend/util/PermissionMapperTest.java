@@ -3,12 +3,20 @@ package com.langia.backend.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.langia.backend.model.UserProfile;
 
@@ -22,7 +30,7 @@ class PermissionMapperTest {
 
     @BeforeEach
     void setUp() {
-        permissionMapper = new PermissionMapper();
+        permissionMapper = PermissionMatrixFixtures.mapper();
     }
 
     @Test
@@ -182,4 +190,68 @@ class PermissionMapperTest {
         assertFalse(permissionMapper.hasPermission(UserProfile.TEACHER, "manage_users"));
         assertFalse(permissionMapper.hasPermission(UserProfile.STUDENT, "manage_users"));
     }
+
+    @Test
+    void deveRetornarAuthoritiesCorrespondentesAsPermissoes() {
+        // When
+        var authorities = permissionMapper.getAuthoritiesForProfile(UserProfile.TEACHER);
+
+        // Then
+        Set<String> names = authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+        assertEquals(permissionMapper.getPermissionsForProfile(UserProfile.TEACHER), names);
+    }
+
+    @Test
+    void deveCompartilharAuthoritiesImutaveisPorPerfil() {
+        // When
+        var first = permissionMapper.getAuthoritiesForProfile(UserProfile.ADMIN);
+        var second = permissionMapper.getAuthoritiesForProfile(UserProfile.ADMIN);
+
+        // Then
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class,
+                () -> first.add(new SimpleGrantedAuthority("nova_permissao")));
+    }
+
+    @Test
+    void deveRetornarAuthoritiesVaziasParaPerfilNulo() {
+        assertTrue(permissionMapper.getAuthoritiesForProfile(null).isEmpty());
+    }
+
+    @Test
+    void deveNegarTodasAsPermissoesAntesDaCargaDaMatriz() {
+        // Given
+        PermissionMapper semMatriz = new PermissionMapper();
+
+        // When & Then
+        assertFalse(semMatriz.hasPermission(UserProfile.ADMIN, "manage_users"));
+        assertTrue(semMatriz.getPermissionsForProfile(UserProfile.ADMIN).isEmpty());
+        assertTrue(semMatriz.getAuthoritiesForProfile(UserProfile.ADMIN).isEmpty());
+        assertEquals(0, semMatriz.getPermissionsVersion(UserProfile.ADMIN));
+    }
+
+    @Test
+    void deveRetornarVersaoDasPermissoesDoPerfil() {
+        assertEquals(PermissionMatrixFixtures.VERSION, permissionMapper.getPermissionsVersion(UserProfile.STUDENT));
+        assertEquals(0, permissionMapper.getPermissionsVersion(null));
+    }
+
+    @Test
+    void deveRefletirMatrizSubstituida() {
+        // Given
+        PermissionMatrix atualizada = permissionMapper.getMatrix().apply(
+                Map.of(UserProfile.STUDENT, new PermissionMatrix.ProfileGrants(4, List.of("view_courses"))),
+                EnumSet.allOf(UserProfile.class));
+
+        // When
+        permissionMapper.setMatrix(atualizada);
+
+        // Then
+        assertTrue(permissionMapper.hasPermission(UserProfile.STUDENT, "view_courses"));
+        assertFalse(permissionMapper.hasPermission(UserProfile.STUDENT, "chat_with_ai"));
+        assertEquals(4, permissionMapper.getPermissionsVersion(UserProfile.STUDENT));
+        assertTrue(permissionMapper.hasPermission(UserProfile.TEACHER, "manage_class"));
+    }
 }
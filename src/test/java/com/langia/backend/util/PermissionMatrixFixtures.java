@@ -0,0 +1,90 @@
+package com.langia.backend.util;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.PermissionMatrix.ProfileGrants;
+
+/**
+ * Matriz de permissões de referência para os testes, sem acesso ao banco de dados.
+ */
+public final class PermissionMatrixFixtures {
+
+    public static final int VERSION = 3;
+
+    public static final List<String> STUDENT = List.of(
+            "view_courses",
+            "view_lessons",
+            "submit_exercises",
+            "view_progress",
+            "chat_with_ai",
+            "view_profile",
+            "update_profile");
+
+    public static final List<String> TEACHER = List.of(
+            "view_courses",
+            "create_courses",
+            "edit_courses",
+            "delete_courses",
+            "view_lessons",
+            "create_lessons",
+            "edit_lessons",
+            "delete_lessons",
+            "view_students",
+            "view_student_progress",
+            "grade_exercises",
+            "view_profile",
+            "update_profile",
+            "manage_class");
+
+    public static final List<String> ADMIN = List.of(
+            "view_courses",
+            "create_courses",
+            "edit_courses",
+            "delete_courses",
+            "view_lessons",
+            "create_lessons",
+            "edit_lessons",
+            "delete_lessons",
+            "view_students",
+            "view_teachers",
+            "view_student_progress",
+            "grade_exercises",
+            "view_profile",
+            "update_profile",
+            "manage_class",
+            "manage_users",
+            "create_users",
+            "edit_users",
+            "delete_users",
+            "view_system_stats",
+            "manage_settings",
+            "manage_integrations",
+            "view_audit_logs");
+
+    private PermissionMatrixFixtures() {
+    }
+
+    /**
+     * Cria a matriz de referência com os três perfis na versão {@link #VERSION}.
+     */
+    public static PermissionMatrix matrix() {
+        Map<UserProfile, ProfileGrants> grants = new EnumMap<>(UserProfile.class);
+        grants.put(UserProfile.STUDENT, new ProfileGrants(VERSION, STUDENT));
+        grants.put(UserProfile.TEACHER, new ProfileGrants(VERSION, TEACHER));
+        grants.put(UserProfile.ADMIN, new ProfileGrants(VERSION, ADMIN));
+        return PermissionMatrix.empty().apply(grants, EnumSet.allOf(UserProfile.class));
+    }
+
+    /**
+     * Cria um PermissionMapper com a matriz de referência carregada.
+     */
+    public static PermissionMapper mapper() {
+        PermissionMapper mapper = new PermissionMapper();
+        mapper.setMatrix(matrix());
+        return mapper;
+    }
+}
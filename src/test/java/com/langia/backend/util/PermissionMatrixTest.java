@@ -0,0 +1,144 @@
+package com.langia.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.langia.backend.model.UserProfile;
+import com.langia.backend.util.PermissionMatrix.ProfileGrants;
+
+/**
+ * Testes da PermissionMatrix.
+ */
+class PermissionMatrixTest {
+
+    @Test
+    void deveManterIndicesDeBitsEntreRecargas() {
+        // Given
+        PermissionMatrix matrix = PermissionMatrixFixtures.matrix();
+        int bit = matrix.bitOf("view_courses");
+
+        // When
+        PermissionMatrix updated = matrix.apply(
+                Map.of(UserProfile.STUDENT, new ProfileGrants(4, List.of("aaa_new_permission", "view_courses"))),
+                EnumSet.allOf(UserProfile.class));
+
+        // Then
+        assertEquals(bit, updated.bitOf("view_courses"));
+        assertTrue(updated.bitOf("aaa_new_permission") > bit);
+        assertTrue(updated.hasPermission(UserProfile.STUDENT, "aaa_new_permission"));
+        assertFalse(updated.hasPermission(UserProfile.STUDENT, "chat_with_ai"));
+    }
+
+    @Test
+    void deveReaproveitarPerfisNaoAlterados() {
+        // Given
+        PermissionMatrix matrix = PermissionMatrixFixtures.matrix();
+
+        // When
+        PermissionMatrix updated = matrix.apply(
+                Map.of(UserProfile.STUDENT, new ProfileGrants(4, List.of("view_courses"))),
+                EnumSet.allOf(UserProfile.class));
+
+        // Then
+        assertSame(matrix.get(UserProfile.TEACHER), updated.get(UserProfile.TEACHER));
+        assertSame(matrix.get(UserProfile.ADMIN).authorities(), updated.get(UserProfile.ADMIN).authorities());
+        assertEquals(4, updated.get(UserProfile.STUDENT).version());
+    }
+
+    @Test
+    void deveRemoverPerfisInativos() {
+        // When
+        PermissionMatrix updated = PermissionMatrixFixtures.matrix()
+                .apply(Map.of(), EnumSet.of(UserProfile.ADMIN, UserProfile.TEACHER));
+
+        // Then
+        assertNull(updated.get(UserProfile.STUDENT));
+        assertFalse(updated.hasPermission(UserProfile.STUDENT, "view_courses"));
+        assertTrue(updated.hasPermission(UserProfile.ADMIN, "view_courses"));
+    }
+
+    @Test
+    void deveNegarCodigoDesconhecidoOuPerfilNulo() {
+        // Given
+        PermissionMatrix matrix = PermissionMatrixFixtures.matrix();
+
+        // When & Then
+        assertEquals(-1, matrix.bitOf("permissao_inexistente"));
+        assertEquals(-1, matrix.bitOf(null));
+        assertFalse(matrix.hasPermission(UserProfile.ADMIN, "permissao_inexistente"));
+        assertFalse(matrix.hasPermission(null, "view_courses"));
+        assertFalse(matrix.get(UserProfile.ADMIN).has(-1));
+    }
+
+    @Test
+    void deveSuportarMaisDe64Funcionalidades() {
+        // Given
+        List<String> codes = IntStream.range(0, 150).mapToObj(i -> String.format("permission_%03d", i)).toList();
+
+        // When
+        PermissionMatrix matrix = PermissionMatrix.empty().apply(
+                Map.of(UserProfile.ADMIN, new ProfileGrants(1, codes),
+                        UserProfile.STUDENT, new ProfileGrants(1, List.of("permission_149"))),
+                EnumSet.allOf(UserProfile.class));
+
+        // Then
+        assertEquals(150, matrix.get(UserProfile.ADMIN).codes().size());
+        assertTrue(matrix.hasPermission(UserProfile.ADMIN, "permission_000"));
+        assertTrue(matrix.hasPermission(UserProfile.ADMIN, "permission_149"));
+        assertTrue(matrix.hasPermission(UserProfile.STUDENT, "permission_149"));
+        assertFalse(matrix.hasPermission(UserProfile.STUDENT, "permission_085"));
+    }
+
+    @Test
+    void deveOrdenarAuthoritiesAlfabeticamente() {
+        // When
+        var authorities = PermissionMatrixFixtures.matrix().get(UserProfile.STUDENT).authorities();
+
+        // Then
+        assertEquals("chat_with_ai", authorities.get(0).getAuthority());
+        assertEquals("view_progress", authorities.get(authorities.size() - 1).getAuthority());
+    }
+
+    @Test
+    void deveInformarOrigemDasPermissoes() {
+        // When
+        PermissionMatrix matrix = PermissionMatrix.empty().apply(
+                Map.of(UserProfile.TEACHER, new ProfileGrants(1, Map.of(
+                        "manage_class", List.of(UserProfile.TEACHER),
+                        "view_courses", List.of(UserProfile.TEACHER, UserProfile.STUDENT)))),
+                EnumSet.allOf(UserProfile.class));
+
+        // Then
+        assertEquals(List.of(UserProfile.TEACHER, UserProfile.STUDENT),
+                matrix.get(UserProfile.TEACHER).grantedBy("view_courses"));
+        assertTrue(matrix.get(UserProfile.TEACHER).grantedBy("manage_users").isEmpty());
+        assertTrue(matrix.get(UserProfile.TEACHER).grantedBy(null).isEmpty());
+    }
+
+    @Test
+    void deveVerificarMascarasCompiladas() {
+        // Given
+        PermissionMatrix matrix = PermissionMatrixFixtures.matrix();
+        long[] studentAndTeacher = matrix.maskOf("view_courses", "view_lessons");
+        long[] adminOnly = matrix.maskOf("manage_users", "view_audit_logs");
+        long[] mixed = matrix.maskOf("chat_with_ai", "manage_users");
+
+        // When & Then
+        assertTrue(matrix.get(UserProfile.STUDENT).containsAll(studentAndTeacher));
+        assertFalse(matrix.get(UserProfile.STUDENT).containsAll(adminOnly));
+        assertTrue(matrix.get(UserProfile.ADMIN).containsAll(adminOnly));
+        assertFalse(matrix.get(UserProfile.TEACHER).containsAny(mixed));
+        assertTrue(matrix.get(UserProfile.STUDENT).containsAny(mixed));
+        assertTrue(matrix.get(UserProfile.STUDENT).containsAll(matrix.maskOf("codigo_inexistente")));
+    }
+}